@@ -20,8 +20,12 @@ import com.ejlchina.searcher.group.DefaultParserFactory;
 import com.ejlchina.searcher.group.ExprParser;
 import com.ejlchina.searcher.group.GroupResolver;
 import com.ejlchina.searcher.implement.*;
-import com.ejlchina.searcher.util.LRUCache;
+import com.ejlchina.searcher.util.BoundedCache;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -32,9 +36,13 @@ import org.springframework.context.annotation.Primary;
 import javax.sql.DataSource;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 
@@ -109,7 +117,7 @@ public class BeanSearcherAutoConfiguration {
 		DefaultGroupResolver groupResolver = new DefaultGroupResolver();
 		Params.Group conf = config.getParams().getGroup();
 		groupResolver.setEnabled(conf.isEnable());
-		groupResolver.setCache(new LRUCache<>(conf.getCacheSize()));
+		groupResolver.setCache(new BoundedCache<>(conf.getCacheSize()));
 		groupResolver.setParserFactory(parserFactory);
 		return groupResolver;
 	}
@@ -136,6 +144,9 @@ public class BeanSearcherAutoConfiguration {
 		paramResolver.setSeparator(conf.getSeparator());
 		paramResolver.setOnlySelectName(conf.getOnlySelect());
 		paramResolver.setSelectExcludeName(conf.getSelectExclude());
+		paramResolver.setEstimateCountName(conf.getEstimateCount());
+		paramResolver.setCursorName(conf.getPagination().getCursor());
+		paramResolver.setSeekOffsetThreshold(conf.getPagination().getSeekOffsetThreshold());
 		Params.Group group = conf.getGroup();
 		paramResolver.setGexprName(group.getExprName());
 		paramResolver.setGroupSeparator(group.getSeparator());
@@ -152,8 +163,120 @@ public class BeanSearcherAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean(SqlResolver.class)
-	public SqlResolver sqlResolver(Dialect dialect, ObjectProvider<DateValueCorrector> dateValueCorrector) {
-		return new DefaultSqlResolver(dialect, dateValueCorrector.getIfAvailable());
+	public SqlResolver sqlResolver(Dialect dialect, ObjectProvider<DateValueCorrector> dateValueCorrector,
+								   BeanSearcherProperties config) {
+		DefaultSqlResolver resolver = new DefaultSqlResolver(dialect, dateValueCorrector.getIfAvailable());
+		int templateCacheSize = config.getSql().getTemplateCacheSize();
+		if (templateCacheSize > 0) {
+			resolver.setTemplateCache(new SqlTemplateCache(templateCacheSize));
+		}
+		resolver.setDeferredJoinThreshold(config.getSql().getDeferredJoinThreshold());
+		return resolver;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(FetchStrategy.class)
+	@ConditionalOnProperty(name = "bean-searcher.sql.fetch.enabled", havingValue = "true", matchIfMissing = true)
+	public FetchStrategy fetchStrategy(BeanSearcherProperties config) {
+		Sql.Fetch conf = config.getSql().getFetch();
+		DefaultFetchStrategy strategy = new DefaultFetchStrategy(conf.getStreamMode());
+		strategy.setFetchSize(conf.getFetchSize());
+		strategy.setUsePageSize(conf.isUsePageSize());
+		strategy.setLimitFirst(conf.isLimitFirst());
+		strategy.setCursorFetchSize(conf.getCursorFetchSize());
+		return strategy;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(ClusterResultCache.class)
+	@ConditionalOnProperty(name = "bean-searcher.sql.cluster-cache.enabled", havingValue = "true")
+	public ClusterResultCache clusterResultCache(BeanSearcherProperties config) {
+		Sql.ClusterCache conf = config.getSql().getClusterCache();
+		ClusterResultCache cache = new ClusterResultCache();
+		cache.setPolicy(cachePolicy("bean-searcher.sql.cluster-cache.bean-ttls", conf.getTtl(), conf.getBeanTtls()));
+		cache.setMaxEntries(conf.getMaxEntries());
+		cache.setMaxBytes(conf.getMaxBytes());
+		return cache;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(SearchResultCache.class)
+	@ConditionalOnProperty(name = "bean-searcher.sql.result-cache.enabled", havingValue = "true")
+	public SearchResultCache searchResultCache(BeanSearcherProperties config) {
+		Sql.ResultCache conf = config.getSql().getResultCache();
+		SearchResultCache cache = new SearchResultCache();
+		CachePolicy policy = cachePolicy("bean-searcher.sql.result-cache.bean-ttls", conf.getTtl(), conf.getBeanTtls());
+		policy.setEmptyTtl(conf.getEmptyTtl());
+		cache.setPolicy(policy);
+		cache.setMaxEntries(conf.getMaxEntries());
+		cache.setMaxWeight(conf.getMaxWeight());
+		return cache;
+	}
+
+	private CachePolicy cachePolicy(String property, long defaultTtl, Map<String, Long> beanTtls) {
+		CachePolicy policy = new CachePolicy(defaultTtl);
+		ClassLoader classLoader = getClass().getClassLoader();
+		beanTtls.forEach((className, ttl) -> {
+			try {
+				policy.setTtl(Class.forName(className, false, classLoader), ttl);
+			} catch (ClassNotFoundException e) {
+				throw new SearchException("配置项【" + property + "】中的类【" + className + "】不存在", e);
+			}
+		});
+		return policy;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(CountEstimator.class)
+	@ConditionalOnProperty(name = "bean-searcher.sql.estimate.enabled", havingValue = "true", matchIfMissing = true)
+	public CountEstimator countEstimator(BeanSearcherProperties config) {
+		Sql.Dialect dialect = config.getSql().getDialect();
+		if (dialect == null) {
+			return null;
+		}
+		switch (dialect) {
+			case MySQL:
+				return new DefaultCountEstimator(DefaultCountEstimator.Mode.MYSQL);
+			case Oracle:
+				return new DefaultCountEstimator(DefaultCountEstimator.Mode.ORACLE);
+			case PostgreSQL:
+			case PgSQL:
+				return new DefaultCountEstimator(DefaultCountEstimator.Mode.POSTGRESQL);
+			case SqlServer:
+				return new DefaultCountEstimator(DefaultCountEstimator.Mode.SQL_SERVER);
+		}
+		return null;
+	}
+
+	/**
+	 * 并行检索（列表查询）使用的线程池，容器关闭时一并关闭
+	 * 与 {@link AsyncSearchExecutor } 一样不直接注册为 Executor 类型的 Bean
+	 * @since v3.8.0
+	 */
+	static class ParallelSearchExecutor implements DisposableBean {
+
+		final ExecutorService executor;
+
+		ParallelSearchExecutor(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void destroy() {
+			executor.shutdown();
+		}
+
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "bean-searcher.sql.parallel.enabled", havingValue = "true")
+	ParallelSearchExecutor parallelSearchExecutor(BeanSearcherProperties config) {
+		AtomicInteger index = new AtomicInteger();
+		return new ParallelSearchExecutor(Executors.newFixedThreadPool(config.getSql().getParallel().getThreads(), runnable -> {
+			Thread thread = new Thread(runnable, "bean-searcher-parallel-" + index.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}));
 	}
 
 	@Bean
@@ -161,6 +284,11 @@ public class BeanSearcherAutoConfiguration {
 	public SqlExecutor sqlExecutor(ObjectProvider<DataSource> dataSource,
 								   ObjectProvider<List<NamedDataSource>> namedDataSources,
 								   ObjectProvider<SqlExecutor.SlowListener> slowListener,
+								   ObjectProvider<FetchStrategy> fetchStrategy,
+								   ObjectProvider<ClusterResultCache> clusterResultCache,
+								   ObjectProvider<CountEstimator> countEstimator,
+								   ObjectProvider<SearchResultCache> searchResultCache,
+								   ObjectProvider<ParallelSearchExecutor> parallelSearchExecutor,
 								   BeanSearcherProperties config) {
 		DefaultSqlExecutor executor = new DefaultSqlExecutor(dataSource.getIfAvailable());
 		ifAvailable(namedDataSources, ndsList -> {
@@ -169,7 +297,25 @@ public class BeanSearcherAutoConfiguration {
 			}
 		});
 		ifAvailable(slowListener, executor::setSlowListener);
+		ifAvailable(fetchStrategy, executor::setFetchStrategy);
+		ifAvailable(clusterResultCache, executor::setClusterCache);
+		ifAvailable(countEstimator, executor::setCountEstimator);
+		executor.setMinEstimatedCount(config.getSql().getEstimate().getMinCount());
 		executor.setSlowSqlThreshold(config.getSql().getSlowSqlThreshold());
+		executor.setListFirst(config.getSql().isListFirst());
+		ParallelSearchExecutor parallelExecutor = parallelSearchExecutor.getIfAvailable();
+		if (parallelExecutor != null) {
+			Sql.Parallel parallel = config.getSql().getParallel();
+			executor.setParallelExecutor(parallelExecutor.executor);
+			executor.setMaxParallel(parallel.getMaxParallel());
+			executor.setSkipListWhenNoCount(parallel.isSkipListWhenNoCount());
+		}
+		SearchResultCache resultCache = searchResultCache.getIfAvailable();
+		if (resultCache != null) {
+			CachingSqlExecutor cachingExecutor = new CachingSqlExecutor(executor, resultCache);
+			cachingExecutor.setMaxRows(config.getSql().getResultCache().getMaxRows());
+			return cachingExecutor;
+		}
 		return executor;
 	}
 
@@ -238,12 +384,15 @@ public class BeanSearcherAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean(BeanReflector.class)
-	public BeanReflector beanReflector(ObjectProvider<List<BFieldConvertor>> convertorsProvider) {
+	public BeanReflector beanReflector(BeanSearcherProperties config, ObjectProvider<List<BFieldConvertor>> convertorsProvider) {
 		List<BFieldConvertor> convertors = convertorsProvider.getIfAvailable();
-		if (convertors != null) {
-			return new DefaultBeanReflector(convertors);
+		if (convertors == null) {
+			convertors = new ArrayList<>();
+		}
+		if (config.getReflector().isUseLambda()) {
+			return new LambdaBeanReflector(convertors);
 		}
-		return new DefaultBeanReflector();
+		return new DefaultBeanReflector(convertors);
 	}
 
 	@Bean
@@ -327,8 +476,10 @@ public class BeanSearcherAutoConfiguration {
 								   SqlExecutor sqlExecutor,
 								   ObjectProvider<List<MFieldConvertor>> convertors,
 								   ObjectProvider<List<SqlInterceptor>> interceptors,
-								   ObjectProvider<List<ResultFilter>> resultFilters) {
+								   ObjectProvider<List<ResultFilter>> resultFilters,
+								   BeanSearcherProperties config) {
 		DefaultMapSearcher searcher = new DefaultMapSearcher();
+		searcher.setCompactRows(config.getMapSearcher().isCompactRows());
 		searcher.setMetaResolver(metaResolver);
 		searcher.setParamResolver(paramResolver);
 		searcher.setSqlResolver(sqlResolver);
@@ -353,6 +504,89 @@ public class BeanSearcherAutoConfiguration {
 		return searcher;
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(ColumnSearcher.class)
+	@ConditionalOnProperty(name = "bean-searcher.use-column-searcher", havingValue = "true")
+	public ColumnSearcher columnSearcher(ObjectProvider<BeanSearcher> beanSearcher) {
+		BeanSearcher searcher = beanSearcher.getIfAvailable();
+		if (searcher instanceof DefaultBeanSearcher) {
+			return new DefaultColumnSearcher((DefaultBeanSearcher) searcher);
+		}
+		return null;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "bean-searcher.preload.enabled", havingValue = "true")
+	public SearchBeanPreloader searchBeanPreloader(MetaResolver metaResolver, ObjectProvider<BeanSearcher> beanSearcher,
+								ObjectProvider<MapSearcher> mapSearcher, BeanSearcherProperties config, BeanFactory beanFactory) {
+		BeanSearcherProperties.Preload conf = config.getPreload();
+		List<String> packages = Arrays.asList(conf.getPackages());
+		if (packages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+			packages = AutoConfigurationPackages.get(beanFactory);
+		}
+		Searcher searcher = beanSearcher.getIfAvailable();
+		if (searcher == null) {
+			searcher = mapSearcher.getIfAvailable();
+		}
+		return new SearchBeanPreloader(metaResolver, searcher, packages, conf);
+	}
+
+	/**
+	 * 异步检索器使用的线程池
+	 * 不直接注册为 Executor 类型的 Bean，以免影响 SpringBoot 对 TaskExecutor 的自动配置
+	 * @since v3.8.0
+	 */
+	static class AsyncSearchExecutor implements DisposableBean {
+
+		final ExecutorService executor;
+
+		AsyncSearchExecutor(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void destroy() {
+			executor.shutdown();
+		}
+
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "bean-searcher.async.enabled", havingValue = "true", matchIfMissing = true)
+	AsyncSearchExecutor asyncSearchExecutor(BeanSearcherProperties config) {
+		BeanSearcherProperties.Async conf = config.getAsync();
+		if (conf.isVirtualThreads()) {
+			if (AbstractAsyncSearcher.isVirtualThreadSupported()) {
+				return new AsyncSearchExecutor(AbstractAsyncSearcher.newVirtualThreadExecutor());
+			}
+			LoggerFactory.getLogger(BeanSearcherAutoConfiguration.class)
+					.warn("配置项【bean-searcher.async.virtual-threads】需要 JDK 21+，将使用有界线程池");
+		}
+		return new AsyncSearchExecutor(AbstractAsyncSearcher.newBoundedExecutor(conf.getThreads(), conf.getQueueCapacity()));
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(AsyncBeanSearcher.class)
+	@ConditionalOnProperty(name = "bean-searcher.async.enabled", havingValue = "true", matchIfMissing = true)
+	public AsyncBeanSearcher asyncBeanSearcher(ObjectProvider<BeanSearcher> beanSearcher, AsyncSearchExecutor asyncSearchExecutor) {
+		BeanSearcher searcher = beanSearcher.getIfAvailable();
+		if (searcher == null) {
+			return null;
+		}
+		return new DefaultAsyncBeanSearcher(searcher, asyncSearchExecutor.executor);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(AsyncMapSearcher.class)
+	@ConditionalOnProperty(name = "bean-searcher.async.enabled", havingValue = "true", matchIfMissing = true)
+	public AsyncMapSearcher asyncMapSearcher(ObjectProvider<MapSearcher> mapSearcher, AsyncSearchExecutor asyncSearchExecutor) {
+		MapSearcher searcher = mapSearcher.getIfAvailable();
+		if (searcher == null) {
+			return null;
+		}
+		return new DefaultAsyncMapSearcher(searcher, asyncSearchExecutor.executor);
+	}
+
 	private <T> void ifAvailable(ObjectProvider<T> provider, Consumer<T> consumer) {
 		// 为了兼容 1.x 的 SpringBoot，最低兼容到 v1.4
 		// 不直接使用 ObjectProvider.ifAvailable 方法
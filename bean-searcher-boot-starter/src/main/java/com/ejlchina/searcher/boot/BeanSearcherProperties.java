@@ -9,7 +9,9 @@ import com.ejlchina.searcher.bean.InheritType;
 import com.ejlchina.searcher.bean.SearchBean;
 import com.ejlchina.searcher.bean.SortType;
 import com.ejlchina.searcher.convertor.*;
+import com.ejlchina.searcher.implement.DefaultFetchStrategy;
 import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
 import com.ejlchina.searcher.util.MapBuilder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -36,6 +38,30 @@ public class BeanSearcherProperties {
 	 */
 	private final FieldConvertor fieldConvertor = new FieldConvertor();
 
+	/**
+	 * Bean 反射器相关配置
+	 * @since v3.8.0
+	 */
+	private final Reflector reflector = new Reflector();
+
+	/**
+	 * 异步检索器相关配置
+	 * @since v3.8.0
+	 */
+	private final Async async = new Async();
+
+	/**
+	 * Map 检索器相关配置
+	 * @since v3.8.0
+	 */
+	private final MapSearcherProps mapSearcher = new MapSearcherProps();
+
+	/**
+	 * 启动时预加载 SearchBean 相关配置
+	 * @since v3.8.0
+	 */
+	private final Preload preload = new Preload();
+
 	/**
 	 * 是否使用 {@link MapSearcher } 检索器，默认为 true
 	 */
@@ -46,6 +72,13 @@ public class BeanSearcherProperties {
 	 */
 	private boolean useBeanSearcher = true;
 
+	/**
+	 * 是否使用 {@link com.ejlchina.searcher.ColumnSearcher } 检索器，默认为 false
+	 * 注意：列式结果不经过 {@link com.ejlchina.searcher.ResultFilter }（如脱敏、数据权限等过滤器），开启前请确认检索的实体类不依赖它们
+	 * @since v3.8.0
+	 */
+	private boolean useColumnSearcher = false;
+
 
 	public Params getParams() {
 		return params;
@@ -59,6 +92,22 @@ public class BeanSearcherProperties {
 		return fieldConvertor;
 	}
 
+	public Reflector getReflector() {
+		return reflector;
+	}
+
+	public Async getAsync() {
+		return async;
+	}
+
+	public MapSearcherProps getMapSearcher() {
+		return mapSearcher;
+	}
+
+	public Preload getPreload() {
+		return preload;
+	}
+
 	public static class Params {
 
 		/**
@@ -109,6 +158,13 @@ public class BeanSearcherProperties {
 		 */
 		private String selectExclude = "selectExclude";
 
+		/**
+		 * 指定估算总条数的参数名，默认为 `estimateCount`，
+		 * @see DefaultParamResolver#setEstimateCountName(String)
+		 * @since v3.8.0
+		 */
+		private String estimateCount = "estimateCount";
+
 		/**
 		 * 参数组相关配置
 		 */
@@ -240,6 +296,14 @@ public class BeanSearcherProperties {
 			this.selectExclude = selectExclude;
 		}
 
+		public String getEstimateCount() {
+			return estimateCount;
+		}
+
+		public void setEstimateCount(String estimateCount) {
+			this.estimateCount = estimateCount;
+		}
+
 		public Group getGroup() {
 			return group;
 		}
@@ -291,6 +355,20 @@ public class BeanSearcherProperties {
 			 */
 			private int maxAllowedSize = 100;
 
+			/**
+			 * 键集分页游标参数名，默认为 `cursor`
+			 * @see DefaultParamResolver#setCursorName(String)
+			 * @since v3.8.0
+			 */
+			private String cursor = "cursor";
+
+			/**
+			 * 自动转为键集分页的偏移阈值（只对指定了 keyField 的实体类有效），默认为 0，表示不自动转换
+			 * @see DefaultParamResolver#setSeekOffsetThreshold(long)
+			 * @since v3.8.0
+			 */
+			private long seekOffsetThreshold = 0;
+
 			public int getDefaultSize() {
 				return defaultSize;
 			}
@@ -347,6 +425,22 @@ public class BeanSearcherProperties {
 				this.maxAllowedSize = maxAllowedSize;
 			}
 
+			public String getCursor() {
+				return cursor;
+			}
+
+			public void setCursor(String cursor) {
+				this.cursor = cursor;
+			}
+
+			public long getSeekOffsetThreshold() {
+				return seekOffsetThreshold;
+			}
+
+			public void setSeekOffsetThreshold(long seekOffsetThreshold) {
+				this.seekOffsetThreshold = seekOffsetThreshold;
+			}
+
 		}
 
 	}
@@ -385,6 +479,55 @@ public class BeanSearcherProperties {
 		 */
 		private long slowSqlThreshold = 500;
 
+		/**
+		 * SQL 模板缓存的最大条数，默认为 0，表示不启用 SQL 模板缓存
+		 * @since v3.8.0
+		 */
+		private int templateCacheSize = 0;
+
+		/**
+		 * 使用延迟关联分页的偏移阈值（只对指定了 keyField 的实体类生效），默认为 0，表示不使用
+		 * @see DefaultSqlResolver#setDeferredJoinThreshold(long)
+		 * @since v3.8.0
+		 */
+		private long deferredJoinThreshold = 0;
+
+		/**
+		 * JDBC 读取配置
+		 * @since v3.8.0
+		 */
+		private final Fetch fetch = new Fetch();
+
+		/**
+		 * 并行查询配置
+		 * @since v3.8.0
+		 */
+		private final Parallel parallel = new Parallel();
+
+		/**
+		 * 检索第一页时是否先查列表，若列表未满一页，则省略总条数的查询（有统计字段时不生效），默认为 false
+		 * @since v3.8.0
+		 */
+		private boolean listFirst = false;
+
+		/**
+		 * 聚族查询结果缓存配置
+		 * @since v3.8.0
+		 */
+		private final ClusterCache clusterCache = new ClusterCache();
+
+		/**
+		 * 总条数估算配置
+		 * @since v3.8.0
+		 */
+		private final Estimate estimate = new Estimate();
+
+		/**
+		 * 检索结果缓存配置
+		 * @since v3.8.0
+		 */
+		private final ResultCache resultCache = new ResultCache();
+
 		public Dialect getDialect() {
 			return dialect;
 		}
@@ -510,6 +653,383 @@ public class BeanSearcherProperties {
 			this.slowSqlThreshold = slowSqlThreshold;
 		}
 
+		public int getTemplateCacheSize() {
+			return templateCacheSize;
+		}
+
+		public void setTemplateCacheSize(int templateCacheSize) {
+			this.templateCacheSize = templateCacheSize;
+		}
+
+		public long getDeferredJoinThreshold() {
+			return deferredJoinThreshold;
+		}
+
+		public void setDeferredJoinThreshold(long deferredJoinThreshold) {
+			this.deferredJoinThreshold = deferredJoinThreshold;
+		}
+
+		public Fetch getFetch() {
+			return fetch;
+		}
+
+		public Parallel getParallel() {
+			return parallel;
+		}
+
+		public boolean isListFirst() {
+			return listFirst;
+		}
+
+		public void setListFirst(boolean listFirst) {
+			this.listFirst = listFirst;
+		}
+
+		public ClusterCache getClusterCache() {
+			return clusterCache;
+		}
+
+		public Estimate getEstimate() {
+			return estimate;
+		}
+
+		public ResultCache getResultCache() {
+			return resultCache;
+		}
+
+		public static class ClusterCache {
+
+			/**
+			 * 是否缓存聚族查询（总条数与统计）的结果，默认为 false
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * 默认过期时间（单位：毫秒），默认：60000 毫秒
+			 */
+			private long ttl = 60 * 1000;
+
+			/**
+			 * 各实体类的过期时间（单位：毫秒），键为实体类的全类名，值小于等于 0 时表示该实体类不缓存，无默认值
+			 */
+			private Map<String, Long> beanTtls = new HashMap<>();
+
+			/**
+			 * 最大缓存条数，默认为 1000
+			 */
+			private int maxEntries = 1000;
+
+			/**
+			 * 最大占用内存（估算值，单位：字节），默认为 4MB
+			 */
+			private long maxBytes = 4 * 1024 * 1024;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public long getTtl() {
+				return ttl;
+			}
+
+			public void setTtl(long ttl) {
+				this.ttl = ttl;
+			}
+
+			public Map<String, Long> getBeanTtls() {
+				return beanTtls;
+			}
+
+			public void setBeanTtls(Map<String, Long> beanTtls) {
+				this.beanTtls = beanTtls;
+			}
+
+			public int getMaxEntries() {
+				return maxEntries;
+			}
+
+			public void setMaxEntries(int maxEntries) {
+				this.maxEntries = maxEntries;
+			}
+
+			public long getMaxBytes() {
+				return maxBytes;
+			}
+
+			public void setMaxBytes(long maxBytes) {
+				this.maxBytes = maxBytes;
+			}
+
+		}
+
+		public static class Parallel {
+
+			/**
+			 * 是否并行执行聚族查询（总数与统计）与列表查询，默认为 false，开启后每次检索最多会占用两个数据库连接
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * 执行列表查询的线程数，默认为 8
+			 */
+			private int threads = 8;
+
+			/**
+			 * 最大并行检索数（超出时退化为串行执行，避免耗尽连接池），默认为 16，小于等于 0 时表示不限制
+			 */
+			private int maxParallel = 16;
+
+			/**
+			 * 总条数为 0 时是否丢弃列表查询的结果，默认为 true
+			 */
+			private boolean skipListWhenNoCount = true;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getThreads() {
+				return threads;
+			}
+
+			public void setThreads(int threads) {
+				this.threads = threads;
+			}
+
+			public int getMaxParallel() {
+				return maxParallel;
+			}
+
+			public void setMaxParallel(int maxParallel) {
+				this.maxParallel = maxParallel;
+			}
+
+			public boolean isSkipListWhenNoCount() {
+				return skipListWhenNoCount;
+			}
+
+			public void setSkipListWhenNoCount(boolean skipListWhenNoCount) {
+				this.skipListWhenNoCount = skipListWhenNoCount;
+			}
+
+		}
+
+		public static class Fetch {
+
+			/**
+			 * 是否启用 JDBC 读取策略（{@link DefaultFetchStrategy }），默认为 true
+			 */
+			private boolean enabled = true;
+
+			/**
+			 * 全局默认的 fetchSize，无默认值（使用驱动的默认值）
+			 */
+			private Integer fetchSize;
+
+			/**
+			 * 分页查询时是否使用分页大小作为 fetchSize，默认为 true
+			 */
+			private boolean usePageSize = true;
+
+			/**
+			 * 检索第一条数据（searchFirst）时是否设置 maxRows 为 1，默认为 true
+			 */
+			private boolean limitFirst = true;
+
+			/**
+			 * 检索所有数据（searchAll）时的流式读取模式，可选：`NONE`、`MYSQL`、`CURSOR`，默认为 `NONE`（不流式读取）。
+			 * 注意：`MYSQL` 模式在结果读取完毕之前会独占该连接，`CURSOR` 模式会在读取期间关闭连接的 autoCommit，需显式开启
+			 */
+			private DefaultFetchStrategy.StreamMode streamMode = DefaultFetchStrategy.StreamMode.NONE;
+
+			/**
+			 * 游标读取模式下的 fetchSize，默认为 1000
+			 */
+			private int cursorFetchSize = 1000;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public Integer getFetchSize() {
+				return fetchSize;
+			}
+
+			public void setFetchSize(Integer fetchSize) {
+				this.fetchSize = fetchSize;
+			}
+
+			public boolean isUsePageSize() {
+				return usePageSize;
+			}
+
+			public void setUsePageSize(boolean usePageSize) {
+				this.usePageSize = usePageSize;
+			}
+
+			public boolean isLimitFirst() {
+				return limitFirst;
+			}
+
+			public void setLimitFirst(boolean limitFirst) {
+				this.limitFirst = limitFirst;
+			}
+
+			public DefaultFetchStrategy.StreamMode getStreamMode() {
+				return streamMode;
+			}
+
+			public void setStreamMode(DefaultFetchStrategy.StreamMode streamMode) {
+				this.streamMode = streamMode;
+			}
+
+			public int getCursorFetchSize() {
+				return cursorFetchSize;
+			}
+
+			public void setCursorFetchSize(int cursorFetchSize) {
+				this.cursorFetchSize = cursorFetchSize;
+			}
+
+		}
+
+		public static class Estimate {
+
+			/**
+			 * 是否支持估算总条数（只对带有估算参数的检索生效），默认为 true
+			 */
+			private boolean enabled = true;
+
+			/**
+			 * 估算值的下限，估算的总条数小于该值时仍查询精确的总条数，默认为 10000
+			 */
+			private long minCount = 10000;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public long getMinCount() {
+				return minCount;
+			}
+
+			public void setMinCount(long minCount) {
+				this.minCount = minCount;
+			}
+
+		}
+
+		public static class ResultCache {
+
+			/**
+			 * 是否缓存检索结果（只对被 {@link com.ejlchina.searcher.bean.ResultCache } 注解或配置了过期时间的实体类生效），默认为 false
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * 未被注解的实体类的默认过期时间（单位：毫秒），默认为 0，表示不缓存
+			 */
+			private long ttl = 0;
+
+			/**
+			 * 各实体类的过期时间（单位：毫秒），键为实体类的全类名，优先于注解，值小于等于 0 时表示该实体类不缓存，无默认值
+			 */
+			private Map<String, Long> beanTtls = new HashMap<>();
+
+			/**
+			 * 空结果（列表为空且总条数为 0）的过期时间（单位：毫秒），小于 0 表示与实体类的过期时间相同，等于 0 表示不缓存空结果，默认为 -1
+			 */
+			private long emptyTtl = -1;
+
+			/**
+			 * 最大缓存条数，默认为 10000
+			 */
+			private int maxEntries = 10000;
+
+			/**
+			 * 最大占用内存（估算值，单位：字节），默认为 32MB
+			 */
+			private long maxWeight = 32 * 1024 * 1024;
+
+			/**
+			 * 单次检索最多缓存的列表行数，超出时该次检索不缓存，默认为 1000
+			 */
+			private int maxRows = 1000;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public long getTtl() {
+				return ttl;
+			}
+
+			public void setTtl(long ttl) {
+				this.ttl = ttl;
+			}
+
+			public Map<String, Long> getBeanTtls() {
+				return beanTtls;
+			}
+
+			public void setBeanTtls(Map<String, Long> beanTtls) {
+				this.beanTtls = beanTtls;
+			}
+
+			public long getEmptyTtl() {
+				return emptyTtl;
+			}
+
+			public void setEmptyTtl(long emptyTtl) {
+				this.emptyTtl = emptyTtl;
+			}
+
+			public int getMaxEntries() {
+				return maxEntries;
+			}
+
+			public void setMaxEntries(int maxEntries) {
+				this.maxEntries = maxEntries;
+			}
+
+			public long getMaxWeight() {
+				return maxWeight;
+			}
+
+			public void setMaxWeight(long maxWeight) {
+				this.maxWeight = maxWeight;
+			}
+
+			public int getMaxRows() {
+				return maxRows;
+			}
+
+			public void setMaxRows(int maxRows) {
+				this.maxRows = maxRows;
+			}
+
+		}
+
 	}
 
 	public static class FieldConvertor {
@@ -727,4 +1247,161 @@ public class BeanSearcherProperties {
 		this.useBeanSearcher = useBeanSearcher;
 	}
 
+	public boolean isUseColumnSearcher() {
+		return useColumnSearcher;
+	}
+
+	public void setUseColumnSearcher(boolean useColumnSearcher) {
+		this.useColumnSearcher = useColumnSearcher;
+	}
+
+	public static class Reflector {
+
+		/**
+		 * 是否使用 {@link com.ejlchina.searcher.implement.LambdaBeanReflector }（为每个 Bean 类生成实例化与赋值函数，
+		 * 代替逐行逐列的反射，并支持通过构造方法创建不可变的 Bean），默认为 false
+		 */
+		private boolean useLambda = false;
+
+		public boolean isUseLambda() {
+			return useLambda;
+		}
+
+		public void setUseLambda(boolean useLambda) {
+			this.useLambda = useLambda;
+		}
+
+	}
+
+	public static class Async {
+
+		/**
+		 * 是否启用异步检索器 {@link com.ejlchina.searcher.AsyncBeanSearcher } 与 {@link com.ejlchina.searcher.AsyncMapSearcher }，默认为 true
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 是否使用虚拟线程（每个检索一个虚拟线程，需要 JDK 21+，低版本 JDK 下仍使用有界线程池），默认为 false
+		 */
+		private boolean virtualThreads = false;
+
+		/**
+		 * 有界线程池的最大线程数，默认为 16
+		 */
+		private int threads = 16;
+
+		/**
+		 * 有界线程池的任务队列长度（队列满时新的检索立即以 RejectedExecutionException 异常完成），默认为 256
+		 */
+		private int queueCapacity = 256;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isVirtualThreads() {
+			return virtualThreads;
+		}
+
+		public void setVirtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+
+		public int getThreads() {
+			return threads;
+		}
+
+		public void setThreads(int threads) {
+			this.threads = threads;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+	}
+
+	public static class MapSearcherProps {
+
+		/**
+		 * 是否以只读的 {@link com.ejlchina.searcher.implement.RowMap } 呈现每行数据（各行共享键表，每行只有一个值数组），
+		 * 数据量大时可显著减少内存占用，默认为 false（HashMap）
+		 */
+		private boolean compactRows = false;
+
+		public boolean isCompactRows() {
+			return compactRows;
+		}
+
+		public void setCompactRows(boolean compactRows) {
+			this.compactRows = compactRows;
+		}
+
+	}
+
+	public static class Preload {
+
+		/**
+		 * 是否在启动时（应用就绪前）预加载 SearchBean：扫描 SearchBean 类，解析并校验其元信息，渲染常用的 SQL，默认为 false
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 扫描 {@link SearchBean } 类的包名，为空时扫描 SpringBoot 自动配置的包（即启动类所在的包）
+		 */
+		private String[] packages = {};
+
+		/**
+		 * 是否在存在无效的 SearchBean 时使启动失败，默认为 true（否则只打印警告日志）
+		 */
+		private boolean failFast = true;
+
+		/**
+		 * 预热检索的轮数：每轮对每个 SearchBean 执行一次只取第一条数据的检索（会访问数据库），
+		 * 以预热 SQL 执行、结果装配与字段转换等路径，默认为 0（不预热）
+		 */
+		private int warmUpRounds = 0;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String[] getPackages() {
+			return packages;
+		}
+
+		public void setPackages(String[] packages) {
+			this.packages = packages;
+		}
+
+		public boolean isFailFast() {
+			return failFast;
+		}
+
+		public void setFailFast(boolean failFast) {
+			this.failFast = failFast;
+		}
+
+		public int getWarmUpRounds() {
+			return warmUpRounds;
+		}
+
+		public void setWarmUpRounds(int warmUpRounds) {
+			this.warmUpRounds = warmUpRounds;
+		}
+
+	}
+
 }
@@ -0,0 +1,174 @@
+package com.ejlchina.searcher.boot;
+
+import com.ejlchina.searcher.*;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.AbstractSearcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchBean 预加载器
+ * 在应用启动时（就绪之前）扫描 {@link SearchBean } 类，解析并校验其元信息，渲染常用的 SQL，并可执行预热检索，
+ * 使部署后的首批请求不再承担这些开销
+ * @since v3.8.0
+ */
+public class SearchBeanPreloader implements ApplicationRunner, ResourceLoaderAware {
+
+	static final Logger log = LoggerFactory.getLogger(SearchBeanPreloader.class);
+
+	private final MetaResolver metaResolver;
+
+	/**
+	 * 用于预备 SQL 与预热检索，可以为 null
+	 */
+	private final Searcher searcher;
+
+	private final List<String> packages;
+
+	private final BeanSearcherProperties.Preload config;
+
+	private ResourceLoader resourceLoader;
+
+	/**
+	 * 已预加载的 SearchBean
+	 */
+	private final List<Class<?>> beanClasses = new ArrayList<>();
+
+	public SearchBeanPreloader(MetaResolver metaResolver, Searcher searcher, List<String> packages,
+							   BeanSearcherProperties.Preload config) {
+		this.metaResolver = Objects.requireNonNull(metaResolver);
+		this.searcher = searcher;
+		this.packages = Objects.requireNonNull(packages);
+		this.config = Objects.requireNonNull(config);
+	}
+
+	@Override
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourceLoader = resourceLoader;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		preload();
+	}
+
+	public void preload() {
+		if (packages.isEmpty()) {
+			log.warn("No package to scan SearchBeans, please set [bean-searcher.preload.packages]");
+			return;
+		}
+		long start = System.nanoTime();
+		Set<Class<?>> scanned = scan();
+		long scanEnd = System.nanoTime();
+		List<Class<?>> prepared = new ArrayList<>();
+		for (Class<?> beanClass : scanned) {
+			try {
+				prepare(beanClass);
+				prepared.add(beanClass);
+			} catch (RuntimeException e) {
+				if (config.isFailFast()) {
+					throw new SearchException("The SearchBean [" + beanClass.getName() + "] is invalid: " + e.getMessage(), e);
+				}
+				log.warn("The SearchBean [{}] is invalid: {}", beanClass.getName(), e.getMessage());
+			}
+		}
+		long prepareEnd = System.nanoTime();
+		int warmUps = warmUp(prepared);
+		long end = System.nanoTime();
+		beanClasses.addAll(prepared);
+		log.info("Preloaded {} SearchBeans in {} ms (scan: {} ms, resolve: {} ms, warm-up: {} searches in {} ms)",
+				prepared.size(), millis(start, end), millis(start, scanEnd), millis(scanEnd, prepareEnd),
+				warmUps, millis(prepareEnd, end));
+	}
+
+	/**
+	 * 扫描 {@link SearchBean } 类（只包含可实例化的具体类）
+	 */
+	protected Set<Class<?>> scan() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(SearchBean.class));
+		if (resourceLoader != null) {
+			scanner.setResourceLoader(resourceLoader);
+		}
+		ClassLoader classLoader = resourceLoader != null ? resourceLoader.getClassLoader() : ClassUtils.getDefaultClassLoader();
+		Set<Class<?>> scanned = new LinkedHashSet<>();
+		for (String pkg : packages) {
+			for (BeanDefinition definition : scanner.findCandidateComponents(pkg)) {
+				String className = definition.getBeanClassName();
+				try {
+					scanned.add(ClassUtils.forName(className, classLoader));
+				} catch (ClassNotFoundException | LinkageError e) {
+					log.warn("Can not load the SearchBean [{}]: {}", className, e.toString());
+				}
+			}
+		}
+		return scanned;
+	}
+
+	/**
+	 * 解析并校验元信息，检索器支持时同时渲染常用的 SQL
+	 */
+	protected void prepare(Class<?> beanClass) {
+		if (searcher instanceof AbstractSearcher) {
+			((AbstractSearcher) searcher).prepare(beanClass);
+		} else {
+			metaResolver.resolve(beanClass);
+		}
+	}
+
+	/**
+	 * 执行预热检索，检索失败的 SearchBean 不再参与之后的轮次
+	 * @return 成功的检索次数
+	 */
+	protected int warmUp(List<Class<?>> beanClasses) {
+		int rounds = config.getWarmUpRounds();
+		if (rounds <= 0 || searcher == null) {
+			return 0;
+		}
+		List<Class<?>> targets = new ArrayList<>(beanClasses);
+		int count = 0;
+		for (int i = 0; i < rounds; i++) {
+			Iterator<Class<?>> it = targets.iterator();
+			while (it.hasNext()) {
+				Class<?> beanClass = it.next();
+				try {
+					if (searcher instanceof BeanSearcher) {
+						((BeanSearcher) searcher).searchFirst(beanClass, new HashMap<>());
+					} else if (searcher instanceof MapSearcher) {
+						((MapSearcher) searcher).searchFirst(beanClass, new HashMap<>());
+					} else {
+						searcher.searchCount(beanClass, new HashMap<>());
+					}
+					count++;
+				} catch (RuntimeException e) {
+					log.warn("Warm-up search of [{}] failed: {}", beanClass.getName(), e.getMessage());
+					it.remove();
+				}
+			}
+		}
+		return count;
+	}
+
+	private static long millis(long startNanos, long endNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+	}
+
+	/**
+	 * @return 已预加载的 SearchBean
+	 */
+	public List<Class<?>> getBeanClasses() {
+		return Collections.unmodifiableList(beanClasses);
+	}
+
+}
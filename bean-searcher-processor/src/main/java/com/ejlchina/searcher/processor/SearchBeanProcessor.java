@@ -0,0 +1,260 @@
+package com.ejlchina.searcher.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * SearchBean 注解处理器
+ * 在编译期为每个 {@link com.ejlchina.searcher.bean.SearchBean } 类生成一个 <code>com.ejlchina.searcher.BeanMapper</code> 实现，
+ * 以构造方法引用创建 Bean，以字段赋值装配 Bean（与 <code>DefaultBeanReflector</code> 一致，不调用 setter 方法），运行时由 <code>DefaultMetaResolver</code> 自动发现。
+ * 使用：将本模块加入编译期的注解处理器路径（或以 provided 依赖引入）即可
+ * @since v3.8.0
+ */
+@SupportedAnnotationTypes(SearchBeanProcessor.SEARCH_BEAN)
+public class SearchBeanProcessor extends AbstractProcessor {
+
+    static final String SEARCH_BEAN = "com.ejlchina.searcher.bean.SearchBean";
+
+    static final String BEAN_MAPPER = "com.ejlchina.searcher.BeanMapper";
+
+    /**
+     * 与 BeanMapper.SUFFIX 一致
+     */
+    static final String SUFFIX = "_BeanMapper";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement beanType : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                String reason = unsupportedReason(beanType);
+                if (reason != null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "No BeanMapper is generated for [" + beanType.getQualifiedName() + "], because it " + reason, beanType);
+                    continue;
+                }
+                String mapperName = mapperName(beanType);
+                if (generated.add(mapperName)) {
+                    generate(beanType, mapperName);
+                }
+            }
+        }
+        // 不独占 SearchBean 注解，其它处理器仍可处理
+        return false;
+    }
+
+    /**
+     * @return 不能为该类生成装配器的原因，可以生成时返回 null
+     */
+    protected String unsupportedReason(TypeElement beanType) {
+        if (beanType.getKind() != ElementKind.CLASS) {
+            return "is not a class";
+        }
+        if (beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "is abstract";
+        }
+        Element element = beanType;
+        while (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            NestingKind nesting = type.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return "is a local or anonymous class";
+            }
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return "is not accessible from it's package";
+            }
+            if (nesting == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+                return "is a non-static inner class";
+            }
+            element = type.getEnclosingElement();
+        }
+        return null;
+    }
+
+    /**
+     * 与 BeanMapper.mapperName(Class) 一致：同包，嵌套类的各级类名以下划线连接
+     */
+    protected String mapperName(TypeElement beanType) {
+        String pkg = packageName(beanType);
+        String binaryName = elements.getBinaryName(beanType).toString();
+        String simpleName = pkg.isEmpty() ? binaryName : binaryName.substring(pkg.length() + 1);
+        return (pkg.isEmpty() ? "" : pkg + ".") + simpleName.replace('$', '_') + SUFFIX;
+    }
+
+    protected void generate(TypeElement beanType, String mapperName) {
+        String pkg = packageName(beanType);
+        String beanName = beanType.getQualifiedName().toString();
+        String simpleName = mapperName.substring(mapperName.lastIndexOf('.') + 1);
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(mapperName, beanType).openWriter())) {
+            if (!pkg.isEmpty()) {
+                out.println("package " + pkg + ";");
+                out.println();
+            }
+            out.println("/**");
+            // 生成的源码只使用 ASCII 字符，与使用者的编译编码无关
+            out.println(" * BeanMapper of " + beanName + ", generated by " + getClass().getName() + ", do not edit.");
+            out.println(" */");
+            out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.println("public final class " + simpleName + " implements " + BEAN_MAPPER + "<" + beanName + "> {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + beanName + "> getBeanClass() {");
+            out.println("        return " + beanName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.function.Supplier<" + beanName + "> instantiator() {");
+            out.println("        return " + (hasNoArgsConstructor(beanType) ? beanName + "::new" : "null") + ";");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.function.BiConsumer<" + beanName + ", Object> setter(String field) {");
+            out.println("        switch (field) {");
+            for (Map.Entry<String, String> entry : assignments(beanType).entrySet()) {
+                out.println("            case \"" + entry.getKey() + "\":");
+                out.println("                return (bean, value) -> " + entry.getValue() + ";");
+            }
+            out.println("            default:");
+            out.println("                return null;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can not generate [" + mapperName + "]: " + e.getMessage(), beanType);
+        }
+    }
+
+    protected boolean hasNoArgsConstructor(TypeElement beanType) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(beanType.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 与 DefaultMetaResolver#getBeanFields 的字段一致：先子类后父类，忽略静态、transient 与被子类同名字段隐藏的字段
+     * @return 字段名 -> 赋值语句，不能直接访问的字段（如私有字段）不包含在内，运行时由反射赋值
+     */
+    protected Map<String, String> assignments(TypeElement beanType) {
+        DeclaredType beanMirror = (DeclaredType) beanType.asType();
+        Map<String, String> assignments = new LinkedHashMap<>();
+        Set<String> fieldNames = new HashSet<>();
+        TypeElement type = beanType;
+        while (type != null && !type.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                String name = field.getSimpleName().toString();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT) || !fieldNames.add(name)) {
+                    continue;
+                }
+                TypeMirror fieldType = types.erasure(field.asType());
+                // 父类中以类型变量声明的字段，运行时的字段类型与其在子类中的类型不同，交由反射处理
+                if (!types.isSameType(fieldType, types.erasure(types.asMemberOf(beanMirror, field)))
+                        || !isAccessible(beanType, fieldType)) {
+                    continue;
+                }
+                if (!modifiers.contains(Modifier.FINAL) && isAccessible(beanType, field)) {
+                    assignments.put(name, "bean." + name + " = (" + castName(fieldType) + ") value");
+                }
+            }
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return assignments;
+    }
+
+    /**
+     * @return 在生成的类（与 Bean 同包）中，是否可以通过 Bean 访问该成员
+     */
+    protected boolean isAccessible(TypeElement beanType, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        TypeElement owner = (TypeElement) member.getEnclosingElement();
+        boolean samePackage = packageName(owner).equals(packageName(beanType));
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return samePackage || owner.getModifiers().contains(Modifier.PUBLIC);
+        }
+        // 包级私有与 protected 的成员只在同包中可访问
+        return samePackage;
+    }
+
+    /**
+     * @return 在生成的类中，是否可以使用该类型
+     */
+    protected boolean isAccessible(TypeElement beanType, TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(beanType, ((ArrayType) type).getComponentType());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return true;
+        }
+        Element element = types.asElement(type);
+        boolean samePackage = packageName((TypeElement) element).equals(packageName(beanType));
+        while (element instanceof TypeElement) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * @return 强制转换的类型名（基本类型转换为包装类型，赋值时自动拆箱）
+     */
+    protected String castName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) type).getComponentType();
+            return (component.getKind().isPrimitive() ? component.getKind().name().toLowerCase(Locale.ROOT) : castName(component)) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) types.asElement(type)).getQualifiedName().toString();
+        }
+        return "Object";
+    }
+
+    protected String packageName(TypeElement type) {
+        PackageElement pkg = elements.getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+}
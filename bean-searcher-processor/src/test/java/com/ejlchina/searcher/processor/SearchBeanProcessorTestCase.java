@@ -0,0 +1,163 @@
+package com.ejlchina.searcher.processor;
+
+import com.ejlchina.searcher.BeanMapper;
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.implement.DefaultBeanReflector;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.LambdaBeanReflector;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class SearchBeanProcessorTestCase {
+
+    private static final String BASE = "package com.example;\n" +
+            "class Base {\n" +
+            "    String remark;\n" +
+            "}\n";
+
+    private static final String USER = "package com.example;\n" +
+            "import com.ejlchina.searcher.bean.SearchBean;\n" +
+            "@SearchBean\n" +
+            "public class User extends Base {\n" +
+            "    public static int COUNT;\n" +
+            "    private long id;\n" +
+            "    String name;\n" +
+            "    String nick;\n" +
+            "    private Integer age;\n" +
+            "    int[] scores;\n" +
+            "    final String code = null;\n" +
+            "    public User setId(long id) { this.id = id; return this; }\n" +
+            "    public long getId() { return id; }\n" +
+            "    public Integer getAge() { return age; }\n" +
+            "    public String getName() { return name; }\n" +
+            "    public void setNick(String nick) { this.nick = nick + \"!\"; }\n" +
+            "    public String getNick() { return nick; }\n" +
+            "    public String getRemark() { return remark; }\n" +
+            "    public int[] getScores() { return scores; }\n" +
+            "}\n";
+
+    private static final String OUTER = "package com.example;\n" +
+            "import com.ejlchina.searcher.bean.SearchBean;\n" +
+            "public class Outer {\n" +
+            "    @SearchBean\n" +
+            "    public static class Item {\n" +
+            "        private Item(String ignore) { }\n" +
+            "        Long id;\n" +
+            "    }\n" +
+            "    @SearchBean\n" +
+            "    public class Inner {\n" +
+            "        Long id;\n" +
+            "    }\n" +
+            "}\n";
+
+    private static ClassLoader classLoader;
+
+    private static final List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+
+    @BeforeClass
+    public static void compile() throws IOException {
+        Path dir = Files.createTempDirectory("bean-searcher-processor");
+        List<File> sources = new ArrayList<>();
+        sources.add(write(dir, "Base", BASE));
+        sources.add(write(dir, "User", USER));
+        sources.add(write(dir, "Outer", OUTER));
+        File out = Files.createDirectories(dir.resolve("classes")).toFile();
+        // surefire 的 java.class.path 可能只有一个 manifest jar，所以直接使用 bean-searcher 的位置
+        String classpath = new File(BeanMapper.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics::add,
+                    Arrays.asList("-classpath", classpath, "-d", out.getPath(), "-s", out.getPath()),
+                    null, fileManager.getJavaFileObjectsFromFiles(sources));
+            task.setProcessors(Collections.singletonList(new SearchBeanProcessor()));
+            Assert.assertTrue(diagnostics.toString(), task.call());
+        }
+        classLoader = new URLClassLoader(new URL[] { out.toURI().toURL() }, SearchBeanProcessorTestCase.class.getClassLoader());
+    }
+
+    private static File write(Path dir, String name, String source) throws IOException {
+        return Files.write(dir.resolve(name + ".java"), source.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+
+    @Test
+    public void testGenerated() throws Exception {
+        Class<?> userClass = classLoader.loadClass("com.example.User");
+        BeanMeta<?> beanMeta = new DefaultMetaResolver().resolve(userClass);
+        BeanMapper<?> mapper = beanMeta.getMapper();
+        Assert.assertNotNull(mapper);
+        Assert.assertEquals("com.example.User_BeanMapper", mapper.getClass().getName());
+        Assert.assertSame(userClass, mapper.getBeanClass());
+        Assert.assertNotNull(mapper.instantiator());
+        // 同包字段（有 setter 时也直接赋值）、父类的同包字段、数组字段
+        for (String field : Arrays.asList("name", "nick", "remark", "scores")) {
+            Assert.assertNotNull(field, beanMeta.requireFieldMeta(field).getValueSetter());
+        }
+        // 私有字段（无论有没有 setter）、final 字段
+        Assert.assertNull(beanMeta.requireFieldMeta("id").getValueSetter());
+        Assert.assertNull(beanMeta.requireFieldMeta("age").getValueSetter());
+        Assert.assertNull(mapper.setter("code"));
+        Assert.assertNull(mapper.setter("COUNT"));
+    }
+
+    @Test
+    public void testReflect() throws Exception {
+        Class<?> userClass = classLoader.loadClass("com.example.User");
+        BeanMeta<?> beanMeta = new DefaultMetaResolver().resolve(userClass);
+        Map<String, Object> values = new HashMap<>();
+        values.put(beanMeta.requireFieldMeta("id").getDbAlias(), 7L);
+        values.put(beanMeta.requireFieldMeta("name").getDbAlias(), "Jack");
+        values.put(beanMeta.requireFieldMeta("nick").getDbAlias(), "Tom");
+        values.put(beanMeta.requireFieldMeta("age").getDbAlias(), 20);
+        values.put(beanMeta.requireFieldMeta("remark").getDbAlias(), "VIP");
+        values.put(beanMeta.requireFieldMeta("scores").getDbAlias(), new int[] { 1, 2 });
+        for (DefaultBeanReflector reflector : Arrays.asList(new DefaultBeanReflector(), new LambdaBeanReflector())) {
+            Object user = reflector.reflect(beanMeta, beanMeta.getFieldMetas(), values::get);
+            Assert.assertEquals(7L, userClass.getMethod("getId").invoke(user));
+            Assert.assertEquals("Jack", userClass.getMethod("getName").invoke(user));
+            // 与 DefaultBeanReflector 一样不调用 setter 方法
+            Assert.assertEquals("Tom", userClass.getMethod("getNick").invoke(user));
+            // 没有生成赋值函数的字段仍通过反射赋值
+            Assert.assertEquals(20, userClass.getMethod("getAge").invoke(user));
+            Assert.assertEquals("VIP", userClass.getMethod("getRemark").invoke(user));
+            Assert.assertArrayEquals(new int[] { 1, 2 }, (int[]) userClass.getMethod("getScores").invoke(user));
+        }
+    }
+
+    @Test
+    public void testNested() throws Exception {
+        Class<?> itemClass = classLoader.loadClass("com.example.Outer$Item");
+        Assert.assertEquals("com.example.Outer_Item_BeanMapper", BeanMapper.mapperName(itemClass));
+        BeanMeta<?> beanMeta = new DefaultMetaResolver().resolve(itemClass);
+        Assert.assertNotNull(beanMeta.getMapper());
+        // 无参构造方法不可访问
+        Assert.assertNull(beanMeta.getMapper().instantiator());
+        Assert.assertNotNull(beanMeta.requireFieldMeta("id").getValueSetter());
+        // 非静态内部类不生成
+        Class<?> innerClass = classLoader.loadClass("com.example.Outer$Inner");
+        Assert.assertNull(new DefaultMetaResolver().resolve(innerClass).getMapper());
+        Assert.assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                && d.getMessage(Locale.ROOT).contains("com.example.Outer.Inner")));
+    }
+
+    @Test
+    public void testNoGenerated() {
+        Assert.assertNull(new DefaultMetaResolver().resolve(Plain.class).getMapper());
+        Assert.assertNull(new DefaultMetaResolver().resolve(Plain.class).requireFieldMeta("id").getValueSetter());
+    }
+
+    public static class Plain {
+        Long id;
+    }
+
+}
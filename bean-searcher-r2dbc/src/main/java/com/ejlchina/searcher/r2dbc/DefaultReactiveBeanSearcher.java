@@ -0,0 +1,337 @@
+package com.ejlchina.searcher.r2dbc;
+
+import com.ejlchina.searcher.*;
+import com.ejlchina.searcher.bean.BeanAware;
+import com.ejlchina.searcher.bean.ParamAware;
+import com.ejlchina.searcher.implement.*;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.param.Seek;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 基于 {@link ReactiveSqlExecutor } 的响应式 Bean 检索器
+ * 元信息、参数、SQL 的解析以及 SQL 拦截器、结果过滤器与同步检索器共用，只有 SQL 的执行与结果的读取是非阻塞的
+ * 注意：深分页不会自动转为键集分页（定位边界行需要额外的一次查询），但支持显式传入的键集分页游标
+ * @since v3.8.0
+ */
+public class DefaultReactiveBeanSearcher implements ReactiveBeanSearcher {
+
+    private ReactiveSqlExecutor sqlExecutor;
+
+    private MetaResolver metaResolver = new DefaultMetaResolver();
+
+    private ParamResolver paramResolver = new DefaultParamResolver();
+
+    private SqlResolver sqlResolver = new DefaultSqlResolver();
+
+    private BeanReflector beanReflector = new DefaultBeanReflector();
+
+    private List<SqlInterceptor> interceptors = new ArrayList<>();
+
+    private List<ResultFilter> resultFilters = new ArrayList<>();
+
+    public DefaultReactiveBeanSearcher() {
+    }
+
+    public DefaultReactiveBeanSearcher(ReactiveSqlExecutor sqlExecutor) {
+        this.sqlExecutor = sqlExecutor;
+    }
+
+    @Override
+    public <T> Mono<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap) {
+        return search(beanClass, paraMap, new FetchType(FetchType.DEFAULT));
+    }
+
+    @Override
+    public <T> Mono<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap, String[] summaryFields) {
+        return search(beanClass, paraMap, new FetchType(FetchType.DEFAULT, summaryFields));
+    }
+
+    @Override
+    public <T> Mono<T> searchFirst(Class<T> beanClass, Map<String, Object> paraMap) {
+        return search(beanClass, paraMap, new FetchType(FetchType.LIST_FIRST))
+                .flatMap(result -> {
+                    List<T> list = result.getDataList();
+                    return list.size() > 0 ? Mono.just(list.get(0)) : Mono.empty();
+                });
+    }
+
+    @Override
+    public <T> Flux<T> searchList(Class<T> beanClass, Map<String, Object> paraMap) {
+        return searchFlux(beanClass, paraMap, new FetchType(FetchType.LIST_ONLY));
+    }
+
+    @Override
+    public <T> Flux<T> searchAll(Class<T> beanClass, Map<String, Object> paraMap) {
+        return searchFlux(beanClass, paraMap, new FetchType(FetchType.LIST_ALL));
+    }
+
+    @Override
+    public <T> Mono<Number> searchCount(Class<T> beanClass, Map<String, Object> paraMap) {
+        return Mono.defer(() -> {
+            SearchSql<T> searchSql = resolve(beanClass, paraMap, new FetchType(FetchType.ONLY_TOTAL));
+            return sqlExecutor.executeCluster(searchSql).map(values -> getCount(searchSql, values));
+        });
+    }
+
+    @Override
+    public <T> Mono<Number> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String field) {
+        String[] fields = { Objects.requireNonNull(field) };
+        return searchSum(beanClass, paraMap, fields)
+                .map(results -> results.length > 0 ? results[0] : 0L);
+    }
+
+    @Override
+    public <T> Mono<Number[]> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String[] fields) {
+        if (fields == null || fields.length == 0) {
+            return Mono.error(new SearchException("检索该 Bean【" + beanClass.getName() + "】的统计信息时，必须要指定需要统计的属性！"));
+        }
+        return Mono.defer(() -> {
+            SearchSql<T> searchSql = resolve(beanClass, paraMap, new FetchType(FetchType.ONLY_SUMMARY, fields));
+            return sqlExecutor.executeCluster(searchSql).map(values -> getSummaries(searchSql, values));
+        });
+    }
+
+    protected <T> Mono<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap, FetchType fetchType) {
+        return Mono.defer(() -> {
+            SearchSql<T> searchSql = resolve(beanClass, paraMap, fetchType);
+            SeekRecorder seekRecorder = seekRecorder(searchSql);
+            // 聚族 SQL 与列表 SQL 依次执行，一次检索只占用一个连接
+            return sqlExecutor.executeSearch(searchSql, rowMapper(searchSql, paraMap, seekRecorder), (values, list) -> {
+                SearchResult<T> result;
+                if (searchSql.isShouldQueryCluster()) {
+                    result = new SearchResult<>(getCount(searchSql, values), getSummaries(searchSql, values));
+                } else {
+                    result = new SearchResult<>(0L, SearchResult.EMPTY_SUMMARIES);
+                }
+                result.setCountEstimated(searchSql.isCountEstimated());
+                result.getDataList().addAll(list);
+                if (seekRecorder != null) {
+                    result.setNextCursor(seekRecorder.nextCursor(searchSql.getPaging()));
+                }
+                return doFilter(result, searchSql.getBeanMeta(), paraMap, fetchType);
+            });
+        });
+    }
+
+    protected <T> Flux<T> searchFlux(Class<T> beanClass, Map<String, Object> paraMap, FetchType fetchType) {
+        return Flux.defer(() -> {
+            SearchSql<T> searchSql = resolve(beanClass, paraMap, fetchType);
+            BeanMeta<T> beanMeta = searchSql.getBeanMeta();
+            return executeList(searchSql, paraMap, null)
+                    .concatMapIterable(bean -> {
+                        // 与 BeanSearcher#searchCursor 一致，结果过滤器逐个作用于每个 Bean
+                        SearchResult<T> result = new SearchResult<>(1);
+                        result.getDataList().add(bean);
+                        return doFilter(result, beanMeta, paraMap, fetchType).getDataList();
+                    });
+        });
+    }
+
+    protected <T> SearchSql<T> resolve(Class<T> beanClass, Map<String, Object> paraMap, FetchType fetchType) {
+        if (sqlExecutor == null) {
+            throw new SearchException("you must set a sqlExecutor before search.");
+        }
+        BeanMeta<T> beanMeta = metaResolver.resolve(beanClass);
+        SearchParam searchParam = paramResolver.resolve(beanMeta, fetchType, paraMap);
+        SearchSql<T> searchSql = sqlResolver.resolve(beanMeta, searchParam);
+        for (SqlInterceptor interceptor : interceptors) {
+            searchSql = interceptor.intercept(searchSql, paraMap, fetchType);
+        }
+        return searchSql;
+    }
+
+    protected <T> Flux<T> executeList(SearchSql<T> searchSql, Map<String, Object> paraMap, SeekRecorder seekRecorder) {
+        return sqlExecutor.executeList(searchSql, rowMapper(searchSql, paraMap, seekRecorder));
+    }
+
+    /**
+     * @return 将一行结果装配为 Bean 的行映射函数
+     */
+    protected <T> Function<SqlResult.Result, T> rowMapper(SearchSql<T> searchSql, Map<String, Object> paraMap,
+                                                          SeekRecorder seekRecorder) {
+        BeanMeta<T> beanMeta = searchSql.getBeanMeta();
+        List<FieldMeta> fieldMetas = searchSql.getFetchFields().stream()
+                .map(beanMeta::requireFieldMeta)
+                .collect(Collectors.toList());
+        return row -> {
+            if (seekRecorder != null) {
+                seekRecorder.record(row);
+            }
+            return reflect(row, beanMeta, fieldMetas, paraMap);
+        };
+    }
+
+    /**
+     * 将一行结果装配为 Bean
+     */
+    protected <T> T reflect(SqlResult.Result row, BeanMeta<T> beanMeta, List<FieldMeta> fieldMetas,
+                            Map<String, Object> paraMap) {
+        T bean = beanReflector.reflect(beanMeta, fieldMetas, dbAlias -> {
+            try {
+                return row.get(dbAlias);
+            } catch (SQLException e) {
+                throw new SearchException("A exception occurred when collecting sql result!", e);
+            }
+        });
+        if (bean instanceof BeanAware) {
+            ((BeanAware) bean).afterAssembly();
+        }
+        if (bean instanceof ParamAware) {
+            ((ParamAware) bean).afterAssembly(paraMap);
+        }
+        return bean;
+    }
+
+    protected <T> SearchResult<T> doFilter(SearchResult<T> result, BeanMeta<T> beanMeta, Map<String, Object> paraMap,
+                                           FetchType fetchType) {
+        for (ResultFilter filter: resultFilters) {
+            result = filter.doBeanFilter(result, beanMeta, paraMap, fetchType);
+        }
+        return result;
+    }
+
+    protected Number getCount(SearchSql<?> searchSql, Map<String, Object> values) {
+        Number count = (Number) values.get(searchSql.getCountAlias());
+        return count != null ? count : 0L;
+    }
+
+    protected Number[] getSummaries(SearchSql<?> searchSql, Map<String, Object> values) {
+        List<String> summaryAliases = searchSql.getSummaryAliases();
+        if (summaryAliases.isEmpty()) {
+            return SearchResult.EMPTY_SUMMARIES;
+        }
+        Number[] summaries = new Number[summaryAliases.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            Number sum = (Number) values.get(summaryAliases.get(i));
+            summaries[i] = sum != null ? sum : 0L;
+        }
+        return summaries;
+    }
+
+    /**
+     * 键集分页时，用于记录最后一行排序字段值的记录器
+     * @return 非键集分页时返回 null
+     */
+    protected SeekRecorder seekRecorder(SearchSql<?> searchSql) {
+        Seek seek = searchSql.getSeek();
+        if (seek == null) {
+            return null;
+        }
+        BeanMeta<?> beanMeta = searchSql.getBeanMeta();
+        String[] columns = seek.getOrderBys().stream()
+                .map(orderBy -> beanMeta.requireFieldMeta(orderBy.getSort()).getDbAlias())
+                .toArray(String[]::new);
+        return new SeekRecorder(seek, columns);
+    }
+
+    /**
+     * 记录最后一行的排序字段值，用于生成下一页的游标
+     */
+    protected static class SeekRecorder {
+
+        private final Seek seek;
+        private final String[] columns;
+        private final Object[] lastValues;
+        private int rows = 0;
+
+        public SeekRecorder(Seek seek, String[] columns) {
+            this.seek = seek;
+            this.columns = columns;
+            this.lastValues = new Object[columns.length];
+        }
+
+        public void record(SqlResult.Result row) {
+            rows++;
+            for (int i = 0; i < columns.length; i++) {
+                try {
+                    lastValues[i] = row.get(columns[i]);
+                } catch (SQLException e) {
+                    throw new SearchException("A exception occurred when collecting sql result!", e);
+                }
+            }
+        }
+
+        /**
+         * @param paging 分页参数
+         * @return 下一页的游标，当前页未满（已无下一页）时返回 null
+         */
+        public String nextCursor(Paging paging) {
+            if (paging == null || rows < paging.getSize()) {
+                return null;
+            }
+            return seek.encode(lastValues);
+        }
+
+    }
+
+    public ReactiveSqlExecutor getSqlExecutor() {
+        return sqlExecutor;
+    }
+
+    public void setSqlExecutor(ReactiveSqlExecutor sqlExecutor) {
+        this.sqlExecutor = Objects.requireNonNull(sqlExecutor);
+    }
+
+    public MetaResolver getMetaResolver() {
+        return metaResolver;
+    }
+
+    public void setMetaResolver(MetaResolver metaResolver) {
+        this.metaResolver = Objects.requireNonNull(metaResolver);
+    }
+
+    public ParamResolver getParamResolver() {
+        return paramResolver;
+    }
+
+    public void setParamResolver(ParamResolver paramResolver) {
+        this.paramResolver = Objects.requireNonNull(paramResolver);
+    }
+
+    public SqlResolver getSqlResolver() {
+        return sqlResolver;
+    }
+
+    public void setSqlResolver(SqlResolver sqlResolver) {
+        this.sqlResolver = Objects.requireNonNull(sqlResolver);
+    }
+
+    public BeanReflector getBeanReflector() {
+        return beanReflector;
+    }
+
+    public void setBeanReflector(BeanReflector beanReflector) {
+        this.beanReflector = Objects.requireNonNull(beanReflector);
+    }
+
+    public List<SqlInterceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    public void setInterceptors(List<SqlInterceptor> interceptors) {
+        this.interceptors = Objects.requireNonNull(interceptors);
+    }
+
+    public List<ResultFilter> getResultFilters() {
+        return resultFilters;
+    }
+
+    public void setResultFilters(List<ResultFilter> resultFilters) {
+        this.resultFilters = Objects.requireNonNull(resultFilters);
+    }
+
+    public void addResultFilter(ResultFilter resultFilter) {
+        if (resultFilter != null) {
+            this.resultFilters.add(resultFilter);
+        }
+    }
+
+}
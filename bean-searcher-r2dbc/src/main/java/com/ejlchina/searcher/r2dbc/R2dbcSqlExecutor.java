@@ -0,0 +1,329 @@
+package com.ejlchina.searcher.r2dbc;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.SearchException;
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.SqlExecutor;
+import com.ejlchina.searcher.SqlResult;
+import com.ejlchina.searcher.util.StringUtils;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 基于 R2DBC 的响应式 SQL 执行器
+ * 每次执行从 {@link ConnectionFactory } 获取连接，结果发射完毕、出错或被取消时释放连接，
+ * 分页检索的聚族 SQL 与列表 SQL 在同一个连接上依次执行
+ * @since v3.8.0
+ */
+public class R2dbcSqlExecutor implements ReactiveSqlExecutor {
+
+    protected static final Logger log = LoggerFactory.getLogger(R2dbcSqlExecutor.class);
+
+    /**
+     * 参数占位符风格（{@link SearchSql } 中的参数占位符总是 <code>?</code>，执行前转换为驱动要求的形式）
+     */
+    public enum BindMarkers {
+
+        /**
+         * <code>?</code>，如：MySQL、MariaDB、Oracle
+         */
+        QUESTION,
+
+        /**
+         * <code>$1, $2, ...</code>，如：PostgreSQL、H2
+         */
+        DOLLAR,
+
+        /**
+         * <code>@P0, @P1, ...</code>，如：SqlServer
+         */
+        AT_P
+
+    }
+
+    /**
+     * 默认数据源
+     */
+    private ConnectionFactory connectionFactory;
+
+    /**
+     * 多数据源
+     */
+    private final Map<String, ConnectionFactory> connectionFactoryMap = new ConcurrentHashMap<>();
+
+    /**
+     * 参数占位符风格，为 null 时根据 {@link ConnectionFactory#getMetadata()} 自动判断
+     */
+    private BindMarkers bindMarkers;
+
+    /**
+     * 绑定 null 参数时使用的类型，默认为 String（部分驱动不接受 Object，如：r2dbc-postgresql）
+     */
+    private Class<?> nullType = String.class;
+
+    /**
+     * 慢 SQL 阈值：单位毫秒
+     */
+    private long slowSqlThreshold = 500;
+
+    /**
+     * 慢 SQL 监听器
+     */
+    private SqlExecutor.SlowListener slowListener;
+
+    public R2dbcSqlExecutor() { }
+
+    public R2dbcSqlExecutor(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public <T, R> Flux<R> executeList(SearchSql<T> searchSql, Function<SqlResult.Result, R> rowMapper) {
+        return execute(searchSql, searchSql.getListSqlString(), searchSql.getListSqlParams(), rowMapper);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> executeCluster(SearchSql<?> searchSql) {
+        return execute(searchSql, searchSql.getClusterSqlString(), searchSql.getClusterSqlParams(), clusterMapper(searchSql))
+                .next()
+                .defaultIfEmpty(Collections.emptyMap());
+    }
+
+    /**
+     * 在同一个连接上依次执行聚族 SQL 与列表 SQL，一次检索只占用一个连接
+     */
+    @Override
+    public <T, R, V> Mono<V> executeSearch(SearchSql<T> searchSql, Function<SqlResult.Result, R> rowMapper,
+                                           BiFunction<Map<String, Object>, List<R>, V> combiner) {
+        ConnectionFactory factory = getConnectionFactory(searchSql.getBeanMeta());
+        BindMarkers markers = bindMarkersOf(factory);
+        return Mono.usingWhen(factory.create(), connection -> {
+            Mono<Map<String, Object>> cluster = Mono.just(Collections.emptyMap());
+            if (searchSql.isShouldQueryCluster()) {
+                cluster = execute(connection, searchSql, searchSql.getClusterSqlString(), searchSql.getClusterSqlParams(),
+                                markers, clusterMapper(searchSql))
+                        .next()
+                        .defaultIfEmpty(Collections.emptyMap());
+            }
+            return cluster.flatMap(values -> {
+                Mono<List<R>> list = Mono.just(Collections.emptyList());
+                if (searchSql.isShouldQueryList()) {
+                    list = execute(connection, searchSql, searchSql.getListSqlString(), searchSql.getListSqlParams(),
+                            markers, rowMapper).collectList();
+                }
+                return list.map(rows -> combiner.apply(values, rows));
+            });
+        }, Connection::close);
+    }
+
+    /**
+     * @return 将聚族 SQL 的结果读为 Map（列名 -&gt; 值）的行映射函数
+     */
+    protected Function<SqlResult.Result, Map<String, Object>> clusterMapper(SearchSql<?> searchSql) {
+        List<String> aliases = new ArrayList<>(searchSql.getSummaryAliases());
+        String countAlias = searchSql.getCountAlias();
+        if (countAlias != null) {
+            aliases.add(countAlias);
+        }
+        return result -> {
+            Map<String, Object> values = new HashMap<>();
+            for (String alias : aliases) {
+                try {
+                    values.put(alias, result.get(alias));
+                } catch (Exception e) {
+                    throw new SearchException("A exception occurred when collecting sql result!", e);
+                }
+            }
+            return values;
+        };
+    }
+
+    protected <R> Flux<R> execute(SearchSql<?> searchSql, String sql, List<Object> params,
+                                  Function<SqlResult.Result, R> rowMapper) {
+        ConnectionFactory factory = getConnectionFactory(searchSql.getBeanMeta());
+        BindMarkers markers = bindMarkersOf(factory);
+        return Flux.usingWhen(factory.create(), connection -> execute(connection, searchSql, sql, params, markers, rowMapper),
+                Connection::close);
+    }
+
+    /**
+     * 在给定的连接上执行 SQL，不关闭连接
+     */
+    protected <R> Flux<R> execute(Connection connection, SearchSql<?> searchSql, String sql, List<Object> params,
+                                  BindMarkers markers, Function<SqlResult.Result, R> rowMapper) {
+        String nativeSql = toNativeSql(sql, markers);
+        return Flux.defer(() -> {
+            long t0 = System.currentTimeMillis();
+            return Flux.from(bind(connection, searchSql, nativeSql, params).execute())
+                    .concatMap(result -> result.map((row, metadata) -> rowMapper.apply(row::get)))
+                    .doOnComplete(() -> afterExecute(searchSql, sql, params, System.currentTimeMillis() - t0));
+        });
+    }
+
+    protected Statement bind(Connection connection, SearchSql<?> searchSql, String sql, List<Object> params) {
+        Statement statement = connection.createStatement(sql);
+        for (int i = 0; i < params.size(); i++) {
+            Object param = params.get(i);
+            if (param != null) {
+                statement.bind(i, param);
+            } else {
+                statement.bindNull(i, nullTypeOf(searchSql, params, i));
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * SQL 参数未与字段关联，无法得知 null 参数对应字段的类型，默认返回 {@link #getNullType() }，
+     * 子类可重写该方法，为特定的参数指定更精确的类型
+     * @param searchSql 检索 SQL
+     * @param params 参数列表
+     * @param index 为 null 的参数的下标
+     * @return 绑定该 null 参数时使用的类型
+     */
+    protected Class<?> nullTypeOf(SearchSql<?> searchSql, List<Object> params, int index) {
+        return nullType;
+    }
+
+    protected ConnectionFactory getConnectionFactory(BeanMeta<?> beanMeta) {
+        String name = beanMeta.getDataSource();
+        ConnectionFactory factory;
+        if (StringUtils.isBlank(name)) {
+            factory = connectionFactory;
+            if (factory == null) {
+                throw new SearchException("There is not a default connection factory for " + beanMeta.getBeanClass());
+            }
+        } else {
+            factory = connectionFactoryMap.get(name);
+            if (factory == null) {
+                throw new SearchException("There is not a connection factory named " + name + " for " + beanMeta.getBeanClass());
+            }
+        }
+        return factory;
+    }
+
+    protected BindMarkers bindMarkersOf(ConnectionFactory factory) {
+        BindMarkers markers = bindMarkers;
+        if (markers != null) {
+            return markers;
+        }
+        String name = factory.getMetadata().getName().toLowerCase();
+        if (name.contains("postgres") || name.contains("h2")) {
+            return BindMarkers.DOLLAR;
+        }
+        if (name.contains("sql server")) {
+            return BindMarkers.AT_P;
+        }
+        return BindMarkers.QUESTION;
+    }
+
+    /**
+     * 将 SQL 中的 <code>?</code> 占位符（不含字符串字面量与带引号的标识符中的）转换为驱动要求的形式
+     */
+    static String toNativeSql(String sql, BindMarkers markers) {
+        if (markers == BindMarkers.QUESTION) {
+            return sql;
+        }
+        StringBuilder builder = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '?') {
+                if (markers == BindMarkers.DOLLAR) {
+                    builder.append('$').append(++index);
+                } else {
+                    builder.append("@P").append(index++);
+                }
+                continue;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    protected void afterExecute(SearchSql<?> searchSql, String sql, List<Object> params, long timeCost) {
+        if (timeCost >= slowSqlThreshold) {
+            Class<?> beanClass = searchSql.getBeanMeta().getBeanClass();
+            SqlExecutor.SlowListener listener = slowListener;
+            if (listener != null) {
+                listener.onSlowSql(beanClass, sql, params, timeCost);
+            }
+            log.warn("bean-searcher [{}ms] slow-sql: [{}] params: {} on [{}]",timeCost, sql, params, beanClass.getName());
+        } else {
+            log.debug("bean-searcher [{}ms] sql: [{}] params: {}", timeCost, sql, params);
+        }
+    }
+
+    public ConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    public void setConnectionFactory(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * 设置具名数据源
+     * @param name 数据源名称，对应 {@link com.ejlchina.searcher.bean.SearchBean#dataSource()}
+     * @param connectionFactory 连接工厂
+     */
+    public void setConnectionFactory(String name, ConnectionFactory connectionFactory) {
+        if (name != null && connectionFactory != null) {
+            connectionFactoryMap.put(name.trim(), connectionFactory);
+        }
+    }
+
+    public Map<String, ConnectionFactory> getConnectionFactoryMap() {
+        return connectionFactoryMap;
+    }
+
+    public BindMarkers getBindMarkers() {
+        return bindMarkers;
+    }
+
+    public void setBindMarkers(BindMarkers bindMarkers) {
+        this.bindMarkers = bindMarkers;
+    }
+
+    public Class<?> getNullType() {
+        return nullType;
+    }
+
+    public void setNullType(Class<?> nullType) {
+        this.nullType = Objects.requireNonNull(nullType);
+    }
+
+    public long getSlowSqlThreshold() {
+        return slowSqlThreshold;
+    }
+
+    public void setSlowSqlThreshold(long slowSqlThreshold) {
+        this.slowSqlThreshold = slowSqlThreshold;
+    }
+
+    public SqlExecutor.SlowListener getSlowListener() {
+        return slowListener;
+    }
+
+    public void setSlowListener(SqlExecutor.SlowListener slowListener) {
+        this.slowListener = slowListener;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.ejlchina.searcher.r2dbc;
+
+import com.ejlchina.searcher.SearchResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 响应式 Bean 检索器
+ * 与 {@link com.ejlchina.searcher.BeanSearcher } 的检索参数与结果一致，检索在订阅时才执行
+ * @since v3.8.0
+ */
+public interface ReactiveBeanSearcher {
+
+    /**
+     * 适合需要分页的查询，列表与总条数的两条 SQL 并发执行
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数
+     * @return 总条数，Bean 数据列表
+     */
+    <T> Mono<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap);
+
+    /**
+     * 适合需要分页的查询，列表与总条数的两条 SQL 并发执行
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数
+     * @param summaryFields 统计字段
+     * @return 总条数，Bean 数据列表
+     */
+    <T> Mono<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap, String[] summaryFields);
+
+    /**
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数（包括排序分页参数）
+     * @return 满足条件的第一个 Bean，没有时为空
+     */
+    <T> Mono<T> searchFirst(Class<T> beanClass, Map<String, Object> paraMap);
+
+    /**
+     * 适合不需要分页的查询
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数（包括排序分页参数）
+     * @return Bean 数据，按订阅方的请求量逐行读取
+     */
+    <T> Flux<T> searchList(Class<T> beanClass, Map<String, Object> paraMap);
+
+    /**
+     * 检索满足条件的所有 Bean，不支持偏移，适合大数据量的导出与处理
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数（包括排序参数）
+     * @return Bean 数据，按订阅方的请求量逐行读取
+     */
+    <T> Flux<T> searchAll(Class<T> beanClass, Map<String, Object> paraMap);
+
+    /**
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数
+     * @return 满足条件的总条数
+     */
+    <T> Mono<Number> searchCount(Class<T> beanClass, Map<String, Object> paraMap);
+
+    /**
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数
+     * @param field 统计字段
+     * @return 统计值
+     */
+    <T> Mono<Number> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String field);
+
+    /**
+     * @param <T> bean 类型
+     * @param beanClass 要检索的 bean 类型
+     * @param paraMap 检索参数
+     * @param fields 统计字段
+     * @return 统计值
+     */
+    <T> Mono<Number[]> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String[] fields);
+
+}
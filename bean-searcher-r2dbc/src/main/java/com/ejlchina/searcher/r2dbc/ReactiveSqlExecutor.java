@@ -0,0 +1,60 @@
+package com.ejlchina.searcher.r2dbc;
+
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.SqlResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 响应式 SQL 执行器
+ * 与 {@link com.ejlchina.searcher.SqlExecutor } 执行同样的 {@link SearchSql }，但不阻塞线程，也不在整个检索期间占用连接
+ * @since v3.8.0
+ */
+public interface ReactiveSqlExecutor {
+
+    /**
+     * 执行列表 SQL
+     * @param searchSql 检索 SQL
+     * @param rowMapper 行映射函数，传入的 {@link SqlResult.Result } 只在该函数执行期间有效
+     * @param <T> 实体类型
+     * @param <R> 行映射的结果类型
+     * @return 映射后的各行，按订阅方的请求量逐行读取
+     */
+    <T, R> Flux<R> executeList(SearchSql<T> searchSql, Function<SqlResult.Result, R> rowMapper);
+
+    /**
+     * 执行聚族 SQL
+     * @param searchSql 检索 SQL
+     * @return 聚族结果（列名 -&gt; 值），包含总条数与各统计字段，没有结果时为空 Map
+     */
+    Mono<Map<String, Object>> executeCluster(SearchSql<?> searchSql);
+
+    /**
+     * 依次执行聚族 SQL 与列表 SQL（只执行 {@link SearchSql#isShouldQueryCluster() } 与 {@link SearchSql#isShouldQueryList() } 为 true 的），
+     * 同一时刻只占用一个连接，实现类应尽量在同一个连接上执行二者
+     * @param searchSql 检索 SQL
+     * @param rowMapper 列表的行映射函数，传入的 {@link SqlResult.Result } 只在该函数执行期间有效
+     * @param combiner 合并函数，参数为 聚族结果（未执行时为空 Map）与 映射后的各行（未执行时为空列表）
+     * @param <T> 实体类型
+     * @param <R> 行映射的结果类型
+     * @param <V> 合并的结果类型
+     * @return 合并的结果
+     */
+    default <T, R, V> Mono<V> executeSearch(SearchSql<T> searchSql, Function<SqlResult.Result, R> rowMapper,
+                                            BiFunction<Map<String, Object>, List<R>, V> combiner) {
+        Mono<Map<String, Object>> cluster = searchSql.isShouldQueryCluster()
+                ? executeCluster(searchSql) : Mono.just(Collections.emptyMap());
+        return cluster.flatMap(values -> {
+            Mono<List<R>> list = searchSql.isShouldQueryList()
+                    ? executeList(searchSql, rowMapper).collectList() : Mono.just(Collections.emptyList());
+            return list.map(rows -> combiner.apply(values, rows));
+        });
+    }
+
+}
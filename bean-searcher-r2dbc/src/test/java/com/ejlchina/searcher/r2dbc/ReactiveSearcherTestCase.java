@@ -0,0 +1,204 @@
+package com.ejlchina.searcher.r2dbc;
+
+import com.ejlchina.searcher.SearchException;
+import com.ejlchina.searcher.SearchResult;
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.operator.GreaterThan;
+import com.ejlchina.searcher.operator.StartWith;
+import com.ejlchina.searcher.util.MapUtils;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Result;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+public class ReactiveSearcherTestCase {
+
+    @SearchBean(keyField = "id")
+    public static class Employee {
+        private Long id;
+        private String name;
+        private Integer age;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+        public Integer getAge() {
+            return age;
+        }
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+    }
+
+    private static final H2ConnectionFactory connectionFactory = new H2ConnectionFactory(
+            H2ConnectionConfiguration.builder().inMemory("bean_searcher").property("DB_CLOSE_DELAY", "-1").property("MODE", "MySQL").build());
+
+    private static DefaultReactiveBeanSearcher searcher;
+
+    @BeforeClass
+    public static void init() {
+        Mono.from(connectionFactory.create())
+                .flatMapMany(connection -> Flux.concat(
+                        execute(connection, "create table employee (id bigint primary key, name varchar(32), age int)"),
+                        execute(connection, "insert into employee values (1, 'Jack', 20), (2, 'Tom', 30), (3, 'Lucy', 25), (4, 'Jack''s', 40), (5, 'Alice', 35)")
+                ).concatWith(Mono.from(connection.close()).then(Mono.empty())))
+                .blockLast();
+        searcher = new DefaultReactiveBeanSearcher(new R2dbcSqlExecutor(connectionFactory));
+    }
+
+    private static Flux<Long> execute(Connection connection, String sql) {
+        return Flux.from(connection.createStatement(sql).execute()).flatMap(Result::getRowsUpdated).map(Number::longValue);
+    }
+
+    @Test
+    public void testSearch() {
+        Map<String, Object> params = MapUtils.builder()
+                .field(Employee::getAge, 21).op(GreaterThan.class)
+                .orderBy(Employee::getId, "asc")
+                .page(0, 2)
+                .build();
+        SearchResult<Employee> result = searcher.search(Employee.class, params, new String[] { "age" }).block();
+        Assert.assertNotNull(result);
+        Assert.assertEquals(4L, result.getTotalCount().longValue());
+        Assert.assertEquals(130L, result.getSummaries()[0].longValue());
+        List<String> names = result.getDataList().stream().map(Employee::getName).collect(Collectors.toList());
+        Assert.assertEquals("[Tom, Lucy]", names.toString());
+    }
+
+    @Test
+    public void testOneConnection() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger maxOpened = new AtomicInteger();
+        ConnectionFactory counting = new ConnectionFactory() {
+            @Override
+            public Publisher<? extends Connection> create() {
+                return Mono.from(connectionFactory.create()).map(connection -> {
+                    created.incrementAndGet();
+                    maxOpened.accumulateAndGet(opened.incrementAndGet(), Math::max);
+                    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                            (proxy, method, args) -> {
+                                if (method.getName().equals("close")) {
+                                    opened.decrementAndGet();
+                                }
+                                return method.invoke(connection, args);
+                            });
+                });
+            }
+            @Override
+            public ConnectionFactoryMetadata getMetadata() {
+                return connectionFactory.getMetadata();
+            }
+        };
+        DefaultReactiveBeanSearcher searcher = new DefaultReactiveBeanSearcher(new R2dbcSqlExecutor(counting));
+        Map<String, Object> params = MapUtils.builder().orderBy(Employee::getId, "asc").page(0, 2).build();
+        SearchResult<Employee> result = searcher.search(Employee.class, params, new String[] { "age" }).block();
+        Assert.assertNotNull(result);
+        Assert.assertEquals(5L, result.getTotalCount().longValue());
+        Assert.assertEquals(2, result.getDataList().size());
+        // 聚族 SQL 与列表 SQL 在同一个连接上执行
+        Assert.assertEquals(1, created.get());
+        Assert.assertEquals(1, maxOpened.get());
+        Assert.assertEquals(0, opened.get());
+    }
+
+    @Test
+    public void testStringParamAndQuote() {
+        Map<String, Object> params = MapUtils.builder().field(Employee::getName, "Jack's").build();
+        Employee employee = searcher.searchFirst(Employee.class, params).block();
+        Assert.assertNotNull(employee);
+        Assert.assertEquals(4L, employee.getId().longValue());
+        Assert.assertNull(searcher.searchFirst(Employee.class, MapUtils.builder().field(Employee::getName, "Nobody").build()).block());
+    }
+
+    @Test
+    public void testCountAndSum() {
+        Map<String, Object> params = MapUtils.builder().field(Employee::getName, "J").op(StartWith.class).build();
+        Assert.assertEquals(2L, searcher.searchCount(Employee.class, params).block().longValue());
+        Assert.assertEquals(60L, searcher.searchSum(Employee.class, params, "age").block().longValue());
+    }
+
+    @Test
+    public void testBackpressure() {
+        AtomicLong requested = new AtomicLong();
+        List<Employee> list = searcher.searchAll(Employee.class, MapUtils.builder().orderBy(Employee::getId, "asc").build())
+                .doOnRequest(requested::addAndGet)
+                .limitRate(1)
+                .take(2)
+                .collectList()
+                .block();
+        Assert.assertNotNull(list);
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(2L, list.get(1).getId().longValue());
+        Assert.assertTrue(requested.get() < 5);
+    }
+
+    @Test
+    public void testSeek() {
+        Map<String, Object> params = MapUtils.builder().orderBy(Employee::getAge, "desc").page(0, 2).seek().build();
+        SearchResult<Employee> first = searcher.search(Employee.class, params).block();
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(first.getNextCursor());
+        params = MapUtils.builder().orderBy(Employee::getAge, "desc").page(0, 2).seek(first.getNextCursor()).build();
+        SearchResult<Employee> second = searcher.search(Employee.class, params).block();
+        Assert.assertNotNull(second);
+        List<Long> ids = second.getDataList().stream().map(Employee::getId).collect(Collectors.toList());
+        Assert.assertEquals("[2, 3]", ids.toString());
+    }
+
+    @Test
+    public void testNullParam() {
+        SearchSql<Employee> searchSql = new SearchSql<>(new DefaultMetaResolver().resolve(Employee.class), Collections.emptyList());
+        searchSql.setClusterSqlString("select count(*) s_count from employee where coalesce(?, name) = name");
+        searchSql.addClusterSqlParam(null);
+        searchSql.setCountAlias("s_count");
+        Map<String, Object> values = new R2dbcSqlExecutor(connectionFactory).executeCluster(searchSql).block();
+        Assert.assertNotNull(values);
+        Assert.assertEquals(5L, ((Number) values.get("s_count")).longValue());
+    }
+
+    @Test
+    public void testError() {
+        try {
+            searcher.searchSum(Employee.class, null, "notExists").block();
+            Assert.fail();
+        } catch (SearchException ignored) { }
+    }
+
+    @Test
+    public void testNativeSql() {
+        String sql = "select * from t where a = ? and b = '?' and c = ?";
+        Assert.assertEquals("select * from t where a = $1 and b = '?' and c = $2",
+                R2dbcSqlExecutor.toNativeSql(sql, R2dbcSqlExecutor.BindMarkers.DOLLAR));
+        Assert.assertEquals("select * from t where a = @P0 and b = '?' and c = @P1",
+                R2dbcSqlExecutor.toNativeSql(sql, R2dbcSqlExecutor.BindMarkers.AT_P));
+        Assert.assertSame(sql, R2dbcSqlExecutor.toNativeSql(sql, R2dbcSqlExecutor.BindMarkers.QUESTION));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.ejlchina.searcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步的 Map 对象检索器接口
+ * 与 {@link MapSearcher } 的各检索方法一一对应，检索在指定的线程池中执行，
+ * 取消返回的 {@link CompletableFuture } 时，正在执行的 SQL 语句也会被取消
+ * @since v3.8.0
+ */
+public interface AsyncMapSearcher {
+
+	/**
+	 * @see MapSearcher#search(Class, Map)
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数
+	 * @return 总条数，Map 数据列表
+	 */
+	<T> CompletableFuture<SearchResult<Map<String, Object>>> search(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * @see MapSearcher#search(Class, Map, String[])
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数
+	 * @param summaryFields 统计字段
+	 * @return 总条数，Map 数据列表
+	 */
+	<T> CompletableFuture<SearchResult<Map<String, Object>>> search(Class<T> beanClass, Map<String, Object> paraMap, String[] summaryFields);
+
+	/**
+	 * @see MapSearcher#searchFirst(Class, Map)
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数（包括排序分页参数）
+	 * @return 满足条件的第一个 Map
+	 */
+	<T> CompletableFuture<Map<String, Object>> searchFirst(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * @see MapSearcher#searchList(Class, Map)
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数（包括排序分页参数）
+	 * @return Map 数据列表
+	 */
+	<T> CompletableFuture<List<Map<String, Object>>> searchList(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * @see MapSearcher#searchAll(Class, Map)
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数（包括排序参数）
+	 * @return Map 数据列表
+	 */
+	<T> CompletableFuture<List<Map<String, Object>>> searchAll(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * @see MapSearcher#searchCount(Class, Map)
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数
+	 * @return 数据个数
+	 */
+	<T> CompletableFuture<Number> searchCount(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * @see MapSearcher#searchSum(Class, Map, String)
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数
+	 * @param field 参与求和的字段
+	 * @return 字段求和统计
+	 */
+	<T> CompletableFuture<Number> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String field);
+
+	/**
+	 * @see MapSearcher#searchSum(Class, Map, String[])
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数
+	 * @param fields 参与求和的字段数组
+	 * @return 字段求和统计
+	 */
+	<T> CompletableFuture<Number[]> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String[] fields);
+
+}
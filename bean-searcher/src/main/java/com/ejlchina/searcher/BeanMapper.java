@@ -0,0 +1,51 @@
+package com.ejlchina.searcher;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 编译期生成的 Bean 装配器（由 bean-searcher-processor 模块为每个 {@link com.ejlchina.searcher.bean.SearchBean } 类生成）
+ * 通过构造方法引用创建 Bean，直接为字段赋值（不调用 setter 方法），装配时不再经过反射。
+ * 生成的类与 Bean 在同一个包中，类名为 {@link #mapperName(Class)}，并有一个公共的无参构造方法。
+ * {@link com.ejlchina.searcher.implement.DefaultMetaResolver } 解析元信息时会自动查找它，
+ * 无法直接访问的构造方法或字段仍使用反射
+ * @param <T> Bean 类型
+ * @since v3.8.0
+ */
+public interface BeanMapper<T> {
+
+	/**
+	 * 生成的类名的后缀
+	 */
+	String SUFFIX = "_BeanMapper";
+
+	/**
+	 * @return Bean 类型
+	 */
+	Class<T> getBeanClass();
+
+	/**
+	 * @return 实例化函数，Bean 没有可访问的无参构造方法时返回 null
+	 */
+	Supplier<T> instantiator();
+
+	/**
+	 * @param field 字段名
+	 * @return 该字段的赋值函数（值须为字段类型，且不为 null），字段不可直接访问时返回 null
+	 */
+	BiConsumer<T, Object> setter(String field);
+
+	/**
+	 * 生成的类名：与 Bean 同包，嵌套类的各级类名以下划线连接，如 <code>com.example.Outer$User</code>
+	 * 的装配器为 <code>com.example.Outer_User_BeanMapper</code>
+	 * @param beanClass Bean 类型
+	 * @return 装配器的全类名
+	 */
+	static String mapperName(Class<?> beanClass) {
+		String name = beanClass.getName();
+		int index = name.lastIndexOf('.');
+		String pkg = name.substring(0, index + 1);
+		return pkg + name.substring(index + 1).replace('$', '_') + SUFFIX;
+	}
+
+}
@@ -57,6 +57,18 @@ public class BeanMeta<T> {
 	 * */
 	private final Map<String, FieldMeta> fieldMetaMap = new HashMap<>();
 
+	/**
+	 * 唯一键字段（Java 属性名）
+	 * @since v3.8.0
+	 */
+	private String keyField;
+
+	/**
+	 * 编译期生成的装配器
+	 * @since v3.8.0
+	 */
+	private BeanMapper<T> mapper;
+
 
 	public BeanMeta(Class<T> beanClass, String dataSource, SqlSnippet tableSnippet,
 					SqlSnippet joinCondSnippet, SqlSnippet groupBySnippet, SqlSnippet orderBySnippet,
@@ -90,6 +102,13 @@ public class BeanMeta<T> {
 		return tableSnippet;
 	}
 
+	/**
+	 * @since v3.8.0
+	 */
+	public SqlSnippet getJoinCondSnippet() {
+		return joinCondSnippet;
+	}
+
 	public String getJoinCond() {
 		return joinCondSnippet.getSql();
 	}
@@ -98,6 +117,13 @@ public class BeanMeta<T> {
 		return joinCondSnippet.getParas();
 	}
 
+	/**
+	 * @since v3.8.0
+	 */
+	public SqlSnippet getGroupBySnippet() {
+		return groupBySnippet;
+	}
+
 	public String getGroupBy() {
 		return groupBySnippet.getSql();
 	}
@@ -159,4 +185,28 @@ public class BeanMeta<T> {
 		return distinct || StringUtils.isNotBlank(groupBySnippet.getSql());
 	}
 
+	/**
+	 * @return 唯一键字段（Java 属性名），未指定时为 null
+	 * @since v3.8.0
+	 */
+	public String getKeyField() {
+		return keyField;
+	}
+
+	public void setKeyField(String keyField) {
+		this.keyField = keyField;
+	}
+
+	/**
+	 * @return 编译期生成的装配器，没有时为 null
+	 * @since v3.8.0
+	 */
+	public BeanMapper<T> getMapper() {
+		return mapper;
+	}
+
+	public void setMapper(BeanMapper<T> mapper) {
+		this.mapper = mapper;
+	}
+
 }
@@ -0,0 +1,382 @@
+package com.ejlchina.searcher;
+
+import java.util.*;
+
+/**
+ * 列式检索结果
+ * 每个检索字段一列：long/Long 字段为 {@link LongColumn }，int/Integer/short/Short/byte/Byte 字段为 {@link IntColumn }，
+ * double/Double/float/Float 字段为 {@link DoubleColumn }（以上三种以基本类型数组存储，空值记录在位图中），其它字段为 {@link ObjectColumn }
+ * @since v3.8.0
+ */
+public class ColumnResult {
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    private final int size;
+
+    public ColumnResult(Column[] columns, int size) {
+        for (Column column : columns) {
+            column.trim();
+            this.columns.put(column.getName(), column);
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return 行数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 各列（键为字段名，顺序与检索字段一致）
+     */
+    public Map<String, Column> getColumns() {
+        return Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * @param field 字段名
+     * @return 该字段的列，未检索该字段时返回 null
+     */
+    public Column getColumn(String field) {
+        return columns.get(field);
+    }
+
+    public LongColumn getLongColumn(String field) {
+        return requireColumn(field, LongColumn.class);
+    }
+
+    public IntColumn getIntColumn(String field) {
+        return requireColumn(field, IntColumn.class);
+    }
+
+    public DoubleColumn getDoubleColumn(String field) {
+        return requireColumn(field, DoubleColumn.class);
+    }
+
+    public ObjectColumn getObjectColumn(String field) {
+        return requireColumn(field, ObjectColumn.class);
+    }
+
+    private <C extends Column> C requireColumn(String field, Class<C> columnType) {
+        Column column = columns.get(field);
+        if (column == null) {
+            throw new SearchException("The field [" + field + "] is not fetched");
+        }
+        if (!columnType.isInstance(column)) {
+            throw new SearchException("The column of [" + field + "] is a " + column.getClass().getSimpleName() + ", not a " + columnType.getSimpleName());
+        }
+        return columnType.cast(column);
+    }
+
+    /**
+     * 为字段创建合适的列
+     * @param name 字段名
+     * @param type 字段类型
+     * @param capacity 初始容量
+     * @return 列
+     */
+    public static Column column(String name, Class<?> type, int capacity) {
+        if (type == long.class || type == Long.class) {
+            return new LongColumn(name, type, capacity);
+        }
+        if (type == int.class || type == Integer.class || type == short.class || type == Short.class
+                || type == byte.class || type == Byte.class) {
+            return new IntColumn(name, type, capacity);
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            return new DoubleColumn(name, type, capacity);
+        }
+        return new ObjectColumn(name, type, capacity);
+    }
+
+    /**
+     * 列
+     */
+    public static abstract class Column {
+
+        /**
+         * 容量不足时，每次至少增长的长度
+         */
+        static final int MIN_GROWTH = 256;
+
+        private final String name;
+
+        private final Class<?> type;
+
+        protected final BitSet nulls = new BitSet();
+
+        protected int size = 0;
+
+        protected Column(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * 在列尾追加一个值
+         * @param value 字段类型的值，可以为 null
+         */
+        public abstract void add(Object value);
+
+        /**
+         * @param row 行号（从 0 开始）
+         * @return 该行的值（基本类型列的值会被装箱）
+         */
+        public abstract Object get(int row);
+
+        /**
+         * 截去多余的容量，检索完成后调用
+         */
+        protected abstract void trim();
+
+        /**
+         * @param row 行号（从 0 开始）
+         * @return 该行的值是否为空
+         */
+        public boolean isNull(int row) {
+            checkRow(row);
+            return nulls.get(row);
+        }
+
+        /**
+         * @return 空值位图（第 i 位表示第 i 行的值为空），不可修改
+         */
+        public BitSet getNulls() {
+            return (BitSet) nulls.clone();
+        }
+
+        public boolean hasNulls() {
+            return !nulls.isEmpty();
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return 字段类型
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        protected void checkRow(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("row: " + row + ", size: " + size);
+            }
+        }
+
+        protected int grow(int capacity) {
+            return capacity + Math.max(capacity >> 1, MIN_GROWTH);
+        }
+
+    }
+
+    public static class LongColumn extends Column {
+
+        private long[] values;
+
+        public LongColumn(String name, Class<?> type, int capacity) {
+            super(name, type);
+            values = new long[capacity];
+        }
+
+        @Override
+        public void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            if (value != null) {
+                values[size] = ((Number) value).longValue();
+            } else {
+                nulls.set(size);
+            }
+            size++;
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        /**
+         * @param row 行号（从 0 开始）
+         * @return 该行的值，为空时返回 0
+         */
+        public long getLong(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * @return 值数组（长度与行数相同，空值为 0），不要修改
+         */
+        public long[] getValues() {
+            return values;
+        }
+
+        @Override
+        protected void trim() {
+            if (values.length != size) {
+                values = Arrays.copyOf(values, size);
+            }
+        }
+
+    }
+
+    public static class IntColumn extends Column {
+
+        private int[] values;
+
+        public IntColumn(String name, Class<?> type, int capacity) {
+            super(name, type);
+            values = new int[capacity];
+        }
+
+        @Override
+        public void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            if (value != null) {
+                values[size] = ((Number) value).intValue();
+            } else {
+                nulls.set(size);
+            }
+            size++;
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        /**
+         * @param row 行号（从 0 开始）
+         * @return 该行的值，为空时返回 0
+         */
+        public int getInt(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * @return 值数组（长度与行数相同，空值为 0），不要修改
+         */
+        public int[] getValues() {
+            return values;
+        }
+
+        @Override
+        protected void trim() {
+            if (values.length != size) {
+                values = Arrays.copyOf(values, size);
+            }
+        }
+
+    }
+
+    public static class DoubleColumn extends Column {
+
+        private double[] values;
+
+        public DoubleColumn(String name, Class<?> type, int capacity) {
+            super(name, type);
+            values = new double[capacity];
+        }
+
+        @Override
+        public void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            if (value != null) {
+                values[size] = ((Number) value).doubleValue();
+            } else {
+                nulls.set(size);
+            }
+            size++;
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        /**
+         * @param row 行号（从 0 开始）
+         * @return 该行的值，为空时返回 0
+         */
+        public double getDouble(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * @return 值数组（长度与行数相同，空值为 0），不要修改
+         */
+        public double[] getValues() {
+            return values;
+        }
+
+        @Override
+        protected void trim() {
+            if (values.length != size) {
+                values = Arrays.copyOf(values, size);
+            }
+        }
+
+    }
+
+    public static class ObjectColumn extends Column {
+
+        private Object[] values;
+
+        public ObjectColumn(String name, Class<?> type, int capacity) {
+            super(name, type);
+            values = new Object[capacity];
+        }
+
+        @Override
+        public void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            if (value != null) {
+                values[size] = value;
+            } else {
+                nulls.set(size);
+            }
+            size++;
+        }
+
+        @Override
+        public Object get(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * @return 值数组（长度与行数相同），不要修改
+         */
+        public Object[] getValues() {
+            return values;
+        }
+
+        @Override
+        protected void trim() {
+            if (values.length != size) {
+                values = Arrays.copyOf(values, size);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.ejlchina.searcher;
+
+import java.util.Map;
+
+/**
+ * 列式检索器接口
+ * 检索结果按字段存为列（数值字段为基本类型数组），适用于只需对整列数据做统计、绘图等分析的场景，
+ * 省去了每行一个 Bean 或 Map 对象的开销。
+ * 注意：列式结果不经过 {@link ResultFilter }，已注册的过滤器（如脱敏、数据权限等）对它不生效，
+ * 因此不要用它检索依赖过滤器处理的实体类
+ * @since v3.8.0
+ */
+public interface ColumnSearcher {
+
+	/**
+	 * 检索所有满足条件的数据（不分页），与 {@link BeanSearcher#searchAll(Class, Map)} 的条件一致
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数（包括排序）
+	 * @return 列式结果
+	 */
+	<T> ColumnResult searchColumns(Class<T> beanClass, Map<String, Object> paraMap);
+
+}
@@ -83,12 +83,26 @@ public interface DbMapping {
          */
         private final boolean sortable;
 
+        /**
+         * 唯一键字段
+         * @since v3.8.0
+         */
+        private final String keyField;
+
         public Table(String tables) {
             this("", tables, "", "", false, "", true);
         }
 
         public Table(String dataSource, String tables, String joinCond, String groupBy, boolean distinct,
                      String orderBy, boolean sortable) {
+            this(dataSource, tables, joinCond, groupBy, distinct, orderBy, sortable, "");
+        }
+
+        /**
+         * @since v3.8.0
+         */
+        public Table(String dataSource, String tables, String joinCond, String groupBy, boolean distinct,
+                     String orderBy, boolean sortable, String keyField) {
             this.dataSource = dataSource;
             this.tables = tables;
             this.joinCond = joinCond;
@@ -96,6 +110,7 @@ public interface DbMapping {
             this.distinct = distinct;
             this.orderBy = orderBy;
             this.sortable = sortable;
+            this.keyField = keyField;
         }
 
         public String getDataSource() {
@@ -126,6 +141,10 @@ public interface DbMapping {
             return sortable;
         }
 
+        public String getKeyField() {
+            return keyField;
+        }
+
     }
 
     /**
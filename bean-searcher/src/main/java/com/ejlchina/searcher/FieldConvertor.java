@@ -3,6 +3,8 @@ package com.ejlchina.searcher;
 import com.ejlchina.searcher.implement.DefaultBeanReflector;
 import com.ejlchina.searcher.implement.DefaultMapSearcher;
 
+import java.util.function.Function;
+
 /**
  * @author Troy.Zhou @ 2017-04-07
  * 
@@ -34,6 +36,22 @@ public interface FieldConvertor {
 		return value;
 	}
 
+	/**
+	 * 为 meta 字段与 valueType 类型的数据库值绑定转换函数，检索时同一字段的同一种值类型只绑定一次，
+	 * 之后的值直接由返回的函数转换，不再逐个调用 {@link #supports(FieldMeta, Class)}。
+	 * 转换器可覆盖该方法，在绑定时预先准备好转换所需的数据（如格式化器、枚举的查找表）
+	 * @param meta 需要转换的字段元信息（非空）
+	 * @param valueType 数据库值的类型（非空）
+	 * @return 转换函数，不支持时返回 null
+	 * @since v3.8.0
+	 */
+	default Function<Object, Object> bind(FieldMeta meta, Class<?> valueType) {
+		if (supports(meta, valueType)) {
+			return value -> convert(meta, value);
+		}
+		return null;
+	}
+
 	/**
 	 * 只在 {@link DefaultBeanReflector } 中使用
 	 * @author Troy.Zhou @ 2021-11-09
@@ -3,6 +3,7 @@ package com.ejlchina.searcher;
 import com.ejlchina.searcher.bean.DbType;
 
 import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
 
 /**
  * 字段元信息
@@ -45,6 +46,12 @@ public class FieldMeta {
      */
     private final DbType dbType;
 
+    /**
+     * 编译期生成的赋值函数
+     * @since v3.8.0
+     */
+    private BiConsumer<Object, Object> valueSetter;
+
     public FieldMeta(BeanMeta<?> beanMeta, Field field, SqlSnippet fieldSql, String dbAlias, boolean conditional,
                      Class<? extends FieldOp>[] onlyOn, DbType dbType) {
         this.beanMeta = beanMeta;
@@ -92,4 +99,16 @@ public class FieldMeta {
         return dbType;
     }
 
+    /**
+     * @return 编译期生成的赋值函数（见 {@link BeanMapper#setter(String)}），没有时为 null
+     * @since v3.8.0
+     */
+    public BiConsumer<Object, Object> getValueSetter() {
+        return valueSetter;
+    }
+
+    public void setValueSetter(BiConsumer<Object, Object> valueSetter) {
+        this.valueSetter = valueSetter;
+    }
+
 }
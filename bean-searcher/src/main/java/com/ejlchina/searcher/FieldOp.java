@@ -35,6 +35,19 @@ public interface FieldOp {
      */
     List<Object> operate(StringBuilder sqlBuilder, OpPara opPara);
 
+    /**
+     * 执行该运算符，并把产生的 JDBC 参数直接追加到 paras 中（检索时使用该方法，不再为每个运算分配参数列表）。
+     * 默认实现调用 {@link #operate(StringBuilder, OpPara) } 以兼容自定义的运算符；内置运算符直接追加参数，
+     * 但若其子类重写了 {@link #operate(StringBuilder, OpPara) }，则仍调用子类重写的方法（见 {@link com.ejlchina.searcher.operator.AbstractFieldOp }）
+     * @param sqlBuilder SQL 构建器
+     * @param opPara 运算参数
+     * @param paras JDBC 参数接收器
+     * @since v3.8.0
+     */
+    default void operate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
+        paras.addAll(operate(sqlBuilder, opPara));
+    }
+
     /**
      * 判断两个运算符是否是同一个类型
      * @param another 另一个运算符
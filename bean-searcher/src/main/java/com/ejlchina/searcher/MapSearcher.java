@@ -2,6 +2,7 @@ package com.ejlchina.searcher;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Map 对象检索器接口
@@ -55,5 +56,29 @@ public interface MapSearcher extends Searcher {
 	 * @return Bean 数据列表
 	 * */
 	<T> List<Map<String, Object>> searchAll(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * 以游标的方式检索满足条件的所有数据，不支持偏移，数据在迭代时逐行从结果集中读取，适合大数据量的导出与处理
+	 * 注意：游标使用完毕后必须关闭（会在读取完毕后自动关闭），以释放数据库连接
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数（包括排序参数）
+	 * @return Map 数据游标
+	 * @since v3.8.0
+	 * */
+	<T> SearchCursor<Map<String, Object>> searchCursor(Class<T> beanClass, Map<String, Object> paraMap);
+
+	/**
+	 * 以流的方式检索满足条件的所有数据，不支持偏移，数据在消费时逐行从结果集中读取，适合大数据量的导出与处理
+	 * 注意：流使用完毕后必须关闭（推荐使用 try-with-resources 语句），以释放数据库连接
+	 * @param <T> bean 类型
+	 * @param beanClass 要检索的 bean 类型
+	 * @param paraMap 检索参数（包括排序参数）
+	 * @return Map 数据流
+	 * @since v3.8.0
+	 * */
+	default <T> Stream<Map<String, Object>> searchStream(Class<T> beanClass, Map<String, Object> paraMap) {
+		return searchCursor(beanClass, paraMap).stream();
+	}
 	
 }
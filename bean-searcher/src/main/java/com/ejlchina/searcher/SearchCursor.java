@@ -0,0 +1,34 @@
+package com.ejlchina.searcher;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 检索游标
+ * 逐行从数据库结果集中读取数据，读取完毕或调用 {@link #close()} 后释放数据库连接，
+ * 适用于导出或处理大量数据的场景，使用完毕后必须关闭，推荐使用 try-with-resources 语句
+ * @param <T> 数据类型
+ * @since v3.8.0
+ */
+public interface SearchCursor<T> extends Iterator<T>, Closeable {
+
+    /**
+     * 关闭游标，释放结果集与数据库连接，重复调用无副作用
+     */
+    @Override
+    void close();
+
+    /**
+     * 转换为流，关闭该流时会同时关闭游标
+     * @return Stream
+     */
+    default Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+}
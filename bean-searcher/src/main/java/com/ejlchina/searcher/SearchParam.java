@@ -32,6 +32,12 @@ public class SearchParam {
 	// 分页参数
 	private final Paging paging;
 
+	// 是否估算总条数（v3.8.0）
+	private boolean estimateCount = false;
+
+	// 键集分页参数（v3.8.0）
+	private Seek seek;
+
 	public SearchParam(Map<String, Object> paraMap, FetchType fetchType, List<String> fetchFields,
 					   Group<List<FieldParam>> paramsGroup, Paging paging) {
 		this.paraMap = paraMap;
@@ -73,4 +79,28 @@ public class SearchParam {
 		return orderBys;
 	}
 
+	/**
+	 * @return 是否估算总条数
+	 * @since v3.8.0
+	 */
+	public boolean isEstimateCount() {
+		return estimateCount;
+	}
+
+	public void setEstimateCount(boolean estimateCount) {
+		this.estimateCount = estimateCount;
+	}
+
+	/**
+	 * @return 键集分页参数，非键集分页时为 null
+	 * @since v3.8.0
+	 */
+	public Seek getSeek() {
+		return seek;
+	}
+
+	public void setSeek(Seek seek) {
+		this.seek = seek;
+	}
+
 }
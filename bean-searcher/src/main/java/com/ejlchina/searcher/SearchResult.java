@@ -20,6 +20,18 @@ public class SearchResult<T> {
     
     private Number[] summaries = EMPTY_SUMMARIES;
 
+    /**
+     * 总条数是否为估算值
+     * @since v3.8.0
+     */
+    private boolean countEstimated = false;
+
+    /**
+     * 键集分页时下一页的游标
+     * @since v3.8.0
+     */
+    private String nextCursor;
+
     public SearchResult() {
         this(0, EMPTY_SUMMARIES);
     }
@@ -62,6 +74,31 @@ public class SearchResult<T> {
         this.summaries = Objects.requireNonNull(summaries);
     }
 
+    /**
+     * @return 总条数是否为估算值（检索参数要求估算总条数，且估算成功时为 true）
+     * @since v3.8.0
+     */
+    public boolean isCountEstimated() {
+        return countEstimated;
+    }
+
+    public void setCountEstimated(boolean countEstimated) {
+        this.countEstimated = countEstimated;
+    }
+
+    /**
+     * @return 键集分页时下一页的游标，非键集分页或已无下一页时为 null
+     * @see com.ejlchina.searcher.util.MapBuilder#seek(String)
+     * @since v3.8.0
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     public String toString() {
         StringBuilder str = new StringBuilder("totalCount = " + totalCount + "\n");
         for (T data: dataList) {
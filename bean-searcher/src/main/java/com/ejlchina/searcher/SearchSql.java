@@ -1,5 +1,9 @@
 package com.ejlchina.searcher;
 
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.param.Seek;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -61,6 +65,36 @@ public class SearchSql<T> {
 	 * */
 	private boolean shouldQueryList;
 
+	/**
+	 * 检索类型
+	 * @since v3.8.0
+	 * */
+	private FetchType fetchType;
+
+	/**
+	 * 分页参数，不分页时为 null
+	 * @since v3.8.0
+	 * */
+	private Paging paging;
+
+	/**
+	 * 是否要求估算总条数
+	 * @since v3.8.0
+	 * */
+	private boolean estimateCount;
+
+	/**
+	 * 总条数是否为估算值（由 SqlExecutor 在执行后设置）
+	 * @since v3.8.0
+	 * */
+	private boolean countEstimated;
+
+	/**
+	 * 键集分页参数，非键集分页时为 null
+	 * @since v3.8.0
+	 * */
+	private Seek seek;
+
 
 	public SearchSql(BeanMeta<T> beanMeta, List<String> fetchFields) {
 		this.beanMeta = beanMeta;
@@ -146,5 +180,45 @@ public class SearchSql<T> {
 	public void setShouldQueryList(boolean shouldQueryList) {
 		this.shouldQueryList = shouldQueryList;
 	}
+
+	public FetchType getFetchType() {
+		return fetchType;
+	}
+
+	public void setFetchType(FetchType fetchType) {
+		this.fetchType = fetchType;
+	}
+
+	public Paging getPaging() {
+		return paging;
+	}
+
+	public void setPaging(Paging paging) {
+		this.paging = paging;
+	}
+
+	public boolean isEstimateCount() {
+		return estimateCount;
+	}
+
+	public void setEstimateCount(boolean estimateCount) {
+		this.estimateCount = estimateCount;
+	}
+
+	public boolean isCountEstimated() {
+		return countEstimated;
+	}
+
+	public void setCountEstimated(boolean countEstimated) {
+		this.countEstimated = countEstimated;
+	}
+
+	public Seek getSeek() {
+		return seek;
+	}
+
+	public void setSeek(Seek seek) {
+		this.seek = seek;
+	}
 	
 }
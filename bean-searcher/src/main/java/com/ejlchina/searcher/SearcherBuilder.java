@@ -1,8 +1,11 @@
 package com.ejlchina.searcher;
 
+import com.ejlchina.searcher.FieldConvertor.BFieldConvertor;
 import com.ejlchina.searcher.FieldConvertor.MFieldConvertor;
 import com.ejlchina.searcher.implement.AbstractSearcher;
+import com.ejlchina.searcher.implement.DefaultBeanReflector;
 import com.ejlchina.searcher.implement.DefaultBeanSearcher;
+import com.ejlchina.searcher.implement.DefaultColumnSearcher;
 import com.ejlchina.searcher.implement.DefaultMapSearcher;
 
 import java.util.ArrayList;
@@ -32,6 +35,15 @@ public class SearcherBuilder {
 		return new MapSearcherBuilder();
 	}
 
+	/**
+	 * 用于构建一个 ColumnSearcher 实例
+	 * @return ColumnSearcherBuilder
+	 * @since v3.8.0
+	 */
+	public static ColumnSearcherBuilder columnSearcher() {
+		return new ColumnSearcherBuilder();
+	}
+
 	@SuppressWarnings("unchecked")
 	static class BaseSearcherBuilder<Builder extends BaseSearcherBuilder<?>> {
 
@@ -132,13 +144,25 @@ public class SearcherBuilder {
 
 		private final List<MFieldConvertor> convertors = new ArrayList<>();
 
+		private boolean compactRows = false;
+
 		public MapSearcher build() {
 			DefaultMapSearcher beanSearcher = new DefaultMapSearcher();
 			buildInternal(beanSearcher);
 			beanSearcher.setConvertors(convertors);
+			beanSearcher.setCompactRows(compactRows);
 			return beanSearcher;
 		}
 
+		/**
+		 * @param compactRows 是否以只读的 {@link com.ejlchina.searcher.implement.RowMap } 呈现每行数据
+		 * @since v3.8.0
+		 */
+		public MapSearcherBuilder compactRows(boolean compactRows) {
+			this.compactRows = compactRows;
+			return this;
+		}
+
 		public MapSearcherBuilder addFieldConvertor(MFieldConvertor convertor) {
 			if (convertor != null) {
 				this.convertors.add(convertor);
@@ -147,5 +171,28 @@ public class SearcherBuilder {
 		}
 
 	}
+
+	/**
+	 * @since v3.8.0
+	 */
+	public static class ColumnSearcherBuilder extends BaseSearcherBuilder<ColumnSearcherBuilder> {
+
+		private final List<BFieldConvertor> convertors = new ArrayList<>();
+
+		public ColumnSearcher build() {
+			DefaultBeanSearcher beanSearcher = new DefaultBeanSearcher();
+			buildInternal(beanSearcher);
+			beanSearcher.setBeanReflector(new DefaultBeanReflector(convertors));
+			return new DefaultColumnSearcher(beanSearcher);
+		}
+
+		public ColumnSearcherBuilder addFieldConvertor(BFieldConvertor convertor) {
+			if (convertor != null) {
+				this.convertors.add(convertor);
+			}
+			return this;
+		}
+
+	}
 	
 }
@@ -2,6 +2,7 @@ package com.ejlchina.searcher;
 
 import java.io.Closeable;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 
 /**
  * SQL 执行结果
@@ -52,6 +53,55 @@ public class SqlResult<T> implements Closeable {
          */
         boolean next() throws SQLException;
 
+        /**
+         * 查找列的序号，以便之后通过 {@link #get(int)} 取值，每个结果集只需查找一次。
+         * 许多 JDBC 驱动按列名取值时，每次都要（忽略大小写地）查找列名，按序号取值则没有这个开销
+         * @param columnLabel 列名（别名）
+         * @return 列序号（从 1 开始），不支持按序号取值或找不到该列时返回 0（此时调用方应按列名取值）
+         * @since v3.8.0
+         */
+        default int indexOf(String columnLabel) throws SQLException {
+            return 0;
+        }
+
+        /**
+         * 按列序号获取当前记录的某一列的值
+         * @param columnIndex 由 {@link #indexOf(String)} 返回的列序号
+         * @return 指定列的值
+         * @since v3.8.0
+         */
+        default Object get(int columnIndex) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Can not get value by column index from " + getClass().getName());
+        }
+
+        /**
+         * 为某一列创建读取器，每个结果集只需创建一次，之后每行调用 {@link ColumnGetter#get()} 取值。
+         * 结果集可以在创建时根据列的数据库类型与字段的类型选定取值方式（如 JDBC 的 getLong），
+         * 使取得的值已是字段的类型，装配 Bean 时便无需再经过 {@link FieldConvertor.BFieldConvertor } 转换
+         * @param columnIndex 由 {@link #indexOf(String)} 返回的列序号
+         * @param meta 该列对应的字段
+         * @return 列读取器，默认与 {@link #get(int)} 相同
+         * @since v3.8.0
+         */
+        default ColumnGetter getter(int columnIndex, FieldMeta meta) throws SQLException {
+            return () -> get(columnIndex);
+        }
+
+    }
+
+    /**
+     * 列读取器
+     * @since v3.8.0
+     */
+    @FunctionalInterface
+    public interface ColumnGetter {
+
+        /**
+         * 获取当前记录的该列的值
+         * @return 列值
+         */
+        Object get() throws SQLException;
+
     }
 
 
@@ -1,5 +1,9 @@
 package com.ejlchina.searcher;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * SQL 片段
  * @author Troy.Zhou @ 2021-10-30
@@ -7,6 +11,145 @@ package com.ejlchina.searcher;
  */
 public class SqlSnippet extends SqlWrapper<SqlSnippet.SqlPara> {
 
+	/**
+	 * 编译后的片段：字面量（String）与拼接参数（SqlPara）按在 SQL 中出现的顺序排列，为 null 时表示尚未编译
+	 * @since v3.8.0
+	 */
+	private volatile Object[] segments;
+
+	@Override
+	public void setSql(String sql) {
+		super.setSql(sql);
+		segments = null;
+	}
+
+	@Override
+	public void addPara(SqlPara para) {
+		super.addPara(para);
+		segments = null;
+	}
+
+	@Override
+	public void addParas(List<SqlPara> paras) {
+		super.addParas(paras);
+		segments = null;
+	}
+
+	/**
+	 * 编译片段：按拼接参数（非 JDBC 参数）在 SQL 中出现的位置，把 SQL 拆分为字面量与参数，
+	 * 之后每次渲染只需一次追加，不再对整个片段反复 replace。
+	 * 未调用时在第一次渲染时编译，修改 SQL 或参数后需重新编译
+	 * @since v3.8.0
+	 */
+	public void compile() {
+		segments = doCompile();
+	}
+
+	private Object[] segments() {
+		Object[] segs = segments;
+		if (segs == null) {
+			segs = doCompile();
+			segments = segs;
+		}
+		return segs;
+	}
+
+	private Object[] doCompile() {
+		String sql = getSql();
+		List<SqlPara> embeds = new ArrayList<>();
+		for (SqlPara para : getParas()) {
+			String sqlName = para.getSqlName();
+			if (!para.isJdbcPara() && sqlName != null && !sqlName.isEmpty()) {
+				embeds.add(para);
+			}
+		}
+		if (sql == null || embeds.isEmpty()) {
+			return new Object[] { sql };
+		}
+		List<Object> segs = new ArrayList<>();
+		int from = 0;
+		while (true) {
+			// 同一位置匹配多个参数时，取排在前面的参数
+			SqlPara hit = null;
+			int index = -1;
+			for (SqlPara para : embeds) {
+				int idx = sql.indexOf(para.getSqlName(), from);
+				if (idx >= 0 && (index < 0 || idx < index)) {
+					index = idx;
+					hit = para;
+				}
+			}
+			if (hit == null) {
+				break;
+			}
+			if (index > from) {
+				segs.add(sql.substring(from, index));
+			}
+			segs.add(hit);
+			from = index + hit.getSqlName().length();
+		}
+		if (from < sql.length()) {
+			segs.add(sql.substring(from));
+		}
+		return segs.toArray();
+	}
+
+	/**
+	 * @return 是否没有拼接参数（渲染结果与检索参数无关）
+	 * @since v3.8.0
+	 */
+	public boolean isConstant() {
+		Object[] segs = segments();
+		return segs.length == 1 && !(segs[0] instanceof SqlPara);
+	}
+
+	/**
+	 * 把片段渲染到 builder 中：拼接参数替换为参数值（为 null 时替换为空串），JDBC 参数值按顺序收集到 jdbcParas 中
+	 * @param builder 目标
+	 * @param paraMap 检索参数
+	 * @param jdbcParas 用于收集 JDBC 参数值
+	 * @since v3.8.0
+	 */
+	public void render(StringBuilder builder, Map<String, Object> paraMap, List<Object> jdbcParas) {
+		for (Object seg : segments()) {
+			if (seg instanceof SqlPara) {
+				Object value = paraMap.get(((SqlPara) seg).getName());
+				if (value != null) {
+					builder.append(value);
+				}
+			} else if (seg != null) {
+				builder.append((String) seg);
+			}
+		}
+		collectJdbcParas(paraMap, jdbcParas);
+	}
+
+	/**
+	 * 渲染片段
+	 * @param paraMap 检索参数
+	 * @param jdbcParas 用于收集 JDBC 参数值
+	 * @return 渲染后的 SQL，没有拼接参数时直接返回原 SQL
+	 * @since v3.8.0
+	 */
+	public String render(Map<String, Object> paraMap, List<Object> jdbcParas) {
+		Object[] segs = segments();
+		if (segs.length == 1 && !(segs[0] instanceof SqlPara)) {
+			collectJdbcParas(paraMap, jdbcParas);
+			return (String) segs[0];
+		}
+		StringBuilder builder = new StringBuilder(getSql().length() + 16);
+		render(builder, paraMap, jdbcParas);
+		return builder.toString();
+	}
+
+	private void collectJdbcParas(Map<String, Object> paraMap, List<Object> jdbcParas) {
+		for (SqlPara para : getParas()) {
+			if (para.isJdbcPara()) {
+				jdbcParas.add(paraMap.get(para.getName()));
+			}
+		}
+	}
+
 	/**
 	 * 内嵌参数
 	 * @author Troy.Zhou @ 2021-10-30
@@ -0,0 +1,28 @@
+package com.ejlchina.searcher.bean;
+
+import java.lang.annotation.*;
+
+/**
+ * 用于注解一个可检索 bean 的检索结果缓存策略，由 {@link com.ejlchina.searcher.implement.CachePolicy } 读取，
+ * 对检索结果缓存（{@link com.ejlchina.searcher.implement.CachingSqlExecutor }）与聚族结果缓存均生效，
+ * 配置的实体类过期时间优先于该注解，适合字典、组织树等变化少、读取多的数据
+ * @since v3.8.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface ResultCache {
+
+	/**
+	 * 检索结果的过期时间（单位：毫秒），小于等于 0 表示不缓存
+	 * @return 过期时间
+	 */
+	long ttl();
+
+	/**
+	 * 空结果（列表为空且总条数为 0）的过期时间（单位：毫秒），
+	 * 小于 0 表示与 {@link #ttl()} 相同，等于 0 表示不缓存空结果
+	 * @return 空结果的过期时间
+	 */
+	long emptyTtl() default -1;
+
+}
@@ -93,4 +93,12 @@ public @interface SearchBean {
 	 */
 	SortType sortType() default SortType.DEFAULT;
 
+	/**
+	 * 唯一键字段（Java 属性名），例如：id，
+	 * 键集分页时用作排序的兜底字段，以保证排序的唯一性
+	 * @since v3.8.0
+	 * @return 唯一键字段
+	 */
+	String keyField() default "";
+
 }
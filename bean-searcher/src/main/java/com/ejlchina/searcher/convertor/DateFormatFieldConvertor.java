@@ -5,6 +5,7 @@ import com.ejlchina.searcher.FieldMeta;
 import com.ejlchina.searcher.SearchException;
 import com.ejlchina.searcher.implement.DefaultMapSearcher;
 import com.ejlchina.searcher.util.ObjKey2;
+import com.ejlchina.searcher.util.ObjectUtils;
 import com.ejlchina.searcher.util.StringUtils;
 
 import java.time.*;
@@ -12,6 +13,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -32,6 +34,12 @@ public class DateFormatFieldConvertor implements FieldConvertor.MFieldConvertor
 
     private final Map<String, Formatter> formatMap = new ConcurrentHashMap<>();
 
+    /**
+     * 子类是否重写了 {@link #convert(FieldMeta, Object) }
+     */
+    private final boolean convertOverridden = ObjectUtils.isOverridden(getClass(), DateFormatFieldConvertor.class,
+            "convert", FieldMeta.class, Object.class);
+
     /**
      * 时区
      */
@@ -103,6 +111,21 @@ public class DateFormatFieldConvertor implements FieldConvertor.MFieldConvertor
         throw new IllegalStateException("The supports(FieldMeta, Class<?>) method must be called first and return true before convert(FieldMeta, Object) method can be called");
     }
 
+    /**
+     * 绑定时确定格式化器，之后的值不再查找（子类重写了 {@link #convert(FieldMeta, Object) } 时仍调用该方法）
+     * @since v3.8.0
+     */
+    @Override
+    public Function<Object, Object> bind(FieldMeta meta, Class<?> valueType) {
+        if (supports(meta, valueType)) {
+            if (convertOverridden) {
+                return value -> convert(meta, value);
+            }
+            return cache.get(new ObjKey2(meta, valueType))::format;
+        }
+        return null;
+    }
+
     public class Formatter {
 
         private final String pattern;
@@ -2,9 +2,16 @@ package com.ejlchina.searcher.convertor;
 
 import com.ejlchina.searcher.FieldConvertor;
 import com.ejlchina.searcher.FieldMeta;
+import com.ejlchina.searcher.util.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 /**
  * [字符串 | 整型 to 枚举] 字段转换器（v3.7.0 起支持枚举序号转换）
  * @author Troy.Zhou @ 2021-11-12
@@ -26,6 +33,14 @@ public class EnumFieldConvertor implements FieldConvertor.BFieldConvertor {
      */
     private boolean ignoreCase = false;
 
+    private final Map<Class<?>, EnumTable> enumTables = new ConcurrentHashMap<>();
+
+    /**
+     * 子类是否重写了 {@link #convert(FieldMeta, Object) }
+     */
+    private final boolean convertOverridden = ObjectUtils.isOverridden(getClass(), EnumFieldConvertor.class,
+            "convert", FieldMeta.class, Object.class);
+
     @Override
     public boolean supports(FieldMeta meta, Class<?> valueType) {
         if (valueType == String.class || valueType == int.class || valueType == Integer.class) {
@@ -45,33 +60,42 @@ public class EnumFieldConvertor implements FieldConvertor.BFieldConvertor {
         throw new IllegalStateException("The supports(FieldMeta, Class<?>) method must be called first and return true before convert(FieldMeta, Object) method can be called");
     }
 
-    @SuppressWarnings("all")
+    /**
+     * 绑定时确定枚举的查找表，之后的值不再判断（子类重写了 {@link #convert(FieldMeta, Object) } 时仍调用该方法）
+     * @since v3.8.0
+     */
+    @Override
+    public Function<Object, Object> bind(FieldMeta meta, Class<?> valueType) {
+        if (!supports(meta, valueType)) {
+            return null;
+        }
+        if (convertOverridden) {
+            return value -> convert(meta, value);
+        }
+        Class<?> targetType = meta.getType();
+        if (valueType == String.class) {
+            return value -> doConvert(targetType, (String) value);
+        }
+        return value -> doConvert(targetType, (int) (Integer) value);
+    }
+
     protected Object doConvert(Class<?> targetType, String name) {
-        if (ignoreCase) {
-            for (Object v : targetType.getEnumConstants()) {
-                if (((Enum<?>) v).name().equalsIgnoreCase(name)) {
-                    return v;
-                }
-            }
-            if (failOnError) {
-                throw new IllegalArgumentException("can not convert [" + name + "] to " + targetType);
-            }
-        } else {
-            try {
-                return Enum.valueOf((Class<? extends Enum>) targetType, name);
-            } catch (IllegalArgumentException e) {
-                if (failOnError) throw e;
-            }
+        EnumTable table = enumTable(targetType);
+        Object v = ignoreCase ? table.ignoreCaseNames.get(name) : table.names.get(name);
+        if (v != null) {
+            return v;
+        }
+        if (failOnError) {
+            throw new IllegalArgumentException("can not convert [" + name + "] to " + targetType);
         }
         log.warn("can not convert [{}] to {}", name, targetType);
         return null;
     }
 
     protected Object doConvert(Class<?> targetType, int ordinal) {
-        for (Object v : targetType.getEnumConstants()) {
-            if (((Enum<?>) v).ordinal() == ordinal) {
-                return v;
-            }
+        Object[] constants = enumTable(targetType).constants;
+        if (ordinal >= 0 && ordinal < constants.length) {
+            return constants[ordinal];
         }
         if (failOnError) {
             throw new IllegalArgumentException("can not convert [" + ordinal + "] to " + targetType);
@@ -80,6 +104,35 @@ public class EnumFieldConvertor implements FieldConvertor.BFieldConvertor {
         return null;
     }
 
+    private EnumTable enumTable(Class<?> enumType) {
+        EnumTable table = enumTables.get(enumType);
+        if (table == null) {
+            table = enumTables.computeIfAbsent(enumType, EnumTable::new);
+        }
+        return table;
+    }
+
+    /**
+     * 枚举的查找表，每个枚举类只创建一次（避免每次转换都克隆 getEnumConstants() 并逐个比较）
+     */
+    static class EnumTable {
+
+        final Object[] constants;
+        final Map<String, Object> names = new HashMap<>();
+        final Map<String, Object> ignoreCaseNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        EnumTable(Class<?> enumType) {
+            constants = enumType.getEnumConstants();
+            for (Object v : constants) {
+                String name = ((Enum<?>) v).name();
+                names.put(name, v);
+                // 与 equalsIgnoreCase 一致，多个常量只有大小写不同时取第一个
+                ignoreCaseNames.putIfAbsent(name, v);
+            }
+        }
+
+    }
+
     public boolean isFailOnError() {
         return failOnError;
     }
@@ -0,0 +1,56 @@
+package com.ejlchina.searcher.dialect;
+
+import com.ejlchina.searcher.SqlWrapper;
+import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.util.ObjectUtils;
+
+import java.util.List;
+
+/**
+ * 内置方言的父类
+ * 分页逻辑只实现一次（{@link #doPaginate(StringBuilder, List, String, String, String, Paging) }），两个 forPaginate 方法都调用它；
+ * 若子类只重写了 {@link #forPaginate(String, String, Paging) }，检索时调用的
+ * {@link #forPaginate(StringBuilder, List, String, String, String, Paging) } 会转而调用子类重写的方法，
+ * 所以继承内置方言并重写旧方法的自定义方言仍然生效
+ * @since v3.8.0
+ */
+public abstract class AbstractDialect implements Dialect {
+
+	/**
+	 * 子类是否重写了 {@link #forPaginate(String, String, Paging) }
+	 */
+	private final boolean legacyOverridden = ObjectUtils.isOverridden(getClass(), AbstractDialect.class,
+			"forPaginate", String.class, String.class, Paging.class);
+
+	@Override
+	public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
+		SqlWrapper<Object> wrapper = new SqlWrapper<>();
+		StringBuilder builder = new StringBuilder();
+		doPaginate(builder, wrapper.getParas(), fieldSelectSql, fromWhereSql, "", paging);
+		wrapper.setSql(builder.toString());
+		return wrapper;
+	}
+
+	@Override
+	public void forPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+							String orderBySql, Paging paging) {
+		if (legacyOverridden) {
+			Dialect.super.forPaginate(sqlBuilder, paras, fieldSelectSql, fromWhereSql, orderBySql, paging);
+		} else {
+			doPaginate(sqlBuilder, paras, fieldSelectSql, fromWhereSql, orderBySql, paging);
+		}
+	}
+
+	/**
+	 * 把分页 SQL 写入 sqlBuilder，分页参数追加到 paras 中
+	 * @param sqlBuilder SQL 构建器
+	 * @param paras JDBC 参数接收器
+	 * @param fieldSelectSql 查询语句
+	 * @param fromWhereSql 条件语句
+	 * @param orderBySql 排序语句（含 order by 关键字），没有排序时为空串
+	 * @param paging 分页参数
+	 */
+	protected abstract void doPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql,
+									   String fromWhereSql, String orderBySql, Paging paging);
+
+}
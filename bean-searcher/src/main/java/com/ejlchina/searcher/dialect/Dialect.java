@@ -3,6 +3,8 @@ package com.ejlchina.searcher.dialect;
 import com.ejlchina.searcher.SqlWrapper;
 import com.ejlchina.searcher.param.Paging;
 
+import java.util.List;
+
 /**
  * 数据库方言
  * @author Troy.Zhou
@@ -28,6 +30,25 @@ public interface Dialect {
 	 */
 	SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging);
 
+	/**
+	 * 分页：把分页 SQL 直接写入 sqlBuilder，分页参数直接追加到 paras 中（检索时使用该方法，省去中间的 SQL 拼接与参数列表）。
+	 * 默认实现调用 {@link #forPaginate(String, String, Paging) } 以兼容自定义的方言；内置方言直接写入，
+	 * 但若其子类重写了 {@link #forPaginate(String, String, Paging) }，则仍调用子类重写的方法（见 {@link AbstractDialect }）
+	 * @param sqlBuilder SQL 构建器
+	 * @param paras JDBC 参数接收器
+	 * @param fieldSelectSql 查询语句
+	 * @param fromWhereSql 条件语句
+	 * @param orderBySql 排序语句（含 order by 关键字），没有排序时为空串
+	 * @param paging 分页参数
+	 * @since v3.8.0
+	 */
+	default void forPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+							 String orderBySql, Paging paging) {
+		SqlWrapper<Object> wrapper = forPaginate(fieldSelectSql, fromWhereSql + orderBySql, paging);
+		sqlBuilder.append(wrapper.getSql());
+		paras.addAll(wrapper.getParas());
+	}
+
 	/**
 	 * @return 是否支持 ilike 语法
 	 * @since v3.7.0
@@ -36,4 +57,14 @@ public interface Dialect {
 		return false;
 	}
 
+	/**
+	 * 延迟关联分页：先在派生表中只对唯一键分页，再关联回原表查询该页的完整字段，
+	 * 要求 {@link #forPaginate(String, String, Paging)} 生成的分页 SQL 可以作为派生表
+	 * @return 是否支持延迟关联分页
+	 * @since v3.8.0
+	 */
+	default boolean supportDeferredJoin() {
+		return false;
+	}
+
 }
@@ -1,29 +1,32 @@
 package com.ejlchina.searcher.dialect;
 
 
-import com.ejlchina.searcher.SqlWrapper;
 import com.ejlchina.searcher.param.Paging;
 
+import java.util.List;
+
 /**
  * MySql 方言实现
  *  
  * @author Troy.Zhou
  * 
  * */
-public class MySqlDialect implements Dialect {
+public class MySqlDialect extends AbstractDialect {
 
 	@Override
-	public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
-		SqlWrapper<Object> wrapper = new SqlWrapper<>();
-		StringBuilder ret = new StringBuilder();
-		ret.append(fieldSelectSql).append(fromWhereSql);
+	protected void doPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+							  String orderBySql, Paging paging) {
+		sqlBuilder.append(fieldSelectSql).append(fromWhereSql).append(orderBySql);
 		if (paging != null) {
-			ret.append(" limit ?, ?");
-			wrapper.addPara(paging.getOffset());
-			wrapper.addPara(paging.getSize());
+			sqlBuilder.append(" limit ?, ?");
+			paras.add(paging.getOffset());
+			paras.add(paging.getSize());
 		}
-		wrapper.setSql(ret.toString());
-		return wrapper;
+	}
+
+	@Override
+	public boolean supportDeferredJoin() {
+		return true;
 	}
 
 }
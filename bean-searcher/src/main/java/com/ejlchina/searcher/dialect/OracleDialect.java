@@ -1,46 +1,45 @@
 package com.ejlchina.searcher.dialect;
 
-import com.ejlchina.searcher.SqlWrapper;
 import com.ejlchina.searcher.param.Paging;
 
+import java.util.List;
+
 /**
  * Oracle 方言实现
  * 
  * @author Troy.Zhou
  * @since V1.1.1
  * */
-public class OracleDialect implements Dialect {
+public class OracleDialect extends AbstractDialect {
 
 	@Override
-	public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
-		SqlWrapper<Object> wrapper = new SqlWrapper<>();
+	protected void doPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+							  String orderBySql, Paging paging) {
 		if (paging == null) {
-			wrapper.setSql(fieldSelectSql + fromWhereSql);
-			return wrapper;
-		}
-		String rowAlias = "row_";
-		while (fromWhereSql.contains(rowAlias)) {
-			rowAlias += "_";
-		}
-		StringBuilder builder = new StringBuilder();
-		String tableAlias = "table_";
-		while (fromWhereSql.contains(tableAlias)) {
-			tableAlias += "_";
-		}
-		String rownumAlias = "rownum_";
-		while (fieldSelectSql.contains(rownumAlias)) {
-			rownumAlias += "_";
+			sqlBuilder.append(fieldSelectSql).append(fromWhereSql).append(orderBySql);
+			return;
 		}
-		builder.append("select * from (select ").append(rowAlias).append(".*, rownum ").append(rownumAlias);
-		builder.append(" from (").append(fieldSelectSql).append(fromWhereSql);
-		builder.append(") ").append(rowAlias).append(" where rownum <= ?) ").append(tableAlias);
-		builder.append(" where ").append(tableAlias).append(".").append(rownumAlias).append(" > ?");
+		String rowAlias = uniqueAlias("row_", fromWhereSql, orderBySql);
+		String tableAlias = uniqueAlias("table_", fromWhereSql, orderBySql);
+		String rownumAlias = uniqueAlias("rownum_", fieldSelectSql, "");
+		sqlBuilder.append("select * from (select ").append(rowAlias).append(".*, rownum ").append(rownumAlias);
+		sqlBuilder.append(" from (").append(fieldSelectSql).append(fromWhereSql).append(orderBySql);
+		sqlBuilder.append(") ").append(rowAlias).append(" where rownum <= ?) ").append(tableAlias);
+		sqlBuilder.append(" where ").append(tableAlias).append(".").append(rownumAlias).append(" > ?");
 		int size = paging.getSize();
 		long offset = paging.getOffset();
-		wrapper.addPara(offset + size);
-		wrapper.addPara(offset);
-		wrapper.setSql(builder.toString());
-		return wrapper;
+		paras.add(offset + size);
+		paras.add(offset);
+	}
+
+	/**
+	 * 生成不出现在 sql1 与 sql2 中的别名
+	 */
+	private String uniqueAlias(String alias, String sql1, String sql2) {
+		while (sql1.contains(alias) || sql2.contains(alias)) {
+			alias += "_";
+		}
+		return alias;
 	}
 
 }
@@ -1,33 +1,36 @@
 package com.ejlchina.searcher.dialect;
 
 
-import com.ejlchina.searcher.SqlWrapper;
 import com.ejlchina.searcher.param.Paging;
 
+import java.util.List;
+
 /**
  * PostgreSQL 方言实现
  * @author Troy.Zhou @ 2022-04-19
  * @since v3.6.0
  * */
-public class PostgreSqlDialect implements Dialect {
+public class PostgreSqlDialect extends AbstractDialect {
 	
 	@Override
-	public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
-		SqlWrapper<Object> wrapper = new SqlWrapper<>();
-		StringBuilder ret = new StringBuilder();
-		ret.append(fieldSelectSql).append(fromWhereSql);
+	protected void doPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+							  String orderBySql, Paging paging) {
+		sqlBuilder.append(fieldSelectSql).append(fromWhereSql).append(orderBySql);
 		if (paging != null) {
-			ret.append(" offset ? limit ?");
-			wrapper.addPara(paging.getOffset());
-			wrapper.addPara(paging.getSize());
+			sqlBuilder.append(" offset ? limit ?");
+			paras.add(paging.getOffset());
+			paras.add(paging.getSize());
 		}
-		wrapper.setSql(ret.toString());
-		return wrapper;
 	}
 
 	@Override
 	public boolean hasILike() {
 		return true;
 	}
-	
+
+	@Override
+	public boolean supportDeferredJoin() {
+		return true;
+	}
+
 }
@@ -1,28 +1,31 @@
 package com.ejlchina.searcher.dialect;
 
 
-import com.ejlchina.searcher.SqlWrapper;
 import com.ejlchina.searcher.param.Paging;
 
+import java.util.List;
+
 /**
  * SqlServer (v2012+) 方言实现
  * @author Troy.Zhou @ 2022-05-22
  * @since v3.7.0
  * */
-public class SqlServerDialect implements Dialect {
+public class SqlServerDialect extends AbstractDialect {
 	
 	@Override
-	public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
-		SqlWrapper<Object> wrapper = new SqlWrapper<>();
-		StringBuilder ret = new StringBuilder();
-		ret.append(fieldSelectSql).append(fromWhereSql);
+	protected void doPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+							  String orderBySql, Paging paging) {
+		sqlBuilder.append(fieldSelectSql).append(fromWhereSql).append(orderBySql);
 		if (paging != null) {
-			ret.append(" offset ? rows fetch next ? rows only");
-			wrapper.addPara(paging.getOffset());
-			wrapper.addPara(paging.getSize());
+			sqlBuilder.append(" offset ? rows fetch next ? rows only");
+			paras.add(paging.getOffset());
+			paras.add(paging.getSize());
 		}
-		wrapper.setSql(ret.toString());
-		return wrapper;
+	}
+
+	@Override
+	public boolean supportDeferredJoin() {
+		return true;
 	}
 
 }
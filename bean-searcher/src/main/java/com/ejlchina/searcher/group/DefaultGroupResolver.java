@@ -1,5 +1,6 @@
 package com.ejlchina.searcher.group;
 
+import com.ejlchina.searcher.util.BoundedCache;
 import com.ejlchina.searcher.util.LRUCache;
 import com.ejlchina.searcher.util.StringUtils;
 import org.slf4j.Logger;
@@ -18,10 +19,8 @@ public class DefaultGroupResolver implements GroupResolver {
 
     static final Group<String> DEFAULT_RAW_GROUP = new Group<>(Group.TYPE_RAW);
 
-    private final Object lock = new Object();
-
-    // LRU 缓存模型
-    private LRUCache<Group<String>> cache = new LRUCache<>(50);
+    // 线程安全的有界缓存（v3.8.0 之前为 LRUCache 加全局锁）
+    private BoundedCache<String, Group<String>> cache = new BoundedCache<>(50);
 
     // 是否启用
     private boolean enabled = true;
@@ -31,17 +30,10 @@ public class DefaultGroupResolver implements GroupResolver {
     @Override
     public Group<String> resolve(String gExpr) {
         if (enabled) {
-            Group<String> group;
-            synchronized (lock) {
-                group = cache.get(gExpr);
-            }
-            if (group == null) {
-                group = doResolve(gExpr);
-                synchronized (lock) {
-                    cache.put(gExpr, group);
-                }
+            if (gExpr == null) {
+                return doResolve(null);
             }
-            return group;
+            return cache.computeIfAbsent(gExpr, this::doResolve);
         }
         return DEFAULT_RAW_GROUP;
     }
@@ -66,14 +58,29 @@ public class DefaultGroupResolver implements GroupResolver {
         this.parserFactory = parserFactory;
     }
 
-    public LRUCache<Group<String>> getCache() {
+    /**
+     * @since v3.8.0
+     */
+    public BoundedCache<String, Group<String>> getCache() {
         return cache;
     }
 
-    public void setCache(LRUCache<Group<String>> cache) {
+    /**
+     * @since v3.8.0
+     */
+    public void setCache(BoundedCache<String, Group<String>> cache) {
         this.cache = Objects.requireNonNull(cache);
     }
 
+    /**
+     * 只使用其容量，以兼容 v3.8.0 之前的配置
+     * @deprecated 请使用 {@link #setCache(BoundedCache)}
+     */
+    @Deprecated
+    public void setCache(LRUCache<Group<String>> cache) {
+        this.cache = new BoundedCache<>(cache.getMaxCacheCount());
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -0,0 +1,129 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.SearchException;
+import com.ejlchina.searcher.Searcher;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 异步检索器的基类，负责在线程池中执行同步检索，并将 {@link CompletableFuture } 的取消传递到正在执行的 SQL 语句
+ * 线程池拒绝任务时（如队列已满），返回的 {@link CompletableFuture } 以 {@link RejectedExecutionException } 异常完成
+ * @param <S> 同步检索器类型
+ * @since v3.8.0
+ */
+public abstract class AbstractAsyncSearcher<S extends Searcher> {
+
+    protected final S searcher;
+
+    private final Executor executor;
+
+    public AbstractAsyncSearcher(S searcher, Executor executor) {
+        this.searcher = Objects.requireNonNull(searcher);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public <T> CompletableFuture<Number> searchCount(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchCount(beanClass, paraMap));
+    }
+
+    public <T> CompletableFuture<Number> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String field) {
+        return submit(() -> searcher.searchSum(beanClass, paraMap, field));
+    }
+
+    public <T> CompletableFuture<Number[]> searchSum(Class<T> beanClass, Map<String, Object> paraMap, String[] fields) {
+        return submit(() -> searcher.searchSum(beanClass, paraMap, fields));
+    }
+
+    /**
+     * 在线程池中执行检索任务
+     * @param task 检索任务
+     * @param <R> 检索结果类型
+     * @return 检索结果
+     */
+    protected <R> CompletableFuture<R> submit(Supplier<R> task) {
+        StatementCanceller canceller = new StatementCanceller();
+        CompletableFuture<R> future = new CompletableFuture<R>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) {
+                    canceller.cancel();
+                }
+                return cancelled;
+            }
+        };
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    // 执行前已被取消
+                    return;
+                }
+                try {
+                    future.complete(StatementCanceller.callWith(canceller, task));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public S getSearcher() {
+        return searcher;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 创建有界的线程池：线程数与任务队列长度均有上限，队列满时拒绝新的任务（检索立即以 {@link RejectedExecutionException } 异常完成，
+     * 而不是在提交任务的线程中执行，以免阻塞调用方，如：事件循环线程）
+     * @param threads 最大线程数
+     * @param queueCapacity 任务队列长度
+     * @return 线程池
+     */
+    public static ExecutorService newBoundedExecutor(int threads, int queueCapacity) {
+        AtomicInteger index = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "bean-searcher-async-" + index.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @return 当前 JDK 是否支持虚拟线程（JDK 21+）
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 创建每个任务一个虚拟线程的线程池（需要 JDK 21+）
+     * 注意：并发检索数不再受线程数限制，而是受数据库连接池的大小限制
+     * @return 线程池
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new SearchException("Virtual threads require JDK 21 or higher", e);
+        }
+    }
+
+}
@@ -2,12 +2,17 @@ package com.ejlchina.searcher.implement;
 
 import com.ejlchina.searcher.*;
 import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.OrderBy;
+import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.param.Seek;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * 自动检索器 根据 Bean 的 Class 和请求参数，自动检索 Bean
@@ -16,6 +21,11 @@ import java.util.Objects;
  */
 public abstract class AbstractSearcher implements Searcher {
 
+	/**
+	 * {@link #prepare(Class)} 渲染 SQL 的检索类型
+	 */
+	private static final int[] PREPARED_FETCH_TYPES = { FetchType.DEFAULT, FetchType.LIST_ALL, FetchType.ONLY_TOTAL };
+
 	private SqlExecutor sqlExecutor;
 
 	private ParamResolver paramResolver = new DefaultParamResolver();
@@ -63,6 +73,24 @@ public abstract class AbstractSearcher implements Searcher {
 		}
 	}
 
+	/**
+	 * 预备检索：解析（并校验）Bean 的元信息，以空的检索参数渲染常用的 SQL（分页列表与总数、全部列表、只查总数），
+	 * 但不执行，使元信息与 SQL 相关的缓存在首次检索前就绪（如应用启动时）
+	 * @param <T> bean 类型
+	 * @param beanClass 要预备的 bean 类型
+	 * @return 元信息
+	 * @since v3.8.0
+	 */
+	public <T> BeanMeta<T> prepare(Class<T> beanClass) {
+		BeanMeta<T> beanMeta = metaResolver.resolve(beanClass);
+		for (int type : PREPARED_FETCH_TYPES) {
+			FetchType fetchType = new FetchType(type);
+			SearchParam searchParam = paramResolver.resolve(beanMeta, fetchType, new HashMap<>());
+			sqlResolver.resolve(beanMeta, searchParam);
+		}
+		return beanMeta;
+	}
+
 	protected Number getCountFromSqlResult(SqlResult<?> sqlResult) throws SQLException {
 		Number count = (Number) sqlResult.getClusterResult().get(sqlResult.getSearchSql().getCountAlias());
 		return count != null ? count : 0L;
@@ -89,10 +117,135 @@ public abstract class AbstractSearcher implements Searcher {
 		}
 		BeanMeta<T> beanMeta = metaResolver.resolve(beanClass);
 		SearchParam searchParam = paramResolver.resolve(beanMeta, fetchType, paraMap);
+		Seek seek = searchParam.getSeek();
+		if (seek != null && seek.isLocate()) {
+			locateSeek(beanMeta, searchParam, paraMap);
+		}
 		SearchSql<T> searchSql = sqlResolver.resolve(beanMeta, searchParam);
 		return sqlExecutor.execute(intercept(searchSql, paraMap, fetchType));
 	}
 
+	/**
+	 * 深分页自动转为键集分页：先只查询 offset 处前一行的排序字段（可走覆盖索引，不读取整行），
+	 * 再以它为界使用键集分页，找不到边界行时仍使用 offset 分页
+	 * @since v3.8.0
+	 */
+	protected <T> void locateSeek(BeanMeta<T> beanMeta, SearchParam searchParam, Map<String, Object> paraMap) {
+		Seek seek = searchParam.getSeek();
+		Paging paging = searchParam.getPaging();
+		List<String> fields = seek.getOrderBys().stream()
+				.map(OrderBy::getSort)
+				.collect(Collectors.toList());
+		FetchType fetchType = new FetchType(FetchType.LIST_FIRST);
+		SearchParam probe = new SearchParam(paraMap, fetchType, fields, searchParam.getParamsGroup(),
+				new Paging(1, paging.getOffset() - 1));
+		seek.getOrderBys().forEach(probe::addOrderBy);
+		SearchSql<T> searchSql = sqlResolver.resolve(beanMeta, probe);
+		try (SqlResult<T> result = sqlExecutor.execute(intercept(searchSql, paraMap, fetchType))) {
+			SqlResult.ResultSet listResult = result.getListResult();
+			if (listResult == null || !listResult.next()) {
+				return;
+			}
+			Object[] values = new Object[fields.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = listResult.get(beanMeta.requireFieldMeta(fields.get(i)).getDbAlias());
+				if (values[i] == null) {
+					return;
+				}
+			}
+			seek.setValues(values);
+			paging.setOffset(0);
+		} catch (SQLException e) {
+			throw new SearchException("A exception occurred when locating the seek boundary!", e);
+		}
+	}
+
+	/**
+	 * 键集分页时，包装列表结果集，以记录最后一行的排序字段值
+	 * @return 非键集分页时返回 null
+	 * @since v3.8.0
+	 */
+	protected SeekResultSet seekResultSet(SearchSql<?> searchSql, SqlResult.ResultSet listResult) {
+		Seek seek = searchSql.getSeek();
+		if (seek == null) {
+			return null;
+		}
+		BeanMeta<?> beanMeta = searchSql.getBeanMeta();
+		String[] columns = seek.getOrderBys().stream()
+				.map(orderBy -> beanMeta.requireFieldMeta(orderBy.getSort()).getDbAlias())
+				.toArray(String[]::new);
+		return new SeekResultSet(listResult, seek, columns);
+	}
+
+	/**
+	 * 记录最后一行排序字段值的结果集，用于生成下一页的游标
+	 * @since v3.8.0
+	 */
+	protected static class SeekResultSet implements SqlResult.ResultSet {
+
+		private final SqlResult.ResultSet delegate;
+		private final Seek seek;
+		private final String[] columns;
+		private final Object[] lastValues;
+		private int rows = 0;
+
+		public SeekResultSet(SqlResult.ResultSet delegate, Seek seek, String[] columns) {
+			this.delegate = delegate;
+			this.seek = seek;
+			this.columns = columns;
+			this.lastValues = new Object[columns.length];
+		}
+
+		@Override
+		public boolean next() throws SQLException {
+			if (delegate.next()) {
+				rows++;
+				for (int i = 0; i < columns.length; i++) {
+					lastValues[i] = delegate.get(columns[i]);
+				}
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public Object get(String columnLabel) throws SQLException {
+			return delegate.get(columnLabel);
+		}
+
+		@Override
+		public int indexOf(String columnLabel) throws SQLException {
+			return delegate.indexOf(columnLabel);
+		}
+
+		@Override
+		public Object get(int columnIndex) throws SQLException {
+			return delegate.get(columnIndex);
+		}
+
+		@Override
+		public SqlResult.ColumnGetter getter(int columnIndex, FieldMeta meta) throws SQLException {
+			return delegate.getter(columnIndex, meta);
+		}
+
+		@Override
+		public void close() throws SQLException {
+			delegate.close();
+		}
+
+		/**
+		 * @param paging 分页参数
+		 * @return 下一页的游标，当前页未满（已无下一页）时返回 null
+		 */
+		public String nextCursor(Paging paging) {
+			if (paging == null || rows < paging.getSize()) {
+				return null;
+			}
+			return seek.encode(lastValues);
+		}
+
+	}
+
 	protected <T> SearchSql<T> intercept(SearchSql<T> searchSql, Map<String, Object> paraMap, FetchType fetchType) {
 		for (SqlInterceptor interceptor : interceptors) {
 			searchSql = interceptor.intercept(searchSql, paraMap, fetchType);
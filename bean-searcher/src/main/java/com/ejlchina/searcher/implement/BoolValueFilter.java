@@ -3,12 +3,14 @@ package com.ejlchina.searcher.implement;
 import com.ejlchina.searcher.FieldMeta;
 import com.ejlchina.searcher.BeanMeta;
 import com.ejlchina.searcher.ParamFilter;
+import com.ejlchina.searcher.util.OverlayMap;
 import com.ejlchina.searcher.util.StringUtils;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Bool 值过滤器
@@ -38,38 +40,98 @@ public class BoolValueFilter implements ParamFilter {
 	 */
 	private String ignoreCaseSuffix = "ic";
 
+	/**
+	 * 分割符 + 忽略大小写参数名后缀
+	 */
+	private String icSuffix = separator + ignoreCaseSuffix;
+
 	/**
 	 * False 参数值
 	 */
 	private String[] falseValues = new String[] { "0", "OFF", "FALSE", "N", "NO", "F" };
 
 
+	/**
+	 * Bool 字段的参数名（如 flag、flag-true、flag-false）-> 取值方式，按实体类缓存
+	 * @since v3.8.0
+	 */
+	private final Map<BeanMeta<?>, Map<String, BoolKey>> boolKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * Bool 字段参数的取值方式
+	 */
+	static class BoolKey {
+
+		final String field;
+
+		/**
+		 * 为 null 时表示由参数值转换
+		 */
+		final Boolean value;
+
+		BoolKey(String field, Boolean value) {
+			this.field = field;
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * 只覆盖需要转换的参数，不复制整个检索参数（v3.8.0 之前会复制）
+	 */
 	@Override
 	public <T> Map<String, Object> doFilter(BeanMeta<T> beanMeta, Map<String, Object> paraMap) {
-		String[] fields = getBoolFieldList(beanMeta);
-		String icSuffix = separator + ignoreCaseSuffix;
-		Map<String, Object> map = new HashMap<>();
+		Map<String, BoolKey> keys = boolKeys.computeIfAbsent(beanMeta, this::compileBoolKeys);
+		OverlayMap<String, Object> map = null;
 		for (Entry<String, Object> entry : paraMap.entrySet()) {
 			String key = entry.getKey();
 			Object value = entry.getValue();
 			if (key.endsWith(icSuffix)) {
-				map.put(key, toBoolean(value));
+				Boolean bool = toBoolean(value);
+				if (bool != value) {
+					map = overlay(map, paraMap);
+					map.put(key, bool);
+				}
 				continue;
 			}
-			String field = findField(fields, key);
-			if (field == null) {
+			BoolKey boolKey = keys.get(key);
+			if (boolKey == null) {
 				// 不是 Bool 字段
-				map.put(key, value);
 				continue;
 			}
 			// 是 Bool 字段
-			if (key.length() == field.length()) {
-				map.put(field, toBoolean(value));
+			if (boolKey.value == null) {
+				Boolean bool = toBoolean(value);
+				if (bool != value) {
+					map = overlay(map, paraMap);
+					map.put(key, bool);
+				}
 				continue;
 			}
-			map.put(field, key.endsWith(trueSuffix));
+			// 带有 true 或 false 后缀
+			map = overlay(map, paraMap);
+			map.remove(key);
+			map.put(boolKey.field, boolKey.value);
+		}
+		return map != null ? map : paraMap;
+	}
+
+	private static OverlayMap<String, Object> overlay(OverlayMap<String, Object> map, Map<String, Object> paraMap) {
+		return map != null ? map : new OverlayMap<>(paraMap);
+	}
+
+	private Map<String, BoolKey> compileBoolKeys(BeanMeta<?> beanMeta) {
+		String[] fields = getBoolFieldList(beanMeta);
+		Map<String, BoolKey> keys = new HashMap<>();
+		for (String field : fields) {
+			keys.put(field + separator + trueSuffix, new BoolKey(field, Boolean.TRUE));
+			keys.put(field + separator + falseSuffix, new BoolKey(field, Boolean.FALSE));
 		}
-		return map;
+		// 字段名本身优先
+		for (String field : fields) {
+			keys.put(field, new BoolKey(field, null));
+		}
+		return keys;
 	}
 
 	protected String[] getBoolFieldList(BeanMeta<?> beanMeta) {
@@ -82,6 +144,10 @@ public class BoolValueFilter implements ParamFilter {
 				.toArray(String[]::new);
 	}
 
+	/**
+	 * @deprecated 自 v3.8.0 起由按实体类预先编译的参数名代替，不再被调用
+	 */
+	@Deprecated
 	protected String findField(String[] fields, String key) {
 		for (String field: fields) {
 			if (key.startsWith(field)) {
@@ -133,6 +199,8 @@ public class BoolValueFilter implements ParamFilter {
 
 	public void setSeparator(String separator) {
 		this.separator = Objects.requireNonNull(separator);
+		this.icSuffix = separator + ignoreCaseSuffix;
+		boolKeys.clear();
 	}
 
 	public String getTrueSuffix() {
@@ -141,6 +209,7 @@ public class BoolValueFilter implements ParamFilter {
 
 	public void setTrueSuffix(String trueSuffix) {
 		this.trueSuffix = Objects.requireNonNull(trueSuffix);
+		boolKeys.clear();
 	}
 
 	public String getFalseSuffix() {
@@ -149,6 +218,7 @@ public class BoolValueFilter implements ParamFilter {
 
 	public void setFalseSuffix(String falseSuffix) {
 		this.falseSuffix = Objects.requireNonNull(falseSuffix);
+		boolKeys.clear();
 	}
 
 	public String getIgnoreCaseSuffix() {
@@ -157,6 +227,7 @@ public class BoolValueFilter implements ParamFilter {
 
 	public void setIgnoreCaseSuffix(String ignoreCaseSuffix) {
 		this.ignoreCaseSuffix = Objects.requireNonNull(ignoreCaseSuffix);
+		this.icSuffix = separator + ignoreCaseSuffix;
 	}
 
 	public String[] getFalseValues() {
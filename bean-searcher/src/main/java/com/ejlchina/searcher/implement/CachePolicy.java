@@ -0,0 +1,108 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.bean.ResultCache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存策略：各实体类的过期时间，{@link ClusterResultCache } 与 {@link SearchResultCache } 均由它决定实体类是否缓存及缓存多久
+ * 实体类的过期时间依次取：{@link #setTtl(Class, long)} 配置的、{@link ResultCache } 注解的、{@link #getDefaultTtl() 默认的}
+ * @since v3.8.0
+ */
+public class CachePolicy {
+
+    /**
+     * 默认过期时间（单位：毫秒），小于等于 0 表示默认不缓存
+     */
+    private long defaultTtl;
+
+    /**
+     * 空结果（列表为空且总条数为 0）的过期时间（单位：毫秒），小于 0 表示与实体类的过期时间相同，等于 0 表示不缓存空结果
+     */
+    private long emptyTtl = -1;
+
+    /**
+     * 各实体类的过期时间（单位：毫秒），优先于 {@link ResultCache } 注解，小于等于 0 表示该实体类不缓存
+     */
+    private final Map<Class<?>, Long> beanTtls = new ConcurrentHashMap<>();
+
+    /**
+     * 实体类的缓存注解
+     */
+    private final Map<Class<?>, Optional<ResultCache>> annotations = new ConcurrentHashMap<>();
+
+    public CachePolicy() { }
+
+    public CachePolicy(long defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * @param beanClass 实体类
+     * @return 该实体类的过期时间（单位：毫秒），小于等于 0 表示不缓存
+     */
+    public long getTtl(Class<?> beanClass) {
+        Long ttl = beanTtls.get(beanClass);
+        if (ttl != null) {
+            return ttl;
+        }
+        ResultCache annotation = annotationOf(beanClass);
+        return annotation != null ? annotation.ttl() : defaultTtl;
+    }
+
+    /**
+     * @param beanClass 实体类
+     * @return 该实体类空结果的过期时间（单位：毫秒），不超过 {@link #getTtl(Class) }，小于等于 0 表示不缓存
+     */
+    public long getEmptyTtl(Class<?> beanClass) {
+        long ttl = getTtl(beanClass);
+        ResultCache annotation = annotationOf(beanClass);
+        long empty = annotation != null && annotation.emptyTtl() >= 0 ? annotation.emptyTtl() : emptyTtl;
+        return empty >= 0 ? Math.min(empty, ttl) : ttl;
+    }
+
+    private ResultCache annotationOf(Class<?> beanClass) {
+        return annotations.computeIfAbsent(beanClass, clazz -> Optional.ofNullable(clazz.getAnnotation(ResultCache.class))).orElse(null);
+    }
+
+    public long getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    /**
+     * 设置默认过期时间
+     * @param defaultTtl 过期时间，单位：毫秒，小于等于 0 表示默认不缓存
+     */
+    public void setDefaultTtl(long defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public long getEmptyTtl() {
+        return emptyTtl;
+    }
+
+    /**
+     * 设置空结果的过期时间（{@link ResultCache#emptyTtl() } 大于等于 0 的实体类以注解为准）
+     * @param emptyTtl 过期时间，单位：毫秒，小于 0 表示与实体类的过期时间相同，等于 0 表示不缓存空结果
+     */
+    public void setEmptyTtl(long emptyTtl) {
+        this.emptyTtl = emptyTtl;
+    }
+
+    /**
+     * 设置某实体类的过期时间（优先于 {@link ResultCache } 注解）
+     * @param beanClass 实体类
+     * @param ttl 过期时间，单位：毫秒，小于等于 0 表示该实体类不缓存
+     */
+    public void setTtl(Class<?> beanClass, long ttl) {
+        beanTtls.put(Objects.requireNonNull(beanClass), ttl);
+    }
+
+    public Map<Class<?>, Long> getBeanTtls() {
+        return beanTtls;
+    }
+
+}
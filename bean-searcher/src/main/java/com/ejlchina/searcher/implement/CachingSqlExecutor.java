@@ -0,0 +1,198 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.*;
+
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 带检索结果缓存的 SQL 执行器
+ * 包装另一个 {@link SqlExecutor }，对可缓存的实体类（见 {@link SearchResultCache#isCacheable(BeanMeta)}），
+ * 将列表与聚族结果读入内存并缓存，命中时不再访问数据库
+ * @since v3.8.0
+ */
+public class CachingSqlExecutor implements SqlExecutor {
+
+    private final SqlExecutor delegate;
+
+    private final SearchResultCache cache;
+
+    /**
+     * 单次检索最多缓存的列表行数，超出时不缓存该次检索（剩余的行直接从原结果集读取）
+     */
+    private int maxRows = 1000;
+
+    public CachingSqlExecutor(SqlExecutor delegate, SearchResultCache cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public <T> SqlResult<T> execute(SearchSql<T> searchSql) {
+        if (!cache.isCacheable(searchSql.getBeanMeta())) {
+            return delegate.execute(searchSql);
+        }
+        SearchResultCache.Entry entry = cache.get(searchSql);
+        if (entry != null) {
+            searchSql.setCountEstimated(entry.isCountEstimated());
+            return replay(searchSql, entry);
+        }
+        SqlResult<T> sqlResult = delegate.execute(searchSql);
+        try {
+            String[] columns = null;
+            List<Object[]> rows = null;
+            SqlResult.ResultSet listResult = sqlResult.getListResult();
+            if (searchSql.isShouldQueryList() && listResult != null) {
+                columns = columnsOf(searchSql);
+                rows = new ArrayList<>();
+                ColumnReader reader = new ColumnReader(listResult, columns);
+                while (listResult.next()) {
+                    if (rows.size() >= maxRows) {
+                        // 结果过大，不缓存，已读出的行与原结果集拼接后返回
+                        return new SqlResult<T>(searchSql, new ResumedResultSet(columns, rows, listResult), sqlResult.getClusterResult()) {
+                            @Override
+                            public void close() {
+                                sqlResult.close();
+                            }
+                        };
+                    }
+                    Object[] row = new Object[columns.length];
+                    for (int i = 0; i < columns.length; i++) {
+                        row[i] = reader.get(i);
+                    }
+                    rows.add(row);
+                }
+            }
+            Map<String, Object> clusterValues = null;
+            SqlResult.Result clusterResult = sqlResult.getClusterResult();
+            if (searchSql.isShouldQueryCluster() && clusterResult != null) {
+                clusterValues = new HashMap<>();
+                String countAlias = searchSql.getCountAlias();
+                if (countAlias != null) {
+                    clusterValues.put(countAlias, clusterResult.get(countAlias));
+                }
+                for (String alias : searchSql.getSummaryAliases()) {
+                    clusterValues.put(alias, clusterResult.get(alias));
+                }
+            }
+            entry = new SearchResultCache.Entry(columns, rows != null ? Collections.unmodifiableList(rows) : null,
+                    clusterValues != null ? Collections.unmodifiableMap(clusterValues) : null, searchSql.isCountEstimated());
+        } catch (SQLException e) {
+            sqlResult.close();
+            throw new SearchException("A exception occurred when reading the result to cache!", e);
+        }
+        sqlResult.close();
+        cache.put(searchSql, entry);
+        return replay(searchSql, entry);
+    }
+
+    protected <T> SqlResult<T> replay(SearchSql<T> searchSql, SearchResultCache.Entry entry) {
+        SqlResult.ResultSet listResult = null;
+        if (entry.getRows() != null) {
+            listResult = new ResumedResultSet(entry.getColumns(), entry.getRows(), null);
+        }
+        SqlResult.Result clusterResult = null;
+        Map<String, Object> clusterValues = entry.getClusterValues();
+        if (clusterValues != null) {
+            clusterResult = clusterValues::get;
+        }
+        return new SqlResult<>(searchSql, listResult, clusterResult);
+    }
+
+    protected String[] columnsOf(SearchSql<?> searchSql) {
+        BeanMeta<?> beanMeta = searchSql.getBeanMeta();
+        List<String> fetchFields = searchSql.getFetchFields();
+        String[] columns = new String[fetchFields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = beanMeta.requireFieldMeta(fetchFields.get(i)).getDbAlias();
+        }
+        return columns;
+    }
+
+    /**
+     * 先遍历内存中的行，再（若有）从原结果集的当前行继续遍历的结果集
+     */
+    static class ResumedResultSet implements SqlResult.ResultSet {
+
+        final Map<String, Integer> columnIndexes = new HashMap<>();
+        final List<Object[]> rows;
+        final SqlResult.ResultSet rest;
+        int index = -1;
+        boolean resumed = false;
+
+        ResumedResultSet(String[] columns, List<Object[]> rows, SqlResult.ResultSet rest) {
+            for (int i = 0; i < columns.length; i++) {
+                columnIndexes.put(columns[i], i);
+            }
+            this.rows = rows;
+            this.rest = rest;
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            if (index < rows.size()) {
+                index++;
+            }
+            if (index < rows.size()) {
+                return true;
+            }
+            if (rest == null) {
+                return false;
+            }
+            if (!resumed) {
+                // 原结果集已位于下一行
+                resumed = true;
+                return true;
+            }
+            return rest.next();
+        }
+
+        @Override
+        public Object get(String columnLabel) throws SQLException {
+            if (index < rows.size()) {
+                Integer i = columnIndexes.get(columnLabel);
+                return i != null ? rows.get(index)[i] : null;
+            }
+            return rest.get(columnLabel);
+        }
+
+        @Override
+        public int indexOf(String columnLabel) throws SQLException {
+            Integer i = columnIndexes.get(columnLabel);
+            if (i == null) {
+                return 0;
+            }
+            // 继续遍历原结果集时，序号须与原结果集一致
+            if (rest != null && rest.indexOf(columnLabel) != i + 1) {
+                return 0;
+            }
+            return i + 1;
+        }
+
+        @Override
+        public Object get(int columnIndex) throws SQLException {
+            if (index < rows.size()) {
+                return rows.get(index)[columnIndex - 1];
+            }
+            return rest.get(columnIndex);
+        }
+
+    }
+
+    public SqlExecutor getDelegate() {
+        return delegate;
+    }
+
+    public SearchResultCache getCache() {
+        return cache;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.SearchSql;
+
+import java.util.*;
+
+/**
+ * 聚族查询（总条数与统计）结果缓存
+ * 以 实体类、规范化后的聚族 SQL 与参数 为键，缓存条数与占用内存（估算）均有上限，每个实体类的过期时间由 {@link CachePolicy } 决定，
+ * 并支持按实体类或表名失效（表名从 {@link com.ejlchina.searcher.bean.SearchBean#tables()} 中解析）
+ * @since v3.8.0
+ */
+public class ClusterResultCache {
+
+    /**
+     * 缓存键
+     */
+    static class Key {
+
+        final Class<?> beanClass;
+        final String sql;
+        final List<Object> params;
+        final int hash;
+
+        Key(Class<?> beanClass, String sql, List<Object> params) {
+            this.beanClass = beanClass;
+            this.sql = sql;
+            this.params = params;
+            this.hash = Objects.hash(beanClass, sql, params);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return beanClass == key.beanClass && sql.equals(key.sql) && params.equals(key.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    private final ResultCacheStore<Key, Map<String, Object>> store = new ResultCacheStore<>(1000, 4 * 1024 * 1024);
+
+    /**
+     * 过期时间策略，默认过期时间为 60 秒
+     */
+    private CachePolicy policy = new CachePolicy(60 * 1000);
+
+    /**
+     * 获取缓存的聚族结果
+     * @param searchSql 检索 SQL 信息
+     * @return 聚族结果（列名 -&gt; 值），未命中时返回 null
+     */
+    public Map<String, Object> get(SearchSql<?> searchSql) {
+        if (policy.getTtl(searchSql.getBeanMeta().getBeanClass()) <= 0) {
+            return null;
+        }
+        return store.get(keyOf(searchSql));
+    }
+
+    /**
+     * 缓存聚族结果
+     * @param searchSql 检索 SQL 信息
+     * @param values 聚族结果（列名 -&gt; 值）
+     */
+    public void put(SearchSql<?> searchSql, Map<String, Object> values) {
+        BeanMeta<?> beanMeta = searchSql.getBeanMeta();
+        long ttl = policy.getTtl(beanMeta.getBeanClass());
+        if (ttl <= 0) {
+            return;
+        }
+        Key key = keyOf(searchSql);
+        store.put(key, Collections.unmodifiableMap(values), beanMeta, ttl, estimateBytes(key, values));
+    }
+
+    /**
+     * 使某实体类的缓存全部失效
+     * @param beanClass 实体类
+     * @return 失效的缓存条数
+     */
+    public int invalidate(Class<?> beanClass) {
+        return store.invalidate(beanClass);
+    }
+
+    /**
+     * 使涉及某张表的缓存全部失效
+     * @param table 表名（不区分大小写）
+     * @return 失效的缓存条数
+     */
+    public int invalidate(String table) {
+        return store.invalidate(table);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        store.clear();
+    }
+
+    protected Key keyOf(SearchSql<?> searchSql) {
+        String sql = ResultCacheStore.normalizeSql(searchSql.getClusterSqlString());
+        List<Object> params = new ArrayList<>(searchSql.getClusterSqlParams());
+        return new Key(searchSql.getBeanMeta().getBeanClass(), sql, params);
+    }
+
+    protected long estimateBytes(Key key, Map<String, Object> values) {
+        long bytes = 64 + 2L * key.sql.length();
+        for (Object param : key.params) {
+            bytes += 16 + (param != null ? 2L * param.toString().length() : 0);
+        }
+        for (String column : values.keySet()) {
+            bytes += 48 + 2L * column.length();
+        }
+        return bytes;
+    }
+
+    public int getSize() {
+        return store.getSize();
+    }
+
+    public long getUsedBytes() {
+        return store.getUsedWeight();
+    }
+
+    public long getHitCount() {
+        return store.getHitCount();
+    }
+
+    public long getMissCount() {
+        return store.getMissCount();
+    }
+
+    public int getMaxEntries() {
+        return store.getMaxEntries();
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        store.setMaxEntries(maxEntries);
+    }
+
+    public long getMaxBytes() {
+        return store.getMaxWeight();
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        store.setMaxWeight(maxBytes);
+    }
+
+    public CachePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 设置过期时间策略（可与 {@link SearchResultCache } 共用同一个策略）
+     * @param policy 过期时间策略
+     */
+    public void setPolicy(CachePolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    public long getDefaultTtl() {
+        return policy.getDefaultTtl();
+    }
+
+    /**
+     * 设置默认过期时间
+     * @param defaultTtl 过期时间，单位：毫秒，小于等于 0 表示默认不缓存
+     */
+    public void setDefaultTtl(long defaultTtl) {
+        policy.setDefaultTtl(defaultTtl);
+    }
+
+    /**
+     * 设置某实体类的过期时间
+     * @param beanClass 实体类
+     * @param ttl 过期时间，单位：毫秒，小于等于 0 表示该实体类不缓存
+     */
+    public void setTtl(Class<?> beanClass, long ttl) {
+        policy.setTtl(beanClass, ttl);
+    }
+
+    public Map<Class<?>, Long> getBeanTtls() {
+        return policy.getBeanTtls();
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.FieldMeta;
+import com.ejlchina.searcher.SearchException;
+import com.ejlchina.searcher.SqlResult;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 结果集的列读取器
+ * 创建时为每一列查找一次序号（{@link SqlResult.ResultSet#indexOf(String)}），之后每行都按序号取值，
+ * 结果集不支持按序号取值的列仍按列名取值，所以自定义的 {@link com.ejlchina.searcher.SqlExecutor } 无需做任何改动。
+ * 按字段类型读取时，每列使用结果集创建的列读取器（{@link SqlResult.ResultSet#getter(int, FieldMeta)}）取值
+ * @since v3.8.0
+ */
+public class ColumnReader implements Function<String, Object> {
+
+    private final SqlResult.ResultSet resultSet;
+
+    private final String[] labels;
+
+    private final int[] indexes;
+
+    /**
+     * 按字段类型读取时各列的读取器，否则为 null
+     */
+    private final SqlResult.ColumnGetter[] getters;
+
+    /**
+     * 按列名读取时，预期的下一列（{@link com.ejlchina.searcher.BeanReflector } 通常按检索字段的顺序读取）
+     */
+    private int position = 0;
+
+    public ColumnReader(SqlResult.ResultSet resultSet, String[] labels) throws SQLException {
+        this.resultSet = resultSet;
+        this.labels = labels;
+        this.indexes = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            indexes[i] = resultSet.indexOf(labels[i]);
+        }
+        this.getters = null;
+    }
+
+    public ColumnReader(SqlResult.ResultSet resultSet, List<FieldMeta> fieldMetas) throws SQLException {
+        this(resultSet, fieldMetas, false);
+    }
+
+    /**
+     * @param resultSet 结果集
+     * @param fieldMetas 检索的字段
+     * @param typed 是否按字段的类型读取（装配 Bean 时使用，MapSearcher 仍保持数据库原始的值类型）
+     */
+    public ColumnReader(SqlResult.ResultSet resultSet, List<FieldMeta> fieldMetas, boolean typed) throws SQLException {
+        int size = fieldMetas.size();
+        this.resultSet = resultSet;
+        this.labels = new String[size];
+        this.indexes = new int[size];
+        this.getters = typed ? new SqlResult.ColumnGetter[size] : null;
+        for (int i = 0; i < size; i++) {
+            FieldMeta meta = fieldMetas.get(i);
+            String label = meta.getDbAlias();
+            int index = resultSet.indexOf(label);
+            labels[i] = label;
+            indexes[i] = index;
+            if (getters != null) {
+                getters[i] = index > 0 ? resultSet.getter(index, meta) : () -> resultSet.get(label);
+            }
+        }
+    }
+
+    /**
+     * 读取当前行的第 i 列
+     * @param i 列在 labels 中的下标
+     * @return 列值
+     */
+    public Object get(int i) throws SQLException {
+        if (getters != null) {
+            return getters[i].get();
+        }
+        int index = indexes[i];
+        if (index > 0) {
+            return resultSet.get(index);
+        }
+        return resultSet.get(labels[i]);
+    }
+
+    /**
+     * 按列名读取当前行的值
+     */
+    @Override
+    public Object apply(String columnLabel) {
+        int i = position;
+        if (i >= labels.length || !columnLabel.equals(labels[i])) {
+            i = indexOf(columnLabel);
+        }
+        try {
+            if (i < 0) {
+                return resultSet.get(columnLabel);
+            }
+            position = i + 1;
+            return get(i);
+        } catch (SQLException e) {
+            throw new SearchException("A exception occurred when collecting sql result!", e);
+        }
+    }
+
+    /**
+     * 移动到下一行后调用
+     */
+    public ColumnReader reset() {
+        position = 0;
+        return this;
+    }
+
+    public SqlResult.ResultSet getResultSet() {
+        return resultSet;
+    }
+
+    private int indexOf(String columnLabel) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equals(columnLabel)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.SearchSql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 总条数估算器
+ * 用于 {@link DefaultSqlExecutor } 在检索参数要求估算总条数时，借助数据库的统计信息（执行计划）估算总条数，代替 count(*) 查询
+ * @see com.ejlchina.searcher.util.MapBuilder#estimateCount()
+ * @since v3.8.0
+ */
+@FunctionalInterface
+public interface CountEstimator {
+
+    /**
+     * 估算总条数
+     * @param connection 数据库连接
+     * @param searchSql 检索 SQL 信息（估算的对象是其中的聚族 SQL）
+     * @return 估算的总条数，无法估算时返回 null
+     * @throws SQLException 异常
+     */
+    Number estimate(Connection connection, SearchSql<?> searchSql) throws SQLException;
+
+}
@@ -0,0 +1,47 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.AsyncBeanSearcher;
+import com.ejlchina.searcher.BeanSearcher;
+import com.ejlchina.searcher.SearchResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 默认的异步 Bean 检索器，在线程池中执行 {@link BeanSearcher } 的检索
+ * @since v3.8.0
+ */
+public class DefaultAsyncBeanSearcher extends AbstractAsyncSearcher<BeanSearcher> implements AsyncBeanSearcher {
+
+    public DefaultAsyncBeanSearcher(BeanSearcher searcher, Executor executor) {
+        super(searcher, executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.search(beanClass, paraMap));
+    }
+
+    @Override
+    public <T> CompletableFuture<SearchResult<T>> search(Class<T> beanClass, Map<String, Object> paraMap, String[] summaryFields) {
+        return submit(() -> searcher.search(beanClass, paraMap, summaryFields));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> searchFirst(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchFirst(beanClass, paraMap));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> searchList(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchList(beanClass, paraMap));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> searchAll(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchAll(beanClass, paraMap));
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.AsyncMapSearcher;
+import com.ejlchina.searcher.MapSearcher;
+import com.ejlchina.searcher.SearchResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 默认的异步 Map 检索器，在线程池中执行 {@link MapSearcher } 的检索
+ * @since v3.8.0
+ */
+public class DefaultAsyncMapSearcher extends AbstractAsyncSearcher<MapSearcher> implements AsyncMapSearcher {
+
+    public DefaultAsyncMapSearcher(MapSearcher searcher, Executor executor) {
+        super(searcher, executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<SearchResult<Map<String, Object>>> search(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.search(beanClass, paraMap));
+    }
+
+    @Override
+    public <T> CompletableFuture<SearchResult<Map<String, Object>>> search(Class<T> beanClass, Map<String, Object> paraMap, String[] summaryFields) {
+        return submit(() -> searcher.search(beanClass, paraMap, summaryFields));
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<String, Object>> searchFirst(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchFirst(beanClass, paraMap));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<Map<String, Object>>> searchList(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchList(beanClass, paraMap));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<Map<String, Object>>> searchAll(Class<T> beanClass, Map<String, Object> paraMap) {
+        return submit(() -> searcher.searchAll(beanClass, paraMap));
+    }
+
+}
@@ -3,11 +3,14 @@ package com.ejlchina.searcher.implement;
 import com.ejlchina.searcher.*;
 import com.ejlchina.searcher.FieldConvertor.BFieldConvertor;
 
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 默认查询结果解析器
@@ -18,6 +21,8 @@ public class DefaultBeanReflector implements BeanReflector {
 
 	private List<BFieldConvertor> convertors;
 
+	private final FieldConversions conversions = new FieldConversions(this::bind);
+
 	public DefaultBeanReflector() {
 		this(new ArrayList<>());
 	}
@@ -29,19 +34,19 @@ public class DefaultBeanReflector implements BeanReflector {
 	@Override
 	public <T> T reflect(BeanMeta<T> beanMeta, Collection<FieldMeta> fetchFields, Function<String, Object> valueGetter) {
 		Class<T> beanClass = beanMeta.getBeanClass();
-		T bean = newInstance(beanClass);
+		T bean = newInstance(beanMeta);
 		for (FieldMeta meta : fetchFields) {
-			Object value = valueGetter.apply(meta.getDbAlias());
-			try {
-				value = convert(meta, value);
-			} catch (Exception e) {
-				throw new SearchException(
-						"The type of [" + beanClass + "#" + meta.getName() + "] is mismatch with it's database table field type", e);
-			}
+			Object value = fieldValue(beanClass, meta, valueGetter);
 			if (value != null) {
+				// 优先使用编译期生成的赋值函数
+				BiConsumer<Object, Object> setter = meta.getValueSetter();
 				try {
-					meta.getField().set(bean, value);
-				} catch (ReflectiveOperationException e) {
+					if (setter != null) {
+						setter.accept(bean, value);
+					} else {
+						meta.getField().set(bean, value);
+					}
+				} catch (ReflectiveOperationException | ClassCastException e) {
 					throw new SearchException(
 							"A exception occurred when setting value to [" + beanClass.getName() + "#" + meta.getName() + "], please check whether it's setter is correct.", e);
 				}
@@ -50,22 +55,66 @@ public class DefaultBeanReflector implements BeanReflector {
 		return bean;
 	}
 
+	/**
+	 * 获取数据库字段值并转换为 Bean 字段的类型
+	 * @since v3.8.0
+	 */
+	protected Object fieldValue(Class<?> beanClass, FieldMeta meta, Function<String, Object> valueGetter) {
+		Object value = valueGetter.apply(meta.getDbAlias());
+		try {
+			return convert(meta, value);
+		} catch (Exception e) {
+			throw new SearchException(
+					"The type of [" + beanClass + "#" + meta.getName() + "] is mismatch with it's database table field type", e);
+		}
+	}
+
 	protected Object convert(FieldMeta meta, Object value) {
 		if (value == null) {
 			return null;
 		}
-		Class<?> valueType = value.getClass();
+		return conversions.convert(meta, value);
+	}
+
+	/**
+	 * 为字段与数据库值类型绑定转换函数，每个字段的每种值类型只绑定一次
+	 * @since v3.8.0
+	 */
+	protected Function<Object, Object> bind(FieldMeta meta, Class<?> valueType) {
 		Class<?> targetType = meta.getType();
-		if (targetType.isAssignableFrom(valueType)) {
-			// 如果 targetType 是 valueType 的父类，则直接返回
-			return value;
+		if (targetType.isAssignableFrom(valueType) || targetType.isPrimitive() && wrap(targetType) == valueType) {
+			// 如果 targetType 是 valueType 的父类（或 valueType 是基本类型 targetType 的包装类），则直接返回
+			return FieldConversions.IDENTITY;
 		}
 		for (FieldConvertor convertor: convertors) {
-			if (convertor.supports(meta, valueType)) {
-				return convertor.convert(meta, value);
+			Function<Object, Object> function = convertor.bind(meta, valueType);
+			if (function != null) {
+				return function;
 			}
 		}
-		throw new SearchException("不能把【" + valueType + "】类型的数据库值转换为【" + targetType + "】类型的字段值，你可以添加一个 BFieldConvertor 来转换它！");
+		return value -> {
+			throw new SearchException("不能把【" + valueType + "】类型的数据库值转换为【" + targetType + "】类型的字段值，你可以添加一个 BFieldConvertor 来转换它！");
+		};
+	}
+
+	static Class<?> wrap(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return type;
+		}
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	/**
+	 * 创建 Bean，优先使用编译期生成的实例化函数
+	 * @since v3.8.0
+	 */
+	protected <T> T newInstance(BeanMeta<T> beanMeta) {
+		BeanMapper<T> mapper = beanMeta.getMapper();
+		Supplier<T> instantiator = mapper != null ? mapper.instantiator() : null;
+		if (instantiator != null) {
+			return instantiator.get();
+		}
+		return newInstance(beanMeta.getBeanClass());
 	}
 
 	protected <T> T newInstance(Class<T> beanClass) {
@@ -82,11 +131,13 @@ public class DefaultBeanReflector implements BeanReflector {
 
 	public void setConvertors(List<BFieldConvertor> convertors) {
 		this.convertors = Objects.requireNonNull(convertors);
+		conversions.clear();
 	}
 
 	public void addConvertor(BFieldConvertor convertor) {
 		if (convertor != null) {
 			convertors.add(convertor);
+			conversions.clear();
 		}
 	}
 
@@ -16,7 +16,17 @@ import java.util.stream.Collectors;
  * @author Troy.Zhou @ 2021-10-29
  * @since v3.0.0
  */
-public class DefaultBeanSearcher extends AbstractSearcher implements BeanSearcher {
+public class DefaultBeanSearcher extends AbstractSearcher implements BeanSearcher, ColumnSearcher {
+
+	/**
+	 * 列式检索时列的初始容量
+	 */
+	static final int COLUMN_CAPACITY = 64;
+
+	/**
+	 * Bean 反射器不是 {@link DefaultBeanReflector } 时，列式检索使用的值转换（无字段转换器）
+	 */
+	static final DefaultBeanReflector DEFAULT_CONVERTOR = new DefaultBeanReflector();
 
 	private BeanReflector beanReflector = new DefaultBeanReflector();
 
@@ -57,6 +67,33 @@ public class DefaultBeanSearcher extends AbstractSearcher implements BeanSearche
 		return search(beanClass, paraMap, new FetchType(FetchType.LIST_ALL)).getDataList();
 	}
 
+	@Override
+	public <T> SearchCursor<T> searchCursor(Class<T> beanClass, Map<String, Object> paraMap) {
+		FetchType fetchType = new FetchType(FetchType.LIST_ALL);
+		SqlResult<T> sqlResult = doSearch(beanClass, paraMap, fetchType);
+		try {
+			BeanMeta<T> beanMeta = sqlResult.getSearchSql().getBeanMeta();
+			List<FieldMeta> fieldMetas = sqlResult.getSearchSql().getFetchFields().stream()
+					.map(beanMeta::requireFieldMeta)
+					.collect(Collectors.toList());
+			SqlResult.ResultSet listResult = sqlResult.getListResult();
+			ColumnReader reader = new ColumnReader(listResult != null ? listResult : SqlResult.ResultSet.EMPTY, fieldMetas, true);
+			return new SqlResultCursor<>(sqlResult,
+					resultSet -> reflect(reader.reset(), beanMeta, fieldMetas, paraMap),
+					bean -> {
+						SearchResult<T> result = new SearchResult<>(1);
+						result.getDataList().add(bean);
+						return doFilter(result, beanMeta, paraMap, fetchType).getDataList();
+					});
+		} catch (SQLException e) {
+			sqlResult.close();
+			throw new SearchException("A exception occurred when collecting sql result!", e);
+		} catch (RuntimeException e) {
+			sqlResult.close();
+			throw e;
+		}
+	}
+
 	protected <T> SearchResult<T> search(Class<T> beanClass, Map<String, Object> paraMap, FetchType fetchType) {
 		try (SqlResult<T> sqlResult = doSearch(beanClass, paraMap, fetchType)) {
 			SearchSql<T> searchSql = sqlResult.getSearchSql();
@@ -67,13 +104,18 @@ public class DefaultBeanSearcher extends AbstractSearcher implements BeanSearche
 				summaries = getSummaryFromSqlResult(sqlResult);
 			}
 			SearchResult<T> result = new SearchResult<>(totalCount, summaries);
+			result.setCountEstimated(searchSql.isCountEstimated());
 			BeanMeta<T> beanMeta = searchSql.getBeanMeta();
 			SqlResult.ResultSet listResult = sqlResult.getListResult();
 			if (listResult != null) {
 				List<FieldMeta> fieldMetas = searchSql.getFetchFields().stream()
 						.map(beanMeta::requireFieldMeta)
 						.collect(Collectors.toList());
-				collectList(result.getDataList(), listResult, beanMeta, fieldMetas, paraMap);
+				SeekResultSet seekResult = seekResultSet(searchSql, listResult);
+				collectList(result.getDataList(), seekResult != null ? seekResult : listResult, beanMeta, fieldMetas, paraMap);
+				if (seekResult != null) {
+					result.setNextCursor(seekResult.nextCursor(searchSql.getPaging()));
+				}
 			}
 			return doFilter(result, beanMeta, paraMap, fetchType);
 		} catch (SQLException e) {
@@ -81,25 +123,75 @@ public class DefaultBeanSearcher extends AbstractSearcher implements BeanSearche
 		}
 	}
 
+	/**
+	 * 列式检索：结果集逐列读入 {@link ColumnResult }，不装配 Bean，也不经过 {@link ResultFilter }。
+	 * 值的类型与字段不一致时，由 Bean 反射器（{@link DefaultBeanReflector } 及其子类）的字段转换器转换
+	 * @since v3.8.0
+	 */
+	@Override
+	public <T> ColumnResult searchColumns(Class<T> beanClass, Map<String, Object> paraMap) {
+		try (SqlResult<T> sqlResult = doSearch(beanClass, paraMap, new FetchType(FetchType.LIST_ALL))) {
+			SearchSql<T> searchSql = sqlResult.getSearchSql();
+			BeanMeta<T> beanMeta = searchSql.getBeanMeta();
+			List<FieldMeta> fieldMetas = searchSql.getFetchFields().stream()
+					.map(beanMeta::requireFieldMeta)
+					.collect(Collectors.toList());
+			ColumnResult.Column[] columns = new ColumnResult.Column[fieldMetas.size()];
+			for (int i = 0; i < columns.length; i++) {
+				FieldMeta meta = fieldMetas.get(i);
+				columns[i] = ColumnResult.column(meta.getName(), meta.getType(), COLUMN_CAPACITY);
+			}
+			int rows = 0;
+			SqlResult.ResultSet listResult = sqlResult.getListResult();
+			if (listResult != null) {
+				DefaultBeanReflector convertor = beanReflector instanceof DefaultBeanReflector
+						? (DefaultBeanReflector) beanReflector : DEFAULT_CONVERTOR;
+				ColumnReader reader = new ColumnReader(listResult, fieldMetas, true);
+				while (listResult.next()) {
+					for (int i = 0; i < columns.length; i++) {
+						FieldMeta meta = fieldMetas.get(i);
+						Object value = reader.get(i);
+						try {
+							value = convertor.convert(meta, value);
+						} catch (Exception e) {
+							throw new SearchException(
+									"The type of [" + beanClass + "#" + meta.getName() + "] is mismatch with it's database table field type", e);
+						}
+						columns[i].add(value);
+					}
+					rows++;
+				}
+			}
+			return new ColumnResult(columns, rows);
+		} catch (SQLException e) {
+			throw new SearchException("A exception occurred when collecting sql result!", e);
+		}
+	}
+
 	protected <T> void collectList(List<T> dataList, SqlResult.ResultSet listResult,
 								   BeanMeta<T> beanMeta, List<FieldMeta> fieldMetas,
 								   Map<String, Object> paraMap) throws SQLException {
+		ColumnReader reader = new ColumnReader(listResult, fieldMetas, true);
 		while (listResult.next()) {
-			T bean = beanReflector.reflect(beanMeta, fieldMetas, dbAlias -> {
-				try {
-					return listResult.get(dbAlias);
-				} catch (SQLException e) {
-					throw new SearchException("A exception occurred when collecting sql result!", e);
-				}
-			});
-			if (bean instanceof BeanAware) {
-				((BeanAware) bean).afterAssembly();
-			}
-			if (bean instanceof ParamAware) {
-				((ParamAware) bean).afterAssembly(paraMap);
-			}
-			dataList.add(bean);
+			dataList.add(reflect(reader.reset(), beanMeta, fieldMetas, paraMap));
+		}
+	}
+
+	/**
+	 * 将结果集的当前行装配为 Bean
+	 * @param reader 当前行的列读取器
+	 * @since v3.8.0
+	 */
+	protected <T> T reflect(ColumnReader reader, BeanMeta<T> beanMeta, List<FieldMeta> fieldMetas,
+							Map<String, Object> paraMap) {
+		T bean = beanReflector.reflect(beanMeta, fieldMetas, reader);
+		if (bean instanceof BeanAware) {
+			((BeanAware) bean).afterAssembly();
+		}
+		if (bean instanceof ParamAware) {
+			((ParamAware) bean).afterAssembly(paraMap);
 		}
+		return bean;
 	}
 
 	protected <T> SearchResult<T> doFilter(SearchResult<T> result, BeanMeta<T> beanMeta, Map<String, Object> paraMap,
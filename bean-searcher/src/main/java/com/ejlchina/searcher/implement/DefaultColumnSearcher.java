@@ -0,0 +1,32 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.ColumnResult;
+import com.ejlchina.searcher.ColumnSearcher;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 列式检索器：以 {@link ColumnSearcher } 的类型使用 {@link DefaultBeanSearcher } 的列式检索，
+ * 与之共享元信息、SQL 解析、SQL 执行与字段转换等配置，但不会应用其中的 {@link com.ejlchina.searcher.ResultFilter }
+ * @see DefaultBeanSearcher#searchColumns(Class, Map)
+ * @since v3.8.0
+ */
+public class DefaultColumnSearcher implements ColumnSearcher {
+
+    private final DefaultBeanSearcher searcher;
+
+    public DefaultColumnSearcher(DefaultBeanSearcher searcher) {
+        this.searcher = Objects.requireNonNull(searcher);
+    }
+
+    @Override
+    public <T> ColumnResult searchColumns(Class<T> beanClass, Map<String, Object> paraMap) {
+        return searcher.searchColumns(beanClass, paraMap);
+    }
+
+    public DefaultBeanSearcher getSearcher() {
+        return searcher;
+    }
+
+}
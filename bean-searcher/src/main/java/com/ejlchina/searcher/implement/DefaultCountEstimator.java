@@ -0,0 +1,200 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.SearchSql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 默认的总条数估算器：将聚族 SQL 中的 count(*) 替换为常量后，读取数据库对其执行计划估算的行数，
+ * 聚族 SQL 含有统计字段，或已被拦截器改写而无法识别时，不做估算
+ * @since v3.8.0
+ */
+public class DefaultCountEstimator implements CountEstimator {
+
+    /**
+     * 估算方式（与数据库相关）
+     */
+    public enum Mode {
+
+        /**
+         * MySQL：explain，取第一层查询各表 rows * filtered / 100 的乘积
+         */
+        MYSQL,
+
+        /**
+         * PostgreSQL：explain (format json)，取根节点的 Plan Rows
+         */
+        POSTGRESQL,
+
+        /**
+         * Oracle：explain plan，取 plan_table 中根节点的 cardinality
+         */
+        ORACLE,
+
+        /**
+         * SqlServer：showplan_xml，取语句的 StatementEstRows
+         */
+        SQL_SERVER
+
+    }
+
+    static final Pattern PG_PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*([0-9.eE+]+)");
+
+    static final Pattern SQL_SERVER_EST_ROWS = Pattern.compile("StatementEstRows=\"([0-9.eE+]+)\"");
+
+    private final Mode mode;
+
+    public DefaultCountEstimator(Mode mode) {
+        this.mode = Objects.requireNonNull(mode);
+    }
+
+    @Override
+    public Number estimate(Connection connection, SearchSql<?> searchSql) throws SQLException {
+        String sql = toRowsSql(searchSql);
+        if (sql == null) {
+            return null;
+        }
+        List<Object> params = searchSql.getClusterSqlParams();
+        switch (mode) {
+            case MYSQL:
+                return estimateByMySql(connection, sql, params);
+            case POSTGRESQL:
+                return estimateByPostgreSql(connection, sql, params);
+            case ORACLE:
+                return estimateByOracle(connection, sql, params);
+            case SQL_SERVER:
+                return estimateBySqlServer(connection, sql, params);
+        }
+        return null;
+    }
+
+    /**
+     * 将聚族 SQL 转换为只返回行的 SQL：select count(*) s_count from ... 转换为 select 1 from ...
+     * @return 无法转换时返回 null
+     */
+    protected String toRowsSql(SearchSql<?> searchSql) {
+        String countAlias = searchSql.getCountAlias();
+        String clusterSql = searchSql.getClusterSqlString();
+        if (countAlias == null || clusterSql == null || searchSql.getSummaryAliases().size() > 0) {
+            return null;
+        }
+        String prefix = "select count(*) " + countAlias + " ";
+        if (!clusterSql.startsWith(prefix)) {
+            return null;
+        }
+        return "select 1 " + clusterSql.substring(prefix.length());
+    }
+
+    protected Number estimateByMySql(Connection connection, String sql, List<Object> params) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, "explain " + sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            double rows = -1;
+            while (resultSet.next()) {
+                Object id = resultSet.getObject("id");
+                if (!(id instanceof Number) || ((Number) id).intValue() != 1) {
+                    continue;
+                }
+                Object tableRows = resultSet.getObject("rows");
+                if (!(tableRows instanceof Number)) {
+                    // 例如：Select tables optimized away
+                    return null;
+                }
+                double estimated = ((Number) tableRows).doubleValue();
+                Object filtered = resultSet.getObject("filtered");
+                if (filtered instanceof Number) {
+                    estimated = estimated * ((Number) filtered).doubleValue() / 100;
+                }
+                rows = rows < 0 ? estimated : rows * estimated;
+            }
+            return rows < 0 ? null : Math.round(rows);
+        }
+    }
+
+    protected Number estimateByPostgreSql(Connection connection, String sql, List<Object> params) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, "explain (format json) " + sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            if (resultSet.next()) {
+                return parseRows(PG_PLAN_ROWS, resultSet.getString(1));
+            }
+            return null;
+        }
+    }
+
+    protected Number estimateByOracle(Connection connection, String sql, List<Object> params) throws SQLException {
+        String statementId = "bs_" + Long.toHexString(System.nanoTime());
+        try (PreparedStatement statement = prepare(connection, "explain plan set statement_id = '" + statementId + "' for " + sql, params)) {
+            statement.execute();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("select cardinality from plan_table where statement_id = ? and id = 0")) {
+            statement.setString(1, statementId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    Object cardinality = resultSet.getObject(1);
+                    return cardinality instanceof Number ? ((Number) cardinality).longValue() : null;
+                }
+                return null;
+            }
+        } finally {
+            try (PreparedStatement statement = connection.prepareStatement("delete from plan_table where statement_id = ?")) {
+                statement.setString(1, statementId);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    protected Number estimateBySqlServer(Connection connection, String sql, List<Object> params) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("set showplan_xml on");
+            try (PreparedStatement explain = prepare(connection, sql, params);
+                 ResultSet resultSet = explain.executeQuery()) {
+                if (resultSet.next()) {
+                    return parseRows(SQL_SERVER_EST_ROWS, resultSet.getString(1));
+                }
+                return null;
+            } finally {
+                statement.execute("set showplan_xml off");
+            }
+        }
+    }
+
+    protected PreparedStatement prepare(Connection connection, String sql, List<Object> params) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        try {
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+        return statement;
+    }
+
+    static Number parseRows(Pattern pattern, String plan) {
+        if (plan == null) {
+            return null;
+        }
+        Matcher matcher = pattern.matcher(plan);
+        if (matcher.find()) {
+            try {
+                return Math.round(Double.parseDouble(matcher.group(1)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+}
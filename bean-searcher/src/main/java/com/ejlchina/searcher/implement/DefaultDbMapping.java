@@ -65,7 +65,8 @@ public class DefaultDbMapping implements DbMapping {
                     bean.groupBy().trim(),
                     bean.distinct(),
                     bean.orderBy(),
-                    sortable(bean.sortType())
+                    sortable(bean.sortType()),
+                    bean.keyField().trim()
             );
         }
         return new Table(toTableName(beanClass));
@@ -0,0 +1,204 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.Paging;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 默认的 JDBC 读取策略
+ * fetchSize 的优先级：实体类级别 &gt; 检索类型级别 &gt; 分页大小 &gt; 全局默认，
+ * 当 LIST_ALL 检索没有指定 fetchSize 时，按 {@link StreamMode } 进行流式读取
+ * @since v3.8.0
+ */
+public class DefaultFetchStrategy implements FetchStrategy {
+
+    /**
+     * 流式读取模式
+     */
+    public enum StreamMode {
+
+        /**
+         * 不使用流式读取
+         */
+        NONE,
+
+        /**
+         * MySQL 流式读取：fetchSize 设为 Integer.MIN_VALUE
+         */
+        MYSQL,
+
+        /**
+         * 游标读取（适用于 PostgreSQL、Oracle 等）：关闭 autoCommit 并设置 fetchSize
+         */
+        CURSOR
+
+    }
+
+    /**
+     * 全局默认的 fetchSize，为 null 时使用驱动的默认值
+     */
+    private Integer fetchSize;
+
+    /**
+     * 各检索类型（{@link FetchType#getType()}）的 fetchSize
+     */
+    private final Map<Integer, Integer> typeFetchSizes = new ConcurrentHashMap<>();
+
+    /**
+     * 各实体类的 fetchSize
+     */
+    private final Map<Class<?>, Integer> beanFetchSizes = new ConcurrentHashMap<>();
+
+    /**
+     * 分页查询时是否使用分页大小作为 fetchSize
+     */
+    private boolean usePageSize = true;
+
+    /**
+     * 检索第一条数据（LIST_FIRST）时是否设置 maxRows 为 1
+     */
+    private boolean limitFirst = true;
+
+    /**
+     * LIST_ALL 检索时的流式读取模式
+     */
+    private StreamMode streamMode = StreamMode.NONE;
+
+    /**
+     * 游标读取模式下的 fetchSize
+     */
+    private int cursorFetchSize = 1000;
+
+    public DefaultFetchStrategy() {
+    }
+
+    public DefaultFetchStrategy(StreamMode streamMode) {
+        this.streamMode = Objects.requireNonNull(streamMode);
+    }
+
+    @Override
+    public void configure(Connection connection, PreparedStatement statement, SearchSql<?> searchSql) throws SQLException {
+        FetchType fetchType = searchSql.getFetchType();
+        int type = fetchType != null ? fetchType.getType() : FetchType.DEFAULT;
+        if (type == FetchType.LIST_FIRST && limitFirst) {
+            statement.setMaxRows(1);
+        }
+        Integer size = resolveFetchSize(searchSql, type);
+        if (size != null) {
+            statement.setFetchSize(size);
+        } else if (type == FetchType.LIST_ALL) {
+            configureStream(connection, statement);
+        }
+    }
+
+    protected Integer resolveFetchSize(SearchSql<?> searchSql, int type) {
+        Integer size = beanFetchSizes.get(searchSql.getBeanMeta().getBeanClass());
+        if (size != null) {
+            return size;
+        }
+        size = typeFetchSizes.get(type);
+        if (size != null) {
+            return size;
+        }
+        Paging paging = searchSql.getPaging();
+        if (usePageSize && paging != null && paging.getSize() > 0) {
+            return paging.getSize();
+        }
+        return fetchSize;
+    }
+
+    protected void configureStream(Connection connection, PreparedStatement statement) throws SQLException {
+        switch (streamMode) {
+            case MYSQL:
+                statement.setFetchSize(Integer.MIN_VALUE);
+                break;
+            case CURSOR:
+                // 游标模式只在事务中生效
+                if (connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                }
+                statement.setFetchSize(cursorFetchSize);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * 设置全局默认的 fetchSize
+     * @param fetchSize fetchSize，为 null 时使用驱动的默认值
+     */
+    public void setFetchSize(Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 设置某检索类型的 fetchSize
+     * @param fetchType 检索类型，如 {@link FetchType#LIST_ALL}
+     * @param fetchSize fetchSize
+     */
+    public void setFetchSize(int fetchType, int fetchSize) {
+        typeFetchSizes.put(fetchType, fetchSize);
+    }
+
+    /**
+     * 设置某实体类的 fetchSize
+     * @param beanClass 实体类
+     * @param fetchSize fetchSize
+     */
+    public void setFetchSize(Class<?> beanClass, int fetchSize) {
+        beanFetchSizes.put(Objects.requireNonNull(beanClass), fetchSize);
+    }
+
+    public Map<Integer, Integer> getTypeFetchSizes() {
+        return typeFetchSizes;
+    }
+
+    public Map<Class<?>, Integer> getBeanFetchSizes() {
+        return beanFetchSizes;
+    }
+
+    public boolean isUsePageSize() {
+        return usePageSize;
+    }
+
+    public void setUsePageSize(boolean usePageSize) {
+        this.usePageSize = usePageSize;
+    }
+
+    public boolean isLimitFirst() {
+        return limitFirst;
+    }
+
+    public void setLimitFirst(boolean limitFirst) {
+        this.limitFirst = limitFirst;
+    }
+
+    public StreamMode getStreamMode() {
+        return streamMode;
+    }
+
+    public void setStreamMode(StreamMode streamMode) {
+        this.streamMode = Objects.requireNonNull(streamMode);
+    }
+
+    public int getCursorFetchSize() {
+        return cursorFetchSize;
+    }
+
+    public void setCursorFetchSize(int cursorFetchSize) {
+        this.cursorFetchSize = cursorFetchSize;
+    }
+
+}
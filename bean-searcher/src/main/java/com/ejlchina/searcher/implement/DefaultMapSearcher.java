@@ -6,6 +6,7 @@ import com.ejlchina.searcher.param.FetchType;
 
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +18,14 @@ public class DefaultMapSearcher extends AbstractSearcher implements MapSearcher
 
 	private List<MFieldConvertor> convertors = new ArrayList<>();
 
+	private final FieldConversions conversions = new FieldConversions(this::bind);
+
+	/**
+	 * 是否以 {@link RowMap } 呈现每行数据（否则为 HashMap）
+	 * @since v3.8.0
+	 */
+	private boolean compactRows = false;
+
 	public DefaultMapSearcher() {
 	}
 
@@ -55,6 +64,34 @@ public class DefaultMapSearcher extends AbstractSearcher implements MapSearcher
 		return search(beanClass, paraMap, new FetchType(FetchType.LIST_ALL)).getDataList();
 	}
 
+	@Override
+	public <T> SearchCursor<Map<String, Object>> searchCursor(Class<T> beanClass, Map<String, Object> paraMap) {
+		FetchType fetchType = new FetchType(FetchType.LIST_ALL);
+		SqlResult<T> sqlResult = doSearch(beanClass, paraMap, fetchType);
+		try {
+			BeanMeta<T> beanMeta = sqlResult.getSearchSql().getBeanMeta();
+			List<FieldMeta> fieldMetas = sqlResult.getSearchSql().getFetchFields().stream()
+					.map(beanMeta::requireFieldMeta)
+					.collect(Collectors.toList());
+			SqlResult.ResultSet listResult = sqlResult.getListResult();
+			ColumnReader reader = new ColumnReader(listResult != null ? listResult : SqlResult.ResultSet.EMPTY, fieldMetas);
+			RowMap.Keys keys = rowKeys(fieldMetas);
+			return new SqlResultCursor<>(sqlResult,
+					resultSet -> toMap(reader, fieldMetas, keys),
+					data -> {
+						SearchResult<Map<String, Object>> result = new SearchResult<>(1);
+						result.getDataList().add(data);
+						return doFilter(result, beanMeta, paraMap, fetchType).getDataList();
+					});
+		} catch (SQLException e) {
+			sqlResult.close();
+			throw new SearchException("A exception occurred when collecting sql result!", e);
+		} catch (RuntimeException e) {
+			sqlResult.close();
+			throw e;
+		}
+	}
+
 	protected <T> SearchResult<Map<String, Object>> search(Class<T> beanClass, Map<String, Object> paraMap, FetchType fetchType) {
 		try (SqlResult<T> sqlResult = doSearch(beanClass, paraMap, fetchType)) {
 			SearchSql<T> searchSql = sqlResult.getSearchSql();
@@ -65,6 +102,7 @@ public class DefaultMapSearcher extends AbstractSearcher implements MapSearcher
 				summaries = getSummaryFromSqlResult(sqlResult);
 			}
 			SearchResult<Map<String, Object>> result = new SearchResult<>(totalCount, summaries);
+			result.setCountEstimated(searchSql.isCountEstimated());
 			BeanMeta<T> beanMeta = searchSql.getBeanMeta();
 			SqlResult.ResultSet listResult = sqlResult.getListResult();
 			if (listResult != null) {
@@ -72,13 +110,17 @@ public class DefaultMapSearcher extends AbstractSearcher implements MapSearcher
 						.map(beanMeta::requireFieldMeta)
 						.collect(Collectors.toList());
 				List<Map<String, Object>> dataList = result.getDataList();
+				SeekResultSet seekResult = seekResultSet(searchSql, listResult);
+				if (seekResult != null) {
+					listResult = seekResult;
+				}
+				ColumnReader reader = new ColumnReader(listResult, fieldMetas);
+				RowMap.Keys keys = rowKeys(fieldMetas);
 				while (listResult.next()) {
-					Map<String, Object> data = new HashMap<>(fieldMetas.size());
-					for (FieldMeta meta : fieldMetas) {
-						Object value = listResult.get(meta.getDbAlias());
-						data.put(meta.getName(), convert(meta, value));
-					}
-					dataList.add(data);
+					dataList.add(toMap(reader, fieldMetas, keys));
+				}
+				if (seekResult != null) {
+					result.setNextCursor(seekResult.nextCursor(searchSql.getPaging()));
 				}
 			}
 			return doFilter(result, beanMeta, paraMap, fetchType);
@@ -87,18 +129,65 @@ public class DefaultMapSearcher extends AbstractSearcher implements MapSearcher
 		}
 	}
 
+	/**
+	 * 将结果集的当前行转换为 Map
+	 * @param reader 当前行的列读取器（与 fieldMetas 按下标对应）
+	 * @since v3.8.0
+	 */
+	protected Map<String, Object> toMap(ColumnReader reader, List<FieldMeta> fieldMetas) throws SQLException {
+		Map<String, Object> data = new HashMap<>(fieldMetas.size());
+		for (int i = 0; i < fieldMetas.size(); i++) {
+			FieldMeta meta = fieldMetas.get(i);
+			data.put(meta.getName(), convert(meta, reader.get(i)));
+		}
+		return data;
+	}
+
+	/**
+	 * 将结果集的当前行转换为 Map
+	 * @param keys 键表，为 null 时转换为 HashMap
+	 * @since v3.8.0
+	 */
+	protected Map<String, Object> toMap(ColumnReader reader, List<FieldMeta> fieldMetas, RowMap.Keys keys) throws SQLException {
+		if (keys == null) {
+			return toMap(reader, fieldMetas);
+		}
+		Object[] values = new Object[fieldMetas.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = convert(fieldMetas.get(i), reader.get(i));
+		}
+		return new RowMap(keys, values);
+	}
+
+	/**
+	 * @return 同一次检索的各行共享的键表，不使用 {@link RowMap } 时返回 null
+	 * @since v3.8.0
+	 */
+	protected RowMap.Keys rowKeys(List<FieldMeta> fieldMetas) {
+		return compactRows ? new RowMap.Keys(fieldMetas) : null;
+	}
+
 	protected Object convert(FieldMeta meta, Object value) {
 		if (value != null && convertors.size() > 0) {
-			Class<?> valueType = value.getClass();
-			for (FieldConvertor convertor : convertors) {
-				if (convertor.supports(meta, valueType)) {
-					return convertor.convert(meta, value);
-				}
-			}
+			return conversions.convert(meta, value);
 		}
 		return value;
 	}
 
+	/**
+	 * 为字段与数据库值类型绑定转换函数，每个字段的每种值类型只绑定一次
+	 * @since v3.8.0
+	 */
+	protected Function<Object, Object> bind(FieldMeta meta, Class<?> valueType) {
+		for (FieldConvertor convertor : convertors) {
+			Function<Object, Object> function = convertor.bind(meta, valueType);
+			if (function != null) {
+				return function;
+			}
+		}
+		return FieldConversions.IDENTITY;
+	}
+
 	protected <T> SearchResult<Map<String, Object>> doFilter(SearchResult<Map<String, Object>> result, BeanMeta<T> beanMeta,
 															 Map<String, Object> paraMap, FetchType fetchType) {
 		for (ResultFilter filter: getResultFilters()) {
@@ -113,12 +202,26 @@ public class DefaultMapSearcher extends AbstractSearcher implements MapSearcher
 
 	public void setConvertors(List<MFieldConvertor> convertors) {
 		this.convertors = Objects.requireNonNull(convertors);
+		conversions.clear();
 	}
 
 	public void addConvertor(MFieldConvertor convertor) {
 		if (convertor != null) {
 			convertors.add(convertor);
+			conversions.clear();
 		}
 	}
 
+	public boolean isCompactRows() {
+		return compactRows;
+	}
+
+	/**
+	 * @param compactRows 是否以只读的 {@link RowMap } 呈现每行数据，数据量大时可显著减少内存占用
+	 * @since v3.8.0
+	 */
+	public void setCompactRows(boolean compactRows) {
+		this.compactRows = compactRows;
+	}
+
 }
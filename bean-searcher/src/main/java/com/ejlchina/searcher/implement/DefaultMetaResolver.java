@@ -7,7 +7,10 @@ import com.ejlchina.searcher.util.StringUtils;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  * 默认元信息解析器
@@ -18,6 +21,12 @@ public class DefaultMetaResolver implements MetaResolver {
 
     private final Map<Class<?>, BeanMeta<?>> cache = new ConcurrentHashMap<>();
 
+    /**
+     * 正在解析的类
+     * @since v3.8.0
+     */
+    private final Map<Class<?>, CompletableFuture<BeanMeta<?>>> resolving = new ConcurrentHashMap<>();
+
     private SnippetResolver snippetResolver = new DefaultSnippetResolver();
 
     private DbMapping dbMapping;
@@ -31,16 +40,48 @@ public class DefaultMetaResolver implements MetaResolver {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> BeanMeta<T> resolve(Class<T> beanClass) {
-        @SuppressWarnings("unchecked")
         BeanMeta<T> beanMeta = (BeanMeta<T>) cache.get(beanClass);
         if (beanMeta != null) {
             return beanMeta;
         }
-        synchronized (cache) {
-            beanMeta = resolveMetadata(beanClass);
-            cache.put(beanClass, beanMeta);
+        // 同一个类只由一个线程解析，其它线程等待其结果；不同的类互不阻塞，且不持有任何监视器锁（不会钉住虚拟线程）
+        CompletableFuture<BeanMeta<?>> future = new CompletableFuture<>();
+        CompletableFuture<BeanMeta<?>> existing = resolving.putIfAbsent(beanClass, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            beanMeta = (BeanMeta<T>) cache.get(beanClass);
+            if (beanMeta == null) {
+                beanMeta = resolveMetadata(beanClass);
+                cache.put(beanClass, beanMeta);
+            }
+            future.complete(beanMeta);
             return beanMeta;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            resolving.remove(beanClass, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BeanMeta<T> await(CompletableFuture<BeanMeta<?>> future) {
+        try {
+            return (BeanMeta<T>) future.join();
+        } catch (CompletionException e) {
+            // 与解析线程抛出相同的异常
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
         }
     }
 
@@ -55,6 +96,7 @@ public class DefaultMetaResolver implements MetaResolver {
         }
     }
 
+    @SuppressWarnings("unchecked")
     protected <T> BeanMeta<T> resolveMetadata(Class<T> beanClass) {
         DbMapping.Table table = dbMapping.table(beanClass);
         if (table == null) {
@@ -66,6 +108,8 @@ public class DefaultMetaResolver implements MetaResolver {
                 snippetResolver.resolve(table.getGroupBy()),
                 snippetResolver.resolve(table.getOrderBy()),
                 table.isSortable(), table.isDistinct());
+        BeanMapper<T> mapper = beanMapper(beanClass);
+        beanMeta.setMapper(mapper);
         // 解析实体类字段
         FieldWrapper[] wrappers = getBeanFields(beanClass).stream()
                 .map(field -> {
@@ -98,14 +142,51 @@ public class DefaultMetaResolver implements MetaResolver {
                     wrapper.column.getOnlyOn(),
                     wrapper.column.getDbType()
             );
+            if (mapper != null) {
+                fieldMeta.setValueSetter((BiConsumer<Object, Object>) mapper.setter(wrapper.field.getName()));
+            }
             beanMeta.addFieldMeta(wrapper.field.getName(), fieldMeta);
         }
         if (beanMeta.getFieldCount() == 0) {
             throw new SearchException("[" + beanClass.getName() + "] is not a valid SearchBean, because there is no field mapping to database.");
         }
+        String keyField = table.getKeyField();
+        if (StringUtils.isNotBlank(keyField)) {
+            if (beanMeta.getFieldMeta(keyField) == null) {
+                throw new SearchException("The keyField [" + keyField + "] of [" + beanClass.getName() + "] is not a field mapping to database.");
+            }
+            beanMeta.setKeyField(keyField);
+        }
         return beanMeta;
     }
 
+    /**
+     * 查找编译期生成的装配器
+     * @param beanClass Bean 类型
+     * @return 装配器，没有时返回 null
+     * @since v3.8.0
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> BeanMapper<T> beanMapper(Class<T> beanClass) {
+        Class<?> mapperClass;
+        try {
+            mapperClass = Class.forName(BeanMapper.mapperName(beanClass), true, beanClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!BeanMapper.class.isAssignableFrom(mapperClass)) {
+            return null;
+        }
+        BeanMapper<T> mapper;
+        try {
+            mapper = (BeanMapper<T>) mapperClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new SearchException("Can not create the generated mapper [" + mapperClass.getName() + "] of [" + beanClass.getName() + "]", e);
+        }
+        // 类名相同但不是为该类生成的（如嵌套类与顶层类的名称冲突时）
+        return mapper.getBeanClass() == beanClass ? mapper : null;
+    }
+
     protected String resolveAlias(DbMapping.Column column, Set<String> checkSet) {
         String alias = column.getAlias();
         if (StringUtils.isBlank(alias)) {
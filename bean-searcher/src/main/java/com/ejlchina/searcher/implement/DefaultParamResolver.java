@@ -10,6 +10,7 @@ import com.ejlchina.searcher.param.*;
 import com.ejlchina.searcher.util.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -81,6 +82,24 @@ public class DefaultParamResolver implements ParamResolver {
 	 */
 	private String selectExcludeName = "selectExclude";
 
+	/**
+	 * @since v3.8.0
+	 * 用于指定估算总条数的参数名
+	 */
+	private String estimateCountName = "estimateCount";
+
+	/**
+	 * @since v3.8.0
+	 * 用于指定键集分页游标的参数名
+	 */
+	private String cursorName = "cursor";
+
+	/**
+	 * @since v3.8.0
+	 * 自动转为键集分页的偏移阈值：偏移大于该值时（且实体类指定了唯一键字段），先查出边界行，再使用键集分页，小于等于 0 时表示不自动转换
+	 */
+	private long seekOffsetThreshold = 0;
+
 	/**
 	 * @since v3.5.0
 	 * 用于指定组表达式参数名
@@ -105,6 +124,21 @@ public class DefaultParamResolver implements ParamResolver {
 	 */
 	private List<Convertor> convertors;
 
+	/**
+	 * @since v3.8.0
+	 * 按实体类预先编译的参数名索引
+	 */
+	private final Map<BeanMeta<?>, ParamKeyIndex> keyIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * @since v3.8.0
+	 * 子类是否重写了已废弃的参数提取方法，重写时仍按旧的方式（不使用参数名索引）提取字段参数，以保证重写的方法生效
+	 */
+	private final boolean legacyExtraction = ObjectUtils.isOverridden(getClass(), DefaultParamResolver.class, "mapFieldIndex", Map.class, String.class, int.class)
+			|| ObjectUtils.isOverridden(getClass(), DefaultParamResolver.class, "getFieldParam", MapWrapper.class, String.class)
+			|| ObjectUtils.isOverridden(getClass(), DefaultParamResolver.class, "toFieldParam", FieldMeta.class, Set.class, MapWrapper.class)
+			|| ObjectUtils.isOverridden(getClass(), DefaultParamResolver.class, "toOperator", String.class, MapWrapper.class, FieldParam.class);
+
 	public DefaultParamResolver() {
 		convertors = new ArrayList<>();
 		convertors.add(new BoolParamConvertor());
@@ -134,21 +168,79 @@ public class DefaultParamResolver implements ParamResolver {
 
 	public SearchParam doResolve(BeanMeta<?> beanMeta, FetchType fetchType, Map<String, Object> paraMap) {
 		List<String> fetchFields = resolveFetchFields(beanMeta, fetchType, paraMap);
-		Group<List<FieldParam>> paramsGroup = resolveParamsGroup(beanMeta.getFieldMetas(), paraMap);
+		Group<List<FieldParam>> paramsGroup = resolveParamsGroup(beanMeta, paraMap);
 		Paging paging = resolvePaging(fetchType, paraMap);
-		SearchParam searchParam = new SearchParam(paraMap, fetchType, fetchFields, paramsGroup, paging);
+		List<OrderBy> orderBys = new ArrayList<>();
 		if (fetchType.shouldQueryList() && beanMeta.isSortable()) {
 			// 只有列表检索，才需要排序
 			Set<String> fieldSet = beanMeta.getFieldSet();
 			for (OrderBy orderBy : resolveOrderBys(paraMap)) {
 				if (orderBy.isValid(fieldSet)) {
-					searchParam.addOrderBy(orderBy);
+					orderBys.add(orderBy);
 				}
 			}
 		}
+		Seek seek = resolveSeek(beanMeta, fetchType, paging, orderBys, paraMap);
+		if (seek != null) {
+			// 键集分页需要读取排序字段的值来生成下一页的游标
+			fetchFields = new ArrayList<>(fetchFields);
+			for (OrderBy orderBy : seek.getOrderBys()) {
+				if (!fetchFields.contains(orderBy.getSort())) {
+					fetchFields.add(orderBy.getSort());
+				}
+			}
+		}
+		SearchParam searchParam = new SearchParam(paraMap, fetchType, fetchFields, paramsGroup, paging);
+		if (fetchType.shouldQueryTotal()) {
+			searchParam.setEstimateCount(resolveEstimateCount(paraMap));
+		}
+		orderBys.forEach(searchParam::addOrderBy);
+		searchParam.setSeek(seek);
 		return searchParam;
 	}
 
+	/**
+	 * 解析键集分页参数
+	 * @return 非键集分页时返回 null
+	 * @since v3.8.0
+	 */
+	public Seek resolveSeek(BeanMeta<?> beanMeta, FetchType fetchType, Paging paging, List<OrderBy> orderBys,
+							Map<String, Object> paraMap) {
+		if (!fetchType.shouldQueryList() || paging == null) {
+			return null;
+		}
+		Object cursor = paraMap.get(MapBuilder.SEEK);
+		if (cursor == null) {
+			cursor = paraMap.get(cursorName);
+		}
+		boolean locate = cursor == null && seekOffsetThreshold > 0 && paging.getOffset() > seekOffsetThreshold;
+		if (cursor == null && !locate) {
+			return null;
+		}
+		String keyField = beanMeta.getKeyField();
+		if (StringUtils.isBlank(keyField) || beanMeta.isDistinctOrGroupBy()) {
+			if (locate) {
+				return null;
+			}
+			throw new SearchException("The seek (keyset) paging requires a keyField on @SearchBean, and can not be used with distinct or groupBy: " + beanMeta.getBeanClass().getName());
+		}
+		List<OrderBy> seekOrderBys = new ArrayList<>(orderBys);
+		if (seekOrderBys.stream().noneMatch(orderBy -> keyField.equals(orderBy.getSort()))) {
+			seekOrderBys.add(new OrderBy(keyField, OrderBy.ORDER_ASC));
+		}
+		Seek seek = new Seek(seekOrderBys);
+		if (locate) {
+			seek.setLocate(true);
+		} else {
+			String token = cursor.toString().trim();
+			if (!token.isEmpty()) {
+				seek.decode(token);
+			}
+			paging.setOffset(0);
+		}
+		return seek;
+	}
+
 	public Paging resolvePaging(FetchType fetchType, Map<String, Object> paraMap) {
 		if (fetchType.canPaging()) {
 			Paging paging = pageExtractor.extract(paraMap);
@@ -174,6 +266,24 @@ public class DefaultParamResolver implements ParamResolver {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * @since v3.8.0
+	 */
+	protected boolean resolveEstimateCount(Map<String, Object> paraMap) {
+		Object value = paraMap.get(MapBuilder.ESTIMATE_COUNT);
+		if (value == null) {
+			value = paraMap.get(estimateCountName);
+		}
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		if (value instanceof String) {
+			String str = ((String) value).trim();
+			return "true".equalsIgnoreCase(str) || "1".equals(str);
+		}
+		return false;
+	}
+
 	protected Object getSelectExclude(Map<String, Object> paraMap) {
 		Object value = paraMap.get(MapBuilder.SELECT_EXCLUDE);
 		if (value != null) {
@@ -190,7 +300,50 @@ public class DefaultParamResolver implements ParamResolver {
 		return paraMap.get(onlySelectName);
 	}
 
+	/**
+	 * @since v3.8.0
+	 */
+	public Group<List<FieldParam>> resolveParamsGroup(BeanMeta<?> beanMeta, Map<String, Object> paraMap) {
+		ParamKeyIndex keyIndex = keyIndexes.computeIfAbsent(beanMeta, meta -> newKeyIndex(meta.getFieldMetas()));
+		return resolveParamsGroup(keyIndex, paraMap);
+	}
+
+	/**
+	 * @deprecated 自 v3.8.0 起使用 {@link #resolveParamsGroup(BeanMeta, Map) }，它会缓存实体类的参数名索引
+	 */
+	@Deprecated
 	public Group<List<FieldParam>> resolveParamsGroup(Collection<FieldMeta> fieldMetas, Map<String, Object> paraMap) {
+		return resolveParamsGroup(newKeyIndex(fieldMetas), paraMap);
+	}
+
+	protected Group<List<FieldParam>> resolveParamsGroup(ParamKeyIndex keyIndex, Map<String, Object> paraMap) {
+		if (legacyExtraction) {
+			return resolveParamsGroupLegacy(keyIndex.getFieldMetas(), paraMap);
+		}
+		String gExpr = getGroupExpr(paraMap);
+		// 只遍历一次检索参数，一次归集所有组的参数
+		Map<String, ParamKeyIndex.FieldValues[]> groups = gExpr != null
+				? keyIndex.collectGroups(paraMap, groupSeparator)
+				: Collections.emptyMap();
+		Map<String, List<FieldParam>> holder = new HashMap<>();
+		return groupResolver.resolve(gExpr)
+				.transform(gKey -> {
+					List<FieldParam> params = holder.get(gKey);
+					if (params == null) {
+						ParamKeyIndex.FieldValues[] values = gKey != null ? groups.get(gKey) : keyIndex.collect(paraMap);
+						params = extractFieldParams(keyIndex.getFieldMetas(), values);
+						holder.put(gKey, params);
+					}
+					return params;
+				})
+				.filter(list -> list.size() > 0);
+	}
+
+	/**
+	 * 旧的提取方式：每组参数都遍历一次检索参数，通过 {@link #mapFieldIndex(Map, String, int) }、
+	 * {@link #toFieldParam(FieldMeta, Set, MapWrapper) } 等方法提取，只在子类重写了这些方法时使用
+	 */
+	private Group<List<FieldParam>> resolveParamsGroupLegacy(FieldMeta[] fieldMetas, Map<String, Object> paraMap) {
 		Map<String, List<FieldParam>> holder = new HashMap<>();
 		return groupResolver.resolve(getGroupExpr(paraMap))
 				.transform(gKey -> {
@@ -202,7 +355,7 @@ public class DefaultParamResolver implements ParamResolver {
 						} else {
 							mapWrapper = new MapWrapper(paraMap);
 						}
-						params = extractFieldParams(fieldMetas, mapWrapper);
+						params = extractFieldParamsLegacy(fieldMetas, mapWrapper);
 						holder.put(gKey, params);
 					}
 					return params;
@@ -210,15 +363,8 @@ public class DefaultParamResolver implements ParamResolver {
 				.filter(list -> list.size() > 0);
 	}
 
-	protected String getGroupExpr(Map<String, Object> paraMap) {
-		String expr = ObjectUtils.string(paraMap.get(MapBuilder.GROUP_EXPR));
-		if (expr != null) {
-			return expr;
-		}
-		return ObjectUtils.string(paraMap.get(gexprName));
-	}
-
-	private List<FieldParam> extractFieldParams(Collection<FieldMeta> fieldMetas, MapWrapper paraMap) {
+	@SuppressWarnings("deprecation")
+	private List<FieldParam> extractFieldParamsLegacy(FieldMeta[] fieldMetas, MapWrapper paraMap) {
 		Map<String, Set<Integer>> fieldIndicesMap = new HashMap<>();
 		for (String key : paraMap.keySet()) {
 			int index = key.lastIndexOf(separator);
@@ -233,9 +379,6 @@ public class DefaultParamResolver implements ParamResolver {
 		}
 		List<FieldParam> fieldParams = new ArrayList<>();
 		for (FieldMeta meta : fieldMetas) {
-			if (!meta.isConditional()) {
-				continue;
-			}
 			Set<Integer> indices = fieldIndicesMap.get(meta.getName());
 			FieldParam param = toFieldParam(meta, indices, paraMap);
 			if (param != null) {
@@ -245,10 +388,87 @@ public class DefaultParamResolver implements ParamResolver {
 		return fieldParams;
 	}
 
+	protected ParamKeyIndex newKeyIndex(Collection<FieldMeta> fieldMetas) {
+		return new ParamKeyIndex(fieldMetas, separator, operatorSuffix, ignoreCaseSuffix);
+	}
+
+	protected String getGroupExpr(Map<String, Object> paraMap) {
+		String expr = ObjectUtils.string(paraMap.get(MapBuilder.GROUP_EXPR));
+		if (expr != null) {
+			return expr;
+		}
+		return ObjectUtils.string(paraMap.get(gexprName));
+	}
+
+	/**
+	 * @param fieldMetas 可作为检索条件的字段
+	 * @param values 与 fieldMetas 一一对应的参数，为 null 时表示都没有参数
+	 */
+	private List<FieldParam> extractFieldParams(FieldMeta[] fieldMetas, ParamKeyIndex.FieldValues[] values) {
+		List<FieldParam> fieldParams = new ArrayList<>();
+		for (int i = 0; i < fieldMetas.length; i++) {
+			// 没有参数的字段也可能只允许无需参数值的运算符（如 IsNull）
+			FieldParam param = toFieldParam(fieldMetas[i], values != null ? values[i] : null);
+			if (param != null) {
+				fieldParams.add(param);
+			}
+		}
+		return fieldParams;
+	}
+
+	/**
+	 * @since v3.8.0
+	 * @param meta 字段
+	 * @param values 字段的参数，可能为 null
+	 * @return 字段参数，没有时返回 null
+	 */
+	protected FieldParam toFieldParam(FieldMeta meta, ParamKeyIndex.FieldValues values) {
+		String field = meta.getName();
+		FieldParam param = values != null ? values.getFieldParam() : null;
+		FieldOp operator = allowedOperator(toOperator(param, values != null ? values.getOperator() : null), meta.getOnlyOn());
+		if (operator == null) {
+			// 表示该字段不支持 op 的检索
+			return null;
+		}
+		if (operator.lonely()) {
+			return new FieldParam(field, operator);
+		}
+		int count = values != null ? values.getValueCount() : 0;
+		if (count == 0 && param == null) {
+			return null;
+		}
+		List<FieldParam.Value> valueList = param != null ? param.getValueList() : new ArrayList<>(count);
+		if (valueList.isEmpty()) {
+			for (int i = 0; i < count; i++) {
+				Object value = fieldValue(meta, values.getValue(i));
+				valueList.add(new FieldParam.Value(value, values.getIndex(i)));
+			}
+		}
+		if (isAllEmpty(valueList)) {
+			return null;
+		}
+		Boolean ignoreCase = null;
+		if (param != null) {
+			ignoreCase = param.isIgnoreCase();
+		}
+		if (ignoreCase == null) {
+			ignoreCase = ObjectUtils.toBoolean(values != null ? values.getIgnoreCase() : null);
+		}
+		return new FieldParam(field, operator, valueList, ignoreCase);
+	}
+
+	/**
+	 * @deprecated 自 v3.8.0 起参数名由 {@link ParamKeyIndex } 预先编译；子类重写该方法时，仍按旧的方式提取字段参数并调用它
+	 */
+	@Deprecated
 	protected void mapFieldIndex(Map<String, Set<Integer>> fieldIndicesKeysMap, String field, int index) {
 		fieldIndicesKeysMap.computeIfAbsent(field, k -> new HashSet<>(2)).add(index);
 	}
 
+	/**
+	 * @deprecated 自 v3.8.0 起参数名由 {@link ParamKeyIndex } 预先编译；子类重写该方法时，仍按旧的方式提取字段参数并调用它
+	 */
+	@Deprecated
 	protected FieldParam getFieldParam(MapWrapper paraMap, String field) {
 		Object value = paraMap.get0(MapBuilder.FIELD_PARAM + field);
 		if (value instanceof FieldParam) {
@@ -257,6 +477,10 @@ public class DefaultParamResolver implements ParamResolver {
 		return null;
 	}
 
+	/**
+	 * @deprecated 自 v3.8.0 起使用 {@link #toFieldParam(FieldMeta, ParamKeyIndex.FieldValues) }；子类重写该方法时，仍按旧的方式提取字段参数并调用它
+	 */
+	@Deprecated
 	protected FieldParam toFieldParam(FieldMeta meta, Set<Integer> indices, MapWrapper paraMap) {
 		String field = meta.getName();
 		FieldParam param = getFieldParam(paraMap, field);
@@ -323,6 +547,22 @@ public class DefaultParamResolver implements ParamResolver {
 		return true;
 	}
 
+	/**
+	 * @since v3.8.0
+	 * @param param {@link MapBuilder } 生成的字段参数，可能为 null
+	 * @param op 运算符参数值，可能为 null
+	 */
+	protected FieldOp toOperator(FieldParam param, Object op) {
+		if (param != null && param.getOperator() != null) {
+			return fieldOpPool.getFieldOp(param.getOperator());
+		}
+		return fieldOpPool.getFieldOp(op);
+	}
+
+	/**
+	 * @deprecated 自 v3.8.0 起使用 {@link #toOperator(FieldParam, Object) }；子类重写该方法时，仍按旧的方式提取字段参数并调用它
+	 */
+	@Deprecated
 	protected FieldOp toOperator(String field, MapWrapper paraMap, FieldParam param) {
 		if (param != null) {
 			Object op = param.getOperator();
@@ -436,6 +676,7 @@ public class DefaultParamResolver implements ParamResolver {
 
 	public void setIgnoreCaseSuffix(String ignoreCaseSuffix) {
 		this.ignoreCaseSuffix = Objects.requireNonNull(ignoreCaseSuffix);
+		keyIndexes.clear();
 	}
 
 	public String getOperatorSuffix() {
@@ -444,6 +685,7 @@ public class DefaultParamResolver implements ParamResolver {
 
 	public void setOperatorSuffix(String operatorSuffix) {
 		this.operatorSuffix = Objects.requireNonNull(operatorSuffix);
+		keyIndexes.clear();
 	}
 
 	public String getSeparator() {
@@ -452,6 +694,7 @@ public class DefaultParamResolver implements ParamResolver {
 
 	public void setSeparator(String separator) {
 		this.separator = Objects.requireNonNull(separator);
+		keyIndexes.clear();
 	}
 
 	public String getOnlySelectName() {
@@ -470,6 +713,35 @@ public class DefaultParamResolver implements ParamResolver {
 		this.selectExcludeName = Objects.requireNonNull(selectExcludeName);
 	}
 
+	public String getEstimateCountName() {
+		return estimateCountName;
+	}
+
+	public void setEstimateCountName(String estimateCountName) {
+		this.estimateCountName = Objects.requireNonNull(estimateCountName);
+	}
+
+	public String getCursorName() {
+		return cursorName;
+	}
+
+	public void setCursorName(String cursorName) {
+		this.cursorName = Objects.requireNonNull(cursorName);
+	}
+
+	public long getSeekOffsetThreshold() {
+		return seekOffsetThreshold;
+	}
+
+	/**
+	 * 设置自动转为键集分页的偏移阈值
+	 * @param seekOffsetThreshold 偏移阈值，小于等于 0 时表示不自动转换
+	 * @since v3.8.0
+	 */
+	public void setSeekOffsetThreshold(long seekOffsetThreshold) {
+		this.seekOffsetThreshold = seekOffsetThreshold;
+	}
+
 	public String getGexprName() {
 		return gexprName;
 	}
@@ -68,6 +68,7 @@ public class DefaultSnippetResolver implements SnippetResolver {
             idx1 = fragment.indexOf(paramPrefix, nIdx);
         }
         sqlSnippet.setSql(fragment);
+        sqlSnippet.compile();
         return sqlSnippet;
     }
 
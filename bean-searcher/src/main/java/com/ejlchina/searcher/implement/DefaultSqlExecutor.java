@@ -2,6 +2,8 @@ package com.ejlchina.searcher.implement;
 
 import com.ejlchina.searcher.*;
 import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.param.Seek;
 import com.ejlchina.searcher.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,11 +12,25 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * JDBC Sql 执行器
@@ -61,6 +77,59 @@ public class DefaultSqlExecutor implements SqlExecutor {
 	 */
 	private SlowListener slowListener;
 
+	/**
+	 * 列表查询的 JDBC 读取策略，为 null 时使用驱动的默认行为
+	 * @since v3.8.0
+	 */
+	private FetchStrategy fetchStrategy;
+
+	/**
+	 * 并行执行聚族查询与列表查询的线程池，为 null 时表示不并行执行
+	 * @since v3.8.0
+	 */
+	private Executor parallelExecutor;
+
+	/**
+	 * 并行检索的许可（限制同时进行的并行检索数，避免耗尽连接池），为 null 时不限制
+	 * @since v3.8.0
+	 */
+	private Semaphore parallelPermits;
+
+	/**
+	 * 并行执行时，若总条数为 0，是否丢弃列表查询的结果
+	 * @since v3.8.0
+	 */
+	private boolean skipListWhenNoCount = true;
+
+	/**
+	 * 检索第一页时是否先查列表，若列表未满一页，则省略总条数的查询
+	 * @since v3.8.0
+	 */
+	private boolean listFirst = false;
+
+	/**
+	 * 因先查列表而省略的聚族查询次数
+	 */
+	private final LongAdder elidedCountQueries = new LongAdder();
+
+	/**
+	 * 聚族查询结果缓存，为 null 时表示不缓存
+	 * @since v3.8.0
+	 */
+	private ClusterResultCache clusterCache;
+
+	/**
+	 * 总条数估算器，为 null 时表示不支持估算（检索参数要求估算时仍查询精确的总条数）
+	 * @since v3.8.0
+	 */
+	private CountEstimator countEstimator;
+
+	/**
+	 * 估算值的下限，估算的总条数小于该值时，仍查询精确的总条数（数据量小时 count 的代价很小，而估算的误差相对较大）
+	 * @since v3.8.0
+	 */
+	private long minEstimatedCount = 10000;
+
 
 	public DefaultSqlExecutor() { }
 	
@@ -86,6 +155,9 @@ public class DefaultSqlExecutor implements SqlExecutor {
 			// 如果有异常，则立马关闭，否则与 SqlResult 一起关闭
 			closeQuietly(connection);
 			throw new SearchException("A exception occurred when query!", e);
+		} catch (RuntimeException e) {
+			closeQuietly(connection);
+			throw e;
 		}
 	}
 
@@ -105,11 +177,13 @@ public class DefaultSqlExecutor implements SqlExecutor {
 	}
 
 	protected <T> SqlResult<T> doExecute(SearchSql<T> searchSql, Connection connection) throws SQLException {
-		if (transactional) {
-			connection.setAutoCommit(false);
-			connection.setTransactionIsolation(transactionIsolation);
-			connection.setReadOnly(true);
+		if (canListFirst(searchSql)) {
+			return doListFirstExecute(searchSql, connection);
 		}
+		if (searchSql.isShouldQueryCluster() && searchSql.isShouldQueryList() && tryAcquireParallel()) {
+			return doParallelExecute(searchSql, connection);
+		}
+		boolean autoCommit = beginQuery(connection);
 		SqlResult.ResultSet listResult = null;
 		SqlResult.Result clusterResult = null;
 		try {
@@ -122,7 +196,8 @@ public class DefaultSqlExecutor implements SqlExecutor {
 				}
 			}
 			if (searchSql.isShouldQueryList()) {
-				if (totalCount == null || totalCount.longValue() > 0) {
+				// 估算的总条数不可靠，不能据此跳过列表查询
+				if (totalCount == null || totalCount.longValue() > 0 || searchSql.isCountEstimated()) {
 					listResult = executeListSql(searchSql, connection);
 				} else {
 					listResult = SqlResult.ResultSet.EMPTY;
@@ -130,28 +205,318 @@ public class DefaultSqlExecutor implements SqlExecutor {
 			}
 		} catch (SQLException e) {
 			closeQuietly(clusterResult);
+			endQuery(connection, autoCommit);
+			throw e;
+		}
+		return new SqlResult<T>(searchSql, listResult, clusterResult) {
+			@Override
+			public void close() {
+				try {
+					super.close();
+				} finally {
+					// 事务须在结果集读取完毕后再提交，否则流式读取的结果集会被提前关闭
+					endQuery(connection, autoCommit);
+					closeQuietly(connection);
+				}
+			}
+		};
+	}
+
+	/**
+	 * 是否可以先查列表：需要同时查询总条数与列表，没有统计字段，且是第一页。
+	 * 键集分页（带游标）的偏移总是 0，但并不是第一页，不能由列表推算总条数
+	 * @since v3.8.0
+	 */
+	protected boolean canListFirst(SearchSql<?> searchSql) {
+		if (!listFirst || !searchSql.isShouldQueryCluster() || !searchSql.isShouldQueryList()) {
+			return false;
+		}
+		if (searchSql.getSummaryAliases().size() > 0) {
+			return false;
+		}
+		Seek seek = searchSql.getSeek();
+		if (seek != null && seek.getValues() != null) {
+			return false;
+		}
+		Paging paging = searchSql.getPaging();
+		return searchSql.getCountAlias() != null && paging != null && paging.getOffset() == 0 && paging.getSize() > 0;
+	}
+
+	/**
+	 * 先执行列表查询，若第一页未满，则总条数即为列表的条数，此时省略聚族查询（没有统计字段时）
+	 * @since v3.8.0
+	 */
+	protected <T> SqlResult<T> doListFirstExecute(SearchSql<T> searchSql, Connection connection) throws SQLException {
+		boolean autoCommit = beginQuery(connection);
+		SqlResult.Result clusterResult = null;
+		BufferedResultSet listResult;
+		try {
+			listResult = executeBufferedListSql(searchSql, connection);
+			if (listResult.size() < searchSql.getPaging().getSize()) {
+				clusterResult = inferClusterResult(searchSql, listResult);
+			}
+			if (clusterResult != null) {
+				elidedCountQueries.increment();
+			} else {
+				clusterResult = executeClusterSql(searchSql, connection);
+			}
+		} catch (SQLException e) {
+			endQuery(connection, autoCommit);
 			throw e;
+		}
+		return new SqlResult<T>(searchSql, listResult, clusterResult) {
+			@Override
+			public void close() {
+				try {
+					super.close();
+				} finally {
+					endQuery(connection, autoCommit);
+					closeQuietly(connection);
+				}
+			}
+		};
+	}
+
+	/**
+	 * 执行列表查询，并将结果（一页）读入内存
+	 * @since v3.8.0
+	 */
+	protected BufferedResultSet executeBufferedListSql(SearchSql<?> searchSql, Connection connection) throws SQLException {
+		BeanMeta<?> beanMeta = searchSql.getBeanMeta();
+		List<String> fetchFields = searchSql.getFetchFields();
+		String[] columns = new String[fetchFields.size()];
+		for (int i = 0; i < columns.length; i++) {
+			columns[i] = beanMeta.requireFieldMeta(fetchFields.get(i)).getDbAlias();
+		}
+		SqlResult.ResultSet resultSet = executeListSql(searchSql, connection);
+		try {
+			BufferedResultSet buffer = new BufferedResultSet(columns);
+			while (resultSet.next()) {
+				Object[] row = new Object[columns.length];
+				for (int i = 0; i < columns.length; i++) {
+					row[i] = resultSet.get(columns[i]);
+				}
+				buffer.rows.add(row);
+			}
+			return buffer;
 		} finally {
-			if (transactional) {
-				connection.commit();
-				connection.setReadOnly(false);
+			closeQuietly(resultSet);
+		}
+	}
+
+	/**
+	 * 由未满的第一页推算聚族结果：只推算总条数，统计值（sum 的结果类型因数据库而异）仍需执行聚族查询
+	 * @return 聚族结果，有统计字段时返回 null
+	 * @since v3.8.0
+	 */
+	protected SqlResult.Result inferClusterResult(SearchSql<?> searchSql, BufferedResultSet listResult) {
+		if (searchSql.getSummaryAliases().size() > 0) {
+			return null;
+		}
+		Map<String, Object> cluster = new HashMap<>();
+		cluster.put(searchSql.getCountAlias(), (long) listResult.size());
+		return cluster::get;
+	}
+
+	/**
+	 * 内存中的结果集
+	 * @since v3.8.0
+	 */
+	protected static class BufferedResultSet implements SqlResult.ResultSet {
+
+		final Map<String, Integer> columnIndexes = new HashMap<>();
+		final List<Object[]> rows = new ArrayList<>();
+		int index = -1;
+
+		BufferedResultSet(String[] columns) {
+			for (int i = 0; i < columns.length; i++) {
+				columnIndexes.put(columns[i], i);
+			}
+		}
+
+		public int size() {
+			return rows.size();
+		}
+
+		@Override
+		public boolean next() {
+			return ++index < rows.size();
+		}
+
+		@Override
+		public Object get(String columnLabel) {
+			Integer i = columnIndexes.get(columnLabel);
+			return i != null ? rows.get(index)[i] : null;
+		}
+
+		@Override
+		public int indexOf(String columnLabel) {
+			Integer i = columnIndexes.get(columnLabel);
+			return i != null ? i + 1 : 0;
+		}
+
+		@Override
+		public Object get(int columnIndex) {
+			return rows.get(index)[columnIndex - 1];
+		}
+
+	}
+
+	/**
+	 * 并行执行聚族查询与列表查询，列表查询使用另一个连接，在 parallelExecutor 中执行
+	 * @since v3.8.0
+	 */
+	protected <T> SqlResult<T> doParallelExecute(SearchSql<T> searchSql, Connection connection) throws SQLException {
+		Connection listConnection;
+		try {
+			listConnection = getConnection(searchSql.getBeanMeta());
+		} catch (SQLException | RuntimeException e) {
+			releaseParallel();
+			throw e;
+		}
+		boolean autoCommit = false, listAutoCommit = false;
+		SqlResult.Result clusterResult = null;
+		SqlResult.ResultSet listResult = null;
+		Future<SqlResult.ResultSet> listFuture = null;
+		try {
+			autoCommit = beginQuery(connection);
+			listAutoCommit = beginQuery(listConnection);
+			StatementCanceller canceller = StatementCanceller.current();
+			listFuture = CompletableFuture.supplyAsync(() -> StatementCanceller.callWith(canceller, () -> {
+				try {
+					return executeListSql(searchSql, listConnection);
+				} catch (SQLException e) {
+					throw new CompletionException(e);
+				}
+			}), parallelExecutor);
+			clusterResult = executeClusterSql(searchSql, connection);
+			listResult = awaitListResult(listFuture);
+			listFuture = null;
+			String countAlias = searchSql.getCountAlias();
+			if (skipListWhenNoCount && countAlias != null && !searchSql.isCountEstimated()) {
+				Number totalCount = (Number) clusterResult.get(countAlias);
+				if (totalCount == null || totalCount.longValue() == 0) {
+					closeQuietly(listResult);
+					listResult = SqlResult.ResultSet.EMPTY;
+				}
 			}
+		} catch (SQLException | RuntimeException e) {
+			if (listFuture != null) {
+				try {
+					closeQuietly(awaitListResult(listFuture));
+				} catch (SQLException | RuntimeException ignored) { }
+			}
+			closeQuietly(listResult);
+			closeQuietly(clusterResult);
+			endQuery(listConnection, listAutoCommit);
+			endQuery(connection, autoCommit);
+			closeQuietly(listConnection);
+			releaseParallel();
+			throw e;
 		}
+		boolean finalAutoCommit = autoCommit, finalListAutoCommit = listAutoCommit;
 		return new SqlResult<T>(searchSql, listResult, clusterResult) {
 			@Override
 			public void close() {
 				try {
 					super.close();
 				} finally {
+					endQuery(listConnection, finalListAutoCommit);
+					endQuery(connection, finalAutoCommit);
+					closeQuietly(listConnection);
 					closeQuietly(connection);
+					releaseParallel();
 				}
 			}
 		};
 	}
 
+	protected SqlResult.ResultSet awaitListResult(Future<SqlResult.ResultSet> listFuture) throws SQLException {
+		try {
+			return listFuture.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SearchException("Interrupted while waiting for the list query!", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof SQLException) {
+				throw (SQLException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new SearchException("A exception occurred when query!", cause);
+		}
+	}
+
+	protected boolean tryAcquireParallel() {
+		if (parallelExecutor == null) {
+			return false;
+		}
+		Semaphore permits = parallelPermits;
+		return permits == null || permits.tryAcquire();
+	}
+
+	protected void releaseParallel() {
+		Semaphore permits = parallelPermits;
+		if (permits != null) {
+			permits.release();
+		}
+	}
+
+	/**
+	 * 查询前的准备：开启只读事务（若需要）
+	 * @param connection 数据库连接
+	 * @return 查询前的 autoCommit 状态
+	 * @since v3.8.0
+	 */
+	protected boolean beginQuery(Connection connection) throws SQLException {
+		boolean autoCommit = connection.getAutoCommit();
+		if (transactional) {
+			connection.setAutoCommit(false);
+			connection.setTransactionIsolation(transactionIsolation);
+			connection.setReadOnly(true);
+		}
+		return autoCommit;
+	}
+
+	/**
+	 * 结果集关闭后，提交只读事务，并恢复连接的 autoCommit 状态
+	 * @param connection 数据库连接
+	 * @param autoCommit 查询前的 autoCommit 状态
+	 * @since v3.8.0
+	 */
+	protected void endQuery(Connection connection, boolean autoCommit) {
+		try {
+			if (transactional) {
+				connection.commit();
+				connection.setReadOnly(false);
+			} else if (autoCommit && !connection.getAutoCommit()) {
+				// FetchStrategy 为使用游标而关闭了 autoCommit
+				connection.commit();
+				connection.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			log.error("Can not end the query on connection", e);
+		}
+	}
+
 	protected SqlResult.ResultSet executeListSql(SearchSql<?> searchSql, Connection connection) throws SQLException {
-		Result result = executeQuery(connection, searchSql.getListSqlString(),
-				searchSql.getListSqlParams(), searchSql);
+		String sql = searchSql.getListSqlString();
+		PreparedStatement statement = connection.prepareStatement(sql);
+		FetchStrategy strategy = fetchStrategy;
+		if (strategy != null) {
+			try {
+				strategy.configure(connection, statement, searchSql);
+			} catch (SQLException e) {
+				closeQuietly(statement);
+				throw e;
+			}
+		}
+		Result result = executeQuery(statement, sql, searchSql.getListSqlParams(), searchSql);
 		ResultSet resultSet = result.resultSet;
 		return new SqlResult.ResultSet() {
 			@Override
@@ -163,13 +528,168 @@ public class DefaultSqlExecutor implements SqlExecutor {
 				return resultSet.getObject(columnLabel);
 			}
 			@Override
+			public int indexOf(String columnLabel) {
+				try {
+					return resultSet.findColumn(columnLabel);
+				} catch (SQLException e) {
+					return 0;
+				}
+			}
+			@Override
+			public Object get(int columnIndex) throws SQLException {
+				return resultSet.getObject(columnIndex);
+			}
+			@Override
+			public SqlResult.ColumnGetter getter(int columnIndex, FieldMeta meta) throws SQLException {
+				return columnGetter(resultSet, columnIndex, meta);
+			}
+			@Override
 			public void close() {
 				result.close();
 			}
 		};
 	}
 
+	/**
+	 * 根据列的 JDBC 类型与字段的类型选定取值方式，使取得的值已是字段的类型（或其包装类型），
+	 * 省去 getObject 之后的类型转换。列的类型与字段的类型不匹配时（如 DECIMAL 列对应 Long 字段时小数会被截断）仍使用 getObject，
+	 * 由 {@link BeanReflector } 中的 {@link FieldConvertor.BFieldConvertor } 转换。
+	 * TIMESTAMP 列对应 LocalDateTime 字段时也使用 getObject，由 {@link com.ejlchina.searcher.convertor.DateFieldConvertor } 按其配置的时区转换
+	 * @param resultSet JDBC 结果集
+	 * @param columnIndex 列序号
+	 * @param meta 字段
+	 * @return 列读取器
+	 * @since v3.8.0
+	 */
+	protected SqlResult.ColumnGetter columnGetter(ResultSet resultSet, int columnIndex, FieldMeta meta) throws SQLException {
+		ResultSetMetaData metaData = resultSet.getMetaData();
+		if (metaData == null) {
+			return () -> resultSet.getObject(columnIndex);
+		}
+		int sqlType = metaData.getColumnType(columnIndex);
+		Class<?> type = meta.getType();
+		if (type == long.class || type == Long.class) {
+			// 无符号的 BIGINT 可能超出 long 的范围
+			if (isInteger(sqlType) && (sqlType != Types.BIGINT || metaData.isSigned(columnIndex))
+					|| isDecimal(sqlType) && metaData.getScale(columnIndex) == 0 && metaData.getPrecision(columnIndex) <= 18) {
+				return () -> {
+					long value = resultSet.getLong(columnIndex);
+					return resultSet.wasNull() ? null : value;
+				};
+			}
+		}
+		if (type == int.class || type == Integer.class) {
+			if (sqlType == Types.TINYINT || sqlType == Types.SMALLINT
+					|| sqlType == Types.INTEGER && metaData.isSigned(columnIndex)
+					|| isDecimal(sqlType) && metaData.getScale(columnIndex) == 0 && metaData.getPrecision(columnIndex) <= 9) {
+				return () -> {
+					int value = resultSet.getInt(columnIndex);
+					return resultSet.wasNull() ? null : value;
+				};
+			}
+		}
+		if (type == double.class || type == Double.class) {
+			if (sqlType == Types.DOUBLE || sqlType == Types.FLOAT || sqlType == Types.REAL) {
+				return () -> {
+					double value = resultSet.getDouble(columnIndex);
+					return resultSet.wasNull() ? null : value;
+				};
+			}
+		}
+		if (type == boolean.class || type == Boolean.class) {
+			if (sqlType == Types.BOOLEAN || sqlType == Types.BIT && metaData.getPrecision(columnIndex) <= 1) {
+				return () -> {
+					boolean value = resultSet.getBoolean(columnIndex);
+					return resultSet.wasNull() ? null : value;
+				};
+			}
+		}
+		if (type == BigDecimal.class && (isDecimal(sqlType) || isInteger(sqlType))) {
+			return () -> resultSet.getBigDecimal(columnIndex);
+		}
+		if (type == LocalDate.class && sqlType == Types.DATE) {
+			return () -> {
+				java.sql.Date value = resultSet.getDate(columnIndex);
+				return value != null ? value.toLocalDate() : null;
+			};
+		}
+		if (type == String.class && (sqlType == Types.VARCHAR || sqlType == Types.CHAR || sqlType == Types.LONGVARCHAR
+				|| sqlType == Types.NVARCHAR || sqlType == Types.NCHAR || sqlType == Types.LONGNVARCHAR)) {
+			return () -> resultSet.getString(columnIndex);
+		}
+		return () -> resultSet.getObject(columnIndex);
+	}
+
+	private static boolean isInteger(int sqlType) {
+		return sqlType == Types.TINYINT || sqlType == Types.SMALLINT || sqlType == Types.INTEGER || sqlType == Types.BIGINT;
+	}
+
+	private static boolean isDecimal(int sqlType) {
+		return sqlType == Types.DECIMAL || sqlType == Types.NUMERIC;
+	}
+
 	protected SqlResult.Result executeClusterSql(SearchSql<?> searchSql, Connection connection) throws SQLException {
+		if (searchSql.isEstimateCount()) {
+			Number estimated = estimateCount(searchSql, connection);
+			if (estimated != null) {
+				searchSql.setCountEstimated(true);
+				String countAlias = searchSql.getCountAlias();
+				return columnLabel -> countAlias.equals(columnLabel) ? estimated : null;
+			}
+		}
+		ClusterResultCache cache = clusterCache;
+		if (cache != null) {
+			Map<String, Object> values = cache.get(searchSql);
+			if (values == null) {
+				values = new HashMap<>();
+				try (SqlResult.Result result = doExecuteClusterSql(searchSql, connection)) {
+					String countAlias = searchSql.getCountAlias();
+					if (countAlias != null) {
+						values.put(countAlias, result.get(countAlias));
+					}
+					for (String summaryAlias : searchSql.getSummaryAliases()) {
+						values.put(summaryAlias, result.get(summaryAlias));
+					}
+				}
+				cache.put(searchSql, values);
+			}
+			return values::get;
+		}
+		return doExecuteClusterSql(searchSql, connection);
+	}
+
+	/**
+	 * 估算总条数，估算失败或估算值小于 minEstimatedCount 时返回 null
+	 * @since v3.8.0
+	 */
+	protected Number estimateCount(SearchSql<?> searchSql, Connection connection) throws SQLException {
+		CountEstimator estimator = countEstimator;
+		if (estimator == null || searchSql.getCountAlias() == null || searchSql.getSummaryAliases().size() > 0) {
+			return null;
+		}
+		// 在事务中时，估算失败不能影响后续的查询（如 PostgreSQL 会中止整个事务）
+		Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+		long t0 = System.currentTimeMillis();
+		try {
+			Number estimated = estimator.estimate(connection, searchSql);
+			if (savepoint != null) {
+				connection.releaseSavepoint(savepoint);
+			}
+			log.debug("bean-searcher [{}ms] estimated count: {} for sql: [{}]", System.currentTimeMillis() - t0,
+					estimated, searchSql.getClusterSqlString());
+			if (estimated != null && estimated.longValue() >= minEstimatedCount) {
+				return estimated;
+			}
+		} catch (SQLException e) {
+			if (savepoint != null) {
+				connection.rollback(savepoint);
+			}
+			log.warn("Can not estimate the count of {}, fall back to the exact count", searchSql.getBeanMeta().getBeanClass().getName(), e);
+		}
+		return null;
+	}
+
+	protected SqlResult.Result doExecuteClusterSql(SearchSql<?> searchSql, Connection connection) throws SQLException {
 		Result result = executeQuery(connection, searchSql.getClusterSqlString(),
 				searchSql.getClusterSqlParams(), searchSql);
 		ResultSet resultSet = result.resultSet;
@@ -199,32 +719,56 @@ public class DefaultSqlExecutor implements SqlExecutor {
 
 		final PreparedStatement statement;
 		final ResultSet resultSet;
+		final StatementCanceller canceller;
 
-		Result(PreparedStatement statement, ResultSet resultSet) {
+		Result(PreparedStatement statement, ResultSet resultSet, StatementCanceller canceller) {
 			this.statement = statement;
 			this.resultSet = resultSet;
+			this.canceller = canceller;
 		}
 
 		void close() {
 			closeQuietly(resultSet);
 			closeQuietly(statement);
+			if (canceller != null) {
+				canceller.unregister(statement);
+			}
 		}
 
 	}
 
 	protected Result executeQuery(Connection connection, String sql, List<Object> params,
 								  SearchSql<?> searchSql) throws SQLException {
-		PreparedStatement statement = connection.prepareStatement(sql);
-		int size = params.size();
-		for (int i = 0; i < size; i++) {
-			statement.setObject(i + 1, params.get(i));
+		return executeQuery(connection.prepareStatement(sql), sql, params, searchSql);
+	}
+
+	/**
+	 * @since v3.8.0
+	 */
+	protected Result executeQuery(PreparedStatement statement, String sql, List<Object> params,
+								  SearchSql<?> searchSql) throws SQLException {
+		StatementCanceller canceller = StatementCanceller.current();
+		try {
+			int size = params.size();
+			for (int i = 0; i < size; i++) {
+				statement.setObject(i + 1, params.get(i));
+			}
+			if (canceller != null) {
+				canceller.register(statement);
+			}
+		} catch (SQLException e) {
+			closeQuietly(statement);
+			throw e;
 		}
 		long t0 = System.currentTimeMillis();
 		try {
 			ResultSet resultSet = statement.executeQuery();
-			return new Result(statement, resultSet);
+			return new Result(statement, resultSet, canceller);
 		} catch (SQLException e) {
 			closeQuietly(statement);
+			if (canceller != null) {
+				canceller.unregister(statement);
+			}
 			throw e;
 		} finally {
 			long cost = System.currentTimeMillis() - t0;
@@ -334,4 +878,119 @@ public class DefaultSqlExecutor implements SqlExecutor {
 		this.slowListener = slowListener;
 	}
 
+	public FetchStrategy getFetchStrategy() {
+		return fetchStrategy;
+	}
+
+	/**
+	 * 设置列表查询的 JDBC 读取策略
+	 * @param fetchStrategy 读取策略，为 null 时使用驱动的默认行为
+	 * @since v3.8.0
+	 */
+	public void setFetchStrategy(FetchStrategy fetchStrategy) {
+		this.fetchStrategy = fetchStrategy;
+	}
+
+	public Executor getParallelExecutor() {
+		return parallelExecutor;
+	}
+
+	/**
+	 * 设置并行执行的线程池，设置后，同时需要聚族查询与列表查询的检索将使用两个连接并行执行这两条 SQL，
+	 * 注意：开启只读事务时，两条 SQL 在不同的事务中执行
+	 * @param parallelExecutor 线程池，为 null 时表示不并行执行
+	 * @since v3.8.0
+	 */
+	public void setParallelExecutor(Executor parallelExecutor) {
+		this.parallelExecutor = parallelExecutor;
+	}
+
+	/**
+	 * 设置最大并行检索数，超出时该检索退化为串行执行
+	 * @param maxParallel 最大并行检索数，小于等于 0 时表示不限制
+	 * @since v3.8.0
+	 */
+	public void setMaxParallel(int maxParallel) {
+		this.parallelPermits = maxParallel > 0 ? new Semaphore(maxParallel) : null;
+	}
+
+	public Semaphore getParallelPermits() {
+		return parallelPermits;
+	}
+
+	public boolean isSkipListWhenNoCount() {
+		return skipListWhenNoCount;
+	}
+
+	/**
+	 * 设置并行执行时，若总条数为 0，是否丢弃列表查询的结果（串行执行时总是跳过列表查询）
+	 * @param skipListWhenNoCount 是否丢弃
+	 * @since v3.8.0
+	 */
+	public void setSkipListWhenNoCount(boolean skipListWhenNoCount) {
+		this.skipListWhenNoCount = skipListWhenNoCount;
+	}
+
+	public boolean isListFirst() {
+		return listFirst;
+	}
+
+	/**
+	 * 设置检索第一页时是否先查列表，开启后，若第一页未满且没有统计字段，则由列表推算出总条数，省略聚族查询，
+	 * 该策略优先于并行执行
+	 * @param listFirst 是否先查列表
+	 * @since v3.8.0
+	 */
+	public void setListFirst(boolean listFirst) {
+		this.listFirst = listFirst;
+	}
+
+	/**
+	 * @return 因先查列表而省略的聚族查询次数
+	 * @since v3.8.0
+	 */
+	public long getElidedCountQueries() {
+		return elidedCountQueries.sum();
+	}
+
+	public ClusterResultCache getClusterCache() {
+		return clusterCache;
+	}
+
+	/**
+	 * 设置聚族查询（总条数与统计）结果缓存
+	 * @param clusterCache 缓存，为 null 时表示不缓存
+	 * @since v3.8.0
+	 */
+	public void setClusterCache(ClusterResultCache clusterCache) {
+		this.clusterCache = clusterCache;
+	}
+
+	public CountEstimator getCountEstimator() {
+		return countEstimator;
+	}
+
+	/**
+	 * 设置总条数估算器，只对要求估算总条数的检索生效，估算的总条数不会被缓存
+	 * @see com.ejlchina.searcher.util.MapBuilder#estimateCount()
+	 * @param countEstimator 估算器，为 null 时表示不支持估算
+	 * @since v3.8.0
+	 */
+	public void setCountEstimator(CountEstimator countEstimator) {
+		this.countEstimator = countEstimator;
+	}
+
+	public long getMinEstimatedCount() {
+		return minEstimatedCount;
+	}
+
+	/**
+	 * 设置估算值的下限，估算的总条数小于该值时，仍查询精确的总条数
+	 * @param minEstimatedCount 估算值的下限
+	 * @since v3.8.0
+	 */
+	public void setMinEstimatedCount(long minEstimatedCount) {
+		this.minEstimatedCount = minEstimatedCount;
+	}
+
 }
@@ -6,12 +6,17 @@ import com.ejlchina.searcher.param.FetchType;
 import com.ejlchina.searcher.param.FieldParam;
 import com.ejlchina.searcher.param.OrderBy;
 import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.param.Seek;
 import com.ejlchina.searcher.group.Group;
+import com.ejlchina.searcher.util.ObjectUtils;
 import com.ejlchina.searcher.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 默认 SQL 解析器
@@ -25,6 +30,43 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 	 * 日期参数矫正器
 	 */
 	private DateValueCorrector dateValueCorrector = new DateValueCorrector();
+
+	/**
+	 * SQL 模板缓存，为 null 时表示不启用
+	 * @since v3.8.0
+	 */
+	private SqlTemplateCache templateCache;
+
+	/**
+	 * 使用延迟关联分页的偏移阈值（只对指定了唯一键字段的实体类生效），小于等于 0 时表示不使用
+	 * @since v3.8.0
+	 */
+	private long deferredJoinThreshold = 0;
+
+	/**
+	 * 各实体类上一次生成的各子句的 SQL 长度，用于预估 StringBuilder 的初始容量，避免拼接过程中反复扩容
+	 * @since v3.8.0
+	 */
+	private final Map<BeanMeta<?>, SqlLengths> sqlLengths = new ConcurrentHashMap<>();
+
+	/**
+	 * 子类是否重写了已废弃的 {@link #operate(StringBuilder, BeanMeta, FieldParam, Map) }
+	 */
+	private final boolean legacyOperate = ObjectUtils.isOverridden(getClass(), DefaultSqlResolver.class,
+			"operate", StringBuilder.class, BeanMeta.class, FieldParam.class, Map.class);
+
+	static class SqlLengths {
+
+		// 只用于预估容量，线程间不要求可见
+		int fieldSelect = 64;
+		int fromWhere = 128;
+		int list = 256;
+
+		static int capacity(int length) {
+			return length + (length >> 3) + 16;
+		}
+
+	}
 	
 	public DefaultSqlResolver() {
 	}
@@ -36,12 +78,31 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 
 	@Override
 	public <T> SearchSql<T> resolve(BeanMeta<T> beanMeta, SearchParam searchParam) {
+		SqlTemplateCache cache = templateCache;
+		// 键集分页的 SQL 与游标相关，延迟关联分页与偏移相关，均不使用模板缓存
+		if (cache == null || searchParam.getSeek() != null || useDeferredJoin(beanMeta, searchParam)) {
+			return doResolve(beanMeta, searchParam);
+		}
+		SqlTemplateCache.Shape shape = cache.shapeOf(beanMeta, searchParam);
+		SqlTemplateCache.Template template = cache.get(shape);
+		if (template != null) {
+			return resolveByTemplate(beanMeta, searchParam, template);
+		}
+		SearchSql<T> searchSql = doResolve(beanMeta, searchParam);
+		cache.put(shape, new SqlTemplateCache.Template(searchSql));
+		return searchSql;
+	}
+
+	protected <T> SearchSql<T> doResolve(BeanMeta<T> beanMeta, SearchParam searchParam) {
 		List<String> fetchFields = searchParam.getFetchFields();
 		FetchType fetchType = searchParam.getFetchType();
 
 		SearchSql<T> searchSql = new SearchSql<>(beanMeta, fetchFields);
 		searchSql.setShouldQueryCluster(fetchType.shouldQueryCluster());
 		searchSql.setShouldQueryList(fetchType.shouldQueryList());
+		searchSql.setFetchType(fetchType);
+		searchSql.setPaging(searchParam.getPaging());
+		searchSql.setEstimateCount(searchParam.isEstimateCount());
 
 		if (fetchType.shouldQueryTotal()) {
 			searchSql.setCountAlias(getCountAlias(beanMeta));
@@ -77,6 +138,23 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 		if (fetchType.shouldQueryList()) {
 			List<OrderBy> orderBys = searchParam.getOrderBys();
 			Paging paging = searchParam.getPaging();
+			Seek seek = searchParam.getSeek();
+			if (seek != null) {
+				searchSql.setSeek(seek);
+				orderBys = seek.getOrderBys();
+				if (seek.getValues() != null) {
+					// 键集分页的条件只作用于列表查询
+					SqlWrapper<Object> seekCond = buildSeekCond(beanMeta, seek, paraMap);
+					fromWhereSqlWrapper = buildFromWhereSql(beanMeta, searchParam.getParamsGroup(), paraMap, seekCond);
+					fromWhereSql = fromWhereSqlWrapper.getSql();
+				}
+			}
+			if (useDeferredJoin(beanMeta, searchParam)) {
+				SqlWrapper<Object> listSql = buildDeferredListSql(beanMeta, fieldSelectSqlWrapper, fromWhereSqlWrapper, orderBys, paging, fetchFields, paraMap);
+				searchSql.setListSqlString(listSql.getSql());
+				searchSql.addListSqlParams(listSql.getParas());
+				return searchSql;
+			}
 			SqlWrapper<Object> listSql = buildListSql(beanMeta, fieldSelectSql, fromWhereSql, orderBys, paging, fetchFields, paraMap);
 			searchSql.setListSqlString(listSql.getSql());
 			searchSql.addListSqlParams(fieldSelectSqlWrapper.getParas());
@@ -86,9 +164,101 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 		return searchSql;
 	}
 
+	/**
+	 * 使用缓存的 SQL 模板生成检索 SQL，只收集 JDBC 参数，参数的收集顺序须与 {@link #doResolve(BeanMeta, SearchParam)} 保持一致
+	 * @since v3.8.0
+	 */
+	protected <T> SearchSql<T> resolveByTemplate(BeanMeta<T> beanMeta, SearchParam searchParam, SqlTemplateCache.Template template) {
+		List<String> fetchFields = searchParam.getFetchFields();
+		FetchType fetchType = searchParam.getFetchType();
+		Map<String, Object> paraMap = searchParam.getParaMap();
+
+		SearchSql<T> searchSql = new SearchSql<>(beanMeta, fetchFields);
+		searchSql.setShouldQueryCluster(fetchType.shouldQueryCluster());
+		searchSql.setShouldQueryList(fetchType.shouldQueryList());
+		searchSql.setFetchType(fetchType);
+		searchSql.setPaging(searchParam.getPaging());
+		searchSql.setEstimateCount(searchParam.isEstimateCount());
+		searchSql.setCountAlias(template.getCountAlias());
+		for (String summaryAlias : template.getSummaryAliases()) {
+			searchSql.addSummaryAlias(summaryAlias);
+		}
+		List<Object> fieldSelectParas = new ArrayList<>();
+		for (String field : fetchFields) {
+			collectJdbcParas(fieldSelectParas, beanMeta.requireFieldMeta(field).getFieldSql(), paraMap);
+		}
+		List<Object> fromWhereParas = collectFromWhereParas(beanMeta, searchParam.getParamsGroup(), paraMap);
+
+		String clusterSql = template.getClusterSql();
+		if (clusterSql != null) {
+			searchSql.setClusterSqlString(clusterSql);
+			if (beanMeta.isDistinctOrGroupBy()) {
+				searchSql.addClusterSqlParams(fieldSelectParas);
+			} else {
+				List<Object> clusterSelectParas = new ArrayList<>();
+				for (String summaryField : fetchType.getSummaryFields()) {
+					collectJdbcParas(clusterSelectParas, beanMeta.requireFieldMeta(summaryField).getFieldSql(), paraMap);
+				}
+				searchSql.addClusterSqlParams(clusterSelectParas);
+			}
+			searchSql.addClusterSqlParams(fromWhereParas);
+		}
+		String listSql = template.getListSql();
+		if (listSql != null) {
+			searchSql.setListSqlString(listSql);
+			searchSql.addListSqlParams(fieldSelectParas);
+			searchSql.addListSqlParams(fromWhereParas);
+			SqlSnippet orderBySnippet = beanMeta.getOrderBySnippet();
+			if (searchParam.getOrderBys().isEmpty() && StringUtils.isNotBlank(orderBySnippet.getSql())) {
+				List<Object> orderByParas = new ArrayList<>();
+				collectJdbcParas(orderByParas, orderBySnippet, paraMap);
+				searchSql.addListSqlParams(orderByParas);
+			}
+			// 分页参数只与分页信息有关，与 SQL 无关
+			forPaginate(new StringBuilder(), searchSql.getListSqlParams(), "", "", "", searchParam.getPaging());
+		}
+		return searchSql;
+	}
+
+	protected <T> List<Object> collectFromWhereParas(BeanMeta<T> beanMeta, Group<List<FieldParam>> paramsGroup, Map<String, Object> paraMap) {
+		List<Object> paras = new ArrayList<>();
+		collectJdbcParas(paras, beanMeta.getTableSnippet(), paraMap);
+		if (StringUtils.isNotBlank(beanMeta.getJoinCond())) {
+			collectJdbcParas(paras, beanMeta.getJoinCondSqlParas(), paraMap);
+		}
+		StringBuilder builder = new StringBuilder();
+		paramsGroup.forEach(event -> {
+			if (event.isValue()) {
+				for (FieldParam param : event.getValue()) {
+					builder.setLength(0);
+					operate(builder, beanMeta, param, paraMap, paras);
+				}
+			}
+		});
+		if (StringUtils.isNotBlank(beanMeta.getGroupBy())) {
+			collectJdbcParas(paras, beanMeta.getGroupBySqlParas(), paraMap);
+		}
+		return paras;
+	}
+
+	private void collectJdbcParas(List<Object> paras, SqlSnippet snippet, Map<String, Object> paraMap) {
+		collectJdbcParas(paras, snippet.getParas(), paraMap);
+	}
+
+	private void collectJdbcParas(List<Object> paras, List<SqlSnippet.SqlPara> snippetParas, Map<String, Object> paraMap) {
+		if (snippetParas != null) {
+			for (SqlSnippet.SqlPara param : snippetParas) {
+				if (param.isJdbcPara()) {
+					paras.add(paraMap.get(param.getName()));
+				}
+			}
+		}
+	}
+
 	protected <T> SqlWrapper<Object> buildFieldSelectSql(BeanMeta<T> beanMeta, List<String> fetchFields, Map<String, Object> paraMap) {
 		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
-		StringBuilder builder = new StringBuilder("select ");
+		SqlLengths lengths = sqlLengthsOf(beanMeta);
+		StringBuilder builder = new StringBuilder(SqlLengths.capacity(lengths.fieldSelect)).append("select ");
 		if (beanMeta.isDistinct()) {
 			builder.append("distinct ");
 		}
@@ -103,6 +273,7 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 			}
 			sqlWrapper.addParas(dbFieldSql.getParas());
 		}
+		lengths.fieldSelect = builder.length();
 		sqlWrapper.setSql(builder.toString());
 		return sqlWrapper;
 	}
@@ -137,28 +308,27 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 	}
 
 	protected <T> SqlWrapper<Object> buildFromWhereSql(BeanMeta<T> beanMeta, Group<List<FieldParam>> paramsGroup, Map<String, Object> paraMap) {
+		return buildFromWhereSql(beanMeta, paramsGroup, paraMap, null);
+	}
+
+	/**
+	 * @param extraCond 附加的条件（与其它条件为 and 关系），可为 null
+	 * @since v3.8.0
+	 */
+	protected <T> SqlWrapper<Object> buildFromWhereSql(BeanMeta<T> beanMeta, Group<List<FieldParam>> paramsGroup,
+													   Map<String, Object> paraMap, SqlWrapper<Object> extraCond) {
 		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
 		SqlWrapper<Object> tableSql = resolveTableSql(beanMeta.getTableSnippet(), paraMap);
 		sqlWrapper.addParas(tableSql.getParas());
-		StringBuilder builder = new StringBuilder(" from ").append(tableSql.getSql());
-		String joinCond = beanMeta.getJoinCond();
-		if (StringUtils.isNotBlank(joinCond)) {
-			List<SqlSnippet.SqlPara> joinCondParams = beanMeta.getJoinCondSqlParas();
-			for (SqlSnippet.SqlPara param : joinCondParams) {
-				Object sqlParam = paraMap.get(param.getName());
-				if (param.isJdbcPara()) {
-					sqlWrapper.addPara(sqlParam);
-				} else {
-					// 将这部分逻辑提上来，当 joinCond 只有一个拼接参数 且 该参数为空时，使其不参与 where 子句
-					String strParam = sqlParam != null ? sqlParam.toString() : "";
-					joinCond = joinCond.replace(param.getSqlName(), strParam);
-				}
-			}
-		}
+		SqlLengths lengths = sqlLengthsOf(beanMeta);
+		StringBuilder builder = new StringBuilder(SqlLengths.capacity(lengths.fromWhere)).append(" from ").append(tableSql.getSql());
+		SqlWrapper<Object> joinCondSql = resolveJoinCondSql(beanMeta, paraMap);
+		String joinCond = joinCondSql.getSql();
+		sqlWrapper.addParas(joinCondSql.getParas());
 		boolean hasJoinCond = StringUtils.isNotBlank(joinCond);
 		boolean hasFieldParams = paramsGroup.judgeAny(l -> l.size() > 0);
 
-		if (hasJoinCond || hasFieldParams) {
+		if (hasJoinCond || hasFieldParams || extraCond != null) {
 			builder.append(" where ");
 			if (hasJoinCond) {
 				builder.append("(").append(joinCond).append(")");
@@ -187,57 +357,154 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 					} else {
 						builder.append(" and (");
 					}
-					FieldParam param = params.get(i);
-					FieldMeta fieldMeta = beanMeta.requireFieldMeta(param.getName());
-					Object[] values = param.getValues();
-					FieldOp operator = (FieldOp) param.getOperator();
-					if (dateValueCorrector != null) {
-						values = dateValueCorrector.correct(fieldMeta.getType(), values, operator);
-					}
-					SqlWrapper<Object> fieldSql = resolveDbFieldSql(fieldMeta.getFieldSql(), paraMap);
-					FieldOp.OpPara opPara = new FieldOp.OpPara(fieldSql, param.isIgnoreCase(), values);
-					sqlWrapper.addParas(operator.operate(builder, opPara));
+					operate(builder, beanMeta, params.get(i), paraMap, sqlWrapper.getParas());
 					builder.append(")");
 				}
 			}
 		});
-		String groupBy = beanMeta.getGroupBy();
-		if (StringUtils.isNotBlank(groupBy)) {
-			List<SqlSnippet.SqlPara> groupParams = beanMeta.getGroupBySqlParas();
-			if (groupParams != null) {
-				for (SqlSnippet.SqlPara param : groupParams) {
-					Object sqlParam = paraMap.get(param.getName());
-					if (param.isJdbcPara()) {
-						sqlWrapper.addPara(sqlParam);
-					} else {
-						String strParam = sqlParam != null ? sqlParam.toString() : "";
-						groupBy = groupBy.replace(param.getSqlName(), strParam);
-					}
+		if (extraCond != null) {
+			if (hasJoinCond || hasFieldParams) {
+				builder.append(" and ");
+			}
+			builder.append("(").append(extraCond.getSql()).append(")");
+			sqlWrapper.addParas(extraCond.getParas());
+		}
+		SqlSnippet groupBySnippet = beanMeta.getGroupBySnippet();
+		if (StringUtils.isNotBlank(groupBySnippet.getSql())) {
+			builder.append(" group by ");
+			groupBySnippet.render(builder, paraMap, sqlWrapper.getParas());
+		}
+		lengths.fromWhere = builder.length();
+		sqlWrapper.setSql(builder.toString());
+		return sqlWrapper;
+	}
+
+	/**
+	 * 解析连表条件
+	 * @since v3.8.0
+	 */
+	protected <T> SqlWrapper<Object> resolveJoinCondSql(BeanMeta<T> beanMeta, Map<String, Object> paraMap) {
+		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
+		SqlSnippet joinCondSnippet = beanMeta.getJoinCondSnippet();
+		String joinCond = joinCondSnippet.getSql();
+		if (StringUtils.isNotBlank(joinCond)) {
+			// 拼接参数为空时替换为空串，所以当 joinCond 只有一个拼接参数 且 该参数为空时，它不参与 where 子句
+			joinCond = joinCondSnippet.render(paraMap, sqlWrapper.getParas());
+		}
+		sqlWrapper.setSql(joinCond);
+		return sqlWrapper;
+	}
+
+	/**
+	 * 生成键集分页的条件，例如排序为 a asc, id asc 时生成：(a > ?) or (a = ? and id > ?)
+	 * @since v3.8.0
+	 */
+	protected <T> SqlWrapper<Object> buildSeekCond(BeanMeta<T> beanMeta, Seek seek, Map<String, Object> paraMap) {
+		List<OrderBy> orderBys = seek.getOrderBys();
+		Object[] values = seek.getValues();
+		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < orderBys.size(); i++) {
+			if (i > 0) {
+				builder.append(" or ");
+			}
+			builder.append("(");
+			for (int j = 0; j <= i; j++) {
+				FieldMeta fieldMeta = beanMeta.requireFieldMeta(orderBys.get(j).getSort());
+				SqlWrapper<Object> fieldSql = resolveDbFieldSql(fieldMeta.getFieldSql(), paraMap);
+				if (j > 0) {
+					builder.append(" and ");
+				}
+				builder.append(fieldSql.getSql());
+				if (j < i) {
+					builder.append(" = ?");
+				} else {
+					builder.append(seek.isDesc(j) ? " < ?" : " > ?");
 				}
+				sqlWrapper.addParas(fieldSql.getParas());
+				sqlWrapper.addPara(values[j]);
 			}
-			builder.append(" group by ").append(groupBy);
+			builder.append(")");
 		}
 		sqlWrapper.setSql(builder.toString());
 		return sqlWrapper;
 	}
 
+	/**
+	 * @deprecated 自 v3.8.0 起使用 {@link #operate(StringBuilder, BeanMeta, FieldParam, Map, List) }，它把 JDBC 参数直接追加到参数接收器中；
+	 * 子类重写了该方法时，检索仍调用子类重写的方法
+	 */
+	@Deprecated
+	protected <T> List<Object> operate(StringBuilder builder, BeanMeta<T> beanMeta, FieldParam param, Map<String, Object> paraMap) {
+		List<Object> paras = new ArrayList<>();
+		doOperate(builder, beanMeta, param, paraMap, paras);
+		return paras;
+	}
+
+	/**
+	 * 生成字段条件
+	 * @param paras JDBC 参数接收器
+	 * @since v3.8.0
+	 */
+	protected <T> void operate(StringBuilder builder, BeanMeta<T> beanMeta, FieldParam param, Map<String, Object> paraMap, List<Object> paras) {
+		if (legacyOperate) {
+			paras.addAll(operate(builder, beanMeta, param, paraMap));
+		} else {
+			doOperate(builder, beanMeta, param, paraMap, paras);
+		}
+	}
+
+	private <T> void doOperate(StringBuilder builder, BeanMeta<T> beanMeta, FieldParam param, Map<String, Object> paraMap, List<Object> paras) {
+		FieldMeta fieldMeta = beanMeta.requireFieldMeta(param.getName());
+		Object[] values = param.getValues();
+		FieldOp operator = (FieldOp) param.getOperator();
+		if (dateValueCorrector != null) {
+			values = dateValueCorrector.correct(fieldMeta.getType(), values, operator);
+		}
+		SqlWrapper<Object> fieldSql = resolveDbFieldSql(fieldMeta.getFieldSql(), paraMap);
+		FieldOp.OpPara opPara = new FieldOp.OpPara(fieldSql, param.isIgnoreCase(), values);
+		operator.operate(builder, opPara, paras);
+	}
+
 	protected <T> String buildClusterSql(BeanMeta<T> beanMeta, String clusterSelectSql, String fieldSelectSql, String fromWhereSql) {
 		if (beanMeta.isDistinctOrGroupBy()) {
 			String tableAlias = getTableAlias(beanMeta);
-			return clusterSelectSql + " from (" + fieldSelectSql + fromWhereSql + ") " + tableAlias;
+			int length = clusterSelectSql.length() + fieldSelectSql.length() + fromWhereSql.length() + tableAlias.length() + 8;
+			return new StringBuilder(length).append(clusterSelectSql).append(" from (").append(fieldSelectSql)
+					.append(fromWhereSql).append(") ").append(tableAlias).toString();
 		}
-		return clusterSelectSql + fromWhereSql;
+		return new StringBuilder(clusterSelectSql.length() + fromWhereSql.length())
+				.append(clusterSelectSql).append(fromWhereSql).toString();
 	}
 
 	protected <T> SqlWrapper<Object> buildListSql(BeanMeta<T> beanMeta, String fieldSelectSql, String fromWhereSql,
 				List<OrderBy> orderBys, Paging paging, List<String> fetchFields, Map<String, Object> paraMap) {
+		SqlWrapper<Object> orderBySql = buildOrderBySql(beanMeta, orderBys, fetchFields, paraMap);
+		SqlWrapper<Object> listSql = new SqlWrapper<>();
+		listSql.addParas(orderBySql.getParas());
+		SqlLengths lengths = sqlLengthsOf(beanMeta);
+		// 查询语句、条件语句与排序语句直接写入同一个构建器，不再拼接中间字符串
+		StringBuilder builder = new StringBuilder(SqlLengths.capacity(lengths.list));
+		forPaginate(builder, listSql.getParas(), fieldSelectSql, fromWhereSql, orderBySql.getSql(), paging);
+		lengths.list = builder.length();
+		listSql.setSql(builder.toString());
+		return listSql;
+	}
+
+	/**
+	 * 生成排序语句（含 order by 关键字），已被 Select 的字段使用别名排序
+	 * @since v3.8.0
+	 */
+	protected <T> SqlWrapper<Object> buildOrderBySql(BeanMeta<T> beanMeta, List<OrderBy> orderBys, List<String> fetchFields,
+													 Map<String, Object> paraMap) {
 		SqlSnippet orderBySnippet = beanMeta.getOrderBySnippet();
 		boolean defaultOrderBy = StringUtils.isNotBlank(orderBySnippet.getSql());
-		StringBuilder builder = new StringBuilder(fromWhereSql);
 		int count = orderBys.size();
-		if (count > 0 || defaultOrderBy) {
-			builder.append(" order by ");
+		if (count == 0 && !defaultOrderBy) {
+			return new SqlWrapper<>("");
 		}
+		StringBuilder builder = new StringBuilder(64);
+		builder.append(" order by ");
 		for (int index = 0; index < count; index++) {
 			OrderBy orderBy = orderBys.get(index);
 			FieldMeta meta = beanMeta.requireFieldMeta(orderBy.getSort());
@@ -254,49 +521,95 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 				builder.append(", ");
 			}
 		}
+		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
 		if (count == 0 && defaultOrderBy) {
 			SqlWrapper<Object> dbFieldSql = resolveDbFieldSql(orderBySnippet, paraMap);
 			builder.append(dbFieldSql.getSql());
-			SqlWrapper<Object> sqlWrapper = forPaginate(fieldSelectSql, builder.toString(), paging);
-			SqlWrapper<Object> listSql = new SqlWrapper<>(sqlWrapper.getSql());
-			listSql.addParas(dbFieldSql.getParas());
-			listSql.addParas(sqlWrapper.getParas());
-			return listSql;
+			sqlWrapper.addParas(dbFieldSql.getParas());
+		}
+		sqlWrapper.setSql(builder.toString());
+		return sqlWrapper;
+	}
+
+	/**
+	 * 是否使用延迟关联分页：实体类指定了唯一键字段，且偏移不小于 deferredJoinThreshold
+	 * @since v3.8.0
+	 */
+	protected <T> boolean useDeferredJoin(BeanMeta<T> beanMeta, SearchParam searchParam) {
+		Paging paging = searchParam.getPaging();
+		return deferredJoinThreshold > 0 && paging != null && paging.getOffset() >= deferredJoinThreshold
+				&& searchParam.getFetchType().shouldQueryList() && searchParam.getSeek() == null
+				&& StringUtils.isNotBlank(beanMeta.getKeyField()) && !beanMeta.isDistinctOrGroupBy()
+				&& supportDeferredJoin();
+	}
+
+	/**
+	 * 生成延迟关联分页的列表 SQL，例如：
+	 * select u.name c_0, r.name c_1 from user u, role r, (select u.id bs_key from user u, role r where ... order by ... limit ?, ?) bs_k
+	 * where (u.role_id = r.id) and u.id = bs_k.bs_key order by ...
+	 * 分页只在派生表中进行（只读唯一键，可走覆盖索引），外层只为该页的数据关联出完整的字段
+	 * @since v3.8.0
+	 */
+	protected <T> SqlWrapper<Object> buildDeferredListSql(BeanMeta<T> beanMeta, SqlWrapper<Object> fieldSelectSql,
+				SqlWrapper<Object> fromWhereSql, List<OrderBy> orderBys, Paging paging, List<String> fetchFields,
+				Map<String, Object> paraMap) {
+		String keyAlias = "bs_key";
+		String tableAlias = "bs_k";
+		while (fromWhereSql.getSql().contains(tableAlias)) {
+			tableAlias += "_";
+		}
+		FieldMeta keyMeta = beanMeta.requireFieldMeta(beanMeta.getKeyField());
+		SqlWrapper<Object> keySql = resolveDbFieldSql(keyMeta.getFieldSql(), paraMap);
+		// 内层：只查唯一键，排序字段不能使用外层的别名
+		SqlWrapper<Object> innerOrderBySql = buildOrderBySql(beanMeta, orderBys, Collections.emptyList(), paraMap);
+		SqlWrapper<Object> innerPageSql = new SqlWrapper<>();
+		StringBuilder innerBuilder = new StringBuilder(SqlLengths.capacity(sqlLengthsOf(beanMeta).list));
+		forPaginate(innerBuilder, innerPageSql.getParas(), "select " + keySql.getSql() + " " + keyAlias,
+				fromWhereSql.getSql(), innerOrderBySql.getSql(), paging);
+		innerPageSql.setSql(innerBuilder.toString());
+		// 外层
+		SqlWrapper<Object> tableSql = resolveTableSql(beanMeta.getTableSnippet(), paraMap);
+		SqlWrapper<Object> joinCondSql = resolveJoinCondSql(beanMeta, paraMap);
+		SqlWrapper<Object> outerOrderBySql = buildOrderBySql(beanMeta, orderBys, fetchFields, paraMap);
+		StringBuilder builder = new StringBuilder(fieldSelectSql.getSql())
+				.append(" from ").append(tableSql.getSql())
+				.append(", (").append(innerPageSql.getSql()).append(") ").append(tableAlias)
+				.append(" where ");
+		if (StringUtils.isNotBlank(joinCondSql.getSql())) {
+			builder.append("(").append(joinCondSql.getSql()).append(") and ");
 		}
-		return forPaginate(fieldSelectSql, builder.toString(), paging);
+		builder.append(keySql.getSql()).append(" = ").append(tableAlias).append(".").append(keyAlias);
+		builder.append(outerOrderBySql.getSql());
+		SqlWrapper<Object> listSql = new SqlWrapper<>(builder.toString());
+		listSql.addParas(fieldSelectSql.getParas());
+		listSql.addParas(tableSql.getParas());
+		listSql.addParas(keySql.getParas());
+		listSql.addParas(fromWhereSql.getParas());
+		listSql.addParas(innerOrderBySql.getParas());
+		listSql.addParas(innerPageSql.getParas());
+		listSql.addParas(joinCondSql.getParas());
+		listSql.addParas(keySql.getParas());
+		listSql.addParas(outerOrderBySql.getParas());
+		return listSql;
+	}
+
+	private SqlLengths sqlLengthsOf(BeanMeta<?> beanMeta) {
+		SqlLengths lengths = sqlLengths.get(beanMeta);
+		if (lengths != null) {
+			return lengths;
+		}
+		return sqlLengths.computeIfAbsent(beanMeta, meta -> new SqlLengths());
 	}
 
 	protected SqlWrapper<Object> resolveTableSql(SqlSnippet tableSnippet, Map<String, Object> paraMap) {
 		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
-		String tables = tableSnippet.getSql();
-		List<SqlSnippet.SqlPara> params = tableSnippet.getParas();
-		for (SqlSnippet.SqlPara param : params) {
-			Object sqlParam = paraMap.get(param.getName());
-			if (param.isJdbcPara()) {
-				sqlWrapper.addPara(sqlParam);
-			} else {
-				String strParam = sqlParam != null ? sqlParam.toString() : "";
-				tables = tables.replace(param.getSqlName(), strParam);
-			}
-		}
-		sqlWrapper.setSql(tables);
+		sqlWrapper.setSql(tableSnippet.render(paraMap, sqlWrapper.getParas()));
 		return sqlWrapper;
 	}
 
 	protected SqlWrapper<Object> resolveDbFieldSql(SqlSnippet dbFieldSnippet, Map<String, Object> paraMap) {
-		String dbField = dbFieldSnippet.getSql();
-		List<SqlSnippet.SqlPara> params = dbFieldSnippet.getParas();
 		SqlWrapper<Object> sqlWrapper = new SqlWrapper<>();
-		for (SqlSnippet.SqlPara param : params) {
-			Object sqlParam = paraMap.get(param.getName());
-			if (param.isJdbcPara()) {
-				sqlWrapper.addPara(sqlParam);
-			} else {
-				String strParam = sqlParam != null ? sqlParam.toString() : "";
-				dbField = dbField.replace(param.getSqlName(), strParam);
-			}
-		}
-		sqlWrapper.setSql(dbField);
+		sqlWrapper.setSql(dbFieldSnippet.render(paraMap, sqlWrapper.getParas()));
 		return sqlWrapper;
 	}
 
@@ -323,4 +636,31 @@ public class DefaultSqlResolver extends DialectWrapper implements SqlResolver {
 		this.dateValueCorrector = Objects.requireNonNull(dateValueCorrector);
 	}
 
+	public SqlTemplateCache getTemplateCache() {
+		return templateCache;
+	}
+
+	/**
+	 * 设置 SQL 模板缓存
+	 * @param templateCache SQL 模板缓存，为 null 时表示不启用
+	 * @since v3.8.0
+	 */
+	public void setTemplateCache(SqlTemplateCache templateCache) {
+		this.templateCache = templateCache;
+	}
+
+	public long getDeferredJoinThreshold() {
+		return deferredJoinThreshold;
+	}
+
+	/**
+	 * 设置使用延迟关联分页的偏移阈值，偏移不小于该值，且实体类指定了唯一键字段（{@link com.ejlchina.searcher.bean.SearchBean#keyField()}）时，
+	 * 列表查询先在派生表中只对唯一键分页，再关联回原表查询该页的完整字段，目前支持 MySQL、PostgreSQL 与 SqlServer 方言
+	 * @param deferredJoinThreshold 偏移阈值，小于等于 0 时表示不使用
+	 * @since v3.8.0
+	 */
+	public void setDeferredJoinThreshold(long deferredJoinThreshold) {
+		this.deferredJoinThreshold = deferredJoinThreshold;
+	}
+
 }
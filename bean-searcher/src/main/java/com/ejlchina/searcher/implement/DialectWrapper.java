@@ -6,6 +6,8 @@ import com.ejlchina.searcher.dialect.DialectSensor;
 import com.ejlchina.searcher.dialect.MySqlDialect;
 import com.ejlchina.searcher.param.Paging;
 
+import java.util.List;
+
 public class DialectWrapper implements DialectSensor {
 
     private Dialect dialect = new MySqlDialect();
@@ -34,6 +36,14 @@ public class DialectWrapper implements DialectSensor {
         return dialect.hasILike();
     }
 
+    /**
+     * @return 是否支持延迟关联分页
+     * @since v3.8.0
+     */
+    public boolean supportDeferredJoin() {
+        return dialect.supportDeferredJoin();
+    }
+
     /**
      * 分页
      * @param fieldSelectSql 查询语句
@@ -45,6 +55,21 @@ public class DialectWrapper implements DialectSensor {
         return dialect.forPaginate(fieldSelectSql, fromWhereSql, paging);
     }
 
+    /**
+     * 分页：把分页 SQL 直接写入 sqlBuilder，分页参数直接追加到 paras 中
+     * @param sqlBuilder SQL 构建器
+     * @param paras JDBC 参数接收器
+     * @param fieldSelectSql 查询语句
+     * @param fromWhereSql 条件语句
+     * @param orderBySql 排序语句（含 order by 关键字），没有排序时为空串
+     * @param paging 分页参数
+     * @since v3.8.0
+     */
+    public void forPaginate(StringBuilder sqlBuilder, List<Object> paras, String fieldSelectSql, String fromWhereSql,
+                            String orderBySql, Paging paging) {
+        dialect.forPaginate(sqlBuilder, paras, fieldSelectSql, fromWhereSql, orderBySql, paging);
+    }
+
     @Override
     public void setDialect(Dialect dialect) {
         this.dialect = dialect;
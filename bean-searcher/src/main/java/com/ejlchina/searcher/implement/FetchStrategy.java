@@ -0,0 +1,27 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.SearchSql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * JDBC 读取策略
+ * 用于在 {@link DefaultSqlExecutor } 执行列表查询之前，配置 fetchSize、maxRows 以及流式读取等参数
+ * @since v3.8.0
+ */
+@FunctionalInterface
+public interface FetchStrategy {
+
+    /**
+     * 配置列表查询的 Statement
+     * 若修改了 Connection 的 autoCommit，{@link DefaultSqlExecutor } 会在结果集关闭后将其恢复
+     * @param connection 数据库连接
+     * @param statement 列表查询的 Statement（尚未执行）
+     * @param searchSql 检索 SQL 信息
+     * @throws SQLException 异常
+     */
+    void configure(Connection connection, PreparedStatement statement, SearchSql<?> searchSql) throws SQLException;
+
+}
@@ -0,0 +1,84 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.FieldConvertor;
+import com.ejlchina.searcher.FieldMeta;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 字段值的转换函数表
+ * 每个字段的每种数据库值类型只绑定一次转换函数（见 {@link FieldConvertor#bind(FieldMeta, Class)}），
+ * 同一字段的值类型通常只有一种，之后每个值只需查找一次字段、比较一次类型，不再遍历转换器
+ * @since v3.8.0
+ */
+public class FieldConversions {
+
+    /**
+     * 不需要转换
+     */
+    public static final Function<Object, Object> IDENTITY = value -> value;
+
+    /**
+     * 元信息未被缓存时（每次检索都解析出新的 FieldMeta），避免绑定无限增长
+     */
+    static final int MAX_BINDINGS = 4096;
+
+    private final Map<FieldMeta, Binding> bindings = new ConcurrentHashMap<>();
+
+    private final BiFunction<FieldMeta, Class<?>, Function<Object, Object>> binder;
+
+    /**
+     * @param binder 为字段与值类型绑定转换函数，不需要转换时应返回 {@link #IDENTITY}
+     */
+    public FieldConversions(BiFunction<FieldMeta, Class<?>, Function<Object, Object>> binder) {
+        this.binder = binder;
+    }
+
+    /**
+     * @param meta 字段
+     * @param value 数据库值（非空）
+     * @return 转换后的值
+     */
+    public Object convert(FieldMeta meta, Object value) {
+        Class<?> valueType = value.getClass();
+        Binding head = bindings.get(meta);
+        for (Binding b = head; b != null; b = b.next) {
+            if (b.valueType == valueType) {
+                return b.function.apply(value);
+            }
+        }
+        Function<Object, Object> function = binder.apply(meta, valueType);
+        if (bindings.size() >= MAX_BINDINGS) {
+            bindings.clear();
+            head = null;
+        }
+        // 并发绑定时可能丢失其它线程的绑定，之后会重新绑定，不影响结果
+        bindings.put(meta, new Binding(valueType, function, head));
+        return function.apply(value);
+    }
+
+    /**
+     * 转换器变化后调用
+     */
+    public void clear() {
+        bindings.clear();
+    }
+
+    static class Binding {
+
+        final Class<?> valueType;
+        final Function<Object, Object> function;
+        final Binding next;
+
+        Binding(Class<?> valueType, Function<Object, Object> function, Binding next) {
+            this.valueType = valueType;
+            this.function = function;
+            this.next = next;
+        }
+
+    }
+
+}
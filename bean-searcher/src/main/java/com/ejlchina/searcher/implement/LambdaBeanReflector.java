@@ -0,0 +1,304 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.BeanMapper;
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.FieldConvertor.BFieldConvertor;
+import com.ejlchina.searcher.FieldMeta;
+import com.ejlchina.searcher.SearchException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 基于 {@link LambdaMetafactory } 的 Bean 反射器
+ * 每个 Bean 类只生成一次实例化函数与各字段的赋值函数（与 {@link DefaultBeanReflector } 一样直接为字段赋值，不调用 setter 方法），
+ * 之后每行数据的装配不再经过反射。没有无参构造方法时，若存在参数依次与字段声明一致的构造方法（如 record 类的规范构造方法），
+ * 则通过该构造方法创建不可变的 Bean。
+ * 无法生成时（如 Bean 所在的模块未向 bean-searcher 开放），退化为 {@link DefaultBeanReflector } 的反射方式
+ * @since v3.8.0
+ */
+public class LambdaBeanReflector extends DefaultBeanReflector {
+
+    static final Logger log = LoggerFactory.getLogger(LambdaBeanReflector.class);
+
+    /**
+     * 无法生成访问函数，使用反射
+     */
+    private static final BeanAccessor<?> REFLECTION = new BeanAccessor<>(null, null, null, null, null);
+
+    private final Map<Class<?>, BeanAccessor<?>> accessors = new ConcurrentHashMap<>();
+
+    public LambdaBeanReflector() {
+    }
+
+    public LambdaBeanReflector(List<BFieldConvertor> convertors) {
+        super(convertors);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T reflect(BeanMeta<T> beanMeta, Collection<FieldMeta> fetchFields, Function<String, Object> valueGetter) {
+        Class<T> beanClass = beanMeta.getBeanClass();
+        BeanAccessor<T> accessor = (BeanAccessor<T>) accessors.get(beanClass);
+        if (accessor == null) {
+            accessor = (BeanAccessor<T>) accessors.computeIfAbsent(beanClass, k -> createAccessor(beanMeta));
+        }
+        if (accessor == REFLECTION) {
+            return super.reflect(beanMeta, fetchFields, valueGetter);
+        }
+        if (accessor.instantiator == null) {
+            Object[] args = accessor.defaultArgs.clone();
+            for (FieldMeta meta : fetchFields) {
+                Object value = fieldValue(beanClass, meta, valueGetter);
+                if (value != null) {
+                    args[accessor.argIndexes.get(meta.getName())] = value;
+                }
+            }
+            try {
+                return beanClass.cast(accessor.constructor.invokeExact(args));
+            } catch (Throwable e) {
+                throw new SearchException("为【" + beanClass.getName() + "】创建对象时报错，请检查其构造方法！", e);
+            }
+        }
+        FetchPlan plan = accessor.plan(fetchFields);
+        FieldMeta[] metas = plan.metas;
+        BiConsumer<Object, Object>[] setters = plan.setters;
+        T bean = accessor.instantiator.get();
+        for (int i = 0; i < metas.length; i++) {
+            FieldMeta meta = metas[i];
+            Object value = fieldValue(beanClass, meta, valueGetter);
+            if (value != null) {
+                try {
+                    setters[i].accept(bean, value);
+                } catch (RuntimeException e) {
+                    throw new SearchException(
+                            "A exception occurred when setting value to [" + beanClass.getName() + "#" + meta.getName() + "], please check whether it's setter is correct.", e);
+                }
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * @return 该 Bean 类是否使用了生成的访问函数（否则使用反射）
+     */
+    public boolean isGenerated(Class<?> beanClass) {
+        BeanAccessor<?> accessor = accessors.get(beanClass);
+        return accessor != null && accessor != REFLECTION;
+    }
+
+    protected <T> BeanAccessor<?> createAccessor(BeanMeta<T> beanMeta) {
+        Class<T> beanClass = beanMeta.getBeanClass();
+        try {
+            // 优先使用编译期生成的函数（见 BeanMapper），只为其余的部分生成
+            BeanMapper<T> mapper = beanMeta.getMapper();
+            Supplier<T> instantiator = mapper != null ? mapper.instantiator() : null;
+            Constructor<T> noArgs = instantiator == null ? noArgsConstructor(beanClass) : null;
+            MethodHandles.Lookup lookup = null;
+            if (instantiator != null || noArgs != null) {
+                if (instantiator == null) {
+                    lookup = privateLookup(beanClass);
+                    instantiator = instantiator(lookup, noArgs);
+                }
+                Map<String, BiConsumer<Object, Object>> setters = new HashMap<>();
+                for (FieldMeta meta : beanMeta.getFieldMetas()) {
+                    BiConsumer<Object, Object> setter = meta.getValueSetter();
+                    if (setter == null) {
+                        Field field = meta.getField();
+                        if (lookup == null) {
+                            lookup = privateLookup(beanClass);
+                        }
+                        MethodHandles.Lookup fieldLookup = field.getDeclaringClass() == beanClass
+                                ? lookup : privateLookup(field.getDeclaringClass());
+                        setter = setter(fieldLookup, field);
+                    }
+                    setters.put(meta.getName(), setter);
+                }
+                return new BeanAccessor<>(instantiator, setters, null, null, null);
+            }
+            lookup = privateLookup(beanClass);
+            Field[] fields = constructorFields(beanClass);
+            Constructor<T> constructor = fieldsConstructor(beanClass, fields);
+            if (constructor != null) {
+                Map<String, Integer> argIndexes = new HashMap<>();
+                Object[] defaultArgs = new Object[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    argIndexes.put(fields[i].getName(), i);
+                    Class<?> type = fields[i].getType();
+                    if (type.isPrimitive()) {
+                        defaultArgs[i] = Array.get(Array.newInstance(type, 1), 0);
+                    }
+                }
+                boolean covered = beanMeta.getFieldMetas().stream()
+                        .allMatch(meta -> argIndexes.containsKey(meta.getName()));
+                if (covered) {
+                    MethodHandle handle = lookup.unreflectConstructor(constructor)
+                            .asType(MethodType.genericMethodType(fields.length))
+                            .asSpreader(Object[].class, fields.length);
+                    return new BeanAccessor<>(null, null, handle, argIndexes, defaultArgs);
+                }
+            }
+        } catch (Throwable e) {
+            log.warn("Can not generate accessors for [{}], fall back to reflection: {}", beanClass.getName(), e.toString());
+        }
+        return REFLECTION;
+    }
+
+    protected <T> Supplier<T> instantiator(MethodHandles.Lookup lookup, Constructor<T> constructor) throws Throwable {
+        MethodHandle handle = lookup.unreflectConstructor(constructor);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), handle,
+                    MethodType.methodType(constructor.getDeclaringClass()));
+            @SuppressWarnings("unchecked")
+            Supplier<T> supplier = (Supplier<T>) site.getTarget().invokeExact();
+            return supplier;
+        } catch (LambdaConversionException | IllegalAccessException e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    @SuppressWarnings("unchecked")
+                    T bean = (T) generic.invokeExact();
+                    return bean;
+                } catch (Throwable t) {
+                    throw new SearchException("为【" + constructor.getDeclaringClass().getName() + "】创建对象时报错，请检查该类中是否有无参构造方法！", t);
+                }
+            };
+        }
+    }
+
+    /**
+     * 生成直接为字段赋值的函数（与 {@link DefaultBeanReflector } 一致，不调用 setter 方法）
+     */
+    protected BiConsumer<Object, Object> setter(MethodHandles.Lookup lookup, Field field) throws Throwable {
+        MethodHandle handle = lookup.unreflectSetter(field);
+        return invoker(handle.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+    }
+
+    private static BiConsumer<Object, Object> invoker(MethodHandle handle) {
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    protected <T> Constructor<T> noArgsConstructor(Class<T> beanClass) {
+        try {
+            return beanClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return 可以由构造方法赋值的字段：该类自身声明的非静态、非 transient 字段，按声明顺序
+     */
+    protected Field[] constructorFields(Class<?> beanClass) {
+        return Arrays.stream(beanClass.getDeclaredFields())
+                .filter(field -> {
+                    int modifiers = field.getModifiers();
+                    return !field.isSynthetic() && !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers);
+                })
+                .toArray(Field[]::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> Constructor<T> fieldsConstructor(Class<T> beanClass, Field[] fields) {
+        Class<?>[] types = Arrays.stream(fields).map(Field::getType).toArray(Class[]::new);
+        for (Constructor<?> constructor : beanClass.getDeclaredConstructors()) {
+            if (Arrays.equals(constructor.getParameterTypes(), types)) {
+                return (Constructor<T>) constructor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取可以访问该类私有成员的 Lookup
+     */
+    static MethodHandles.Lookup privateLookup(Class<?> beanClass) throws ReflectiveOperationException {
+        try {
+            // JDK 9+：受模块的开放性约束
+            Method method = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            return (MethodHandles.Lookup) method.invoke(null, beanClass, MethodHandles.lookup());
+        } catch (NoSuchMethodException e) {
+            // JDK 8
+            Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+            constructor.setAccessible(true);
+            int allModes = MethodHandles.Lookup.PUBLIC | MethodHandles.Lookup.PRIVATE
+                    | MethodHandles.Lookup.PROTECTED | MethodHandles.Lookup.PACKAGE;
+            return constructor.newInstance(beanClass, allModes);
+        }
+    }
+
+    /**
+     * 某个 Bean 类的访问函数
+     */
+    protected static class BeanAccessor<T> {
+
+        final Supplier<T> instantiator;
+        final Map<String, BiConsumer<Object, Object>> setters;
+        final MethodHandle constructor;
+        final Map<String, Integer> argIndexes;
+        final Object[] defaultArgs;
+
+        BeanAccessor(Supplier<T> instantiator, Map<String, BiConsumer<Object, Object>> setters,
+                     MethodHandle constructor, Map<String, Integer> argIndexes, Object[] defaultArgs) {
+            this.instantiator = instantiator;
+            this.setters = setters;
+            this.constructor = constructor;
+            this.argIndexes = argIndexes;
+            this.defaultArgs = defaultArgs;
+        }
+
+        /**
+         * 同一次检索的各行使用同一个字段集合，只在集合变化时重新查找赋值函数
+         */
+        private volatile FetchPlan lastPlan;
+
+        @SuppressWarnings("unchecked")
+        FetchPlan plan(Collection<FieldMeta> fetchFields) {
+            FetchPlan plan = lastPlan;
+            if (plan != null && plan.fetchFields == fetchFields) {
+                return plan;
+            }
+            FieldMeta[] metas = fetchFields.toArray(new FieldMeta[0]);
+            BiConsumer<Object, Object>[] fieldSetters = new BiConsumer[metas.length];
+            for (int i = 0; i < metas.length; i++) {
+                fieldSetters[i] = setters.get(metas[i].getName());
+            }
+            plan = new FetchPlan(fetchFields, metas, fieldSetters);
+            lastPlan = plan;
+            return plan;
+        }
+
+    }
+
+    protected static class FetchPlan {
+
+        final Collection<FieldMeta> fetchFields;
+        final FieldMeta[] metas;
+        final BiConsumer<Object, Object>[] setters;
+
+        FetchPlan(Collection<FieldMeta> fetchFields, FieldMeta[] metas, BiConsumer<Object, Object>[] setters) {
+            this.fetchFields = fetchFields;
+            this.metas = metas;
+            this.setters = setters;
+        }
+
+    }
+
+}
@@ -0,0 +1,316 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.FieldMeta;
+import com.ejlchina.searcher.param.FieldParam;
+import com.ejlchina.searcher.util.MapBuilder;
+
+import java.util.*;
+
+/**
+ * 检索参数名索引
+ * 按实体类预先编译：把原始参数名（name、name-0、name-op、name-ic 以及 {@link MapBuilder } 生成的字段参数名）
+ * 直接映射到（字段，值序号，角色），归集检索参数时每个参数名只需一次哈希查找，不再需要正则匹配与字符串分割
+ * @since v3.8.0
+ */
+public class ParamKeyIndex {
+
+    /**
+     * 参数名角色：带序号的参数值（name-0）
+     */
+    static final int VALUE = 0;
+
+    /**
+     * 参数名角色：不带序号的参数值（name），相当于序号 0
+     */
+    static final int PLAIN = 1;
+
+    /**
+     * 参数名角色：运算符（name-op）
+     */
+    static final int OPERATOR = 2;
+
+    /**
+     * 参数名角色：忽略大小写（name-ic）
+     */
+    static final int IGNORE_CASE = 3;
+
+    /**
+     * 参数名角色：{@link MapBuilder } 生成的 {@link FieldParam }
+     */
+    static final int FIELD_PARAM = 4;
+
+    /**
+     * 预先编译的值序号个数（name-0 ~ name-9），更大的序号在查找时解析
+     */
+    static final int COMPILED_INDICES = 10;
+
+    static class Slot {
+
+        final int field;
+        final int index;
+        final int role;
+
+        Slot(int field, int index, int role) {
+            this.field = field;
+            this.index = index;
+            this.role = role;
+        }
+
+    }
+
+    /**
+     * 可作为检索条件的字段
+     */
+    private final FieldMeta[] fieldMetas;
+
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    private final Map<String, Integer> fieldOrdinals = new HashMap<>();
+
+    private final String separator;
+
+    /**
+     * @param fieldMetas 实体类的字段
+     * @param separator 参数名分割符
+     * @param operatorSuffix 运算符参数名后缀
+     * @param ignoreCaseSuffix 忽略大小写参数名后缀
+     */
+    public ParamKeyIndex(Collection<FieldMeta> fieldMetas, String separator, String operatorSuffix, String ignoreCaseSuffix) {
+        this.fieldMetas = fieldMetas.stream()
+                .filter(FieldMeta::isConditional)
+                .toArray(FieldMeta[]::new);
+        this.separator = Objects.requireNonNull(separator);
+        for (int i = 0; i < this.fieldMetas.length; i++) {
+            String field = this.fieldMetas[i].getName();
+            fieldOrdinals.put(field, i);
+            for (int index = 0; index < COMPILED_INDICES; index++) {
+                slots.put(field + separator + index, new Slot(i, index, VALUE));
+            }
+            slots.put(field + separator + operatorSuffix, new Slot(i, 0, OPERATOR));
+            slots.put(field + separator + ignoreCaseSuffix, new Slot(i, 0, IGNORE_CASE));
+            slots.put(MapBuilder.FIELD_PARAM + field, new Slot(i, 0, FIELD_PARAM));
+        }
+        // 字段名本身优先
+        for (int i = 0; i < this.fieldMetas.length; i++) {
+            slots.put(this.fieldMetas[i].getName(), new Slot(i, 0, PLAIN));
+        }
+    }
+
+    /**
+     * @return 可作为检索条件的字段，{@link #collect(Map) } 返回的数组与之一一对应
+     */
+    public FieldMeta[] getFieldMetas() {
+        return fieldMetas;
+    }
+
+    /**
+     * 把（不分组的）检索参数归集到各字段上
+     * @param paraMap 检索参数
+     * @return 与 {@link #getFieldMetas() } 一一对应，没有参数的字段为 null
+     */
+    public FieldValues[] collect(Map<String, Object> paraMap) {
+        FieldValues[] values = new FieldValues[fieldMetas.length];
+        for (Map.Entry<String, Object> entry : paraMap.entrySet()) {
+            String key = entry.getKey();
+            Slot slot = lookup(key, 0);
+            if (slot != null) {
+                add(values, slot, entry.getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 把分组的检索参数（如 A.name、A.name-op、A + MapBuilder 字段参数名）按组名归集到各字段上
+     * @param paraMap 检索参数
+     * @param groupSeparator 组分割符
+     * @return 组名 -> 与 {@link #getFieldMetas() } 一一对应的参数
+     */
+    public Map<String, FieldValues[]> collectGroups(Map<String, Object> paraMap, String groupSeparator) {
+        Map<String, FieldValues[]> groups = new HashMap<>();
+        int fpLength = MapBuilder.FIELD_PARAM.length();
+        for (Map.Entry<String, Object> entry : paraMap.entrySet()) {
+            String key = entry.getKey();
+            int from = key.lastIndexOf(groupSeparator);
+            Slot slot = null;
+            if (from > 0) {
+                slot = lookup(key, from + groupSeparator.length());
+            }
+            if (slot == null && key.length() > fpLength) {
+                // MapBuilder 生成的分组字段参数名不带组分割符
+                from = key.indexOf(MapBuilder.FIELD_PARAM);
+                if (from > 0) {
+                    slot = lookup(key, from);
+                    if (slot != null && slot.role != FIELD_PARAM) {
+                        slot = null;
+                    }
+                }
+            }
+            if (slot == null) {
+                continue;
+            }
+            String gKey = key.substring(0, from);
+            FieldValues[] values = groups.get(gKey);
+            if (values == null) {
+                values = new FieldValues[fieldMetas.length];
+                groups.put(gKey, values);
+            }
+            add(values, slot, entry.getValue());
+        }
+        return groups;
+    }
+
+    private Slot lookup(String key, int from) {
+        Slot slot = slots.get(from == 0 ? key : key.substring(from));
+        if (slot != null) {
+            return slot;
+        }
+        // 更大的值序号
+        int sep = key.lastIndexOf(separator);
+        if (sep <= from) {
+            return null;
+        }
+        int index = parseIndex(key, sep + separator.length());
+        if (index < 0) {
+            return null;
+        }
+        Integer field = fieldOrdinals.get(key.substring(from, sep));
+        return field != null ? new Slot(field, index, VALUE) : null;
+    }
+
+    /**
+     * 解析非负整数（不带前导 0，最多 9 位）
+     * @return 不是合法序号时返回 -1
+     */
+    static int parseIndex(String key, int start) {
+        int length = key.length() - start;
+        if (length <= 0 || length > 9 || length > 1 && key.charAt(start) == '0') {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private static void add(FieldValues[] values, Slot slot, Object value) {
+        FieldValues fv = values[slot.field];
+        if (fv == null) {
+            fv = new FieldValues();
+            values[slot.field] = fv;
+        }
+        switch (slot.role) {
+            case VALUE:
+                fv.addValue(slot.index, value, false);
+                break;
+            case PLAIN:
+                fv.addValue(0, value, true);
+                break;
+            case OPERATOR:
+                fv.operator = value;
+                break;
+            case IGNORE_CASE:
+                fv.ignoreCase = value;
+                break;
+            case FIELD_PARAM:
+                if (value instanceof FieldParam) {
+                    fv.fieldParam = (FieldParam) value;
+                }
+                break;
+        }
+    }
+
+    /**
+     * 一个字段的检索参数
+     */
+    public static class FieldValues {
+
+        private FieldParam fieldParam;
+
+        private Object operator;
+
+        private Object ignoreCase;
+
+        private int[] indices;
+
+        private Object[] values;
+
+        private int count;
+
+        /**
+         * 序号 0 的值是否来自不带序号的参数名
+         */
+        private boolean zeroFromPlain;
+
+        /**
+         * 序号 0 的值：优先使用 name-0 的值，为 null 时使用 name 的值
+         */
+        void addValue(int index, Object value, boolean plain) {
+            if (index == 0) {
+                for (int i = 0; i < count; i++) {
+                    if (indices[i] == 0) {
+                        if (plain ? values[i] == null : value != null || zeroFromPlain && values[i] == null) {
+                            values[i] = value;
+                            zeroFromPlain = plain;
+                        }
+                        return;
+                    }
+                }
+                zeroFromPlain = plain;
+            }
+            if (indices == null) {
+                indices = new int[2];
+                values = new Object[2];
+            } else if (count == indices.length) {
+                indices = Arrays.copyOf(indices, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            indices[count] = index;
+            values[count] = value;
+            count++;
+        }
+
+        /**
+         * @return {@link MapBuilder } 生成的字段参数，可能为 null
+         */
+        public FieldParam getFieldParam() {
+            return fieldParam;
+        }
+
+        /**
+         * @return 运算符参数值，可能为 null
+         */
+        public Object getOperator() {
+            return operator;
+        }
+
+        /**
+         * @return 忽略大小写参数值，可能为 null
+         */
+        public Object getIgnoreCase() {
+            return ignoreCase;
+        }
+
+        /**
+         * @return 参数值的个数（包含值为 null 的参数）
+         */
+        public int getValueCount() {
+            return count;
+        }
+
+        public int getIndex(int i) {
+            return indices[i];
+        }
+
+        public Object getValue(int i) {
+            return values[i];
+        }
+
+    }
+
+}
@@ -0,0 +1,278 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.BeanMeta;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 结果缓存的存储，供 {@link ClusterResultCache } 与 {@link SearchResultCache } 共用
+ * 缓存条数与占用内存（估算）均有上限，按最近最少使用淘汰，每个条目有各自的过期时间，
+ * 并支持按实体类或表名失效（表名从 {@link com.ejlchina.searcher.bean.SearchBean#tables()} 中解析）
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @since v3.8.0
+ */
+class ResultCacheStore<K, V> {
+
+    static class Node<V> {
+
+        final V value;
+        final Class<?> beanClass;
+        final Set<String> tables;
+        final long expireAt;
+        final long weight;
+
+        Node(V value, Class<?> beanClass, Set<String> tables, long expireAt, long weight) {
+            this.value = value;
+            this.beanClass = beanClass;
+            this.tables = tables;
+            this.expireAt = expireAt;
+            this.weight = weight;
+        }
+
+    }
+
+    /**
+     * 实体类所涉及的表名
+     */
+    private final Map<BeanMeta<?>, Set<String>> beanTables = new ConcurrentHashMap<>();
+
+    private final LinkedHashMap<K, Node<V>> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * 最大缓存条数
+     */
+    private int maxEntries;
+
+    /**
+     * 最大占用内存（估算值，单位：字节）
+     */
+    private long maxWeight;
+
+    private long usedWeight = 0;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    ResultCacheStore(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * @param key 键
+     * @return 未过期的值，未命中时返回 null
+     */
+    V get(K key) {
+        synchronized (cache) {
+            Node<V> node = cache.get(key);
+            if (node != null) {
+                if (node.expireAt > System.currentTimeMillis()) {
+                    hitCount.increment();
+                    return node.value;
+                }
+                remove(key);
+            }
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * @param key 键
+     * @param value 值
+     * @param beanMeta 值所属实体类的元信息
+     * @param ttl 过期时间（单位：毫秒）
+     * @param weight 占用内存（估算值，单位：字节），超出上限时不缓存
+     */
+    void put(K key, V value, BeanMeta<?> beanMeta, long ttl, long weight) {
+        if (weight > maxWeight) {
+            return;
+        }
+        Set<String> tables = beanTables.computeIfAbsent(beanMeta, meta -> parseTables(meta.getTableSnippet().getSql()));
+        Node<V> node = new Node<>(value, beanMeta.getBeanClass(), tables, System.currentTimeMillis() + ttl, weight);
+        synchronized (cache) {
+            remove(key);
+            cache.put(key, node);
+            usedWeight += weight;
+            Iterator<Node<V>> it = cache.values().iterator();
+            while ((cache.size() > maxEntries || usedWeight > maxWeight) && it.hasNext()) {
+                usedWeight -= it.next().weight;
+                it.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    int invalidate(Class<?> beanClass) {
+        return invalidate(node -> node.beanClass == beanClass);
+    }
+
+    int invalidate(String table) {
+        String name = normalizeTable(table);
+        return invalidate(node -> node.tables.contains(name));
+    }
+
+    private int invalidate(Predicate<Node<V>> predicate) {
+        int count = 0;
+        synchronized (cache) {
+            Iterator<Node<V>> it = cache.values().iterator();
+            while (it.hasNext()) {
+                Node<V> node = it.next();
+                if (predicate.test(node)) {
+                    usedWeight -= node.weight;
+                    it.remove();
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    void clear() {
+        synchronized (cache) {
+            cache.clear();
+            usedWeight = 0;
+        }
+    }
+
+    private void remove(K key) {
+        Node<V> old = cache.remove(key);
+        if (old != null) {
+            usedWeight -= old.weight;
+        }
+    }
+
+    /**
+     * 规范化 SQL：合并空白字符（字符串字面量与带引号的标识符中的除外）
+     */
+    static String normalizeSql(String sql) {
+        StringBuilder builder = new StringBuilder(sql.length());
+        boolean space = false;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+                continue;
+            } else {
+                if (space) {
+                    builder.append(' ');
+                    space = false;
+                }
+                if (c == '\'' || c == '"' || c == '`') {
+                    quote = c;
+                }
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 从 {@link com.ejlchina.searcher.bean.SearchBean#tables()} 片段中解析表名
+     * 表名为：from 列表中的第一个标识符，以及逗号、join 关键字之后的第一个标识符，子查询中的表也会被解析
+     */
+    static Set<String> parseTables(String tables) {
+        Set<String> names = new HashSet<>();
+        String[] tokens = tables.replace(",", " , ").replace("(", " ( ").replace(")", " ) ").trim().split("\\s+");
+        // 每层括号中是否处于 from 列表中（逗号分隔的是表）
+        Deque<Boolean> fromLists = new ArrayDeque<>();
+        boolean fromList = true, expectTable = true;
+        for (String token : tokens) {
+            String lower = token.toLowerCase();
+            switch (lower) {
+                case "from":
+                case "join":
+                    fromList = true;
+                    expectTable = true;
+                    break;
+                case ",":
+                    expectTable = fromList;
+                    break;
+                case "(":
+                    fromLists.push(fromList);
+                    fromList = false;
+                    expectTable = false;
+                    break;
+                case ")":
+                    fromList = fromLists.isEmpty() || fromLists.pop();
+                    expectTable = false;
+                    break;
+                case "where":
+                case "select":
+                case "group":
+                case "order":
+                    fromList = false;
+                    expectTable = false;
+                    break;
+                default:
+                    if (expectTable && !lower.startsWith(":")) {
+                        names.add(normalizeTable(token));
+                    }
+                    expectTable = false;
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    static String normalizeTable(String table) {
+        String name = table.trim().toLowerCase();
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            name = name.substring(dot + 1);
+        }
+        return name.replace("`", "").replace("\"", "").replace("[", "").replace("]", "");
+    }
+
+    int getSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    long getUsedWeight() {
+        synchronized (cache) {
+            return usedWeight;
+        }
+    }
+
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    int getMaxEntries() {
+        return maxEntries;
+    }
+
+    void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    long getMaxWeight() {
+        return maxWeight;
+    }
+
+    void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+}
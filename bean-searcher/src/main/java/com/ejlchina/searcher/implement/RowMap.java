@@ -0,0 +1,141 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.FieldMeta;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 紧凑的行数据 Map（只读）
+ * 每行只有一个值数组，键与其下标的对应表由同一次检索的所有行共享，
+ * 省去了 HashMap 中每个值一个 Node 及每行对每个键的哈希计算。
+ * 遍历顺序与检索字段的顺序一致；修改行数据的 {@link com.ejlchina.searcher.ResultFilter } 应先复制一份（如 new HashMap<>(row)）
+ * @since v3.8.0
+ */
+public class RowMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 键表：同一次检索的所有行共享
+     */
+    public static class Keys implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[] names;
+
+        private final Map<String, Integer> indexes;
+
+        public Keys(String[] names) {
+            Map<String, Integer> indexes = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                indexes.putIfAbsent(names[i], i);
+            }
+            this.names = names;
+            this.indexes = indexes;
+        }
+
+        public Keys(List<FieldMeta> fieldMetas) {
+            this(fieldMetas.stream().map(FieldMeta::getName).toArray(String[]::new));
+        }
+
+        /**
+         * @return 键的下标，不存在时返回 -1
+         */
+        public int indexOf(Object key) {
+            Integer index = indexes.get(key);
+            return index != null ? index : -1;
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        public String get(int index) {
+            return names[index];
+        }
+
+    }
+
+    private final Keys keys;
+
+    private final Object[] values;
+
+    /**
+     * @param keys 键表
+     * @param values 与键表按下标对应的值
+     */
+    public RowMap(Keys keys, Object[] values) {
+        if (keys.size() != values.length) {
+            throw new IllegalArgumentException("The length of values must be " + keys.size() + ", but was " + values.length);
+        }
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keys.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys.indexOf(key) >= 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < values.length; i++) {
+            action.accept(keys.get(i), values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+
+                    int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = index++;
+                        return new SimpleImmutableEntry<>(keys.get(i), values[i]);
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,314 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.param.FetchType;
+
+import java.util.*;
+
+/**
+ * 检索结果缓存，配合 {@link CachingSqlExecutor } 使用
+ * 以 实体类、检索类型、列表 SQL 与参数、聚族 SQL 与参数 为键，缓存条数与占用内存（估算）均有上限，按最近最少使用淘汰，
+ * 每个实体类的过期时间（空结果可单独设置）由 {@link CachePolicy } 决定（{@link com.ejlchina.searcher.bean.ResultCache } 注解或配置），并支持按实体类或表名失效
+ * @since v3.8.0
+ */
+public class SearchResultCache {
+
+    /**
+     * 缓存键
+     */
+    static class Key {
+
+        final Class<?> beanClass;
+        final int fetchType;
+        final List<String> summaryFields;
+        final String listSql;
+        final List<Object> listParams;
+        final String clusterSql;
+        final List<Object> clusterParams;
+        final int hash;
+
+        Key(Class<?> beanClass, FetchType fetchType, String listSql, List<Object> listParams,
+            String clusterSql, List<Object> clusterParams) {
+            this.beanClass = beanClass;
+            // 自定义的 SqlResolver 可能未设置检索类型，此时视为默认检索类型，且无统计字段
+            this.fetchType = fetchType != null ? fetchType.getType() : FetchType.DEFAULT;
+            this.summaryFields = fetchType != null ? Arrays.asList(fetchType.getSummaryFields()) : Collections.emptyList();
+            this.listSql = listSql;
+            this.listParams = listParams;
+            this.clusterSql = clusterSql;
+            this.clusterParams = clusterParams;
+            this.hash = Objects.hash(beanClass, this.fetchType, summaryFields, listSql, listParams, clusterSql, clusterParams);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return fetchType == key.fetchType && beanClass == key.beanClass
+                    && summaryFields.equals(key.summaryFields)
+                    && Objects.equals(listSql, key.listSql) && Objects.equals(listParams, key.listParams)
+                    && Objects.equals(clusterSql, key.clusterSql) && Objects.equals(clusterParams, key.clusterParams);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    /**
+     * 缓存的检索结果
+     */
+    public static class Entry {
+
+        final String[] columns;
+        final List<Object[]> rows;
+        final Map<String, Object> clusterValues;
+        final boolean countEstimated;
+
+        public Entry(String[] columns, List<Object[]> rows, Map<String, Object> clusterValues, boolean countEstimated) {
+            this.columns = columns;
+            this.rows = rows;
+            this.clusterValues = clusterValues;
+            this.countEstimated = countEstimated;
+        }
+
+        /**
+         * @return 列表结果的列名（别名），未查询列表时为 null
+         */
+        public String[] getColumns() {
+            return columns;
+        }
+
+        /**
+         * @return 列表结果的各行，未查询列表时为 null
+         */
+        public List<Object[]> getRows() {
+            return rows;
+        }
+
+        /**
+         * @return 聚族结果（列名 -&gt; 值），未查询聚族时为 null
+         */
+        public Map<String, Object> getClusterValues() {
+            return clusterValues;
+        }
+
+        public boolean isCountEstimated() {
+            return countEstimated;
+        }
+
+        /**
+         * @return 是否为空结果（列表为空，且总条数为 0）
+         */
+        public boolean isEmpty() {
+            if (rows != null && rows.size() > 0) {
+                return false;
+            }
+            if (clusterValues == null) {
+                return rows != null;
+            }
+            for (Object value : clusterValues.values()) {
+                if (value instanceof Number && ((Number) value).longValue() != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private final ResultCacheStore<Key, Entry> store = new ResultCacheStore<>(10000, 32 * 1024 * 1024);
+
+    /**
+     * 过期时间策略，默认不缓存
+     */
+    private CachePolicy policy = new CachePolicy(0);
+
+    /**
+     * @param beanMeta 实体类元信息
+     * @return 该实体类的检索结果是否可以被缓存
+     */
+    public boolean isCacheable(BeanMeta<?> beanMeta) {
+        return policy.getTtl(beanMeta.getBeanClass()) > 0;
+    }
+
+    /**
+     * 获取缓存的检索结果
+     * @param searchSql 检索 SQL 信息
+     * @return 检索结果，未命中时返回 null
+     */
+    public Entry get(SearchSql<?> searchSql) {
+        return store.get(keyOf(searchSql));
+    }
+
+    /**
+     * 缓存检索结果
+     * @param searchSql 检索 SQL 信息
+     * @param entry 检索结果
+     */
+    public void put(SearchSql<?> searchSql, Entry entry) {
+        BeanMeta<?> beanMeta = searchSql.getBeanMeta();
+        Class<?> beanClass = beanMeta.getBeanClass();
+        long ttl = entry.isEmpty() ? policy.getEmptyTtl(beanClass) : policy.getTtl(beanClass);
+        if (ttl <= 0) {
+            return;
+        }
+        Key key = keyOf(searchSql);
+        store.put(key, entry, beanMeta, ttl, estimateWeight(key, entry));
+    }
+
+    /**
+     * 使某实体类的缓存全部失效
+     * @param beanClass 实体类
+     * @return 失效的缓存条数
+     */
+    public int invalidate(Class<?> beanClass) {
+        return store.invalidate(beanClass);
+    }
+
+    /**
+     * 使涉及某张表的缓存全部失效
+     * @param table 表名（不区分大小写）
+     * @return 失效的缓存条数
+     */
+    public int invalidate(String table) {
+        return store.invalidate(table);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        store.clear();
+    }
+
+    protected Key keyOf(SearchSql<?> searchSql) {
+        String listSql = null, clusterSql = null;
+        List<Object> listParams = null, clusterParams = null;
+        if (searchSql.isShouldQueryList()) {
+            listSql = ResultCacheStore.normalizeSql(searchSql.getListSqlString());
+            listParams = new ArrayList<>(searchSql.getListSqlParams());
+        }
+        if (searchSql.isShouldQueryCluster()) {
+            clusterSql = ResultCacheStore.normalizeSql(searchSql.getClusterSqlString());
+            clusterParams = new ArrayList<>(searchSql.getClusterSqlParams());
+        }
+        return new Key(searchSql.getBeanMeta().getBeanClass(), searchSql.getFetchType(), listSql, listParams, clusterSql, clusterParams);
+    }
+
+    protected long estimateWeight(Key key, Entry entry) {
+        long weight = 128 + lengthOf(key.listSql) + lengthOf(key.clusterSql);
+        weight += weightOf(key.listParams) + weightOf(key.clusterParams);
+        if (entry.rows != null) {
+            for (Object[] row : entry.rows) {
+                weight += 16 + weightOf(Arrays.asList(row));
+            }
+        }
+        if (entry.clusterValues != null) {
+            weight += 48L * entry.clusterValues.size();
+        }
+        return weight;
+    }
+
+    private static long lengthOf(String str) {
+        return str != null ? 2L * str.length() : 0;
+    }
+
+    private static long weightOf(List<Object> values) {
+        long weight = 0;
+        if (values != null) {
+            for (Object value : values) {
+                weight += 16;
+                if (value instanceof CharSequence) {
+                    weight += 2L * ((CharSequence) value).length();
+                } else if (value instanceof byte[]) {
+                    weight += ((byte[]) value).length;
+                } else if (value != null) {
+                    weight += 16;
+                }
+            }
+        }
+        return weight;
+    }
+
+    public int getSize() {
+        return store.getSize();
+    }
+
+    public long getUsedWeight() {
+        return store.getUsedWeight();
+    }
+
+    public long getHitCount() {
+        return store.getHitCount();
+    }
+
+    public long getMissCount() {
+        return store.getMissCount();
+    }
+
+    /**
+     * @return 因超出条数或内存上限而被淘汰的缓存条数（不含过期与主动失效的）
+     */
+    public long getEvictionCount() {
+        return store.getEvictionCount();
+    }
+
+    public int getMaxEntries() {
+        return store.getMaxEntries();
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        store.setMaxEntries(maxEntries);
+    }
+
+    public long getMaxWeight() {
+        return store.getMaxWeight();
+    }
+
+    public void setMaxWeight(long maxWeight) {
+        store.setMaxWeight(maxWeight);
+    }
+
+    public CachePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 设置过期时间策略（可与 {@link ClusterResultCache } 共用同一个策略）
+     * @param policy 过期时间策略
+     */
+    public void setPolicy(CachePolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    public long getDefaultTtl() {
+        return policy.getDefaultTtl();
+    }
+
+    /**
+     * 设置默认过期时间
+     * @param defaultTtl 过期时间，单位：毫秒，小于等于 0 表示默认不缓存
+     */
+    public void setDefaultTtl(long defaultTtl) {
+        policy.setDefaultTtl(defaultTtl);
+    }
+
+    /**
+     * 设置某实体类的过期时间
+     * @param beanClass 实体类
+     * @param ttl 过期时间，单位：毫秒，小于等于 0 表示该实体类不缓存
+     */
+    public void setTtl(Class<?> beanClass, long ttl) {
+        policy.setTtl(beanClass, ttl);
+    }
+
+    public Map<Class<?>, Long> getBeanTtls() {
+        return policy.getBeanTtls();
+    }
+
+}
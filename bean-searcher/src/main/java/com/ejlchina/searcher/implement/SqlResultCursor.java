@@ -0,0 +1,103 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.SearchCursor;
+import com.ejlchina.searcher.SearchException;
+import com.ejlchina.searcher.SqlResult;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 基于 {@link SqlResult } 的检索游标，逐行映射列表结果集，结果集读取完毕后自动关闭
+ * @param <T> 数据类型
+ * @since v3.8.0
+ */
+public class SqlResultCursor<T> implements SearchCursor<T> {
+
+    /**
+     * 行映射器
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+
+        /**
+         * @param resultSet 当前行所在的结果集
+         * @return 当前行映射后的数据
+         * @throws SQLException 异常
+         */
+        T map(SqlResult.ResultSet resultSet) throws SQLException;
+
+    }
+
+    private final SqlResult<?> sqlResult;
+
+    private final SqlResult.ResultSet listResult;
+
+    private final RowMapper<T> rowMapper;
+
+    /**
+     * 单行数据的过滤器（ResultFilter 可能会移除或增加数据，所以返回的是 List）
+     */
+    private final Function<T, List<T>> rowFilter;
+
+    private Iterator<T> rows = Collections.emptyIterator();
+
+    private boolean closed = false;
+
+    public SqlResultCursor(SqlResult<?> sqlResult, RowMapper<T> rowMapper, Function<T, List<T>> rowFilter) {
+        this.sqlResult = Objects.requireNonNull(sqlResult);
+        SqlResult.ResultSet listResult = sqlResult.getListResult();
+        this.listResult = listResult != null ? listResult : SqlResult.ResultSet.EMPTY;
+        this.rowMapper = Objects.requireNonNull(rowMapper);
+        this.rowFilter = Objects.requireNonNull(rowFilter);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!rows.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (listResult.next()) {
+                    rows = rowFilter.apply(rowMapper.map(listResult)).iterator();
+                } else {
+                    close();
+                }
+            } catch (SQLException e) {
+                close();
+                throw new SearchException("A exception occurred when collecting sql result!", e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return rows.next();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            sqlResult.close();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+}
@@ -0,0 +1,269 @@
+package com.ejlchina.searcher.implement;
+
+import com.ejlchina.searcher.*;
+import com.ejlchina.searcher.group.Group;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.FieldParam;
+import com.ejlchina.searcher.param.OrderBy;
+import com.ejlchina.searcher.util.BoundedCache;
+import com.ejlchina.searcher.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 模板缓存
+ * 以检索形态（实体类、Select 字段、条件字段及其运算符与参数值个数、组表达式、排序、是否分页 以及 拼接参数的值）为键，
+ * 缓存 {@link DefaultSqlResolver } 生成的 列表 SQL 与 聚族 SQL，命中缓存时只需收集 JDBC 参数即可。
+ * 注意：该缓存假设 {@link FieldOp } 生成的 SQL 只取决于参数值的个数与是否为空，
+ * 若自定义的运算符不满足该条件，请不要启用该缓存。
+ * @since v3.8.0
+ */
+public class SqlTemplateCache {
+
+    /**
+     * 最大缓存条数
+     */
+    private final int maxSize;
+
+    private final BoundedCache<Shape, Template> cache;
+
+    /**
+     * 实体类中所有的拼接参数（:name: 形式的参数）名
+     */
+    private final Map<BeanMeta<?>, String[]> embedParaNames = new ConcurrentHashMap<>();
+
+    public SqlTemplateCache() {
+        this(200);
+    }
+
+    public SqlTemplateCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.cache = new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * 检索形态
+     */
+    public static class Shape {
+
+        private final BeanMeta<?> beanMeta;
+        private final String signature;
+
+        Shape(BeanMeta<?> beanMeta, String signature) {
+            this.beanMeta = beanMeta;
+            this.signature = signature;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Shape shape = (Shape) o;
+            return beanMeta == shape.beanMeta && signature.equals(shape.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(beanMeta) + signature.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return beanMeta.getBeanClass().getName() + "#" + signature;
+        }
+
+    }
+
+    /**
+     * SQL 模板
+     */
+    public static class Template {
+
+        private final String listSql;
+        private final String clusterSql;
+        private final String countAlias;
+        private final List<String> summaryAliases;
+
+        public Template(SearchSql<?> searchSql) {
+            this.listSql = searchSql.getListSqlString();
+            this.clusterSql = searchSql.getClusterSqlString();
+            this.countAlias = searchSql.getCountAlias();
+            this.summaryAliases = new ArrayList<>(searchSql.getSummaryAliases());
+        }
+
+        public String getListSql() {
+            return listSql;
+        }
+
+        public String getClusterSql() {
+            return clusterSql;
+        }
+
+        public String getCountAlias() {
+            return countAlias;
+        }
+
+        public List<String> getSummaryAliases() {
+            return summaryAliases;
+        }
+
+    }
+
+    /**
+     * 计算检索形态
+     * @param beanMeta 实体类元信息
+     * @param searchParam 检索参数
+     * @return 检索形态
+     */
+    public Shape shapeOf(BeanMeta<?> beanMeta, SearchParam searchParam) {
+        StringBuilder builder = new StringBuilder(64);
+        FetchType fetchType = searchParam.getFetchType();
+        builder.append(fetchType.getType());
+        for (String field : fetchType.getSummaryFields()) {
+            builder.append(',').append(field);
+        }
+        builder.append('|');
+        for (String field : searchParam.getFetchFields()) {
+            builder.append(field).append(',');
+        }
+        builder.append('|');
+        Group<List<FieldParam>> paramsGroup = searchParam.getParamsGroup();
+        paramsGroup.forEach(event -> {
+            if (event.isGroupStart()) {
+                builder.append('(');
+            } else
+            if (event.isGroupEnd()) {
+                builder.append(')');
+            } else
+            if (event.isGroupAnd()) {
+                builder.append('&');
+            } else
+            if (event.isGroupOr()) {
+                builder.append('/');
+            } else {
+                for (FieldParam param : event.getValue()) {
+                    appendShape(builder, param);
+                }
+            }
+        });
+        builder.append('|');
+        for (OrderBy orderBy : searchParam.getOrderBys()) {
+            builder.append(orderBy.getSort()).append(' ').append(orderBy.getOrder()).append(',');
+        }
+        builder.append('|').append(searchParam.getPaging() != null ? 'P' : 'A').append('|');
+        Map<String, Object> paraMap = searchParam.getParaMap();
+        for (String name : getEmbedParaNames(beanMeta)) {
+            Object value = paraMap.get(name);
+            String strValue = value != null ? value.toString() : "";
+            builder.append(strValue.length()).append(':').append(strValue);
+        }
+        return new Shape(beanMeta, builder.toString());
+    }
+
+    protected void appendShape(StringBuilder builder, FieldParam param) {
+        FieldOp operator = (FieldOp) param.getOperator();
+        builder.append(param.getName()).append(':').append(operator.name()).append(':');
+        builder.append(Boolean.TRUE.equals(param.isIgnoreCase()) ? '1' : '0').append(':');
+        for (Object value : param.getValues()) {
+            if (value == null) {
+                builder.append('n');
+            } else if (value instanceof String && StringUtils.isBlank((String) value)) {
+                builder.append('b');
+            } else {
+                builder.append('v');
+            }
+        }
+        builder.append(';');
+    }
+
+    protected String[] getEmbedParaNames(BeanMeta<?> beanMeta) {
+        return embedParaNames.computeIfAbsent(beanMeta, meta -> {
+            Set<String> names = new TreeSet<>();
+            collectEmbedParaNames(names, meta.getTableSnippet());
+            collectEmbedParaNames(names, meta.getOrderBySnippet());
+            collectEmbedParaNames(names, meta.getJoinCondSqlParas());
+            collectEmbedParaNames(names, meta.getGroupBySqlParas());
+            for (FieldMeta fieldMeta : meta.getFieldMetas()) {
+                collectEmbedParaNames(names, fieldMeta.getFieldSql());
+            }
+            return names.toArray(new String[0]);
+        });
+    }
+
+    private void collectEmbedParaNames(Set<String> names, SqlSnippet snippet) {
+        if (snippet != null) {
+            collectEmbedParaNames(names, snippet.getParas());
+        }
+    }
+
+    private void collectEmbedParaNames(Set<String> names, List<SqlSnippet.SqlPara> paras) {
+        if (paras != null) {
+            for (SqlSnippet.SqlPara para : paras) {
+                if (!para.isJdbcPara()) {
+                    names.add(para.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取 SQL 模板
+     * @param shape 检索形态
+     * @return SQL 模板，未命中时返回 null
+     */
+    public Template get(Shape shape) {
+        return cache.get(shape);
+    }
+
+    /**
+     * 缓存 SQL 模板
+     * @param shape 检索形态
+     * @param template SQL 模板
+     */
+    public void put(Shape shape, Template template) {
+        cache.put(shape, template);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.clear();
+        embedParaNames.clear();
+    }
+
+    public int getSize() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return 淘汰的模板数
+     * @since v3.8.0
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+}
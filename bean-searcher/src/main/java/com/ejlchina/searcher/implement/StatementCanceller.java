@@ -0,0 +1,100 @@
+package com.ejlchina.searcher.implement;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SQL 语句取消器
+ * 绑定到执行检索的线程上，{@link DefaultSqlExecutor } 执行的语句会登记到当前线程的取消器中，
+ * 调用 {@link #cancel()} 时，取消所有正在执行的语句，之后的语句也不再执行
+ * @since v3.8.0
+ */
+public class StatementCanceller {
+
+    private static final ThreadLocal<StatementCanceller> CURRENT = new ThreadLocal<>();
+
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean cancelled = false;
+
+    /**
+     * @return 绑定到当前线程的取消器，没有时返回 null
+     */
+    public static StatementCanceller current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 在绑定了取消器的当前线程中执行任务
+     * @param canceller 取消器，为 null 时直接执行
+     * @param task 任务
+     * @param <T> 任务结果类型
+     * @return 任务结果
+     */
+    public static <T> T callWith(StatementCanceller canceller, Supplier<T> task) {
+        if (canceller == null) {
+            return task.get();
+        }
+        StatementCanceller previous = CURRENT.get();
+        CURRENT.set(canceller);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 登记一个即将执行的语句
+     * @param statement 语句
+     * @throws SQLException 已被取消时
+     */
+    public void register(Statement statement) throws SQLException {
+        if (cancelled) {
+            throw new SQLException("The search has been cancelled");
+        }
+        statements.add(statement);
+        if (cancelled) {
+            // 与 cancel() 并发时，保证该语句也被取消
+            cancelQuietly(statement);
+        }
+    }
+
+    /**
+     * 移除已执行完毕（已关闭）的语句
+     * @param statement 语句
+     */
+    public void unregister(Statement statement) {
+        statements.remove(statement);
+    }
+
+    /**
+     * 取消所有正在执行的语句
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            cancelQuietly(statement);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private static void cancelQuietly(Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException | RuntimeException e) {
+            DefaultSqlExecutor.log.warn("Can not cancel the statement", e);
+        }
+    }
+
+}
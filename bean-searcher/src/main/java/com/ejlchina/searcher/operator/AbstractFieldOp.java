@@ -0,0 +1,49 @@
+package com.ejlchina.searcher.operator;
+
+import com.ejlchina.searcher.FieldOp;
+import com.ejlchina.searcher.implement.DialectWrapper;
+import com.ejlchina.searcher.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 内置运算符的父类
+ * 运算逻辑只实现一次（{@link #doOperate(StringBuilder, OpPara, List) }），两个 operate 方法都调用它；
+ * 若子类只重写了 {@link #operate(StringBuilder, OpPara) }，检索时调用的 {@link #operate(StringBuilder, OpPara, List) }
+ * 会转而调用子类重写的方法，所以继承内置运算符并重写旧方法的自定义运算符仍然生效
+ * @since v3.8.0
+ */
+public abstract class AbstractFieldOp extends DialectWrapper implements FieldOp {
+
+    /**
+     * 子类是否重写了 {@link #operate(StringBuilder, OpPara) }
+     */
+    private final boolean legacyOverridden = ObjectUtils.isOverridden(getClass(), AbstractFieldOp.class,
+            "operate", StringBuilder.class, OpPara.class);
+
+    @Override
+    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+        List<Object> paras = new ArrayList<>();
+        doOperate(sqlBuilder, opPara, paras);
+        return paras;
+    }
+
+    @Override
+    public void operate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
+        if (legacyOverridden) {
+            paras.addAll(operate(sqlBuilder, opPara));
+        } else {
+            doOperate(sqlBuilder, opPara, paras);
+        }
+    }
+
+    /**
+     * 执行该运算符，并把产生的 JDBC 参数追加到 paras 中
+     * @param sqlBuilder SQL 构建器
+     * @param opPara 运算参数
+     * @param paras JDBC 参数接收器
+     */
+    protected abstract void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras);
+
+}
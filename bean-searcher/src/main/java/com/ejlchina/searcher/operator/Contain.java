@@ -2,12 +2,10 @@ package com.ejlchina.searcher.operator;
 
 import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
-import com.ejlchina.searcher.implement.DialectWrapper;
 import com.ejlchina.searcher.util.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.ejlchina.searcher.util.ObjectUtils.firstNotNull;
@@ -17,7 +15,7 @@ import static com.ejlchina.searcher.util.ObjectUtils.firstNotNull;
  * @author Troy.Zhou @ 2022-01-19
  * @since v3.3.0
  */
-public class Contain extends DialectWrapper implements FieldOp {
+public class Contain extends AbstractFieldOp {
 
     static final Logger log = LoggerFactory.getLogger(Contain.class);
 
@@ -45,7 +43,7 @@ public class Contain extends DialectWrapper implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
         Object[] values = opPara.getValues();
         if (opPara.isIgnoreCase()) {
@@ -59,9 +57,8 @@ public class Contain extends DialectWrapper implements FieldOp {
         } else {
             sqlBuilder.append(fieldSql.getSql()).append(" like ?");
         }
-        List<Object> params = new ArrayList<>(fieldSql.getParas());
-        params.add("%" + firstNotNull(values) + "%");
-        return params;
+        paras.addAll(fieldSql.getParas());
+        paras.add("%" + firstNotNull(values) + "%");
     }
 
 }
\ No newline at end of file
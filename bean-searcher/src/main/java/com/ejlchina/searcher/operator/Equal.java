@@ -1,11 +1,8 @@
 package com.ejlchina.searcher.operator;
 
-import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
-import com.ejlchina.searcher.implement.DialectWrapper;
 import com.ejlchina.searcher.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.ejlchina.searcher.util.ObjectUtils.firstNotNull;
@@ -15,7 +12,7 @@ import static com.ejlchina.searcher.util.ObjectUtils.firstNotNull;
  * @author Troy.Zhou @ 2022-01-18
  * @since v3.3.0
  */
-public class Equal extends DialectWrapper implements FieldOp {
+public class Equal extends AbstractFieldOp {
 
     @Override
     public String name() {
@@ -33,7 +30,7 @@ public class Equal extends DialectWrapper implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
         Object[] values = opPara.getValues();
         if (opPara.isIgnoreCase()) {
@@ -43,9 +40,8 @@ public class Equal extends DialectWrapper implements FieldOp {
             sqlBuilder.append(fieldSql.getSql());
         }
         sqlBuilder.append(" = ?");
-        List<Object> params = new ArrayList<>(fieldSql.getParas());
-        params.add(firstNotNull(values));
-        return params;
+        paras.addAll(fieldSql.getParas());
+        paras.add(firstNotNull(values));
     }
 
 }
@@ -1,6 +1,5 @@
 package com.ejlchina.searcher.operator;
 
-import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
 
 import java.util.List;
@@ -10,7 +9,7 @@ import java.util.List;
  * @author Troy.Zhou @ 2022-01-19
  * @since v3.3.0
  */
-public class IsNull implements FieldOp {
+public class IsNull extends AbstractFieldOp {
 
     @Override
     public String name() {
@@ -28,10 +27,10 @@ public class IsNull implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
         sqlBuilder.append(fieldSql.getSql()).append(" is null");
-        return fieldSql.getParas();
+        paras.addAll(fieldSql.getParas());
     }
 
 }
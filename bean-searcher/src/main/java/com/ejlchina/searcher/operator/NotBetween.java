@@ -1,12 +1,9 @@
 package com.ejlchina.searcher.operator;
 
-import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
-import com.ejlchina.searcher.implement.DialectWrapper;
 import com.ejlchina.searcher.util.ObjectUtils;
 import com.ejlchina.searcher.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,7 +11,7 @@ import java.util.List;
  * @author Troy.Zhou @ 2022-01-19
  * @since v3.3.0
  */
-public class NotBetween extends DialectWrapper implements FieldOp {
+public class NotBetween extends AbstractFieldOp {
 
     @Override
     public String name() {
@@ -32,7 +29,7 @@ public class NotBetween extends DialectWrapper implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
         Object[] values = opPara.getValues();
         if (opPara.isIgnoreCase()) {
@@ -51,19 +48,18 @@ public class NotBetween extends DialectWrapper implements FieldOp {
         if (value1 == null || (value1 instanceof String && StringUtils.isBlank((String) value1))) {
             val2Null = true;
         }
-        List<Object> params = new ArrayList<>(fieldSql.getParas());
+        paras.addAll(fieldSql.getParas());
         if (!val1Null && !val2Null) {
             sqlBuilder.append(" not between ? and ? ");
-            params.add(value0);
-            params.add(value1);
+            paras.add(value0);
+            paras.add(value1);
         } else if (val1Null && !val2Null) {
             sqlBuilder.append(" > ? ");
-            params.add(value1);
+            paras.add(value1);
         } else if (!val1Null) {
             sqlBuilder.append(" < ? ");
-            params.add(value0);
+            paras.add(value0);
         }
-        return params;
     }
 
 }
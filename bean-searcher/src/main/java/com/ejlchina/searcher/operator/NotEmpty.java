@@ -1,9 +1,7 @@
 package com.ejlchina.searcher.operator;
 
-import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,7 +9,7 @@ import java.util.List;
  * @author Troy.Zhou @ 2022-01-19
  * @since v3.3.0
  */
-public class NotEmpty implements FieldOp {
+public class NotEmpty extends AbstractFieldOp {
 
     @Override
     public String name() {
@@ -29,15 +27,14 @@ public class NotEmpty implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
         String sql = fieldSql.getSql();
-        List<Object> paras = fieldSql.getParas();
+        List<Object> fieldParas = fieldSql.getParas();
         sqlBuilder.append(sql).append(" is not null");
         sqlBuilder.append(" and ").append(sql).append(" != ''");
-        List<Object> params = new ArrayList<>(paras);
-        params.addAll(paras);
-        return params;
+        paras.addAll(fieldParas);
+        paras.addAll(fieldParas);
     }
 
 }
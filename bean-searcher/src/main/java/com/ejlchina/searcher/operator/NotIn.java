@@ -1,11 +1,8 @@
 package com.ejlchina.searcher.operator;
 
-import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
-import com.ejlchina.searcher.implement.DialectWrapper;
 import com.ejlchina.searcher.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,7 +10,7 @@ import java.util.List;
  * @author Troy.Zhou @ 2022-01-19
  * @since v3.3.0
  */
-public class NotIn extends DialectWrapper implements FieldOp {
+public class NotIn extends AbstractFieldOp {
 
     @Override
     public String name() {
@@ -31,7 +28,7 @@ public class NotIn extends DialectWrapper implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
         Object[] values = opPara.getValues();
         if (opPara.isIgnoreCase()) {
@@ -40,17 +37,16 @@ public class NotIn extends DialectWrapper implements FieldOp {
         } else {
             sqlBuilder.append(fieldSql.getSql());
         }
-        List<Object> params = new ArrayList<>(fieldSql.getParas());
+        paras.addAll(fieldSql.getParas());
         sqlBuilder.append(" not in (");
         for (int i = 0; i < values.length; i++) {
             sqlBuilder.append("?");
-            params.add(values[i]);
+            paras.add(values[i]);
             if (i < values.length - 1) {
                 sqlBuilder.append(", ");
             }
         }
         sqlBuilder.append(")");
-        return params;
     }
 
 }
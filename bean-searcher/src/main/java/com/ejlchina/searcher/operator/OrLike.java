@@ -1,10 +1,7 @@
 package com.ejlchina.searcher.operator;
 
-import com.ejlchina.searcher.FieldOp;
 import com.ejlchina.searcher.SqlWrapper;
-import com.ejlchina.searcher.implement.DialectWrapper;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,7 +9,7 @@ import java.util.List;
  * @author Troy.Zhou @ 2022-05-23
  * @since v3.7.0
  */
-public class OrLike extends DialectWrapper implements FieldOp {
+public class OrLike extends AbstractFieldOp {
 
     @Override
     public String name() {
@@ -30,9 +27,8 @@ public class OrLike extends DialectWrapper implements FieldOp {
     }
 
     @Override
-    public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+    protected void doOperate(StringBuilder sqlBuilder, OpPara opPara, List<Object> paras) {
         SqlWrapper<Object> fieldSql = opPara.getFieldSql();
-        List<Object> params = new ArrayList<>();
         boolean ic = opPara.isIgnoreCase();
         boolean notFirst = false;
         for (Object value : opPara.getValues()) {
@@ -57,10 +53,9 @@ public class OrLike extends DialectWrapper implements FieldOp {
                 sqlBuilder.append(fieldSql.getSql());
                 sqlBuilder.append(" like ?");
             }
-            params.addAll(fieldSql.getParas());
-            params.add(value);
+            paras.addAll(fieldSql.getParas());
+            paras.add(value);
         }
-        return params;
     }
 
     public static String upperCase(Object value) {
@@ -0,0 +1,201 @@
+package com.ejlchina.searcher.param;
+
+import com.ejlchina.searcher.SearchException;
+import com.ejlchina.searcher.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 键集分页（Seek）参数
+ * 以上一页最后一行的排序字段值为界，使用 where 条件定位下一页，而不是 offset，
+ * 排序字段的最后一个总是实体类的唯一键字段（{@link com.ejlchina.searcher.bean.SearchBean#keyField()}）
+ * @since v3.8.0
+ */
+public class Seek {
+
+    /**
+     * 排序字段（含唯一键字段）
+     */
+    private final List<OrderBy> orderBys;
+
+    /**
+     * 上一页最后一行的排序字段值，为 null 时表示第一页
+     */
+    private Object[] values;
+
+    /**
+     * 是否需要先查出 offset 处的边界行（由深分页自动转换为键集分页时）
+     */
+    private boolean locate;
+
+    public Seek(List<OrderBy> orderBys) {
+        this.orderBys = orderBys;
+    }
+
+    public List<OrderBy> getOrderBys() {
+        return orderBys;
+    }
+
+    public Object[] getValues() {
+        return values;
+    }
+
+    public void setValues(Object[] values) {
+        this.values = values;
+    }
+
+    public boolean isLocate() {
+        return locate;
+    }
+
+    public void setLocate(boolean locate) {
+        this.locate = locate;
+    }
+
+    /**
+     * @param index 排序字段下标
+     * @return 该字段是否降序
+     */
+    public boolean isDesc(int index) {
+        return OrderBy.ORDER_DESC.equalsIgnoreCase(orderBys.get(index).getOrder());
+    }
+
+    /**
+     * 生成游标
+     * @param values 当前页最后一行的排序字段值
+     * @return 游标，值中含有 null 时返回 null（null 值无法作为键集分页的边界）
+     */
+    public String encode(Object[] values) {
+        StringBuilder builder = new StringBuilder(signature()).append('\n');
+        for (int i = 0; i < values.length; i++) {
+            String value = encodeValue(values[i]);
+            if (value == null) {
+                return null;
+            }
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(value);
+        }
+        return base64(builder.toString());
+    }
+
+    /**
+     * 解析游标，并设置到 {@link #getValues()}
+     * @param cursor 游标
+     */
+    public void decode(String cursor) {
+        String text;
+        try {
+            text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new SearchException("Invalid seek cursor: " + cursor, e);
+        }
+        int index = text.indexOf('\n');
+        if (index < 0 || !text.substring(0, index).equals(signature())) {
+            throw new SearchException("The seek cursor does not match the current order: " + cursor);
+        }
+        String[] parts = text.substring(index + 1).split(",", -1);
+        if (parts.length != orderBys.size()) {
+            throw new SearchException("Invalid seek cursor: " + cursor);
+        }
+        Object[] values = new Object[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = decodeValue(parts[i], cursor);
+        }
+        this.values = values;
+    }
+
+    private String signature() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < orderBys.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(orderBys.get(i).getSort()).append(isDesc(i) ? " desc" : " asc");
+        }
+        return builder.toString();
+    }
+
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        char type;
+        String str = value.toString();
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            type = 'L';
+        } else if (value instanceof BigInteger) {
+            type = 'I';
+        } else if (value instanceof BigDecimal) {
+            type = 'M';
+        } else if (value instanceof Double || value instanceof Float) {
+            type = 'F';
+        } else if (value instanceof Boolean) {
+            type = 'B';
+        } else if (value instanceof Timestamp) {
+            type = 'T';
+        } else if (value instanceof java.sql.Date) {
+            type = 'd';
+        } else if (value instanceof Time) {
+            type = 't';
+        } else if (value instanceof java.util.Date) {
+            type = 'U';
+            str = String.valueOf(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDateTime) {
+            type = 'X';
+        } else if (value instanceof LocalDate) {
+            type = 'Y';
+        } else if (value instanceof LocalTime) {
+            type = 'Z';
+        } else if (value instanceof OffsetDateTime) {
+            type = 'O';
+        } else {
+            type = 'S';
+        }
+        return type + base64(str);
+    }
+
+    private static Object decodeValue(String part, String cursor) {
+        if (StringUtils.isBlank(part)) {
+            throw new SearchException("Invalid seek cursor: " + cursor);
+        }
+        try {
+            String str = new String(Base64.getUrlDecoder().decode(part.substring(1)), StandardCharsets.UTF_8);
+            switch (part.charAt(0)) {
+                case 'L': return Long.parseLong(str);
+                case 'I': return new BigInteger(str);
+                case 'M': return new BigDecimal(str);
+                case 'F': return Double.parseDouble(str);
+                case 'B': return Boolean.parseBoolean(str);
+                case 'T': return Timestamp.valueOf(str);
+                case 'd': return java.sql.Date.valueOf(str);
+                case 't': return Time.valueOf(str);
+                case 'U': return new Timestamp(Long.parseLong(str));
+                case 'X': return LocalDateTime.parse(str);
+                case 'Y': return LocalDate.parse(str);
+                case 'Z': return LocalTime.parse(str);
+                case 'O': return OffsetDateTime.parse(str);
+                case 'S': return str;
+            }
+        } catch (RuntimeException e) {
+            throw new SearchException("Invalid seek cursor: " + cursor, e);
+        }
+        throw new SearchException("Invalid seek cursor: " + cursor);
+    }
+
+    private static String base64(String str) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
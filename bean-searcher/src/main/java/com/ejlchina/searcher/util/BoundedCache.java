@@ -0,0 +1,224 @@
+package com.ejlchina.searcher.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 线程安全的有界缓存（近似 LRU）
+ * 基于 {@link ConcurrentHashMap }，读取不加锁：命中时只在条目上记下当前的逻辑时钟（时钟只在写入时前进，读取不竞争共享变量）；
+ * 条目数超出上限时，由一个线程（其它线程不等待）批量淘汰最久未访问的条目，使条目数降到上限的 15/16，淘汰的开销平摊到每次写入上为常数。
+ * 不支持 null 键与 null 值
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @since v3.8.0
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, Node<V>> map = new ConcurrentHashMap<>();
+
+    /**
+     * 逻辑时钟，每次写入时加一
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    private volatile int maxSize;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BoundedCache(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    static class Node<V> {
+
+        final V value;
+
+        /**
+         * 最近一次访问时的逻辑时钟
+         */
+        volatile long accessed;
+
+        Node(V value, long accessed) {
+            this.value = value;
+            this.accessed = accessed;
+        }
+
+        void touch(long now) {
+            // 值未变时不写，避免多个线程反复写同一缓存行
+            if (accessed != now) {
+                accessed = now;
+            }
+        }
+
+    }
+
+    /**
+     * @param key 键
+     * @return 缓存的值，未命中时返回 null
+     */
+    public V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        node.touch(clock.get());
+        hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * @param key 键
+     * @param value 值
+     */
+    public void put(K key, V value) {
+        map.put(key, new Node<>(value, clock.incrementAndGet()));
+        evictIfNeeded();
+    }
+
+    /**
+     * 获取缓存的值，未命中时加载并缓存。
+     * 同一个键可能被多个线程同时加载（加载函数不在锁内执行），但只有先写入的值被缓存并返回
+     * @param key 键
+     * @param loader 加载函数，返回 null 时不缓存
+     * @return 值
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        Node<V> existing = map.putIfAbsent(key, new Node<>(value, clock.incrementAndGet()));
+        if (existing != null) {
+            return existing.value;
+        }
+        evictIfNeeded();
+        return value;
+    }
+
+    /**
+     * @param key 键
+     * @return 被移除的值，没有时返回 null
+     */
+    public V remove(K key) {
+        Node<V> node = map.remove(key);
+        return node != null ? node.value : null;
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void evictIfNeeded() {
+        // 释放锁后再检查一次：淘汰期间其它线程写入的条目（它们获取锁失败）由当前线程继续淘汰
+        while (map.size() > maxSize && evictLock.tryLock()) {
+            try {
+                evict();
+            } finally {
+                evictLock.unlock();
+            }
+        }
+    }
+
+    private void evict() {
+        int max = maxSize;
+        int size = map.size();
+        if (size <= max) {
+            return;
+        }
+        long[] times = new long[size];
+        int n = 0;
+        for (Node<V> node : map.values()) {
+            if (n == times.length) {
+                break;
+            }
+            times[n++] = node.accessed;
+        }
+        int count = n - (max - (max >> 4));
+        if (count <= 0) {
+            return;
+        }
+        Arrays.sort(times, 0, n);
+        long threshold = times[count - 1];
+        // 先淘汰早于阈值的，再淘汰等于阈值的
+        int evicted = evict(threshold - 1, count);
+        evicted += evict(threshold, count - evicted);
+        evictionCount.add(evicted);
+    }
+
+    private int evict(long threshold, int count) {
+        int evicted = 0;
+        Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+        while (evicted < count && it.hasNext()) {
+            Map.Entry<K, Node<V>> entry = it.next();
+            Node<V> node = entry.getValue();
+            if (node.accessed <= threshold && map.remove(entry.getKey(), node)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        evictIfNeeded();
+    }
+
+    /**
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return 淘汰的条目数
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return 命中率，没有访问时为 0
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+}
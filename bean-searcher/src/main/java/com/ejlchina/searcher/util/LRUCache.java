@@ -5,6 +5,7 @@ import java.util.Map;
 
 /**
  * LRU 缓存
+ * 注意：非线程安全，多线程共享的缓存请使用 {@link BoundedCache }
  * @param <T> 泛型
  * @author Troy.Zhou @ 2022-02-22
  * @since v3.5.0
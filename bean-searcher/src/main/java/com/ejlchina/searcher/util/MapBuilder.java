@@ -19,6 +19,8 @@ public class MapBuilder extends Builder<MapBuilder> {
     public static final String ONLY_SELECT = SearchParam.class.getName() + ".ONLY_SELECT";
     public static final String SELECT_EXCLUDE = SearchParam.class.getName() + ".SELECT_EXCLUDE";
     public static final String GROUP_EXPR = SearchParam.class.getName() + ".GROUP_EXPR";
+    public static final String ESTIMATE_COUNT = SearchParam.class.getName() + ".ESTIMATE_COUNT";
+    public static final String SEEK = SearchParam.class.getName() + ".SEEK";
 
     public MapBuilder(Map<String, Object> map) {
         super(map);
@@ -97,6 +99,39 @@ public class MapBuilder extends Builder<MapBuilder> {
         return this;
     }
 
+    /**
+     * 使用数据库的统计信息估算总条数（而不是执行 count(*) 查询），适用于大表上不需要精确总条数的分页检索，
+     * 需要 SqlExecutor 支持（见 DefaultSqlExecutor#setCountEstimator），无法估算时仍查询精确的总条数，
+     * 可通过 {@link com.ejlchina.searcher.SearchResult#isCountEstimated()} 判断总条数是否为估算值
+     * @since v3.8.0
+     * @return MapBuilder
+     */
+    public MapBuilder estimateCount() {
+        map.put(ESTIMATE_COUNT, true);
+        return this;
+    }
+
+    /**
+     * 使用键集分页检索第一页（需要实体类指定 {@link com.ejlchina.searcher.bean.SearchBean#keyField()}），
+     * 检索结果中的 {@link com.ejlchina.searcher.SearchResult#getNextCursor()} 可用于检索下一页
+     * @since v3.8.0
+     * @return MapBuilder
+     */
+    public MapBuilder seek() {
+        return seek("");
+    }
+
+    /**
+     * 使用键集分页检索游标之后的一页，此时忽略分页参数中的页码（或偏移）
+     * @since v3.8.0
+     * @param cursor 上一页检索结果中的 {@link com.ejlchina.searcher.SearchResult#getNextCursor()}
+     * @return MapBuilder
+     */
+    public MapBuilder seek(String cursor) {
+        map.put(SEEK, cursor != null ? cursor : "");
+        return this;
+    }
+
     /**
      * 开始一个分组（只对字段参数进行分组）
      * 在 {@link #field(String, Object...) } 方法之前使用 }
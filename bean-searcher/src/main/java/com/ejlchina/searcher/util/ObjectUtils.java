@@ -105,4 +105,23 @@ public class ObjectUtils {
 		}
 	}
 
+	/**
+	 * 判断 type 或它与 base 之间的某个父类（不含 base）是否声明了指定的方法，即 type 是否重写了 base 中的该方法
+	 * @param type 类
+	 * @param base 声明该方法的父类
+	 * @param name 方法名
+	 * @param parameterTypes 参数类型
+	 * @return 是否重写
+	 * @since v3.8.0
+	 */
+	public static boolean isOverridden(Class<?> type, Class<?> base, String name, Class<?>... parameterTypes) {
+		for (Class<?> clazz = type; clazz != null && clazz != base; clazz = clazz.getSuperclass()) {
+			try {
+				clazz.getDeclaredMethod(name, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException ignore) { }
+		}
+		return false;
+	}
+
 }
@@ -0,0 +1,164 @@
+package com.ejlchina.searcher.util;
+
+import java.util.*;
+
+/**
+ * 覆盖视图 Map
+ * 在不复制原 Map 的情况下，覆盖或移除其中的部分键值：读取时先查覆盖的键值，再查原 Map。
+ * 参数过滤器只修改少数参数时，用它代替复制整个检索参数
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @since v3.8.0
+ */
+public class OverlayMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> base;
+
+    /**
+     * 覆盖的键值
+     */
+    private final Map<K, V> overrides = new HashMap<>(4);
+
+    /**
+     * 移除的原 Map 中的键
+     */
+    private Set<Object> removed;
+
+    private transient Set<Entry<K, V>> entrySet;
+
+    public OverlayMap(Map<K, V> base) {
+        this.base = Objects.requireNonNull(base);
+    }
+
+    @Override
+    public V get(Object key) {
+        V value = overrides.get(key);
+        if (value != null || overrides.containsKey(key)) {
+            return value;
+        }
+        if (removed != null && removed.contains(key)) {
+            return null;
+        }
+        return base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (overrides.containsKey(key)) {
+            return true;
+        }
+        if (removed != null && removed.contains(key)) {
+            return false;
+        }
+        return base.containsKey(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V old = get(key);
+        overrides.put(key, value);
+        return old;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V old = get(key);
+        overrides.remove(key);
+        if (base.containsKey(key)) {
+            if (removed == null) {
+                removed = new HashSet<>(4);
+            }
+            removed.add(key);
+        }
+        return old;
+    }
+
+    /**
+     * @return 是否覆盖或移除了原 Map 中的键值
+     */
+    public boolean isModified() {
+        return !overrides.isEmpty() || removed != null && !removed.isEmpty();
+    }
+
+    /**
+     * 原 Map 中被覆盖或移除的键不再出现在原 Map 的部分中
+     */
+    private boolean isHidden(Object key) {
+        return overrides.containsKey(key) || removed != null && removed.contains(key);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> es = entrySet;
+        if (es == null) {
+            es = new AbstractSet<Entry<K, V>>() {
+
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    int size = overrides.size();
+                    for (K key : base.keySet()) {
+                        if (!isHidden(key)) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+
+            };
+            entrySet = es;
+        }
+        return es;
+    }
+
+    /**
+     * 先遍历原 Map 中未被覆盖或移除的键值，再遍历覆盖的键值。
+     * 为避免分配，直接返回原 Map 的 Entry，所以请不要通过 Entry 修改值
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<K, V>> baseIt = base.entrySet().iterator();
+
+        private Iterator<Entry<K, V>> overrideIt;
+
+        private Entry<K, V> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            while (overrideIt == null && baseIt.hasNext()) {
+                Entry<K, V> entry = baseIt.next();
+                if (!isHidden(entry.getKey())) {
+                    next = entry;
+                    return true;
+                }
+            }
+            if (overrideIt == null) {
+                overrideIt = overrides.entrySet().iterator();
+            }
+            if (overrideIt.hasNext()) {
+                next = overrideIt.next();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = next;
+            next = null;
+            return entry;
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.AbstractAsyncSearcher;
+import com.ejlchina.searcher.implement.DefaultAsyncBeanSearcher;
+import com.ejlchina.searcher.implement.DefaultAsyncMapSearcher;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class AsyncSearcherTestCase {
+
+    public static class User {
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private final MockDataSource mockDataSource = new MockDataSource(sql -> {
+        if (sql.startsWith("select count(*)") || sql.contains("c_0_sum_")) {
+            return Collections.singletonList(row("s_count", 2L, "c_0_sum_", 3L));
+        }
+        return Arrays.asList(row("c_0", 1L), row("c_0", 2L));
+    });
+
+    private final ExecutorService executor = AbstractAsyncSearcher.newBoundedExecutor(4, 16);
+
+    private final DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+
+    private final AsyncBeanSearcher beanSearcher = new DefaultAsyncBeanSearcher(
+            SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build(), executor);
+
+    private final AsyncMapSearcher mapSearcher = new DefaultAsyncMapSearcher(
+            SearcherBuilder.mapSearcher().sqlExecutor(sqlExecutor).build(), executor);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFanOut() throws Exception {
+        mockDataSource.delay(200);
+        long t0 = System.currentTimeMillis();
+        CompletableFuture<SearchResult<User>> result = beanSearcher.search(User.class, null);
+        CompletableFuture<List<Map<String, Object>>> list = mapSearcher.searchList(User.class, null);
+        CompletableFuture<Number> count = beanSearcher.searchCount(User.class, null);
+        CompletableFuture<Number> sum = mapSearcher.searchSum(User.class, null, "id");
+        CompletableFuture.allOf(result, list, count, sum).get(5, TimeUnit.SECONDS);
+        // 四个检索（共五条 SQL）并发执行
+        Assert.assertTrue(System.currentTimeMillis() - t0 < 700);
+        Assert.assertEquals(2L, result.get().getTotalCount());
+        Assert.assertEquals(2, result.get().getDataList().size());
+        Assert.assertEquals(1L, list.get().get(0).get("id"));
+        Assert.assertEquals(2L, count.get());
+        Assert.assertEquals(3L, sum.get());
+        Assert.assertTrue(mockDataSource.queryThreads.stream().allMatch(name -> name.startsWith("bean-searcher-async-")));
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+    @Test
+    public void testException() throws Exception {
+        CompletableFuture<Number> sum = beanSearcher.searchSum(User.class, null, "notExists");
+        try {
+            sum.get(5, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof SearchException);
+        }
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        ExecutorService bounded = AbstractAsyncSearcher.newBoundedExecutor(1, 1);
+        try {
+            mockDataSource.delay(500);
+            AsyncBeanSearcher searcher = new DefaultAsyncBeanSearcher(SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build(), bounded);
+            CompletableFuture<Number> running = searcher.searchCount(User.class, null);
+            CompletableFuture<Number> queued = searcher.searchCount(User.class, null);
+            long t0 = System.currentTimeMillis();
+            CompletableFuture<Number> rejected = searcher.searchCount(User.class, null);
+            // 队列已满时不在调用线程中执行，而是立即以异常完成
+            Assert.assertTrue(System.currentTimeMillis() - t0 < 200);
+            Assert.assertTrue(rejected.isCompletedExceptionally());
+            try {
+                rejected.get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+            Assert.assertEquals(2L, running.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(2L, queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            bounded.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        mockDataSource.delay(5000);
+        long t0 = System.currentTimeMillis();
+        CompletableFuture<List<User>> list = beanSearcher.searchList(User.class, null);
+        while (mockDataSource.queryThreads.isEmpty()) {
+            Assert.assertFalse(list.isDone());
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(list.cancel(true));
+        Assert.assertTrue(list.isCancelled());
+        // 正在执行的语句被取消，连接被释放
+        while (mockDataSource.openConnections.get() > 0) {
+            Assert.assertTrue(System.currentTimeMillis() - t0 < 3000);
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, mockDataSource.cancelledStatements.get());
+        Assert.assertTrue(mockDataSource.executedSqls.isEmpty());
+    }
+
+    @Test
+    public void testCancelBeforeStart() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            single.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException ignored) { }
+            });
+            AsyncBeanSearcher searcher = new DefaultAsyncBeanSearcher(SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build(), single);
+            CompletableFuture<Number> count = searcher.searchCount(User.class, null);
+            Assert.assertTrue(count.cancel(false));
+            latch.countDown();
+            single.shutdown();
+            Assert.assertTrue(single.awaitTermination(5, TimeUnit.SECONDS));
+            Assert.assertEquals(0, mockDataSource.totalConnections.get());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        if (!AbstractAsyncSearcher.isVirtualThreadSupported()) {
+            return;
+        }
+        ExecutorService virtual = AbstractAsyncSearcher.newVirtualThreadExecutor();
+        try {
+            AsyncBeanSearcher searcher = new DefaultAsyncBeanSearcher(SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build(), virtual);
+            Assert.assertEquals(2, searcher.searchAll(User.class, null).get(5, TimeUnit.SECONDS).size());
+        } finally {
+            virtual.shutdownNow();
+        }
+    }
+
+}
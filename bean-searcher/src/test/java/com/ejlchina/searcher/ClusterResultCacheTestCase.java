@@ -0,0 +1,129 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.ClusterResultCache;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class ClusterResultCacheTestCase {
+
+    @SearchBean(tables = "user u left join `role` r on u.role_id = r.id, dept d")
+    public static class User {
+        @DbField("u.id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private final AtomicLong count = new AtomicLong(5);
+
+    private final MockDataSource mockDataSource = new MockDataSource(sql -> {
+        if (sql.startsWith("select count(*)")) {
+            return Collections.singletonList(row("s_count", count.get()));
+        }
+        return Collections.emptyList();
+    });
+
+    private long countSqls() {
+        return mockDataSource.executedSqls.stream().filter(sql -> sql.startsWith("select count(*)")).count();
+    }
+
+    private Searcher searcher(ClusterResultCache cache) {
+        DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+        sqlExecutor.setClusterCache(cache);
+        return SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+    }
+
+    @Test
+    public void testPaging() {
+        ClusterResultCache cache = new ClusterResultCache();
+        Searcher searcher = searcher(cache);
+        for (int page = 0; page < 5; page++) {
+            SearchResult<?> result = searcher.search(User.class, MapUtils.builder().page(page, 1).build());
+            Assert.assertEquals(5L, result.getTotalCount());
+        }
+        Assert.assertEquals(1, countSqls());
+        Assert.assertEquals(4, cache.getHitCount());
+        // 条件不同则不命中
+        searcher.search(User.class, MapUtils.builder().field(User::getId, 1).build());
+        Assert.assertEquals(2, countSqls());
+        Assert.assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testInvalidate() {
+        ClusterResultCache cache = new ClusterResultCache();
+        Searcher searcher = searcher(cache);
+        Assert.assertEquals(5L, searcher.searchCount(User.class, null));
+        count.set(6);
+        Assert.assertEquals(5L, searcher.searchCount(User.class, null));
+        Assert.assertEquals(0, cache.invalidate("other"));
+        Assert.assertEquals(1, cache.invalidate("ROLE"));
+        Assert.assertEquals(6L, searcher.searchCount(User.class, null));
+        Assert.assertEquals(1, cache.invalidate("dept"));
+        Assert.assertEquals(0, cache.invalidate("dept"));
+        Assert.assertEquals(2, countSqls());
+    }
+
+    @Test
+    public void testQuotedWhitespace() {
+        ClusterResultCache cache = new ClusterResultCache();
+        BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+        cache.put(clusterSql(beanMeta, "select count(*) s_count from user u where u.name = 'a  b'"), Collections.singletonMap("s_count", 1L));
+        Assert.assertNull(cache.get(clusterSql(beanMeta, "select count(*) s_count from user u where u.name = 'a b'")));
+        // 引号外的空白仍被合并
+        Assert.assertNotNull(cache.get(clusterSql(beanMeta, "select  count(*) s_count\n from user u where u.name = 'a  b'")));
+    }
+
+    private SearchSql<User> clusterSql(BeanMeta<User> beanMeta, String sql) {
+        SearchSql<User> searchSql = new SearchSql<>(beanMeta, Collections.emptyList());
+        searchSql.setClusterSqlString(sql);
+        return searchSql;
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        ClusterResultCache cache = new ClusterResultCache();
+        cache.setTtl(User.class, 50);
+        Searcher searcher = searcher(cache);
+        searcher.searchCount(User.class, null);
+        searcher.searchCount(User.class, null);
+        Assert.assertEquals(1, countSqls());
+        Thread.sleep(80);
+        searcher.searchCount(User.class, null);
+        Assert.assertEquals(2, countSqls());
+        cache.setTtl(User.class, 0);
+        searcher.searchCount(User.class, null);
+        searcher.searchCount(User.class, null);
+        Assert.assertEquals(4, countSqls());
+    }
+
+    @Test
+    public void testMaxEntries() {
+        ClusterResultCache cache = new ClusterResultCache();
+        cache.setMaxEntries(3);
+        Searcher searcher = searcher(cache);
+        for (int i = 0; i < 10; i++) {
+            searcher.searchCount(User.class, MapUtils.builder().field(User::getId, i).build());
+        }
+        Assert.assertEquals(3, cache.getSize());
+        cache.setMaxBytes(cache.getUsedBytes() / 3);
+        searcher.searchCount(User.class, null);
+        Assert.assertEquals(1, cache.getSize());
+        Assert.assertTrue(cache.getUsedBytes() <= cache.getMaxBytes());
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.ColumnReader;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.*;
+
+public class ColumnIndexTestCase {
+
+    public static class User {
+        private Long id;
+        private String name;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private final BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+
+    private final String idAlias = beanMeta.requireFieldMeta("id").getDbAlias();
+    private final String nameAlias = beanMeta.requireFieldMeta("name").getDbAlias();
+
+    private final MockDataSource mockDataSource = new MockDataSource(sql -> Arrays.asList(
+            MockDataSource.row(idAlias, 1L, nameAlias, "Jack"),
+            MockDataSource.row(idAlias, 2L, nameAlias, "Tom")
+    ));
+
+    @Test
+    public void testBeanSearcher() {
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .build();
+        List<User> users = searcher.searchAll(User.class, null);
+        Assert.assertEquals(2, users.size());
+        Assert.assertEquals(2L, users.get(1).getId().longValue());
+        Assert.assertEquals("Tom", users.get(1).getName());
+        Assert.assertEquals(4, mockDataSource.indexReads.get());
+        Assert.assertEquals(0, mockDataSource.labelReads.get());
+    }
+
+    @Test
+    public void testMapSearcher() {
+        MapSearcher searcher = SearcherBuilder.mapSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .build();
+        List<Map<String, Object>> list;
+        try (SearchCursor<Map<String, Object>> cursor = searcher.searchCursor(User.class, null)) {
+            list = new ArrayList<>();
+            cursor.forEachRemaining(list::add);
+        }
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("Jack", list.get(0).get("name"));
+        Assert.assertEquals(4, mockDataSource.indexReads.get());
+        Assert.assertEquals(0, mockDataSource.labelReads.get());
+    }
+
+    @Test
+    public void testLabelOnlyExecutor() {
+        // 自定义的 SqlExecutor 未实现按序号取值
+        SqlExecutor sqlExecutor = new SqlExecutor() {
+            @Override
+            public <T> SqlResult<T> execute(SearchSql<T> searchSql) {
+                Iterator<Long> ids = Arrays.asList(1L, 2L).iterator();
+                Long[] current = { null };
+                SqlResult.ResultSet listResult = new SqlResult.ResultSet() {
+                    @Override
+                    public boolean next() {
+                        current[0] = ids.hasNext() ? ids.next() : null;
+                        return current[0] != null;
+                    }
+                    @Override
+                    public Object get(String columnLabel) {
+                        return idAlias.equals(columnLabel) ? current[0] : "User" + current[0];
+                    }
+                };
+                return new SqlResult<>(searchSql, listResult, null);
+            }
+        };
+        BeanSearcher beanSearcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        List<User> users = beanSearcher.searchList(User.class, null);
+        Assert.assertEquals(2, users.size());
+        Assert.assertEquals("User2", users.get(1).getName());
+        MapSearcher mapSearcher = SearcherBuilder.mapSearcher().sqlExecutor(sqlExecutor).build();
+        Assert.assertEquals(1L, mapSearcher.searchList(User.class, null).get(0).get("id"));
+    }
+
+    @Test
+    public void testReaderOrder() throws SQLException {
+        Object[] row = { 10L, "Lucy", "extra" };
+        List<String> labels = Arrays.asList("a", "b", "c");
+        SqlResult.ResultSet resultSet = new SqlResult.ResultSet() {
+            @Override
+            public boolean next() {
+                return true;
+            }
+            @Override
+            public Object get(String columnLabel) {
+                int i = labels.indexOf(columnLabel);
+                return i >= 0 ? row[i] : null;
+            }
+            @Override
+            public int indexOf(String columnLabel) {
+                // 只有 a 与 b 支持按序号取值
+                return columnLabel.equals("c") ? 0 : labels.indexOf(columnLabel) + 1;
+            }
+            @Override
+            public Object get(int columnIndex) {
+                return row[columnIndex - 1];
+            }
+        };
+        ColumnReader reader = new ColumnReader(resultSet, new String[] { "b", "a", "c" });
+        Assert.assertEquals("Lucy", reader.get(0));
+        Assert.assertEquals(10L, reader.get(1));
+        Assert.assertEquals("extra", reader.get(2));
+        // 不按顺序读取，或读取不在列表中的列
+        reader.reset();
+        Assert.assertEquals("extra", reader.apply("c"));
+        Assert.assertEquals("Lucy", reader.apply("b"));
+        Assert.assertEquals("Lucy", reader.apply("b"));
+        Assert.assertEquals(10L, reader.apply("a"));
+        Assert.assertNull(reader.apply("d"));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.convertor.NumberFieldConvertor;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.*;
+
+public class ColumnSearcherTestCase {
+
+    public static class Sale {
+        private long id;
+        private Integer count;
+        private Double price;
+        private String region;
+        private Integer level;
+    }
+
+    private static final int ROWS = 1000;
+
+    private final BeanMeta<Sale> beanMeta = new DefaultMetaResolver().resolve(Sale.class);
+
+    private String alias(String field) {
+        return beanMeta.requireFieldMeta(field).getDbAlias();
+    }
+
+    private final MockDataSource mockDataSource = new MockDataSource(sql -> {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(MockDataSource.row(alias("id"), (long) i, alias("count"), i % 3 == 0 ? null : i,
+                    alias("price"), i % 5 == 0 ? null : i * 0.5, alias("region"), "R" + (i % 4), alias("level"), (long) (i % 7)));
+        }
+        return rows;
+    })
+            .sqlType(alias("id"), Types.BIGINT)
+            .sqlType(alias("count"), Types.INTEGER)
+            .sqlType(alias("price"), Types.DOUBLE)
+            .sqlType(alias("region"), Types.VARCHAR)
+            .sqlType(alias("level"), Types.BIGINT);
+
+    private final ColumnSearcher searcher = SearcherBuilder.columnSearcher()
+            .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+            .addFieldConvertor(new NumberFieldConvertor())
+            .build();
+
+    @Test
+    public void testColumns() {
+        ColumnResult result = searcher.searchColumns(Sale.class, null);
+        Assert.assertEquals(ROWS, result.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("id", "count", "price", "region", "level")), result.getColumns().keySet());
+
+        long[] ids = result.getLongColumn("id").getValues();
+        Assert.assertEquals(ROWS, ids.length);
+        Assert.assertEquals(999L, ids[999]);
+        Assert.assertFalse(result.getLongColumn("id").hasNulls());
+
+        ColumnResult.IntColumn count = result.getIntColumn("count");
+        Assert.assertTrue(count.isNull(3));
+        Assert.assertNull(count.get(3));
+        Assert.assertEquals(0, count.getInt(3));
+        Assert.assertEquals(4, count.getInt(4));
+        Assert.assertEquals(ROWS / 3 + 1, count.getNulls().cardinality());
+
+        ColumnResult.DoubleColumn price = result.getDoubleColumn("price");
+        Assert.assertTrue(price.isNull(10));
+        Assert.assertEquals(5.5, price.getDouble(11), 0);
+
+        Assert.assertEquals("R3", result.getObjectColumn("region").get(7));
+        // BIGINT 列对应 Integer 字段，由 NumberFieldConvertor 转换
+        Assert.assertEquals(6, result.getIntColumn("level").getInt(6));
+        Assert.assertEquals(Integer.class, result.getColumn("level").getType());
+    }
+
+    @Test
+    public void testOnlySelect() {
+        ColumnResult result = searcher.searchColumns(Sale.class, MapUtils.builder().onlySelect("id", "price").build());
+        Assert.assertEquals(2, result.getColumns().size());
+        Assert.assertNull(result.getColumn("region"));
+        try {
+            result.getIntColumn("price");
+            Assert.fail();
+        } catch (SearchException ignore) { }
+        try {
+            result.getLongColumn("id").getLong(ROWS);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException ignore) { }
+    }
+
+}
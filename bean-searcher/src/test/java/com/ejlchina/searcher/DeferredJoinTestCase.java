@@ -0,0 +1,116 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.dialect.MySqlDialect;
+import com.ejlchina.searcher.dialect.OracleDialect;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class DeferredJoinTestCase {
+
+    @SearchBean(tables = "user u, role r", joinCond = "u.role_id = r.id", keyField = "id")
+    public static class User {
+        @DbField("u.id")
+        private Long id;
+        @DbField("u.name")
+        private String name;
+        @DbField("r.name")
+        private String roleName;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+        public String getRoleName() {
+            return roleName;
+        }
+        public void setRoleName(String roleName) {
+            this.roleName = roleName;
+        }
+    }
+
+    @SearchBean(tables = "user u, role r", joinCond = "u.role_id = r.id")
+    public static class NoKeyUser {
+        @DbField("u.id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private final DefaultMetaResolver metaResolver = new DefaultMetaResolver();
+    private final DefaultParamResolver paramResolver = new DefaultParamResolver();
+
+    private <T> SearchSql<T> resolve(DefaultSqlResolver sqlResolver, Class<T> beanClass, Map<String, Object> paraMap) {
+        BeanMeta<T> beanMeta = metaResolver.resolve(beanClass);
+        SearchParam searchParam = paramResolver.resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+        return sqlResolver.resolve(beanMeta, searchParam);
+    }
+
+    private DefaultSqlResolver sqlResolver() {
+        DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+        sqlResolver.setDeferredJoinThreshold(100);
+        return sqlResolver;
+    }
+
+    @Test
+    public void testDeferredJoin() {
+        String nameAlias = metaResolver.resolve(User.class).requireFieldMeta("name").getDbAlias();
+        Map<String, Object> params = MapUtils.builder()
+                .field(User::getName, "Jack")
+                .orderBy(User::getName, "desc")
+                .limit(100, 10)
+                .build();
+        SearchSql<User> searchSql = resolve(sqlResolver(), User.class, params);
+        String listSql = searchSql.getListSqlString();
+        Assert.assertTrue(listSql, listSql.endsWith(" from user u, role r, (select u.id bs_key from user u, role r where (u.role_id = r.id) "
+                + "and (u.name = ?) order by u.name desc limit ?, ?) bs_k where (u.role_id = r.id) and u.id = bs_k.bs_key order by "
+                + nameAlias + " desc"));
+        Assert.assertEquals(Arrays.asList("Jack", 100L, 10), searchSql.getListSqlParams());
+        // 聚族查询不受影响
+        Assert.assertEquals("select count(*) s_count from user u, role r where (u.role_id = r.id) and (u.name = ?)", searchSql.getClusterSqlString());
+        Assert.assertEquals(Arrays.asList("Jack"), searchSql.getClusterSqlParams());
+    }
+
+    @Test
+    public void testBelowThreshold() {
+        SearchSql<User> searchSql = resolve(sqlResolver(), User.class, MapUtils.builder().limit(99, 10).build());
+        Assert.assertFalse(searchSql.getListSqlString().contains("bs_key"));
+        Assert.assertTrue(searchSql.getListSqlString().endsWith(" from user u, role r where (u.role_id = r.id) limit ?, ?"));
+    }
+
+    @Test
+    public void testUnsupported() {
+        // 未指定唯一键字段
+        SearchSql<NoKeyUser> searchSql = resolve(sqlResolver(), NoKeyUser.class, MapUtils.builder().limit(1000, 10).build());
+        Assert.assertFalse(searchSql.getListSqlString().contains("bs_key"));
+        // 方言不支持
+        DefaultSqlResolver sqlResolver = sqlResolver();
+        sqlResolver.setDialect(new OracleDialect());
+        SearchSql<User> userSql = resolve(sqlResolver, User.class, MapUtils.builder().limit(1000, 10).build());
+        Assert.assertFalse(userSql.getListSqlString().contains("bs_key"));
+        sqlResolver.setDialect(new MySqlDialect());
+        userSql = resolve(sqlResolver, User.class, MapUtils.builder().limit(1000, 10).build());
+        Assert.assertTrue(userSql.getListSqlString().contains("bs_key"));
+    }
+
+}
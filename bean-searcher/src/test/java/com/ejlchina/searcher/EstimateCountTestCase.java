@@ -0,0 +1,118 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.DefaultCountEstimator;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class EstimateCountTestCase {
+
+    public static class User {
+        private Long id;
+        private Long age;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public Long getAge() {
+            return age;
+        }
+        public void setAge(Long age) {
+            this.age = age;
+        }
+    }
+
+    private MockDataSource mockDataSource(long explainRows) {
+        return new MockDataSource(sql -> {
+            if (sql.startsWith("explain ")) {
+                return Collections.singletonList(row("id", 1L, "rows", explainRows, "filtered", 50.0));
+            }
+            if (sql.startsWith("select count(*)")) {
+                return Collections.singletonList(row("s_count", 3L, "c_1_sum_", 6L, "c_0_sum_", 6L));
+            }
+            return Arrays.asList(row("c_0", 1L), row("c_0", 2L));
+        });
+    }
+
+    private long countOf(MockDataSource mockDataSource, String prefix) {
+        return mockDataSource.executedSqls.stream().filter(sql -> sql.startsWith(prefix)).count();
+    }
+
+    private BeanSearcher searcher(MockDataSource mockDataSource) {
+        DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+        sqlExecutor.setCountEstimator(new DefaultCountEstimator(DefaultCountEstimator.Mode.MYSQL));
+        return SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+    }
+
+    @Test
+    public void testEstimated() {
+        MockDataSource mockDataSource = mockDataSource(100000);
+        BeanSearcher searcher = searcher(mockDataSource);
+        Map<String, Object> params = MapUtils.builder().field(User::getAge, 20).estimateCount().build();
+        SearchResult<User> result = searcher.search(User.class, params);
+        Assert.assertTrue(result.isCountEstimated());
+        Assert.assertEquals(50000L, result.getTotalCount());
+        Assert.assertEquals(2, result.getDataList().size());
+        Assert.assertEquals(0, countOf(mockDataSource, "select count(*)"));
+        String explainSql = mockDataSource.executedSqls.get(0);
+        Assert.assertTrue(explainSql, explainSql.startsWith("explain select 1 from user where"));
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+    @Test
+    public void testNotRequested() {
+        MockDataSource mockDataSource = mockDataSource(100000);
+        SearchResult<User> result = searcher(mockDataSource).search(User.class, null);
+        Assert.assertFalse(result.isCountEstimated());
+        Assert.assertEquals(3L, result.getTotalCount());
+        Assert.assertEquals(0, countOf(mockDataSource, "explain "));
+    }
+
+    @Test
+    public void testBelowMinCount() {
+        MockDataSource mockDataSource = mockDataSource(1000);
+        SearchResult<User> result = searcher(mockDataSource).search(User.class, MapUtils.builder().estimateCount().build());
+        Assert.assertFalse(result.isCountEstimated());
+        Assert.assertEquals(3L, result.getTotalCount());
+        Assert.assertEquals(1, countOf(mockDataSource, "explain "));
+        Assert.assertEquals(1, countOf(mockDataSource, "select count(*)"));
+    }
+
+    @Test
+    public void testWithSummary() {
+        MockDataSource mockDataSource = mockDataSource(100000);
+        Map<String, Object> params = MapUtils.builder().estimateCount().build();
+        SearchResult<User> result = searcher(mockDataSource).search(User.class, params, new String[] { "age" });
+        Assert.assertFalse(result.isCountEstimated());
+        Assert.assertEquals(3L, result.getTotalCount());
+        Assert.assertEquals(0, countOf(mockDataSource, "explain "));
+    }
+
+    @Test
+    public void testFallback() {
+        MockDataSource mockDataSource = mockDataSource(100000);
+        DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+        sqlExecutor.setCountEstimator((connection, searchSql) -> {
+            throw new SQLException("explain failed");
+        });
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        Map<String, Object> params = new HashMap<>();
+        params.put("estimateCount", "true");
+        SearchResult<User> result = searcher.search(User.class, params);
+        Assert.assertFalse(result.isCountEstimated());
+        Assert.assertEquals(3L, result.getTotalCount());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.DefaultFetchStrategy;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.Paging;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FetchStrategyTestCase {
+
+    public static class User {
+        private long id;
+        public long getId() {
+            return id;
+        }
+        public void setId(long id) {
+            this.id = id;
+        }
+    }
+
+    static class Recorder {
+
+        final Map<String, Object> calls = new HashMap<>();
+        boolean autoCommit = true;
+
+        PreparedStatement statement() {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                        calls.put(method.getName(), args != null ? args[0] : null);
+                        return null;
+                    });
+        }
+
+        Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        if ("getAutoCommit".equals(method.getName())) {
+                            return autoCommit;
+                        }
+                        if ("setAutoCommit".equals(method.getName())) {
+                            autoCommit = (Boolean) args[0];
+                        }
+                        return null;
+                    });
+        }
+
+    }
+
+    private SearchSql<User> searchSql(int fetchType, Paging paging) {
+        BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+        SearchSql<User> searchSql = new SearchSql<>(beanMeta, Collections.singletonList("id"));
+        searchSql.setFetchType(new FetchType(fetchType));
+        searchSql.setPaging(paging);
+        return searchSql;
+    }
+
+    @Test
+    public void testPageSize() throws SQLException {
+        Recorder recorder = new Recorder();
+        new DefaultFetchStrategy().configure(recorder.connection(), recorder.statement(),
+                searchSql(FetchType.DEFAULT, new Paging(20, 0)));
+        Assert.assertEquals(20, recorder.calls.get("setFetchSize"));
+        Assert.assertFalse(recorder.calls.containsKey("setMaxRows"));
+    }
+
+    @Test
+    public void testListFirst() throws SQLException {
+        Recorder recorder = new Recorder();
+        new DefaultFetchStrategy().configure(recorder.connection(), recorder.statement(),
+                searchSql(FetchType.LIST_FIRST, new Paging(1, 0)));
+        Assert.assertEquals(1, recorder.calls.get("setMaxRows"));
+    }
+
+    @Test
+    public void testStreamMode() throws SQLException {
+        Recorder recorder = new Recorder();
+        new DefaultFetchStrategy().configure(recorder.connection(), recorder.statement(),
+                searchSql(FetchType.LIST_ALL, null));
+        Assert.assertTrue(recorder.calls.isEmpty());
+
+        recorder = new Recorder();
+        new DefaultFetchStrategy(DefaultFetchStrategy.StreamMode.MYSQL).configure(recorder.connection(),
+                recorder.statement(), searchSql(FetchType.LIST_ALL, null));
+        Assert.assertEquals(Integer.MIN_VALUE, recorder.calls.get("setFetchSize"));
+        Assert.assertTrue(recorder.autoCommit);
+
+        recorder = new Recorder();
+        new DefaultFetchStrategy(DefaultFetchStrategy.StreamMode.CURSOR).configure(recorder.connection(),
+                recorder.statement(), searchSql(FetchType.LIST_ALL, null));
+        Assert.assertEquals(1000, recorder.calls.get("setFetchSize"));
+        Assert.assertFalse(recorder.autoCommit);
+    }
+
+    @Test
+    public void testPriority() throws SQLException {
+        DefaultFetchStrategy strategy = new DefaultFetchStrategy(DefaultFetchStrategy.StreamMode.MYSQL);
+        strategy.setFetchSize(50);
+        strategy.setFetchSize(FetchType.LIST_ALL, 200);
+        Recorder recorder = new Recorder();
+        strategy.configure(recorder.connection(), recorder.statement(), searchSql(FetchType.LIST_ALL, null));
+        Assert.assertEquals(200, recorder.calls.get("setFetchSize"));
+
+        strategy.setFetchSize(User.class, 300);
+        recorder = new Recorder();
+        strategy.configure(recorder.connection(), recorder.statement(), searchSql(FetchType.LIST_ALL, null));
+        Assert.assertEquals(300, recorder.calls.get("setFetchSize"));
+
+        strategy.getBeanFetchSizes().clear();
+        recorder = new Recorder();
+        strategy.configure(recorder.connection(), recorder.statement(), searchSql(FetchType.LIST_ONLY, null));
+        Assert.assertEquals(50, recorder.calls.get("setFetchSize"));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.convertor.DateFormatFieldConvertor;
+import com.ejlchina.searcher.convertor.NumberFieldConvertor;
+import com.ejlchina.searcher.implement.DefaultBeanReflector;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FieldConversionsTestCase {
+
+    public static class User {
+        private Integer age;
+        private Timestamp createAt;
+        public Integer getAge() {
+            return age;
+        }
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+        public Timestamp getCreateAt() {
+            return createAt;
+        }
+        public void setCreateAt(Timestamp createAt) {
+            this.createAt = createAt;
+        }
+    }
+
+    static class CountingConvertor extends NumberFieldConvertor {
+
+        final AtomicInteger supports = new AtomicInteger();
+
+        @Override
+        public boolean supports(FieldMeta meta, Class<?> valueType) {
+            supports.incrementAndGet();
+            return super.supports(meta, valueType);
+        }
+
+    }
+
+    private final BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+
+    private final List<FieldMeta> fetchFields = new ArrayList<>(beanMeta.getFieldMetas());
+
+    private final Timestamp createAt = Timestamp.valueOf("2022-06-01 12:30:00");
+
+    private Map<String, Object> row(Object age) {
+        return MockDataSource.row(beanMeta.requireFieldMeta("age").getDbAlias(), age,
+                beanMeta.requireFieldMeta("createAt").getDbAlias(), createAt);
+    }
+
+    @Test
+    public void testBeanReflector() {
+        CountingConvertor convertor = new CountingConvertor();
+        DefaultBeanReflector reflector = new DefaultBeanReflector(new ArrayList<>(Collections.singletonList(convertor)));
+        for (int i = 0; i < 100; i++) {
+            User user = reflector.reflect(beanMeta, fetchFields, row((long) i)::get);
+            Assert.assertEquals(i, user.getAge().intValue());
+            Assert.assertEquals(createAt, user.getCreateAt());
+        }
+        // 同一字段的同一种值类型只判断一次
+        Assert.assertEquals(1, convertor.supports.get());
+        User user = reflector.reflect(beanMeta, fetchFields, row((short) 3)::get);
+        Assert.assertEquals(3, user.getAge().intValue());
+        Assert.assertEquals(2, convertor.supports.get());
+        try {
+            reflector.reflect(beanMeta, fetchFields, row("3")::get);
+            Assert.fail();
+        } catch (SearchException e) {
+            Assert.assertTrue(e.getMessage().contains("User#age"));
+        }
+        // 转换器变化后重新绑定
+        reflector.setConvertors(new ArrayList<>());
+        try {
+            reflector.reflect(beanMeta, fetchFields, row(1L)::get);
+            Assert.fail();
+        } catch (SearchException ignore) { }
+    }
+
+    @Test
+    public void testMapSearcher() {
+        MockDataSource mockDataSource = new MockDataSource(sql -> Arrays.asList(row(1), row(2), row(3)));
+        DateFormatFieldConvertor convertor = new DateFormatFieldConvertor();
+        convertor.setFormat("com.ejlchina.searcher", "yyyy-MM-dd");
+        MapSearcher searcher = SearcherBuilder.mapSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .addFieldConvertor(convertor)
+                .build();
+        List<Map<String, Object>> list = searcher.searchAll(User.class, null);
+        Assert.assertEquals(3, list.size());
+        for (Map<String, Object> map : list) {
+            Assert.assertEquals("2022-06-01", map.get("createAt"));
+        }
+        Assert.assertEquals(2, list.get(1).get("age"));
+    }
+
+}
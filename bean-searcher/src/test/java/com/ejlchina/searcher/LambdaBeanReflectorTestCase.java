@@ -0,0 +1,152 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.convertor.NumberFieldConvertor;
+import com.ejlchina.searcher.implement.DefaultBeanReflector;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.implement.LambdaBeanReflector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class LambdaBeanReflectorTestCase {
+
+    public static class User {
+        private Long id;
+        private String name;
+        private int age;
+        private String remark;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        // 链式 setter（装配时不调用，与 DefaultBeanReflector 一致）
+        public User setName(String name) {
+            this.name = name + "!";
+            return this;
+        }
+        public int getAge() {
+            return age;
+        }
+        public void setAge(int age) {
+            this.age = age;
+        }
+        // remark 没有 setter
+        public String getRemark() {
+            return remark;
+        }
+    }
+
+    private static class Point {
+        private final Long id;
+        private final int x;
+        private final Integer y;
+        private Point(Long id, int x, Integer y) {
+            this.id = id;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final MetaResolver metaResolver = new DefaultMetaResolver();
+
+    private <T> Map<String, Object> values(Class<T> beanClass, Object... kvs) {
+        BeanMeta<T> beanMeta = metaResolver.resolve(beanClass);
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < kvs.length; i += 2) {
+            values.put(beanMeta.requireFieldMeta((String) kvs[i]).getDbAlias(), kvs[i + 1]);
+        }
+        return values;
+    }
+
+    private <T> T reflect(LambdaBeanReflector reflector, Class<T> beanClass, Map<String, Object> values, String... fields) {
+        BeanMeta<T> beanMeta = metaResolver.resolve(beanClass);
+        List<FieldMeta> fetchFields = Arrays.stream(fields).map(beanMeta::requireFieldMeta).collect(Collectors.toList());
+        return reflector.reflect(beanMeta, fetchFields, values::get);
+    }
+
+    @Test
+    public void testFields() {
+        LambdaBeanReflector reflector = new LambdaBeanReflector(Collections.singletonList(new NumberFieldConvertor()));
+        Map<String, Object> values = values(User.class, "id", 1L, "name", "Jack", "age", 20L, "remark", "vip");
+        User user = reflect(reflector, User.class, values, "id", "name", "age", "remark");
+        Assert.assertTrue(reflector.isGenerated(User.class));
+        Assert.assertEquals(1L, user.getId().longValue());
+        Assert.assertEquals("Jack", user.getName());
+        Assert.assertEquals(20, user.getAge());
+        Assert.assertEquals("vip", user.getRemark());
+        // null 值不赋值，每次装配新的对象
+        User other = reflect(reflector, User.class, values(User.class, "id", 2L, "age", null), "id", "age");
+        Assert.assertNotSame(user, other);
+        Assert.assertEquals(2L, other.getId().longValue());
+        Assert.assertEquals(0, other.getAge());
+        Assert.assertNull(other.getName());
+    }
+
+    @Test
+    public void testSameAsDefault() {
+        Map<String, Object> values = values(User.class, "id", 1L, "name", "Jack", "age", 20, "remark", "vip");
+        String[] fields = { "id", "name", "age", "remark" };
+        BeanMeta<User> beanMeta = metaResolver.resolve(User.class);
+        List<FieldMeta> fetchFields = Arrays.stream(fields).map(beanMeta::requireFieldMeta).collect(Collectors.toList());
+        User expected = new DefaultBeanReflector().reflect(beanMeta, fetchFields, values::get);
+        User user = reflect(new LambdaBeanReflector(), User.class, values, fields);
+        Assert.assertEquals(expected.getId(), user.getId());
+        Assert.assertEquals(expected.getName(), user.getName());
+        Assert.assertEquals(expected.getAge(), user.getAge());
+        Assert.assertEquals(expected.getRemark(), user.getRemark());
+    }
+
+    @Test
+    public void testConstructor() {
+        LambdaBeanReflector reflector = new LambdaBeanReflector(Collections.singletonList(new NumberFieldConvertor()));
+        Point point = reflect(reflector, Point.class, values(Point.class, "id", 1L, "x", 3, "y", 4), "id", "x", "y");
+        Assert.assertTrue(reflector.isGenerated(Point.class));
+        Assert.assertEquals(1L, point.id.longValue());
+        Assert.assertEquals(3, point.x);
+        Assert.assertEquals(4, point.y.intValue());
+        // 未检索的字段使用默认值
+        point = reflect(reflector, Point.class, values(Point.class, "id", 2L), "id");
+        Assert.assertEquals(2L, point.id.longValue());
+        Assert.assertEquals(0, point.x);
+        Assert.assertNull(point.y);
+    }
+
+    @Test
+    public void testTypeMismatch() {
+        LambdaBeanReflector reflector = new LambdaBeanReflector();
+        try {
+            reflect(reflector, User.class, values(User.class, "name", 1L), "name");
+            Assert.fail();
+        } catch (SearchException e) {
+            Assert.assertTrue(e.getMessage().contains("User#name"));
+        }
+    }
+
+    @Test
+    public void testBeanSearcher() {
+        MockDataSource mockDataSource = new MockDataSource(sql -> {
+            Map<String, Object> values = values(User.class, "id", 1L, "name", "Tom", "age", 30, "remark", null);
+            return Arrays.asList(values, row());
+        });
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .beanReflector(new LambdaBeanReflector(Collections.singletonList(new NumberFieldConvertor())))
+                .build();
+        List<User> users = searcher.searchAll(User.class, null);
+        Assert.assertEquals(2, users.size());
+        Assert.assertEquals("Tom", users.get(0).getName());
+        Assert.assertEquals(30, users.get(0).getAge());
+        Assert.assertNull(users.get(1).getId());
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.dialect.PostgreSqlDialect;
+import com.ejlchina.searcher.implement.DateValueCorrector;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class ListFirstTestCase {
+
+    public static class User {
+        private Long id;
+        private Long score;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public Long getScore() {
+            return score;
+        }
+        public void setScore(Long score) {
+            this.score = score;
+        }
+    }
+
+    @SearchBean(tables = "user", keyField = "id")
+    public static class KeyedUser {
+        @DbField("id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private MockDataSource mockDataSource(int listSize) {
+        return new MockDataSource(sql -> {
+            if (sql.startsWith("select count(*)")) {
+                return Collections.singletonList(row("s_count", 100L, "c_0_sum_", 999L, "c_1_sum_", 999L));
+            }
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (long i = 1; i <= listSize; i++) {
+                rows.add(row("c_0", i, "c_1", i));
+            }
+            return rows;
+        });
+    }
+
+    private DefaultSqlExecutor sqlExecutor(MockDataSource mockDataSource) {
+        DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+        sqlExecutor.setListFirst(true);
+        return sqlExecutor;
+    }
+
+    @Test
+    public void testUnderfullPage() {
+        MockDataSource mockDataSource = mockDataSource(3);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(0, 10).build());
+        Assert.assertEquals(3L, result.getTotalCount());
+        Assert.assertEquals(3, result.getDataList().size());
+        Assert.assertEquals(1, mockDataSource.executedSqls.size());
+        Assert.assertEquals(1, sqlExecutor.getElidedCountQueries());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+    @Test
+    public void testEmptyPage() {
+        MockDataSource mockDataSource = mockDataSource(0);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(0, 10).build());
+        Assert.assertEquals(0L, result.getTotalCount());
+        Assert.assertEquals(0, result.getDataList().size());
+        Assert.assertEquals(1, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testFullPage() {
+        MockDataSource mockDataSource = mockDataSource(10);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(0, 10).build());
+        Assert.assertEquals(100L, result.getTotalCount());
+        Assert.assertEquals(10, result.getDataList().size());
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+        Assert.assertFalse(mockDataSource.executedSqls.get(0).startsWith("select count(*)"));
+        Assert.assertEquals(0, sqlExecutor.getElidedCountQueries());
+    }
+
+    @Test
+    public void testNotFirstPage() {
+        MockDataSource mockDataSource = mockDataSource(3);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(10, 10).build());
+        Assert.assertEquals(100L, result.getTotalCount());
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+        Assert.assertTrue(mockDataSource.executedSqls.get(0).startsWith("select count(*)"));
+    }
+
+    @Test
+    public void testSummaryNotFetched() {
+        MockDataSource mockDataSource = mockDataSource(3);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        Map<String, Object> params = MapUtils.builder().limit(0, 10).onlySelect(User::getId).build();
+        SearchResult<User> result = searcher.search(User.class, params, new String[] { "score" });
+        Assert.assertEquals(100L, result.getTotalCount());
+        Assert.assertEquals(999L, result.getSummaries()[0]);
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testSeekPage() {
+        MockDataSource mockDataSource = mockDataSource(3);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        SearchResult<KeyedUser> first = searcher.search(KeyedUser.class, MapUtils.builder().page(0, 3).seek().build());
+        Assert.assertEquals(100L, first.getTotalCount());
+        Assert.assertNotNull(first.getNextCursor());
+        // 游标页的偏移为 0，但不是第一页，未满时也不能由列表推算总条数
+        Map<String, Object> params = MapUtils.builder().page(0, 10).seek(first.getNextCursor()).build();
+        SearchResult<KeyedUser> second = searcher.search(KeyedUser.class, params);
+        Assert.assertEquals(3, second.getDataList().size());
+        Assert.assertEquals(100L, second.getTotalCount());
+        Assert.assertEquals(4, mockDataSource.executedSqls.size());
+        Assert.assertEquals(0, sqlExecutor.getElidedCountQueries());
+    }
+
+    @Test
+    public void testUnderfullPageWithSummary() {
+        MockDataSource mockDataSource = mockDataSource(3);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(0, 10).build(), new String[] { "score" });
+        // 有统计字段时不先查列表，统计值由聚族查询得出
+        Assert.assertEquals(100L, result.getTotalCount());
+        Assert.assertEquals(999L, result.getSummaries()[0]);
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+        Assert.assertTrue(mockDataSource.executedSqls.get(0).startsWith("select count(*)"));
+        Assert.assertEquals(0, sqlExecutor.getElidedCountQueries());
+    }
+
+    @Test
+    public void testSummaryTypeOfPostgreSql() {
+        // PostgreSQL 的 sum(bigint) 返回 numeric，sum(int) 返回 bigint
+        MockDataSource mockDataSource = new MockDataSource(sql -> {
+            if (sql.startsWith("select count(*)")) {
+                return Collections.singletonList(row("s_count", 2L, "c_1_sum_", 5L));
+            }
+            return Arrays.asList(row("c_0", 1L, "c_1", 2L), row("c_0", 2L, "c_1", 3L));
+        });
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlResolver(new DefaultSqlResolver(new PostgreSqlDialect(), new DateValueCorrector()))
+                .sqlExecutor(sqlExecutor)
+                .build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(0, 10).build(), new String[] { "score" });
+        Assert.assertEquals(2L, result.getTotalCount());
+        Assert.assertEquals(5L, result.getSummaries()[0]);
+        Assert.assertTrue(mockDataSource.executedSqls.get(1).endsWith("offset ? limit ?"));
+    }
+
+    @Test
+    public void testUnderfullPageOfPostgreSql() {
+        MockDataSource mockDataSource = mockDataSource(3);
+        DefaultSqlExecutor sqlExecutor = sqlExecutor(mockDataSource);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlResolver(new DefaultSqlResolver(new PostgreSqlDialect(), new DateValueCorrector()))
+                .sqlExecutor(sqlExecutor)
+                .build();
+        SearchResult<User> result = searcher.search(User.class, MapUtils.builder().limit(0, 10).build());
+        Assert.assertEquals(3L, result.getTotalCount());
+        Assert.assertEquals(1, mockDataSource.executedSqls.size());
+        Assert.assertEquals(1, sqlExecutor.getElidedCountQueries());
+    }
+
+}
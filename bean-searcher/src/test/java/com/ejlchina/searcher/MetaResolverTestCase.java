@@ -10,10 +10,9 @@ import com.ejlchina.searcher.util.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.util.Collection;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MetaResolverTestCase {
 
@@ -668,4 +667,77 @@ public class MetaResolverTestCase {
         Assert.assertEquals(1, metaResolver.resolve(User23_2.class).getFieldCount());
     }
 
+    public static class User24 {
+        private long id;
+    }
+
+    /**
+     * 解析 User01 时阻塞，直到 release 被释放
+     */
+    static class BlockingDbMapping extends DefaultDbMapping {
+
+        final AtomicInteger resolvedCount = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Table table(Class<?> beanClass) {
+            if (beanClass == User01.class) {
+                resolvedCount.incrementAndGet();
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return super.table(beanClass);
+        }
+
+    }
+
+    @Test
+    public void test24() throws Exception {
+        // 多个线程同时解析同一个类时，只解析一次
+        BlockingDbMapping dbMapping = new BlockingDbMapping();
+        MetaResolver resolver = new DefaultMetaResolver(dbMapping);
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        try {
+            List<Future<BeanMeta<User01>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> resolver.resolve(User01.class)));
+            }
+            Assert.assertTrue(dbMapping.entered.await(5, TimeUnit.SECONDS));
+            // 解析 User01 的过程中，其它类的解析不被阻塞
+            Future<BeanMeta<User24>> other = executor.submit(() -> resolver.resolve(User24.class));
+            Assert.assertEquals(1, other.get(5, TimeUnit.SECONDS).getFieldCount());
+            dbMapping.release.countDown();
+            BeanMeta<User01> beanMeta = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<BeanMeta<User01>> future : futures) {
+                Assert.assertSame(beanMeta, future.get(5, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(1, dbMapping.resolvedCount.get());
+            Assert.assertSame(beanMeta, resolver.resolve(User01.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static class User25 {
+        private static final int ID = 1;
+    }
+
+    @Test
+    public void test25() {
+        // 解析失败时不缓存，每次都抛出异常
+        for (int i = 0; i < 2; i++) {
+            try {
+                metaResolver.resolve(User25.class);
+                Assert.fail();
+            } catch (SearchException e) {
+                Assert.assertTrue(e.getMessage().contains("no field mapping"));
+            }
+        }
+    }
+
 }
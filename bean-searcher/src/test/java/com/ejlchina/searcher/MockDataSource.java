@@ -0,0 +1,220 @@
+package com.ejlchina.searcher;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 用于测试 SqlExecutor 的模拟数据源，根据 SQL 返回预设的数据
+ */
+public class MockDataSource {
+
+    private final Function<String, List<Map<String, Object>>> rowsFn;
+
+    private long delayMillis = 0;
+
+    final List<String> executedSqls = Collections.synchronizedList(new ArrayList<>());
+    final List<List<Object>> executedParams = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger openConnections = new AtomicInteger();
+    final AtomicInteger totalConnections = new AtomicInteger();
+    final Set<String> queryThreads = Collections.synchronizedSet(new HashSet<>());
+    final AtomicInteger cancelledStatements = new AtomicInteger();
+    final AtomicInteger labelReads = new AtomicInteger();
+    final AtomicInteger indexReads = new AtomicInteger();
+    final AtomicInteger typedReads = new AtomicInteger();
+
+    private final Map<String, Integer> sqlTypes = new HashMap<>();
+
+    public MockDataSource(Function<String, List<Map<String, Object>>> rowsFn) {
+        this.rowsFn = rowsFn;
+    }
+
+    public MockDataSource delay(long delayMillis) {
+        this.delayMillis = delayMillis;
+        return this;
+    }
+
+    /**
+     * 指定列的 JDBC 类型（{@link java.sql.Types}），指定后结果集才提供 ResultSetMetaData
+     */
+    public MockDataSource sqlType(String column, int sqlType) {
+        sqlTypes.put(column, sqlType);
+        return this;
+    }
+
+    public static Map<String, Object> row(Object... kvs) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < kvs.length; i += 2) {
+            row.put((String) kvs[i], kvs[i + 1]);
+        }
+        return row;
+    }
+
+    public DataSource dataSource() {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            if ("getConnection".equals(method.getName())) {
+                openConnections.incrementAndGet();
+                totalConnections.incrementAndGet();
+                return connection();
+            }
+            return null;
+        });
+    }
+
+    private Connection connection() {
+        boolean[] state = { true, false };  // autoCommit, closed
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement((String) args[0]);
+                case "getAutoCommit":
+                    return state[0];
+                case "setAutoCommit":
+                    state[0] = (Boolean) args[0];
+                    return null;
+                case "close":
+                    if (!state[1]) {
+                        state[1] = true;
+                        openConnections.decrementAndGet();
+                    }
+                    return null;
+                case "isClosed":
+                    return state[1];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private PreparedStatement statement(String sql) {
+        List<Object> params = new ArrayList<>();
+        CountDownLatch cancelLatch = new CountDownLatch(1);
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if ("cancel".equals(method.getName())) {
+                cancelledStatements.incrementAndGet();
+                cancelLatch.countDown();
+            }
+            if ("setObject".equals(method.getName())) {
+                int index = (Integer) args[0];
+                while (params.size() < index) {
+                    params.add(null);
+                }
+                params.set(index - 1, args[1]);
+            }
+            if ("executeQuery".equals(method.getName())) {
+                queryThreads.add(Thread.currentThread().getName());
+                if (delayMillis > 0 && cancelLatch.await(delayMillis, TimeUnit.MILLISECONDS)) {
+                    throw new SQLException("Statement cancelled: " + sql);
+                }
+                executedSqls.add(sql);
+                executedParams.add(params);
+                return resultSet(rowsFn.apply(sql));
+            }
+            return null;
+        });
+    }
+
+    private ResultSet resultSet(List<Map<String, Object>> rows) {
+        int[] index = { -1 };
+        List<String> columns = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            for (String column : row.keySet()) {
+                if (!columns.contains(column)) {
+                    columns.add(column);
+                }
+            }
+        }
+        boolean[] wasNull = { false };
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "next":
+                    return ++index[0] < rows.size();
+                case "getMetaData":
+                    return sqlTypes.isEmpty() ? null : metaData(columns);
+                case "wasNull":
+                    return wasNull[0];
+                case "getLong":
+                case "getInt":
+                case "getDouble":
+                case "getBoolean":
+                case "getBigDecimal":
+                case "getTimestamp":
+                case "getDate":
+                case "getString":
+                    typedReads.incrementAndGet();
+                    Object value = rows.get(index[0]).get(columns.get((Integer) args[0] - 1));
+                    wasNull[0] = value == null;
+                    switch (method.getName()) {
+                        case "getLong":
+                            return value != null ? ((Number) value).longValue() : 0L;
+                        case "getInt":
+                            return value != null ? ((Number) value).intValue() : 0;
+                        case "getDouble":
+                            return value != null ? ((Number) value).doubleValue() : 0D;
+                        case "getBoolean":
+                            return value != null && (Boolean) value;
+                        default:
+                            return value;
+                    }
+                case "findColumn":
+                    int columnIndex = columns.indexOf((String) args[0]);
+                    if (columnIndex < 0) {
+                        throw new SQLException("No such column: " + args[0]);
+                    }
+                    return columnIndex + 1;
+                case "getObject":
+                    if (args[0] instanceof Integer) {
+                        indexReads.incrementAndGet();
+                        return rows.get(index[0]).get(columns.get((Integer) args[0] - 1));
+                    }
+                    labelReads.incrementAndGet();
+                    return rows.get(index[0]).get((String) args[0]);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private ResultSetMetaData metaData(List<String> columns) {
+        return proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getColumnType":
+                    return sqlTypes.getOrDefault(columns.get((Integer) args[0] - 1), Types.OTHER);
+                case "getPrecision":
+                    return 10;
+                case "getScale":
+                    return 0;
+                case "isSigned":
+                    return true;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(MockDataSource.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return handler.invoke(proxy, method, args);
+            }
+        });
+    }
+
+}
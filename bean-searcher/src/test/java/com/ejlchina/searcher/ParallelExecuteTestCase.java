@@ -0,0 +1,116 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class ParallelExecuteTestCase {
+
+    public static class User {
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private final ExecutorService threadPool = Executors.newFixedThreadPool(2);
+
+    @After
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    private MockDataSource mockDataSource(long count) {
+        return new MockDataSource(sql -> {
+            if (sql.startsWith("select count(*)")) {
+                return Collections.singletonList(row("s_count", count));
+            }
+            return Arrays.asList(row("c_0", 1L), row("c_0", 2L));
+        });
+    }
+
+    private BeanSearcher beanSearcher(MockDataSource mockDataSource, int maxParallel) {
+        DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+        sqlExecutor.setParallelExecutor(threadPool);
+        sqlExecutor.setMaxParallel(maxParallel);
+        return SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+    }
+
+    @Test
+    public void testParallel() {
+        MockDataSource mockDataSource = mockDataSource(2).delay(300);
+        BeanSearcher searcher = beanSearcher(mockDataSource, 0);
+        long t0 = System.currentTimeMillis();
+        SearchResult<User> result = searcher.search(User.class, new HashMap<>());
+        long cost = System.currentTimeMillis() - t0;
+        Assert.assertEquals(2L, result.getTotalCount());
+        Assert.assertEquals(2, result.getDataList().size());
+        Assert.assertTrue("cost: " + cost, cost < 550);
+        Assert.assertEquals(2, mockDataSource.queryThreads.size());
+        Assert.assertEquals(2, mockDataSource.totalConnections.get());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+    @Test
+    public void testNoCount() {
+        MockDataSource mockDataSource = mockDataSource(0);
+        BeanSearcher searcher = beanSearcher(mockDataSource, 0);
+        SearchResult<User> result = searcher.search(User.class, new HashMap<>());
+        Assert.assertEquals(0L, result.getTotalCount());
+        Assert.assertEquals(0, result.getDataList().size());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+    @Test
+    public void testSerialQueries() {
+        MockDataSource mockDataSource = mockDataSource(2);
+        BeanSearcher searcher = beanSearcher(mockDataSource, 0);
+        // 只查列表时不并行
+        Assert.assertEquals(2, searcher.searchList(User.class, new HashMap<>()).size());
+        Assert.assertEquals(1, mockDataSource.totalConnections.get());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+    @Test
+    public void testMaxParallel() {
+        MockDataSource mockDataSource = mockDataSource(2);
+        DefaultSqlExecutor sqlExecutor = new DefaultSqlExecutor(mockDataSource.dataSource());
+        sqlExecutor.setParallelExecutor(threadPool);
+        sqlExecutor.setMaxParallel(1);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        try (SearchCursor<User> ignored = searcher.searchCursor(User.class, new HashMap<>())) {
+            Assert.assertEquals(1, sqlExecutor.getParallelPermits().availablePermits());
+        }
+        SearchSql<User> searchSql = new SearchSql<>(new DefaultMetaResolver().resolve(User.class),
+                Collections.singletonList("id"));
+        searchSql.setShouldQueryCluster(true);
+        searchSql.setShouldQueryList(true);
+        searchSql.setCountAlias("s_count");
+        searchSql.setClusterSqlString("select count(*) s_count from user");
+        searchSql.setListSqlString("select id c_0 from user");
+        SqlResult<User> first = sqlExecutor.execute(searchSql);
+        Assert.assertEquals(0, sqlExecutor.getParallelPermits().availablePermits());
+        // 许可用完时退化为串行执行
+        try (SqlResult<User> second = sqlExecutor.execute(searchSql)) {
+            Assert.assertNotNull(second.getListResult());
+            Assert.assertEquals(4, mockDataSource.totalConnections.get());
+        }
+        first.close();
+        Assert.assertEquals(1, sqlExecutor.getParallelPermits().availablePermits());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+    }
+
+}
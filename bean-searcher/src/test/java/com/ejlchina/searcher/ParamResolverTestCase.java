@@ -0,0 +1,194 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.BoolValueFilter;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.operator.Between;
+import com.ejlchina.searcher.operator.StartWith;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.FieldParam;
+import com.ejlchina.searcher.param.Operator;
+import com.ejlchina.searcher.util.MapUtils;
+import com.ejlchina.searcher.util.MapWrapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class ParamResolverTestCase {
+
+    public static class User {
+        private Long id;
+        private String name;
+        private Boolean vip;
+    }
+
+    private final BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+
+    private final DefaultParamResolver paramResolver = new DefaultParamResolver();
+
+    private Map<String, FieldParam> resolve(Map<String, Object> paraMap) {
+        SearchParam searchParam = paramResolver.resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+        Map<String, FieldParam> params = new HashMap<>();
+        searchParam.getParamsGroup().forEach(event -> {
+            if (event.isValue()) {
+                for (FieldParam param : event.getValue()) {
+                    Assert.assertNull(params.put(param.getName(), param));
+                }
+            }
+        });
+        return params;
+    }
+
+    @Test
+    public void test_values() {
+        Map<String, FieldParam> params = resolve(MapUtils.builder()
+                .put("id-0", "1")
+                .put("id-1", "5")
+                .put("id-op", Operator.Between)
+                .put("name", "Jack")
+                .put("page", 0)
+                .build());
+        Assert.assertEquals(2, params.size());
+        FieldParam id = params.get("id");
+        Assert.assertTrue(id.getOperator() instanceof Between);
+        Assert.assertArrayEquals(new Object[] { 1L, 5L }, id.getValues());
+        FieldParam name = params.get("name");
+        Assert.assertArrayEquals(new Object[] { "Jack" }, name.getValues());
+        Assert.assertFalse(name.isIgnoreCase());
+    }
+
+    @Test
+    public void test_index_0() {
+        // name-0 优先，为 null 时使用 name
+        Map<String, Object> paraMap = new HashMap<>();
+        paraMap.put("name", "A");
+        paraMap.put("name-0", null);
+        Assert.assertArrayEquals(new Object[] { "A" }, resolve(paraMap).get("name").getValues());
+        paraMap.put("name-0", "B");
+        Assert.assertArrayEquals(new Object[] { "B" }, resolve(paraMap).get("name").getValues());
+    }
+
+    @Test
+    public void test_large_index() {
+        Map<String, FieldParam> params = resolve(MapUtils.builder()
+                .put("name-12", "x")
+                .put("name-3", "y")
+                .put("name-01", "z")
+                .put("name-ic", "1")
+                .put("name-op", "il")
+                .build());
+        FieldParam name = params.get("name");
+        Assert.assertArrayEquals(new Object[] { "y", "x" }, name.getValues());
+        Assert.assertTrue(name.isIgnoreCase());
+    }
+
+    @Test
+    public void test_groups() {
+        Map<String, Object> paraMap = MapUtils.builder()
+                .groupExpr("A|B")
+                .put("A.name", "Jack")
+                .put("A.name-op", "sw")
+                .put("name", "Tom")
+                .group("B").field("id", 1, 5).op(Operator.Between)
+                .build();
+        SearchParam searchParam = paramResolver.resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+        List<List<FieldParam>> groups = new ArrayList<>();
+        searchParam.getParamsGroup().forEach(event -> {
+            if (event.isValue()) {
+                groups.add(event.getValue());
+            }
+        });
+        Assert.assertEquals(2, groups.size());
+        Assert.assertEquals(1, groups.get(0).size());
+        FieldParam name = groups.get(0).get(0);
+        Assert.assertEquals("name", name.getName());
+        Assert.assertTrue(name.getOperator() instanceof StartWith);
+        Assert.assertArrayEquals(new Object[] { "Jack" }, name.getValues());
+        Assert.assertEquals(1, groups.get(1).size());
+        FieldParam id = groups.get(1).get(0);
+        Assert.assertEquals("id", id.getName());
+        Assert.assertTrue(id.getOperator() instanceof Between);
+        // MapBuilder 指定的参数值不做转换
+        Assert.assertArrayEquals(new Object[] { 1, 5 }, id.getValues());
+    }
+
+    @Test
+    public void test_field_param() {
+        Map<String, FieldParam> params = resolve(MapUtils.builder()
+                .field("name", "Ja").op(Operator.StartWith).ic()
+                .build());
+        FieldParam name = params.get("name");
+        Assert.assertTrue(name.getOperator() instanceof StartWith);
+        Assert.assertTrue(name.isIgnoreCase());
+        Assert.assertArrayEquals(new Object[] { "Ja" }, name.getValues());
+    }
+
+    @Test
+    public void test_bool_filter() {
+        BoolValueFilter filter = new BoolValueFilter();
+        Map<String, Object> paraMap = MapUtils.builder()
+                .put("name", "Jack")
+                .put("name-ic", true)
+                .build();
+        // 没有需要转换的参数时不复制
+        Assert.assertSame(paraMap, filter.doFilter(beanMeta, paraMap));
+        paraMap.put("vip-false", "");
+        paraMap.put("name-ic", "0");
+        Map<String, Object> filtered = filter.doFilter(beanMeta, paraMap);
+        Assert.assertNotSame(paraMap, filtered);
+        Assert.assertEquals(3, filtered.size());
+        Assert.assertEquals(Boolean.FALSE, filtered.get("vip"));
+        Assert.assertFalse(filtered.containsKey("vip-false"));
+        Assert.assertEquals(Boolean.FALSE, filtered.get("name-ic"));
+        Assert.assertEquals("Jack", filtered.get("name"));
+        // 原参数不变
+        Assert.assertEquals(3, paraMap.size());
+        Assert.assertEquals("0", paraMap.get("name-ic"));
+        Map<String, FieldParam> params = resolve(paraMap);
+        Assert.assertArrayEquals(new Object[] { false }, params.get("vip").getValues());
+        Assert.assertFalse(params.get("name").isIgnoreCase());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void test_legacy_hooks() {
+        DefaultParamResolver legacyResolver = new DefaultParamResolver() {
+            @Override
+            protected FieldOp toOperator(String field, MapWrapper paraMap, FieldParam param) {
+                // 名称默认使用前缀匹配
+                if ("name".equals(field)) {
+                    return getFieldOpPool().getFieldOp(Operator.StartWith);
+                }
+                return super.toOperator(field, paraMap, param);
+            }
+            @Override
+            protected void mapFieldIndex(Map<String, Set<Integer>> fieldIndicesKeysMap, String field, int index) {
+                // 兼容旧的参数名：uid 即 id
+                super.mapFieldIndex(fieldIndicesKeysMap, "uid".equals(field) ? "id" : field, index);
+            }
+            @Override
+            protected FieldParam toFieldParam(FieldMeta meta, Set<Integer> indices, MapWrapper paraMap) {
+                FieldParam param = super.toFieldParam(meta, indices, paraMap);
+                if (param == null && "id".equals(meta.getName()) && paraMap.get1("uid") != null) {
+                    return new FieldParam("id", getFieldOpPool().getFieldOp(Operator.Equal),
+                            Collections.singletonList(new FieldParam.Value(paraMap.get1("uid"), 0)), false);
+                }
+                return param;
+            }
+        };
+        Map<String, Object> paraMap = MapUtils.builder().put("name", "Ja").put("uid", 3).build();
+        SearchParam searchParam = legacyResolver.resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+        Map<String, FieldParam> params = new HashMap<>();
+        searchParam.getParamsGroup().forEach(event -> {
+            if (event.isValue()) {
+                for (FieldParam param : event.getValue()) {
+                    params.put(param.getName(), param);
+                }
+            }
+        });
+        Assert.assertTrue(params.get("name").getOperator() instanceof StartWith);
+        Assert.assertArrayEquals(new Object[] { 3 }, params.get("id").getValues());
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.ResultCache;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.CachingSqlExecutor;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.implement.SearchResultCache;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.ejlchina.searcher.MockDataSource.row;
+
+public class ResultCacheTestCase {
+
+    @ResultCache(ttl = 60000, emptyTtl = 0)
+    @SearchBean(tables = "dict d left join dict_type t on d.type_id = t.id")
+    public static class Dict {
+        @DbField("d.id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * 与 {@link Dict } 的检索 SQL 相同
+     */
+    @SearchBean(tables = "dict d left join dict_type t on d.type_id = t.id")
+    public static class DictView {
+        @DbField("d.id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    @SearchBean(tables = "dict")
+    public static class PlainDict {
+        @DbField("id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private final String idAlias = new DefaultMetaResolver().resolve(Dict.class).requireFieldMeta("id").getDbAlias();
+
+    private final AtomicInteger rowCount = new AtomicInteger(2);
+
+    private final MockDataSource mockDataSource = new MockDataSource(sql -> {
+        if (sql.startsWith("select count(*)")) {
+            return Collections.singletonList(row("s_count", (long) rowCount.get()));
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 1; i <= rowCount.get(); i++) {
+            rows.add(row(idAlias, (long) i));
+        }
+        return rows;
+    });
+
+    private final SearchResultCache cache = new SearchResultCache();
+
+    private final CachingSqlExecutor sqlExecutor = new CachingSqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()), cache);
+
+    private final BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+
+    private List<Long> ids(List<Dict> list) {
+        return list.stream().map(Dict::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testHit() {
+        for (int i = 0; i < 3; i++) {
+            SearchResult<Dict> result = searcher.search(Dict.class, MapUtils.builder().page(0, 10).build());
+            Assert.assertEquals(2L, result.getTotalCount());
+            Assert.assertEquals(2, result.getDataList().size());
+        }
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        // 参数或检索类型不同则不命中
+        searcher.search(Dict.class, MapUtils.builder().page(1, 10).build());
+        searcher.searchList(Dict.class, MapUtils.builder().page(0, 10).build());
+        Assert.assertEquals(5, mockDataSource.executedSqls.size());
+        Assert.assertEquals(3, cache.getSize());
+        // 未配置缓存的实体类
+        searcher.searchAll(PlainDict.class, null);
+        searcher.searchAll(PlainDict.class, null);
+        Assert.assertEquals(7, mockDataSource.executedSqls.size());
+        Assert.assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        Assert.assertEquals(2, searcher.searchAll(Dict.class, null).size());
+        rowCount.set(3);
+        Assert.assertEquals(2, searcher.searchAll(Dict.class, null).size());
+        Assert.assertEquals(0, cache.invalidate("dict_item"));
+        Assert.assertEquals(1, cache.invalidate("DICT_TYPE"));
+        Assert.assertEquals(3, searcher.searchAll(Dict.class, null).size());
+        Assert.assertEquals(1, cache.invalidate(Dict.class));
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(0, cache.getUsedWeight());
+    }
+
+    @Test
+    public void testConfigOverridesAnnotation() {
+        cache.setTtl(Dict.class, 0);
+        searcher.searchAll(Dict.class, null);
+        searcher.searchAll(Dict.class, null);
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testSameSql() {
+        cache.setTtl(DictView.class, 60000);
+        searcher.searchAll(Dict.class, null);
+        searcher.searchAll(DictView.class, null);
+        Assert.assertEquals(2, cache.getSize());
+        // 检索 SQL 相同的实体类各自缓存，失效时互不影响
+        Assert.assertEquals(1, cache.invalidate(DictView.class));
+        Assert.assertEquals(1, cache.getSize());
+        searcher.searchAll(Dict.class, null);
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testResolverWithoutFetchType() {
+        DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+        // 只按基础版本的约定构建 SearchSql，不设置检索类型
+        SqlResolver legacyResolver = new SqlResolver() {
+            @Override
+            public <T> SearchSql<T> resolve(BeanMeta<T> beanMeta, SearchParam searchParam) {
+                SearchSql<T> searchSql = sqlResolver.resolve(beanMeta, searchParam);
+                searchSql.setFetchType(null);
+                return searchSql;
+            }
+        };
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlResolver(legacyResolver).sqlExecutor(sqlExecutor).build();
+        for (int i = 0; i < 2; i++) {
+            SearchResult<Dict> result = searcher.search(Dict.class, MapUtils.builder().page(0, 10).build());
+            Assert.assertEquals(2L, result.getTotalCount());
+            Assert.assertEquals(2, result.getDataList().size());
+        }
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testEmptyResult() {
+        rowCount.set(0);
+        Assert.assertEquals(0, searcher.searchList(Dict.class, null).size());
+        Assert.assertEquals(0, cache.getSize());
+        // 未被注解的实体类，空结果使用与其相同的过期时间
+        cache.setTtl(PlainDict.class, 60000);
+        searcher.searchList(PlainDict.class, null);
+        searcher.searchList(PlainDict.class, null);
+        Assert.assertEquals(1, cache.getSize());
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testEviction() {
+        cache.setMaxEntries(2);
+        for (int page = 0; page < 3; page++) {
+            searcher.searchList(Dict.class, MapUtils.builder().page(page, 10).build());
+        }
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        // 最早的已被淘汰
+        searcher.searchList(Dict.class, MapUtils.builder().page(0, 10).build());
+        Assert.assertEquals(4, mockDataSource.executedSqls.size());
+    }
+
+    @Test
+    public void testTooManyRows() {
+        sqlExecutor.setMaxRows(3);
+        rowCount.set(5);
+        Assert.assertEquals(5, searcher.searchAll(Dict.class, null).size());
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(0, mockDataSource.openConnections.get());
+        rowCount.set(3);
+        try (SearchCursor<Dict> cursor = searcher.searchCursor(Dict.class, null)) {
+            List<Long> ids = new ArrayList<>();
+            cursor.forEachRemaining(dict -> ids.add(dict.getId()));
+            Assert.assertEquals(3, ids.size());
+        }
+        Assert.assertEquals(1, cache.getSize());
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L), ids(searcher.searchAll(Dict.class, null)));
+        Assert.assertEquals(2, mockDataSource.executedSqls.size());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.implement.RowMap;
+import com.ejlchina.searcher.param.FetchType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+public class RowMapTestCase {
+
+    public static class User {
+        private Long id;
+        private String name;
+        private Integer age;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+        public Integer getAge() {
+            return age;
+        }
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+    }
+
+    private final BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+
+    private String alias(String field) {
+        return beanMeta.requireFieldMeta(field).getDbAlias();
+    }
+
+    private MapSearcher mapSearcher(boolean compactRows, List<String> filtered) {
+        MockDataSource mockDataSource = new MockDataSource(sql -> Arrays.asList(
+                MockDataSource.row(alias("id"), 1L, alias("name"), "Jack", alias("age"), 20),
+                MockDataSource.row(alias("id"), 2L, alias("name"), "Tom", alias("age"), null)
+        ));
+        return SearcherBuilder.mapSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .compactRows(compactRows)
+                .addResultFilter(new ResultFilter() {
+                    @Override
+                    public <T> SearchResult<Map<String, Object>> doMapFilter(SearchResult<Map<String, Object>> result, BeanMeta<T> beanMeta,
+                                                                             Map<String, Object> paraMap, FetchType fetchType) {
+                        result.getDataList().forEach(map -> filtered.add((String) map.get("name")));
+                        return result;
+                    }
+                })
+                .build();
+    }
+
+    @Test
+    public void testSameAsHashMap() {
+        List<String> filtered = new ArrayList<>();
+        List<Map<String, Object>> compact = mapSearcher(true, filtered).searchAll(User.class, null);
+        List<Map<String, Object>> hashed = mapSearcher(false, filtered).searchAll(User.class, null);
+        Assert.assertEquals(Arrays.asList("Jack", "Tom", "Jack", "Tom"), filtered);
+        Assert.assertEquals(hashed, compact);
+        Assert.assertEquals(hashed.get(0).hashCode(), compact.get(0).hashCode());
+        Map<String, Object> row = compact.get(1);
+        Assert.assertTrue(row instanceof RowMap);
+        Assert.assertFalse(hashed.get(1) instanceof RowMap);
+        Assert.assertEquals(3, row.size());
+        Assert.assertEquals("Tom", row.get("name"));
+        Assert.assertTrue(row.containsKey("age"));
+        Assert.assertNull(row.get("age"));
+        Assert.assertFalse(row.containsKey("other"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("id", "name", "age")), row.keySet());
+    }
+
+    @Test
+    public void testReadOnly() {
+        Map<String, Object> row = mapSearcher(true, new ArrayList<>()).searchAll(User.class, null).get(0);
+        try {
+            row.put("name", "Lucy");
+            Assert.fail();
+        } catch (UnsupportedOperationException ignore) { }
+        Map<String, Object> copy = new HashMap<>(row);
+        copy.put("name", "Lucy");
+        Assert.assertEquals("Lucy", copy.get("name"));
+        Assert.assertEquals("Jack", row.get("name"));
+    }
+
+    @Test
+    public void testSerializable() throws Exception {
+        Map<String, Object> row = mapSearcher(true, new ArrayList<>()).searchAll(User.class, null).get(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(row);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertEquals(row, in.readObject());
+        }
+    }
+
+}
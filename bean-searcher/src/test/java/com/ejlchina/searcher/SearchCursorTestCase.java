@@ -0,0 +1,148 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.BeanAware;
+import com.ejlchina.searcher.bean.DbIgnore;
+import com.ejlchina.searcher.bean.ParamAware;
+import com.ejlchina.searcher.param.FetchType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SearchCursorTestCase {
+
+    public static class User implements BeanAware, ParamAware {
+        private Long id;
+        private String name;
+        @DbIgnore
+        private boolean assembled;
+        @DbIgnore
+        private Object remark;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+        @Override
+        public void afterAssembly() {
+            assembled = true;
+        }
+        @Override
+        public void afterAssembly(Map<String, Object> paraMap) {
+            remark = paraMap.get("remark");
+        }
+    }
+
+    static class CountingSqlExecutor implements SqlExecutor {
+
+        final int rowCount;
+        int fetched = 0;
+        boolean closed = false;
+
+        CountingSqlExecutor(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public <T> SqlResult<T> execute(SearchSql<T> searchSql) {
+            Assert.assertFalse(searchSql.isShouldQueryCluster());
+            Assert.assertTrue(searchSql.getListSqlString().endsWith(" from user"));
+            SqlResult.ResultSet listResult = new SqlResult.ResultSet() {
+                @Override
+                public boolean next() {
+                    if (fetched < rowCount) {
+                        fetched++;
+                        return true;
+                    }
+                    return false;
+                }
+                @Override
+                public Object get(String columnLabel) {
+                    if ("c_0".equals(columnLabel)) {
+                        return (long) fetched;
+                    }
+                    return "name" + fetched;
+                }
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+            return new SqlResult<>(searchSql, listResult, null);
+        }
+
+    }
+
+    @Test
+    public void testBeanCursor() {
+        CountingSqlExecutor sqlExecutor = new CountingSqlExecutor(5);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher().sqlExecutor(sqlExecutor).build();
+        Map<String, Object> paraMap = new HashMap<>();
+        paraMap.put("remark", "R");
+        try (SearchCursor<User> cursor = searcher.searchCursor(User.class, paraMap)) {
+            Assert.assertEquals(0, sqlExecutor.fetched);
+            Assert.assertTrue(cursor.hasNext());
+            User user = cursor.next();
+            Assert.assertEquals(1, sqlExecutor.fetched);
+            Assert.assertEquals(Long.valueOf(1), user.getId());
+            Assert.assertEquals("name1", user.getName());
+            Assert.assertTrue(user.assembled);
+            Assert.assertEquals("R", user.remark);
+            int count = 1;
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
+            }
+            Assert.assertEquals(5, count);
+            // 读取完毕后自动关闭
+            Assert.assertTrue(sqlExecutor.closed);
+        }
+    }
+
+    @Test
+    public void testMapStream() {
+        CountingSqlExecutor sqlExecutor = new CountingSqlExecutor(100);
+        MapSearcher searcher = SearcherBuilder.mapSearcher().sqlExecutor(sqlExecutor).build();
+        try (Stream<Map<String, Object>> stream = searcher.searchStream(User.class, new HashMap<>())) {
+            List<Object> names = stream.limit(3).map(data -> data.get("name")).collect(Collectors.toList());
+            Assert.assertEquals(3, names.size());
+            Assert.assertEquals("name3", names.get(2));
+            Assert.assertEquals(3, sqlExecutor.fetched);
+            Assert.assertFalse(sqlExecutor.closed);
+        }
+        Assert.assertTrue(sqlExecutor.closed);
+    }
+
+    @Test
+    public void testResultFilter() {
+        CountingSqlExecutor sqlExecutor = new CountingSqlExecutor(6);
+        ResultFilter oddFilter = new ResultFilter() {
+            @Override
+            public <T> SearchResult<T> doBeanFilter(SearchResult<T> result, BeanMeta<T> beanMeta, Map<String, Object> paraMap, FetchType fetchType) {
+                result.getDataList().removeIf(bean -> ((User) bean).getId() % 2 == 0);
+                return result;
+            }
+        };
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlExecutor(sqlExecutor)
+                .addResultFilter(oddFilter)
+                .build();
+        try (Stream<User> stream = searcher.searchStream(User.class, new HashMap<>())) {
+            List<Long> ids = stream.map(User::getId).collect(Collectors.toList());
+            Assert.assertEquals(3, ids.size());
+            Assert.assertEquals(Long.valueOf(5), ids.get(2));
+        }
+    }
+
+}
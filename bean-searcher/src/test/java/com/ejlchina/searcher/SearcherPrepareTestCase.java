@@ -0,0 +1,64 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.implement.AbstractSearcher;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SearcherPrepareTestCase {
+
+    public static class User {
+        private Long id;
+        private String name;
+    }
+
+    public static class NoField {
+        public static String NAME;
+    }
+
+    private final List<String> resolved = new ArrayList<>();
+
+    private final AbstractSearcher searcher = (AbstractSearcher) SearcherBuilder.beanSearcher()
+            .sqlResolver(new DefaultSqlResolver() {
+                @Override
+                public <T> SearchSql<T> resolve(BeanMeta<T> beanMeta, SearchParam searchParam) {
+                    SearchSql<T> searchSql = super.resolve(beanMeta, searchParam);
+                    resolved.add(searchSql.getListSqlString() + " | " + searchSql.getClusterSqlString());
+                    return searchSql;
+                }
+            })
+            .sqlExecutor(new SqlExecutor() {
+                @Override
+                public <T> SqlResult<T> execute(SearchSql<T> searchSql) {
+                    throw new AssertionError("prepare should not execute any sql");
+                }
+            })
+            .build();
+
+    @Test
+    public void test_prepare() {
+        BeanMeta<User> beanMeta = searcher.prepare(User.class);
+        Assert.assertEquals(2, beanMeta.getFieldCount());
+        // 分页列表与总数、全部列表、只查总数
+        Assert.assertEquals(3, resolved.size());
+        Assert.assertTrue(resolved.get(0).contains("limit"));
+        Assert.assertTrue(resolved.get(0).contains("count(*)"));
+        Assert.assertFalse(resolved.get(1).contains("limit"));
+        Assert.assertTrue(resolved.get(2).startsWith("null"));
+    }
+
+    @Test
+    public void test_prepare_invalid() {
+        try {
+            searcher.prepare(NoField.class);
+            Assert.fail();
+        } catch (SearchException e) {
+            Assert.assertTrue(e.getMessage().contains("no field mapping"));
+        }
+        Assert.assertTrue(resolved.isEmpty());
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.param.OrderBy;
+import com.ejlchina.searcher.param.Seek;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+public class SeekPagingTestCase {
+
+    @SearchBean(tables = "audit_log", keyField = "id")
+    public static class AuditLog {
+        @DbField("id")
+        private Long id;
+        @DbField("time")
+        private Long time;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+        public Long getTime() {
+            return time;
+        }
+        public void setTime(Long time) {
+            this.time = time;
+        }
+    }
+
+    @SearchBean(tables = "audit_log")
+    public static class NoKeyLog {
+        @DbField("id")
+        private Long id;
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    private final BeanMeta<AuditLog> beanMeta = new DefaultMetaResolver().resolve(AuditLog.class);
+    private final String idAlias = beanMeta.requireFieldMeta("id").getDbAlias();
+    private final String timeAlias = beanMeta.requireFieldMeta("time").getDbAlias();
+
+    private final MockDataSource mockDataSource = new MockDataSource(sql -> {
+        if (sql.startsWith("select count(*)")) {
+            return Collections.singletonList(MockDataSource.row("s_count", 100L));
+        }
+        return Arrays.asList(
+                MockDataSource.row(idAlias, 7L, timeAlias, 300L),
+                MockDataSource.row(idAlias, 8L, timeAlias, 200L)
+        );
+    });
+
+    private BeanSearcher searcher(long seekOffsetThreshold) {
+        DefaultParamResolver paramResolver = new DefaultParamResolver();
+        paramResolver.setSeekOffsetThreshold(seekOffsetThreshold);
+        return SearcherBuilder.beanSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .paramResolver(paramResolver)
+                .build();
+    }
+
+    private String listSql(int index) {
+        return mockDataSource.executedSqls.stream()
+                .filter(sql -> !sql.startsWith("select count(*)"))
+                .skip(index).findFirst().orElse(null);
+    }
+
+    @Test
+    public void testSeekPages() {
+        BeanSearcher searcher = searcher(0);
+        Map<String, Object> params = MapUtils.builder().orderBy(AuditLog::getTime, "desc").page(3, 2).seek().build();
+        SearchResult<AuditLog> first = searcher.search(AuditLog.class, params);
+        Assert.assertEquals(100L, first.getTotalCount());
+        Assert.assertNotNull(first.getNextCursor());
+        Assert.assertTrue(listSql(0), listSql(0).endsWith("from audit_log order by " + timeAlias + " desc, " + idAlias + " asc limit ?, ?"));
+        // 游标模式下忽略页码
+        Assert.assertEquals(Arrays.asList(0L, 2), mockDataSource.executedParams.get(1));
+
+        params = MapUtils.builder().orderBy(AuditLog::getTime, "desc").page(0, 2).seek(first.getNextCursor()).build();
+        SearchResult<AuditLog> second = searcher.search(AuditLog.class, params);
+        Assert.assertEquals(100L, second.getTotalCount());
+        Assert.assertEquals(2, second.getDataList().size());
+        String countSql = mockDataSource.executedSqls.get(2);
+        Assert.assertEquals("select count(*) s_count from audit_log", countSql);
+        Assert.assertTrue(listSql(1), listSql(1).endsWith("from audit_log where ((time < ?) or (time = ? and id > ?)) order by "
+                + timeAlias + " desc, " + idAlias + " asc limit ?, ?"));
+        Assert.assertEquals(Arrays.asList(200L, 200L, 8L, 0L, 2), mockDataSource.executedParams.get(3));
+    }
+
+    @Test
+    public void testLastPage() {
+        BeanSearcher searcher = searcher(0);
+        SearchResult<AuditLog> result = searcher.search(AuditLog.class, MapUtils.builder().page(0, 10).seek().build());
+        Assert.assertEquals(2, result.getDataList().size());
+        Assert.assertNull(result.getNextCursor());
+        // 未使用键集分页时没有游标
+        result = searcher.search(AuditLog.class, MapUtils.builder().page(0, 2).build());
+        Assert.assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void testCursorOrderMismatch() {
+        BeanSearcher searcher = searcher(0);
+        Map<String, Object> params = MapUtils.builder().orderBy(AuditLog::getTime, "desc").page(0, 2).seek().build();
+        String cursor = searcher.search(AuditLog.class, params).getNextCursor();
+        try {
+            searcher.search(AuditLog.class, MapUtils.builder().orderBy(AuditLog::getTime, "asc").seek(cursor).build());
+            Assert.fail();
+        } catch (SearchException e) {
+            Assert.assertTrue(e.getMessage().contains("does not match"));
+        }
+        try {
+            searcher.search(AuditLog.class, MapUtils.builder().seek("not a cursor").build());
+            Assert.fail();
+        } catch (SearchException ignored) { }
+    }
+
+    @Test(expected = SearchException.class)
+    public void testNoKeyField() {
+        searcher(0).search(NoKeyLog.class, MapUtils.builder().seek().build());
+    }
+
+    @Test
+    public void testAutoSeek() {
+        BeanSearcher searcher = searcher(100);
+        // 未超过阈值时仍使用 offset 分页
+        searcher.searchList(AuditLog.class, MapUtils.builder().limit(100, 2).build());
+        Assert.assertEquals(1, mockDataSource.executedSqls.size());
+        Assert.assertEquals(Arrays.asList(100L, 2), mockDataSource.executedParams.get(0));
+
+        SearchResult<AuditLog> result = searcher.search(AuditLog.class, MapUtils.builder().limit(1000, 2).build());
+        Assert.assertNotNull(result.getNextCursor());
+        // 先只查排序字段定位边界行
+        String probeSql = mockDataSource.executedSqls.get(1);
+        Assert.assertTrue(probeSql, probeSql.startsWith("select id " + idAlias + " from audit_log order by " + idAlias + " asc limit ?, ?"));
+        Assert.assertEquals(Arrays.asList(999L, 1), mockDataSource.executedParams.get(1));
+        Assert.assertTrue(listSql(2), listSql(2).contains("where ((id > ?))"));
+        Assert.assertEquals(Arrays.asList(7L, 0L, 2), mockDataSource.executedParams.get(3));
+    }
+
+    @Test
+    public void testCursorCodec() {
+        Seek seek = new Seek(Arrays.asList(new OrderBy("a", "desc"), new OrderBy("b", null), new OrderBy("c", "asc"),
+                new OrderBy("d", "asc"), new OrderBy("e", "asc")));
+        Object[] values = { Timestamp.valueOf("2022-06-01 12:30:00.123"), LocalDateTime.of(2022, 6, 1, 8, 0),
+                new BigDecimal("12.50"), "a,b\nc", 42L };
+        String cursor = seek.encode(values);
+        Seek decoded = new Seek(seek.getOrderBys());
+        decoded.decode(cursor);
+        Assert.assertArrayEquals(values, decoded.getValues());
+        Assert.assertNull(seek.encode(new Object[] { null, 1, 2, 3, 4 }));
+    }
+
+}
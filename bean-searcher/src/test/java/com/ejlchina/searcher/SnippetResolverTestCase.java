@@ -4,7 +4,7 @@ import com.ejlchina.searcher.implement.DefaultSnippetResolver;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.util.List;
+import java.util.*;
 
 public class SnippetResolverTestCase {
 
@@ -161,4 +161,41 @@ public class SnippetResolverTestCase {
         Assert.assertTrue(snippet.getParas().isEmpty());
     }
 
+    @Test
+    public void test_render() {
+        SqlSnippet snippet = resolver.resolve("user_:tab: u, role r where u.age > :age and u.name like ':name%' and :tab: > 0");
+        Assert.assertFalse(snippet.isConstant());
+        Map<String, Object> paraMap = new HashMap<>();
+        paraMap.put("tab", 2022);
+        paraMap.put("age", 18);
+        paraMap.put("name", "Jack");
+        List<Object> jdbcParas = new ArrayList<>();
+        String sql = snippet.render(paraMap, jdbcParas);
+        Assert.assertEquals("user_2022 u, role r where u.age > ? and u.name like 'Jack%' and 2022 > 0", sql);
+        Assert.assertEquals(Collections.singletonList(18), jdbcParas);
+        // 拼接参数为空时替换为空串，参数值中的 :xxx: 不再被替换
+        paraMap.put("tab", ":name:");
+        paraMap.remove("name");
+        StringBuilder builder = new StringBuilder("from ");
+        snippet.render(builder, paraMap, new ArrayList<>());
+        Assert.assertEquals("from user_:name: u, role r where u.age > ? and u.name like '%' and :name: > 0", builder.toString());
+    }
+
+    @Test
+    public void test_render_constant() {
+        SqlSnippet snippet = resolver.resolve("user u where u.age > :age");
+        Assert.assertTrue(snippet.isConstant());
+        List<Object> jdbcParas = new ArrayList<>();
+        // 没有拼接参数时不复制
+        Assert.assertSame(snippet.getSql(), snippet.render(Collections.singletonMap("age", 20), jdbcParas));
+        Assert.assertEquals(Collections.singletonList(20), jdbcParas);
+        // 修改后重新编译
+        snippet.setSql("user_:tab: u where u.age > ?");
+        SqlSnippet.SqlPara para = new SqlSnippet.SqlPara(":tab:");
+        para.setName("tab");
+        snippet.addPara(para);
+        Assert.assertFalse(snippet.isConstant());
+        Assert.assertEquals("user_1 u where u.age > ?", snippet.render(Collections.singletonMap("tab", 1), new ArrayList<>()));
+    }
+
 }
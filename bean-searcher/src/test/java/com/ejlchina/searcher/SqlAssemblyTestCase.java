@@ -0,0 +1,215 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.dialect.*;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.operator.Equal;
+import com.ejlchina.searcher.param.FieldParam;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.param.Paging;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class SqlAssemblyTestCase {
+
+    @SearchBean(tables = "user u", autoMapTo = "u")
+    public static class User {
+        private Long id;
+        private String name;
+        private Integer age;
+    }
+
+    /**
+     * 只实现了 {@link FieldOp#operate(StringBuilder, FieldOp.OpPara) } 的自定义运算符
+     */
+    static class Regexp implements FieldOp {
+
+        @Override
+        public String name() {
+            return "Regexp";
+        }
+
+        @Override
+        public boolean isNamed(String name) {
+            return "rx".equals(name) || "Regexp".equals(name);
+        }
+
+        @Override
+        public boolean lonely() {
+            return false;
+        }
+
+        @Override
+        public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+            SqlWrapper<Object> fieldSql = opPara.getFieldSql();
+            sqlBuilder.append(fieldSql.getSql()).append(" regexp ?");
+            List<Object> params = new ArrayList<>(fieldSql.getParas());
+            params.add(opPara.getValues()[0]);
+            return params;
+        }
+
+    }
+
+    /**
+     * 只实现了 {@link Dialect#forPaginate(String, String, Paging) } 的自定义方言
+     */
+    static class FetchFirstDialect implements Dialect {
+
+        @Override
+        public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
+            SqlWrapper<Object> wrapper = new SqlWrapper<>(fieldSelectSql + fromWhereSql + " offset ? fetch first ? rows");
+            wrapper.addPara(paging.getOffset());
+            wrapper.addPara(paging.getSize());
+            return wrapper;
+        }
+
+    }
+
+    /**
+     * 继承内置运算符，只重写了旧方法
+     */
+    static class BinaryEqual extends Equal {
+
+        @Override
+        public String name() {
+            return "BinaryEqual";
+        }
+
+        @Override
+        public boolean isNamed(String name) {
+            return "beq".equals(name) || "BinaryEqual".equals(name);
+        }
+
+        @Override
+        public List<Object> operate(StringBuilder sqlBuilder, OpPara opPara) {
+            sqlBuilder.append("binary ");
+            return super.operate(sqlBuilder, opPara);
+        }
+
+    }
+
+    /**
+     * 继承内置方言，只重写了旧方法
+     */
+    static class HintMySqlDialect extends MySqlDialect {
+
+        @Override
+        public SqlWrapper<Object> forPaginate(String fieldSelectSql, String fromWhereSql, Paging paging) {
+            return super.forPaginate(fieldSelectSql.replace("select ", "select /*+ hint */ "), fromWhereSql, paging);
+        }
+
+    }
+
+    private final BeanMeta<User> beanMeta = new DefaultMetaResolver().resolve(User.class);
+
+    private SearchSql<User> resolve(DefaultSqlResolver sqlResolver, Map<String, Object> paraMap) {
+        DefaultParamResolver paramResolver = new DefaultParamResolver();
+        paramResolver.getFieldOpPool().getFieldOps().add(new BinaryEqual());
+        paramResolver.getFieldOpPool().getFieldOps().add(new Regexp());
+        SearchParam searchParam = paramResolver.resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+        return sqlResolver.resolve(beanMeta, searchParam);
+    }
+
+    @Test
+    public void test_legacy_field_op() {
+        SearchSql<User> searchSql = resolve(new DefaultSqlResolver(), MapUtils.builder()
+                .put("name", "^J").put("name-op", "rx")
+                .put("age", 20).put("age-op", "beq")
+                .orderBy("age", "desc")
+                .page(1, 10)
+                .build());
+        Assert.assertTrue(searchSql.getListSqlString().endsWith(" from user u where (u.name regexp ?) and (binary u.age = ?) order by c_2 desc limit ?, ?"));
+        Assert.assertEquals(Arrays.asList("^J", 20, 10L, 10), searchSql.getListSqlParams());
+        Assert.assertEquals("select count(*) s_count from user u where (u.name regexp ?) and (binary u.age = ?)", searchSql.getClusterSqlString());
+        Assert.assertEquals(Arrays.asList("^J", 20), searchSql.getClusterSqlParams());
+    }
+
+    @Test
+    public void test_legacy_dialect() {
+        DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+        sqlResolver.setDialect(new FetchFirstDialect());
+        SearchSql<User> searchSql = resolve(sqlResolver, MapUtils.builder()
+                .put("age", 20)
+                .orderBy("age", "desc")
+                .page(2, 15)
+                .build());
+        Assert.assertTrue(searchSql.getListSqlString().endsWith(" from user u where (u.age = ?) order by c_2 desc offset ? fetch first ? rows"));
+        Assert.assertEquals(Arrays.asList(20, 30L, 15), searchSql.getListSqlParams());
+    }
+
+    @Test
+    public void test_legacy_dialect_subclass() {
+        DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+        sqlResolver.setDialect(new HintMySqlDialect());
+        SearchSql<User> searchSql = resolve(sqlResolver, MapUtils.builder().page(0, 15).build());
+        Assert.assertTrue(searchSql.getListSqlString().startsWith("select /*+ hint */ "));
+        Assert.assertTrue(searchSql.getListSqlString().endsWith(" from user u limit ?, ?"));
+        Assert.assertEquals(Arrays.asList(0L, 15), searchSql.getListSqlParams());
+    }
+
+    @Test
+    public void test_legacy_resolver_operate() {
+        DefaultSqlResolver sqlResolver = new DefaultSqlResolver() {
+            @Override
+            @SuppressWarnings("deprecation")
+            protected <T> List<Object> operate(StringBuilder builder, BeanMeta<T> beanMeta, FieldParam param, Map<String, Object> paraMap) {
+                List<Object> paras = super.operate(builder, beanMeta, param, paraMap);
+                builder.append(" and 1 = ?");
+                paras.add(1);
+                return paras;
+            }
+        };
+        SearchSql<User> searchSql = resolve(sqlResolver, MapUtils.builder().put("id", 5).put("id-op", "beq").build());
+        Assert.assertEquals("select count(*) s_count from user u where (binary u.id = ? and 1 = ?)", searchSql.getClusterSqlString());
+        Assert.assertEquals(Arrays.asList(5L, 1), searchSql.getClusterSqlParams());
+    }
+
+    @Test
+    public void test_built_in_dialects() {
+        Dialect[] dialects = { new MySqlDialect(), new PostgreSqlDialect(), new SqlServerDialect(), new OracleDialect() };
+        String fieldSelectSql = "select u.id c_0, u.name c_1";
+        String fromWhereSql = " from user u where (u.age = ?)";
+        String orderBySql = " order by c_1 desc";
+        for (Dialect dialect : dialects) {
+            for (Paging paging : new Paging[] { null, new Paging(10, 20) }) {
+                SqlWrapper<Object> expected = dialect.forPaginate(fieldSelectSql, fromWhereSql + orderBySql, paging);
+                StringBuilder builder = new StringBuilder();
+                List<Object> paras = new ArrayList<>();
+                paras.add(1);
+                dialect.forPaginate(builder, paras, fieldSelectSql, fromWhereSql, orderBySql, paging);
+                Assert.assertEquals(expected.getSql(), builder.toString());
+                Assert.assertEquals(1, paras.remove(0));
+                Assert.assertEquals(expected.getParas(), paras);
+            }
+        }
+    }
+
+    @Test
+    public void test_repeated_resolve() {
+        DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+        // 预估的容量随之前生成的 SQL 变化，但不影响生成的 SQL
+        Map<String, Object> small = MapUtils.builder().put("age", 1).build();
+        Map<String, Object> large = MapUtils.builder()
+                .field("id", 1, 2, 3, 4, 5, 6, 7, 8).op("il")
+                .put("name", "Jack").put("name-op", "ct")
+                .orderBy("age", "desc")
+                .build();
+        String smallSql = resolve(sqlResolver, small).getListSqlString();
+        String largeSql = resolve(sqlResolver, large).getListSqlString();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(smallSql, resolve(sqlResolver, small).getListSqlString());
+            Assert.assertEquals(largeSql, resolve(sqlResolver, large).getListSqlString());
+        }
+        Assert.assertEquals(smallSql, resolve(new DefaultSqlResolver(), small).getListSqlString());
+        Assert.assertEquals(largeSql, resolve(new DefaultSqlResolver(), large).getListSqlString());
+    }
+
+}
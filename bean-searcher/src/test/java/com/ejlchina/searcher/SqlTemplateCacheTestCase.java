@@ -0,0 +1,161 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.implement.SqlTemplateCache;
+import com.ejlchina.searcher.operator.Between;
+import com.ejlchina.searcher.operator.InList;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class SqlTemplateCacheTestCase {
+
+    @SearchBean(tables = "user_:suffix:", orderBy = "id desc")
+    public static class User {
+        @DbField("id")
+        private long id;
+        @DbField("name")
+        private String name;
+        @DbField("age + :delta")
+        private int age;
+        public long getId() {
+            return id;
+        }
+        public void setId(long id) {
+            this.id = id;
+        }
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+        public int getAge() {
+            return age;
+        }
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    static class RecordSqlExecutor implements SqlExecutor {
+
+        final List<SearchSql<?>> searchSqls = new ArrayList<>();
+
+        @Override
+        public <T> SqlResult<T> execute(SearchSql<T> searchSql) {
+            searchSqls.add(searchSql);
+            return new SqlResult<>(searchSql, SimpleSearchTestCase.EMPTY_RESULT_SET, columnLabel -> 0);
+        }
+
+    }
+
+    private List<Map<String, Object>> paramsList() {
+        return Arrays.asList(
+                MapUtils.builder().put("suffix", "a").put("delta", 1).build(),
+                MapUtils.builder().put("suffix", "a").put("delta", 2).page(2, 10).build(),
+                MapUtils.builder().put("suffix", "b").put("delta", 3).page(3, 20).build(),
+                MapUtils.builder().put("suffix", "a").put("delta", 4)
+                        .field(User::getName, "Jack").ic()
+                        .field(User::getAge, 10, 20).op(Between.class)
+                        .orderBy(User::getAge, "asc")
+                        .build(),
+                MapUtils.builder().put("suffix", "a").put("delta", 5)
+                        .field(User::getName, "Tom").ic()
+                        .field(User::getAge, 30, null).op(Between.class)
+                        .orderBy(User::getAge, "asc")
+                        .build(),
+                MapUtils.builder().put("suffix", "a").put("delta", 6)
+                        .field(User::getId, 1, 2, 3).op(InList.class)
+                        .build(),
+                MapUtils.builder().put("suffix", "a").put("delta", 7)
+                        .field(User::getId, 4, 5).op(InList.class)
+                        .build(),
+                MapUtils.builder().put("suffix", "a").put("delta", 8)
+                        .group("A").field(User::getId, 1)
+                        .group("B").field(User::getName, "Jack")
+                        .groupExpr("A|B")
+                        .build()
+        );
+    }
+
+    @Test
+    public void test() {
+        SqlTemplateCache templateCache = new SqlTemplateCache();
+        DefaultSqlResolver cachedResolver = new DefaultSqlResolver();
+        cachedResolver.setTemplateCache(templateCache);
+        RecordSqlExecutor cachedExecutor = new RecordSqlExecutor();
+        RecordSqlExecutor normalExecutor = new RecordSqlExecutor();
+        MapSearcher cachedSearcher = SearcherBuilder.mapSearcher()
+                .sqlResolver(cachedResolver)
+                .sqlExecutor(cachedExecutor)
+                .build();
+        MapSearcher normalSearcher = SearcherBuilder.mapSearcher()
+                .sqlExecutor(normalExecutor)
+                .build();
+        List<Map<String, Object>> paramsList = paramsList();
+        for (int i = 0; i < 2; i++) {
+            for (Map<String, Object> params : paramsList) {
+                cachedSearcher.search(User.class, params, new String[] { "age" });
+                normalSearcher.search(User.class, params, new String[] { "age" });
+                cachedSearcher.searchList(User.class, params);
+                normalSearcher.searchList(User.class, params);
+            }
+        }
+        Assert.assertEquals(normalExecutor.searchSqls.size(), cachedExecutor.searchSqls.size());
+        for (int i = 0; i < normalExecutor.searchSqls.size(); i++) {
+            SearchSql<?> expected = normalExecutor.searchSqls.get(i);
+            SearchSql<?> actual = cachedExecutor.searchSqls.get(i);
+            Assert.assertEquals(expected.getListSqlString(), actual.getListSqlString());
+            Assert.assertEquals(expected.getListSqlParams(), actual.getListSqlParams());
+            Assert.assertEquals(expected.getClusterSqlString(), actual.getClusterSqlString());
+            Assert.assertEquals(expected.getClusterSqlParams(), actual.getClusterSqlParams());
+            Assert.assertEquals(expected.getCountAlias(), actual.getCountAlias());
+            Assert.assertEquals(expected.getSummaryAliases(), actual.getSummaryAliases());
+        }
+        // 每种检索形态只解析一次
+        Assert.assertEquals(templateCache.getSize(), templateCache.getMissCount());
+        Assert.assertEquals(4 * paramsList.size(), templateCache.getMissCount() + templateCache.getHitCount());
+    }
+
+    @Test
+    public void testEmbedPara() {
+        SqlTemplateCache templateCache = new SqlTemplateCache();
+        DefaultSqlResolver resolver = new DefaultSqlResolver();
+        resolver.setTemplateCache(templateCache);
+        RecordSqlExecutor executor = new RecordSqlExecutor();
+        MapSearcher searcher = SearcherBuilder.mapSearcher()
+                .sqlResolver(resolver)
+                .sqlExecutor(executor)
+                .build();
+        searcher.searchList(User.class, MapUtils.builder().put("suffix", "a").build());
+        searcher.searchList(User.class, MapUtils.builder().put("suffix", "b").build());
+        Assert.assertTrue(executor.searchSqls.get(0).getListSqlString().contains(" from user_a order by id desc"));
+        Assert.assertTrue(executor.searchSqls.get(1).getListSqlString().contains(" from user_b order by id desc"));
+        Assert.assertEquals(2, templateCache.getSize());
+        Assert.assertEquals(0, templateCache.getHitCount());
+    }
+
+    @Test
+    public void testMaxSize() {
+        SqlTemplateCache templateCache = new SqlTemplateCache(2);
+        DefaultSqlResolver resolver = new DefaultSqlResolver();
+        resolver.setTemplateCache(templateCache);
+        MapSearcher searcher = SearcherBuilder.mapSearcher()
+                .sqlResolver(resolver)
+                .sqlExecutor(new RecordSqlExecutor())
+                .build();
+        for (Map<String, Object> params : paramsList()) {
+            searcher.searchList(User.class, params);
+        }
+        Assert.assertEquals(2, templateCache.getSize());
+    }
+
+}
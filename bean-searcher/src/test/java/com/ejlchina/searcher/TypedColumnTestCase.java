@@ -0,0 +1,172 @@
+package com.ejlchina.searcher;
+
+import com.ejlchina.searcher.convertor.DateFieldConvertor;
+import com.ejlchina.searcher.convertor.NumberFieldConvertor;
+import com.ejlchina.searcher.implement.DefaultBeanReflector;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultSqlExecutor;
+import com.ejlchina.searcher.util.MapUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+
+public class TypedColumnTestCase {
+
+    public static class Order {
+        private long id;
+        private int status;
+        private Long amount;
+        private Double rate;
+        private LocalDateTime createAt;
+        private String remark;
+        private Integer level;
+        public long getId() {
+            return id;
+        }
+        public void setId(long id) {
+            this.id = id;
+        }
+        public int getStatus() {
+            return status;
+        }
+        public void setStatus(int status) {
+            this.status = status;
+        }
+        public Long getAmount() {
+            return amount;
+        }
+        public void setAmount(Long amount) {
+            this.amount = amount;
+        }
+        public Double getRate() {
+            return rate;
+        }
+        public void setRate(Double rate) {
+            this.rate = rate;
+        }
+        public LocalDateTime getCreateAt() {
+            return createAt;
+        }
+        public void setCreateAt(LocalDateTime createAt) {
+            this.createAt = createAt;
+        }
+        public String getRemark() {
+            return remark;
+        }
+        public void setRemark(String remark) {
+            this.remark = remark;
+        }
+        public Integer getLevel() {
+            return level;
+        }
+        public void setLevel(Integer level) {
+            this.level = level;
+        }
+    }
+
+    private final BeanMeta<Order> beanMeta = new DefaultMetaResolver().resolve(Order.class);
+
+    private String alias(String field) {
+        return beanMeta.requireFieldMeta(field).getDbAlias();
+    }
+
+    private final Timestamp createAt = Timestamp.valueOf("2022-06-01 12:30:00");
+
+    private MockDataSource mockDataSource() {
+        Map<String, Object> row1 = MockDataSource.row(alias("id"), 1L, alias("status"), 2, alias("amount"), new BigDecimal("300"),
+                alias("rate"), 0.5, alias("createAt"), createAt, alias("remark"), "first", alias("level"), 3L);
+        Map<String, Object> row2 = MockDataSource.row(alias("id"), 2L, alias("status"), 1, alias("amount"), null,
+                alias("rate"), null, alias("createAt"), null, alias("remark"), null, alias("level"), null);
+        return new MockDataSource(sql -> Arrays.asList(row1, row2))
+                .sqlType(alias("id"), Types.BIGINT)
+                .sqlType(alias("status"), Types.TINYINT)
+                .sqlType(alias("amount"), Types.DECIMAL)
+                .sqlType(alias("rate"), Types.DOUBLE)
+                .sqlType(alias("createAt"), Types.TIMESTAMP)
+                .sqlType(alias("remark"), Types.VARCHAR)
+                .sqlType(alias("level"), Types.BIGINT);
+    }
+
+    @Test
+    public void testTypedRead() {
+        MockDataSource mockDataSource = mockDataSource();
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .beanReflector(new DefaultBeanReflector(Arrays.asList(new NumberFieldConvertor(), new DateFieldConvertor())))
+                .build();
+        List<Order> orders = searcher.searchAll(Order.class, null);
+        Assert.assertEquals(2, orders.size());
+        Order order = orders.get(0);
+        Assert.assertEquals(1L, order.getId());
+        Assert.assertEquals(2, order.getStatus());
+        Assert.assertEquals(300L, order.getAmount().longValue());
+        Assert.assertEquals(0.5, order.getRate(), 0);
+        Assert.assertEquals(createAt.toLocalDateTime(), order.getCreateAt());
+        Assert.assertEquals("first", order.getRemark());
+        Assert.assertEquals(3, order.getLevel().intValue());
+        order = orders.get(1);
+        Assert.assertEquals(2L, order.getId());
+        Assert.assertNull(order.getAmount());
+        Assert.assertNull(order.getRate());
+        Assert.assertNull(order.getCreateAt());
+        Assert.assertNull(order.getLevel());
+        // BIGINT 列对应 Integer 字段、TIMESTAMP 列对应 LocalDateTime 字段时仍用 getObject 读取，由 FieldConvertor 转换
+        Assert.assertEquals(10, mockDataSource.typedReads.get());
+        Assert.assertEquals(4, mockDataSource.indexReads.get());
+        Assert.assertEquals(0, mockDataSource.labelReads.get());
+    }
+
+    @Test
+    public void testZoneId() {
+        int offset = ZoneId.systemDefault().getRules().getOffset(createAt.toInstant()).getTotalSeconds();
+        int hours = offset > 0 ? -5 : 5;
+        ZoneId zoneId = ZoneOffset.ofTotalSeconds(offset + hours * 3600);
+        DateFieldConvertor dateConvertor = new DateFieldConvertor();
+        dateConvertor.setZoneId(zoneId);
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource().dataSource()))
+                .beanReflector(new DefaultBeanReflector(Arrays.asList(new NumberFieldConvertor(), dateConvertor)))
+                .build();
+        Order order = searcher.searchAll(Order.class, null).get(0);
+        // 按 DateFieldConvertor 配置的时区转换，而非 JVM 默认时区
+        Assert.assertEquals(LocalDateTime.ofInstant(createAt.toInstant(), zoneId), order.getCreateAt());
+        Assert.assertEquals(createAt.toLocalDateTime().plusHours(hours), order.getCreateAt());
+    }
+
+    @Test
+    public void testPrimitiveWithoutConvertor() {
+        MockDataSource mockDataSource = new MockDataSource(sql -> Collections.singletonList(
+                MockDataSource.row(alias("id"), 5L, alias("status"), 4)
+        ));
+        BeanSearcher searcher = SearcherBuilder.beanSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .build();
+        // 结果集没有 ResultSetMetaData 时按 getObject 读取，包装类型的值可直接赋给基本类型的字段
+        Order order = searcher.searchFirst(Order.class, MapUtils.builder().onlySelect("id", "status").build());
+        Assert.assertNotNull(order);
+        Assert.assertEquals(5L, order.getId());
+        Assert.assertEquals(4, order.getStatus());
+        Assert.assertEquals(0, mockDataSource.typedReads.get());
+    }
+
+    @Test
+    public void testMapSearcher() {
+        MockDataSource mockDataSource = mockDataSource();
+        MapSearcher searcher = SearcherBuilder.mapSearcher()
+                .sqlExecutor(new DefaultSqlExecutor(mockDataSource.dataSource()))
+                .build();
+        Map<String, Object> map = searcher.searchAll(Order.class, null).get(0);
+        // MapSearcher 保持数据库原始的值类型
+        Assert.assertEquals(new BigDecimal("300"), map.get("amount"));
+        Assert.assertEquals(createAt, map.get("createAt"));
+        Assert.assertEquals(0, mockDataSource.typedReads.get());
+    }
+
+}
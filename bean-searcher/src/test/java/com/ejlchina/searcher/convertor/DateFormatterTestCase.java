@@ -1,5 +1,7 @@
 package com.ejlchina.searcher.convertor;
 
+import com.ejlchina.searcher.FieldMeta;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -10,6 +12,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.function.Function;
 
 public class DateFormatterTestCase {
 
@@ -64,4 +67,29 @@ public class DateFormatterTestCase {
         Assert.assertEquals("13:59:10", timeFormatter.format(localTime));
     }
 
+    static class Model {
+        LocalDate date;
+    }
+
+    @Test
+    public void bindOverriddenConvert() {
+        DateFormatFieldConvertor convertor = new DateFormatFieldConvertor() {
+            @Override
+            public Object convert(FieldMeta meta, Object value) {
+                return "[" + super.convert(meta, value) + "]";
+            }
+        };
+        convertor.setFormat("com.ejlchina.searcher.convertor", "yyyy-MM-dd");
+        FieldMeta meta = new DefaultMetaResolver().resolve(Model.class).requireFieldMeta("date");
+        Function<Object, Object> function = convertor.bind(meta, LocalDate.class);
+        Assert.assertNotNull(function);
+        // 子类重写的 convert 方法仍被调用
+        Assert.assertEquals("[2022-06-01]", function.apply(LocalDate.of(2022, 6, 1)));
+        Function<Object, Object> plain = new DateFormatFieldConvertor() {{
+            setFormat("com.ejlchina.searcher.convertor", "yyyy-MM-dd");
+        }}.bind(meta, LocalDate.class);
+        Assert.assertNotNull(plain);
+        Assert.assertEquals("2022-06-01", plain.apply(LocalDate.of(2022, 6, 1)));
+    }
+
 }
@@ -5,6 +5,8 @@ import com.ejlchina.searcher.implement.DefaultMetaResolver;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.function.Function;
+
 public class EnumFieldConvertorTestCase {
 
     final EnumFieldConvertor convertor = new EnumFieldConvertor();
@@ -93,4 +95,40 @@ public class EnumFieldConvertorTestCase {
         System.out.println("EnumFieldConvertorTestCase test_fail_on_error_false passed");
     }
 
+    @Test
+    public void test_bind() {
+        Function<Object, Object> byName = convertor.bind(meta, String.class);
+        Function<Object, Object> byOrdinal = convertor.bind(meta, Integer.class);
+        Assert.assertNotNull(byName);
+        Assert.assertNotNull(byOrdinal);
+        Assert.assertNull(convertor.bind(meta, Long.class));
+        Assert.assertEquals(Gender.Female, byName.apply("Female"));
+        Assert.assertEquals(Gender.Unknown, byOrdinal.apply(2));
+        try {
+            byOrdinal.apply(3);
+            Assert.fail();
+        } catch (IllegalArgumentException ignore) { }
+        System.out.println("EnumFieldConvertorTestCase test_bind passed");
+    }
+
+    @Test
+    public void test_bind_overridden_convert() {
+        EnumFieldConvertor convertor = new EnumFieldConvertor() {
+            @Override
+            public Object convert(FieldMeta meta, Object value) {
+                if ("M".equals(value)) {
+                    return Gender.Male;
+                }
+                return super.convert(meta, value);
+            }
+        };
+        // 子类重写的 convert 方法仍被调用
+        Function<Object, Object> byName = convertor.bind(meta, String.class);
+        Assert.assertNotNull(byName);
+        Assert.assertEquals(Gender.Male, byName.apply("M"));
+        Assert.assertEquals(Gender.Female, byName.apply("Female"));
+        Assert.assertNull(convertor.bind(meta, Long.class));
+        System.out.println("EnumFieldConvertorTestCase test_bind_overridden_convert passed");
+    }
+
 }
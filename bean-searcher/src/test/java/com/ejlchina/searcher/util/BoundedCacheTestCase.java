@@ -0,0 +1,83 @@
+package com.ejlchina.searcher.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedCacheTestCase {
+
+    @Test
+    public void test_evict() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(16);
+        for (int i = 0; i < 16; i++) {
+            cache.put(i, "v" + i);
+        }
+        for (int i = 0; i < 8; i++) {
+            Assert.assertEquals("v" + i, cache.get(i));
+        }
+        cache.put(16, "v16");
+        // 超出上限时降到上限的 15/16，淘汰最久未访问的
+        Assert.assertEquals(15, cache.size());
+        Assert.assertEquals(2, cache.getEvictionCount());
+        Assert.assertNull(cache.get(8));
+        Assert.assertNull(cache.get(9));
+        for (int i = 0; i < 8; i++) {
+            Assert.assertEquals("v" + i, cache.get(i));
+        }
+        Assert.assertEquals("v16", cache.get(16));
+        cache.setMaxSize(4);
+        Assert.assertEquals(4, cache.size());
+        Assert.assertEquals("v16", cache.get(16));
+    }
+
+    @Test
+    public void test_stats() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        Assert.assertEquals(0, cache.getHitRate(), 0);
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals("A", cache.computeIfAbsent("a", k -> {
+                loads.incrementAndGet();
+                return "A";
+            }));
+        }
+        Assert.assertEquals(1, loads.get());
+        // 加载函数返回 null 时不缓存
+        Assert.assertNull(cache.computeIfAbsent("b", k -> null));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(3, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(0.6, cache.getHitRate(), 0.0001);
+        Assert.assertEquals("A", cache.remove("a"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void test_concurrent() throws Exception {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            long seed = t;
+            futures.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20000; i++) {
+                    int key = random.nextInt(1000);
+                    Assert.assertEquals(key * 2, (int) cache.computeIfAbsent(key, k -> k * 2));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        // 淘汰时不阻塞其它线程的写入，所以可能略超上限
+        Assert.assertTrue(cache.size() <= 100 + 16);
+        Assert.assertTrue(cache.getEvictionCount() > 0);
+        Assert.assertEquals(16 * 20000, cache.getHitCount() + cache.getMissCount());
+    }
+
+}
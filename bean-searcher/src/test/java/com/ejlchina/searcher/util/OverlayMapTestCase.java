@@ -0,0 +1,43 @@
+package com.ejlchina.searcher.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class OverlayMapTestCase {
+
+    @Test
+    public void test_overlay() {
+        Map<String, Object> base = new HashMap<>();
+        base.put("a", 1);
+        base.put("b", 2);
+        base.put("c", null);
+        OverlayMap<String, Object> map = new OverlayMap<>(base);
+        Assert.assertFalse(map.isModified());
+        Assert.assertEquals(base, map);
+        Assert.assertEquals(2, map.put("b", 20));
+        Assert.assertNull(map.put("d", 4));
+        Assert.assertEquals(1, map.remove("a"));
+        Assert.assertTrue(map.isModified());
+        Assert.assertNull(map.get("a"));
+        Assert.assertFalse(map.containsKey("a"));
+        Assert.assertTrue(map.containsKey("c"));
+        Assert.assertEquals(20, map.get("b"));
+        Assert.assertEquals(3, map.size());
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("b", 20);
+        expected.put("c", null);
+        expected.put("d", 4);
+        Assert.assertEquals(expected, new HashMap<>(map));
+        // 原 Map 不变
+        Assert.assertEquals(3, base.size());
+        Assert.assertEquals(2, base.get("b"));
+        // 覆盖的键被移除后，原 Map 中的值也不可见
+        map.remove("b");
+        Assert.assertFalse(map.containsKey("b"));
+        Assert.assertEquals(2, map.size());
+    }
+
+}
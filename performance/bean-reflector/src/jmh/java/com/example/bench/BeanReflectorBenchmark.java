@@ -0,0 +1,81 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.BeanReflector;
+import com.ejlchina.searcher.FieldMeta;
+import com.ejlchina.searcher.implement.DefaultBeanReflector;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.LambdaBeanReflector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 装配 10000 行、每行 10 个字段的 Bean：DefaultBeanReflector vs LambdaBeanReflector
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BeanReflectorBenchmark {
+
+	public static class Order {
+		private Long id;
+		private String orderNo;
+		private Long userId;
+		private String userName;
+		private Integer status;
+		private Long amount;
+		private String address;
+		private String phone;
+		private String remark;
+		private Long createAt;
+
+		public void setId(Long id) { this.id = id; }
+		public void setOrderNo(String orderNo) { this.orderNo = orderNo; }
+		public void setUserId(Long userId) { this.userId = userId; }
+		public void setUserName(String userName) { this.userName = userName; }
+		public void setStatus(Integer status) { this.status = status; }
+		public void setAmount(Long amount) { this.amount = amount; }
+		public void setAddress(String address) { this.address = address; }
+		public void setPhone(String phone) { this.phone = phone; }
+		public void setRemark(String remark) { this.remark = remark; }
+		public void setCreateAt(Long createAt) { this.createAt = createAt; }
+	}
+
+	@Param({ "reflection", "lambda" })
+	public String reflectorType;
+
+	private static final int ROWS = 10000;
+
+	private BeanReflector reflector;
+	private BeanMeta<Order> beanMeta;
+	private List<FieldMeta> fetchFields;
+	private List<Map<String, Object>> rows;
+
+	@Setup
+	public void setup() {
+		reflector = "lambda".equals(reflectorType) ? new LambdaBeanReflector() : new DefaultBeanReflector();
+		beanMeta = new DefaultMetaResolver().resolve(Order.class);
+		fetchFields = new ArrayList<>(beanMeta.getFieldMetas());
+		rows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			Map<String, Object> row = new HashMap<>();
+			for (FieldMeta meta : fetchFields) {
+				Class<?> type = meta.getType();
+				Object value = type == String.class ? "v" + i : type == Integer.class ? (Object) (i % 5) : (Object) (long) i;
+				row.put(meta.getDbAlias(), value);
+			}
+			rows.add(row);
+		}
+	}
+
+	@Benchmark
+	public void reflect(Blackhole blackhole) {
+		for (Map<String, Object> row : rows) {
+			blackhole.consume(reflector.reflect(beanMeta, fetchFields, row::get));
+		}
+	}
+
+}
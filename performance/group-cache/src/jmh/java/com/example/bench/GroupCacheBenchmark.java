@@ -0,0 +1,72 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.group.DefaultGroupResolver;
+import com.ejlchina.searcher.group.Group;
+import com.ejlchina.searcher.util.LRUCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64 个线程同时解析组表达式（缓存容量 50，表达式 60 个，约 80% 命中）：
+ * 全局锁的 LRUCache（v3.8.0 之前） vs BoundedCache（DefaultGroupResolver）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+public class GroupCacheBenchmark {
+
+	/**
+	 * v3.8.0 之前的方式：LRUCache 的读写都在同一个锁上
+	 */
+	public static class LockingGroupResolver extends DefaultGroupResolver {
+
+		private final Object lock = new Object();
+
+		private final LRUCache<Group<String>> cache = new LRUCache<>(50);
+
+		@Override
+		public Group<String> resolve(String gExpr) {
+			Group<String> group;
+			synchronized (lock) {
+				group = cache.get(gExpr);
+			}
+			if (group == null) {
+				group = doResolve(gExpr);
+				synchronized (lock) {
+					cache.put(gExpr, group);
+				}
+			}
+			return group;
+		}
+
+	}
+
+	static final String[] EXPRS = new String[60];
+
+	static {
+		for (int i = 0; i < EXPRS.length; i++) {
+			EXPRS[i] = "(a" + i + "|b)&(c|d" + i + ")";
+		}
+	}
+
+	@Param({ "locking", "bounded" })
+	public String cacheType;
+
+	private DefaultGroupResolver resolver;
+
+	@Setup
+	public void setup() {
+		resolver = "locking".equals(cacheType) ? new LockingGroupResolver() : new DefaultGroupResolver();
+	}
+
+	@Benchmark
+	public Group<String> resolve() {
+		return resolver.resolve(EXPRS[ThreadLocalRandom.current().nextInt(EXPRS.length)]);
+	}
+
+}
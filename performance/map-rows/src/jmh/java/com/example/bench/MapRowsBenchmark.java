@@ -0,0 +1,90 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.*;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapSearcher 检索 50000 行、每行 10 个字段：HashMap 行 vs RowMap 行
+ * 内存占用可通过 GC 分析器查看（./gradlew jmh -Pjmh.profilers=gc 的 gc.alloc.rate.norm，即每次检索分配的字节数）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapRowsBenchmark {
+
+	public static class Order {
+		private Long id;
+		private String orderNo;
+		private Long userId;
+		private String userName;
+		private Integer status;
+		private Long amount;
+		private String address;
+		private String phone;
+		private String remark;
+		private Long createAt;
+	}
+
+	@Param({ "false", "true" })
+	public boolean compactRows;
+
+	private static final int ROWS = 50000;
+
+	private MapSearcher mapSearcher;
+
+	@Setup
+	public void setup() {
+		MetaResolver metaResolver = new DefaultMetaResolver();
+		BeanMeta<Order> beanMeta = metaResolver.resolve(Order.class);
+		List<FieldMeta> fieldMetas = new ArrayList<>(beanMeta.getFieldMetas());
+		String[] labels = fieldMetas.stream().map(FieldMeta::getDbAlias).toArray(String[]::new);
+		Object[][] rows = new Object[ROWS][];
+		for (int i = 0; i < ROWS; i++) {
+			Object[] row = new Object[labels.length];
+			for (int j = 0; j < row.length; j++) {
+				Class<?> type = fieldMetas.get(j).getType();
+				row[j] = type == String.class ? "v" + i : type == Integer.class ? (Object) (i % 5) : (Object) (long) i;
+			}
+			rows[i] = row;
+		}
+		SqlExecutor sqlExecutor = new SqlExecutor() {
+			@Override
+			public <T> SqlResult<T> execute(SearchSql<T> searchSql) {
+				return new SqlResult<>(searchSql, new SqlResult.ResultSet() {
+					int index = -1;
+					@Override
+					public boolean next() {
+						return ++index < rows.length;
+					}
+					@Override
+					public Object get(String columnLabel) {
+						return get(indexOf(columnLabel));
+					}
+					@Override
+					public int indexOf(String columnLabel) {
+						return Arrays.asList(labels).indexOf(columnLabel) + 1;
+					}
+					@Override
+					public Object get(int columnIndex) {
+						return rows[index][columnIndex - 1];
+					}
+				}, null);
+			}
+		};
+		mapSearcher = SearcherBuilder.mapSearcher()
+				.metaResolver(metaResolver)
+				.sqlExecutor(sqlExecutor)
+				.compactRows(compactRows)
+				.build();
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> searchList() {
+		return mapSearcher.searchList(Order.class, null);
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.MetaResolver;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多个线程同时解析一批未缓存的 SearchBean（如应用启动时）：
+ * 全局监视器锁（v3.8.0 之前的方式） vs 每个类一个解析任务（DefaultMetaResolver）
+ * 每次迭代使用新的解析器，每个线程以不同的顺序解析全部的类
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 200)
+@Measurement(iterations = 1000)
+@Threads(4)
+public class MetaResolverBenchmark {
+
+	/**
+	 * v3.8.0 之前的方式：未命中缓存时在全局监视器上解析
+	 */
+	public static class LockingMetaResolver extends DefaultMetaResolver {
+
+		private final Map<Class<?>, BeanMeta<?>> cache = new ConcurrentHashMap<>();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> BeanMeta<T> resolve(Class<T> beanClass) {
+			BeanMeta<T> beanMeta = (BeanMeta<T>) cache.get(beanClass);
+			if (beanMeta != null) {
+				return beanMeta;
+			}
+			synchronized (cache) {
+				beanMeta = resolveMetadata(beanClass);
+				cache.put(beanClass, beanMeta);
+				return beanMeta;
+			}
+		}
+
+	}
+
+	public static class Bean0 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean1 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean2 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean3 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean4 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean5 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean6 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+	public static class Bean7 { Long id; String name; Integer age; String email; String phone; Long createAt; }
+
+	static final Class<?>[] BEANS = {
+			Bean0.class, Bean1.class, Bean2.class, Bean3.class,
+			Bean4.class, Bean5.class, Bean6.class, Bean7.class
+	};
+
+	@Param({ "locking", "lockFree" })
+	public String resolverType;
+
+	private MetaResolver resolver;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		resolver = "locking".equals(resolverType) ? new LockingMetaResolver() : new DefaultMetaResolver();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadOffset {
+
+		private static int next = 0;
+
+		int offset;
+
+		@Setup
+		public void setup() {
+			synchronized (ThreadOffset.class) {
+				offset = next++;
+			}
+		}
+
+	}
+
+	@Benchmark
+	public void resolveAll(ThreadOffset thread, Blackhole blackhole) {
+		for (int i = 0; i < BEANS.length; i++) {
+			blackhole.consume(resolver.resolve(BEANS[(i + thread.offset * 2) % BEANS.length]));
+		}
+	}
+
+}
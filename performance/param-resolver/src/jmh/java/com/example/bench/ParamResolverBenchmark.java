@@ -0,0 +1,71 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.SearchParam;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.param.FetchType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 解析一次检索参数（12 个字段的实体类，请求中有 13 个参数，其中 10 个是字段参数）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParamResolverBenchmark {
+
+	public static class Order {
+		private Long id;
+		private String orderNo;
+		private String buyer;
+		private String seller;
+		private Integer status;
+		private Boolean paid;
+		private Long amount;
+		private Long createdAt;
+		private Long updatedAt;
+		private String remark;
+		private String city;
+		private Integer channel;
+	}
+
+	private final DefaultParamResolver paramResolver = new DefaultParamResolver();
+
+	private final FetchType fetchType = new FetchType(FetchType.DEFAULT);
+
+	private BeanMeta<Order> beanMeta;
+
+	private Map<String, Object> paraMap;
+
+	@Setup
+	public void setup() {
+		beanMeta = new DefaultMetaResolver().resolve(Order.class);
+		paraMap = new HashMap<>();
+		paraMap.put("page", "2");
+		paraMap.put("size", "20");
+		paraMap.put("sort", "createdAt");
+		paraMap.put("buyer", "Jack");
+		paraMap.put("buyer-op", "sw");
+		paraMap.put("buyer-ic", "true");
+		paraMap.put("status", "1");
+		paraMap.put("paid", "1");
+		paraMap.put("amount-0", "100");
+		paraMap.put("amount-1", "500");
+		paraMap.put("amount-op", "bt");
+		paraMap.put("city", "Shanghai");
+		paraMap.put("channel-op", "il");
+	}
+
+	@Benchmark
+	public SearchParam resolve() {
+		return paramResolver.resolve(beanMeta, fetchType, paraMap);
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.SearchParam;
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.operator.Between;
+import com.ejlchina.searcher.operator.Contain;
+import com.ejlchina.searcher.operator.InList;
+import com.ejlchina.searcher.param.FetchType;
+import com.ejlchina.searcher.util.MapUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为一个常见的检索（5 个条件、排序、分页，列表 + 总数）生成检索 SQL
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SqlAssemblyBenchmark {
+
+	@SearchBean(tables = "employee e, department d", joinCond = "e.department_id = d.id", autoMapTo = "e")
+	public static class Employee {
+		private Long id;
+		private String name;
+		private Integer age;
+		private Integer gender;
+		private Integer status;
+		@DbField("d.name")
+		private String department;
+		private Long entryDate;
+		private Long updatedAt;
+	}
+
+	private final DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+
+	private BeanMeta<Employee> beanMeta;
+
+	private SearchParam searchParam;
+
+	@Setup
+	public void setup() {
+		beanMeta = new DefaultMetaResolver().resolve(Employee.class);
+		Map<String, Object> paraMap = MapUtils.builder()
+				.field("name", "Jack").op(Contain.class).ic()
+				.field("age", 20, 30).op(Between.class)
+				.field("status", 1, 2, 3).op(InList.class)
+				.field("gender", 1)
+				.field("department", "R&D")
+				.orderBy("entryDate", "desc")
+				.page(5, 20)
+				.build();
+		searchParam = new DefaultParamResolver().resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+	}
+
+	@Benchmark
+	public SearchSql<Employee> resolve() {
+		return sqlResolver.resolve(beanMeta, searchParam);
+	}
+
+}
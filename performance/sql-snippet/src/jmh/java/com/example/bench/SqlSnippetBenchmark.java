@@ -0,0 +1,78 @@
+package com.example.bench;
+
+import com.ejlchina.searcher.BeanMeta;
+import com.ejlchina.searcher.SearchParam;
+import com.ejlchina.searcher.SearchSql;
+import com.ejlchina.searcher.bean.DbField;
+import com.ejlchina.searcher.bean.SearchBean;
+import com.ejlchina.searcher.implement.DefaultMetaResolver;
+import com.ejlchina.searcher.implement.DefaultParamResolver;
+import com.ejlchina.searcher.implement.DefaultSqlResolver;
+import com.ejlchina.searcher.param.FetchType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为带有拼接参数的大 tables 与 joinCond 片段生成检索 SQL（列表 + 总数）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SqlSnippetBenchmark {
+
+	@SearchBean(
+		tables = "order_:month: o "
+				+ "left join order_item_:month: i on i.order_id = o.id "
+				+ "left join (select order_id, sum(amount) amount from payment_:month: where status = :payStatus: group by order_id) p on p.order_id = o.id "
+				+ "left join (select order_id, count(*) cnt from refund_:month: where deleted = 0 group by order_id) r on r.order_id = o.id "
+				+ "left join shop s on s.id = o.shop_id "
+				+ "left join member m on m.id = o.member_id",
+		joinCond = "o.tenant_id = :tenant: and o.deleted = 0 and s.region in (:regions:) and o.created_at >= :since",
+		autoMapTo = "o"
+	)
+	public static class Order {
+		private Long id;
+		private String orderNo;
+		@DbField("m.name")
+		private String member;
+		@DbField("s.name")
+		private String shop;
+		@DbField("p.amount")
+		private Long paid;
+		@DbField("r.cnt")
+		private Integer refunds;
+		private Integer status;
+		private Long createdAt;
+	}
+
+	private final DefaultSqlResolver sqlResolver = new DefaultSqlResolver();
+
+	private BeanMeta<Order> beanMeta;
+
+	private SearchParam searchParam;
+
+	@Setup
+	public void setup() {
+		beanMeta = new DefaultMetaResolver().resolve(Order.class);
+		Map<String, Object> paraMap = new HashMap<>();
+		paraMap.put("month", "202210");
+		paraMap.put("payStatus", 2);
+		paraMap.put("tenant", 7);
+		paraMap.put("regions", "'east','west'");
+		paraMap.put("since", 1660000000000L);
+		paraMap.put("status", 1);
+		paraMap.put("page", 3);
+		searchParam = new DefaultParamResolver().resolve(beanMeta, new FetchType(FetchType.DEFAULT), paraMap);
+	}
+
+	@Benchmark
+	public SearchSql<Order> resolve() {
+		return sqlResolver.resolve(beanMeta, searchParam);
+	}
+
+}